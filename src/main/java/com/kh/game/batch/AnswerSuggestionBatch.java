@@ -0,0 +1,270 @@
+package com.kh.game.batch;
+
+import com.kh.game.entity.AnswerSuggestion;
+import com.kh.game.entity.BatchConfig;
+import com.kh.game.entity.BatchExecutionHistory;
+import com.kh.game.repository.AnswerSuggestionRepository;
+import com.kh.game.repository.GameRoundAttemptRepository;
+import com.kh.game.repository.SongAnswerRepository;
+import com.kh.game.repository.SongRepository;
+import com.kh.game.service.BatchService;
+import com.kh.game.util.AnswerNormalizer;
+import com.kh.game.util.EditDistance;
+import com.kh.game.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 정답 후보 추천 배치
+ * 새로 쌓인 오답을 곡별로 묶어 정답(별칭) 후보로 추천합니다.
+ * - 실행 주기: 매시 20분
+ *
+ * 처리 방식:
+ * - BatchConfig.watermark(마지막으로 반영한 시도 ID) 이후의 오답만 ID 순으로 페이지 단위 조회 → 시도 테이블 전체를 다시 읽지 않음
+ * - 정규화(AnswerNormalizer) 결과가 같은 오답은 한 묶음, 자모 편집 거리 cluster-distance 이내면 기존 후보에 합산
+ * - 후보마다 제목/기존 정답과의 최소 자모 편집 거리(max-distance 초과 시 없음)를 기록 → 가까운 순, 많이 나온 순으로 노출
+ * - 페이지마다 후보 저장과 워터마크 갱신을 한 트랜잭션으로 커밋 → 중단돼도 중복 합산 없이 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnswerSuggestionBatch {
+
+    private final GameRoundAttemptRepository attemptRepository;
+    private final AnswerSuggestionRepository suggestionRepository;
+    private final SongRepository songRepository;
+    private final SongAnswerRepository songAnswerRepository;
+    private final BatchService batchService;
+    private final PlatformTransactionManager transactionManager;
+
+    public static final String BATCH_ID = "BATCH_ANSWER_SUGGESTION";
+
+    @Value("${answer.suggestion.page-size:1000}")
+    private int pageSize = 1000;
+
+    // 같은 후보로 묶는 자모 편집 거리
+    @Value("${answer.suggestion.cluster-distance:1}")
+    private int clusterDistance = 1;
+
+    // 제목/기존 정답과의 거리를 기록하는 상한
+    @Value("${answer.suggestion.max-distance:3}")
+    private int maxDistance = 3;
+
+    // 생성 직후 시도는 다음 실행으로 미룸 (먼저 채번된 ID가 나중에 커밋될 수 있음)
+    @Value("${answer.suggestion.settle-seconds:60}")
+    private int settleSeconds = 60;
+
+    public int execute(BatchExecutionHistory.ExecutionType executionType) {
+        long startTime = System.currentTimeMillis();
+        int processedAttempts = 0;
+        int createdSuggestions = 0;
+        BatchExecutionHistory history = null;
+
+        try {
+            log.info("[{}] 배치 실행 시작 - 새 오답 군집화", BATCH_ID);
+
+            if (executionType != null) {
+                history = batchService.createExecutionHistory(BATCH_ID, executionType);
+            }
+
+            long watermark = batchService.getWatermark(BATCH_ID);
+            LocalDateTime before = LocalDateTime.now().minusSeconds(settleSeconds);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            while (true) {
+                List<Object[]> rows = attemptRepository.findWrongAnswersAfter(watermark, before, PageRequest.of(0, pageSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                long lastId = (Long) rows.get(rows.size() - 1)[0];
+                Integer created = transactionTemplate.execute(status -> {
+                    int count = applyPage(rows);
+                    batchService.saveWatermark(BATCH_ID, lastId);
+                    return count;
+                });
+
+                watermark = lastId;
+                processedAttempts += rows.size();
+                createdSuggestions += created != null ? created : 0;
+                log.debug("[{}] 시도 ID {}까지 반영 (누적 {}건, 새 후보 {}개)", BATCH_ID, lastId, processedAttempts, createdSuggestions);
+
+                if (rows.size() < pageSize) {
+                    break;
+                }
+            }
+
+            String resultMessage = String.format("정답 후보 갱신 완료. 반영 오답: %d건, 새 후보: %d개 (시도 ID %d까지)",
+                    processedAttempts, createdSuggestions, watermark);
+            long executionTime = System.currentTimeMillis() - startTime;
+
+            if (history != null) {
+                batchService.completeExecution(history, BatchConfig.ExecutionResult.SUCCESS,
+                        resultMessage, createdSuggestions, executionTime);
+            }
+
+            log.info("[{}] 배치 실행 완료 - 반영 오답: {}건, 새 후보: {}개, 소요시간: {}ms",
+                    BATCH_ID, processedAttempts, createdSuggestions, executionTime);
+
+            return createdSuggestions;
+
+        } catch (Exception e) {
+            long executionTime = System.currentTimeMillis() - startTime;
+
+            // 커밋된 페이지까지는 워터마크가 저장되어 있음 → 다음 실행이 이어서 처리
+            if (history != null) {
+                batchService.completeExecution(history, BatchConfig.ExecutionResult.FAIL,
+                        "오류 발생: " + e.getMessage(), createdSuggestions, executionTime);
+            }
+
+            log.error("[{}] 배치 실행 실패", BATCH_ID, e);
+            throw new RuntimeException("배치 실행 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 한 페이지의 오답을 곡별 후보에 반영 (새로 만든 후보 수 반환)
+     */
+    private int applyPage(List<Object[]> rows) {
+        // 곡 → 정규화 결과 → 같은 오답 묶음
+        Map<Long, Map<String, Variant>> bySong = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            String answer = (String) row[2];
+            String normalized = AnswerNormalizer.normalize(answer);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            bySong.computeIfAbsent((Long) row[1], k -> new HashMap<>())
+                    .computeIfAbsent(normalized, k -> new Variant(normalized, answer.trim()))
+                    .add((Long) row[0]);
+        }
+        if (bySong.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Set<String>> references = loadReferences(bySong.keySet());
+        Map<Long, List<Cluster>> clusters = new HashMap<>();
+        for (AnswerSuggestion suggestion : suggestionRepository.findBySongIds(bySong.keySet())) {
+            clusters.computeIfAbsent(suggestion.getSong().getId(), k -> new ArrayList<>())
+                    .add(new Cluster(suggestion));
+        }
+
+        int created = 0;
+        List<AnswerSuggestion> changed = new ArrayList<>();
+        for (Map.Entry<Long, Map<String, Variant>> entry : bySong.entrySet()) {
+            Long songId = entry.getKey();
+            Set<String> songReferences = references.getOrDefault(songId, Set.of());
+            List<Cluster> songClusters = clusters.computeIfAbsent(songId, k -> new ArrayList<>());
+
+            // 많이 나온 오답이 먼저 군집 대표가 되도록
+            List<Variant> variants = new ArrayList<>(entry.getValue().values());
+            variants.sort(Comparator.comparingInt((Variant v) -> v.count).reversed());
+
+            for (Variant variant : variants) {
+                String jamo = HangulUtil.toJamo(variant.normalized);
+                // 오답 이후 정답으로 추가된 입력은 후보에서 제외
+                if (songReferences.contains(jamo)) {
+                    continue;
+                }
+
+                Cluster cluster = findCluster(songClusters, jamo);
+                if (cluster == null) {
+                    AnswerSuggestion suggestion = new AnswerSuggestion(songRepository.getReferenceById(songId),
+                            variant.normalized, variant.display, distanceTo(songReferences, jamo));
+                    cluster = new Cluster(suggestion);
+                    songClusters.add(cluster);
+                    created++;
+                }
+                cluster.suggestion.addAttempts(variant.count, variant.lastAttemptId);
+                if (!cluster.changed) {
+                    cluster.changed = true;
+                    changed.add(cluster.suggestion);
+                }
+            }
+        }
+
+        suggestionRepository.saveAll(changed);
+        return created;
+    }
+
+    /**
+     * 곡별 제목/기존 정답의 자모 분해 결과
+     */
+    private Map<Long, Set<String>> loadReferences(Collection<Long> songIds) {
+        Map<Long, Set<String>> references = new HashMap<>();
+        for (Object[] row : songRepository.findTitlesByIds(songIds)) {
+            addReference(references, (Long) row[0], (String) row[1]);
+        }
+        for (Object[] row : songAnswerRepository.findAnswerTextsBySongIds(songIds)) {
+            addReference(references, (Long) row[0], (String) row[1]);
+        }
+        return references;
+    }
+
+    private void addReference(Map<Long, Set<String>> references, Long songId, String text) {
+        String normalized = AnswerNormalizer.normalize(text);
+        if (!normalized.isEmpty()) {
+            references.computeIfAbsent(songId, k -> new HashSet<>()).add(HangulUtil.toJamo(normalized));
+        }
+    }
+
+    private Cluster findCluster(List<Cluster> songClusters, String jamo) {
+        for (Cluster cluster : songClusters) {
+            if (EditDistance.withinDistance(cluster.jamo, jamo, clusterDistance)) {
+                return cluster;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 제목/기존 정답과의 최소 자모 편집 거리 (max-distance 초과면 null)
+     */
+    private Integer distanceTo(Set<String> songReferences, String jamo) {
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            for (String reference : songReferences) {
+                if (EditDistance.withinDistance(reference, jamo, distance)) {
+                    return distance;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 한 페이지 안에서 정규화 결과가 같은 오답 묶음
+    private static class Variant {
+        private final String normalized;
+        private final String display;
+        private int count;
+        private long lastAttemptId;
+
+        Variant(String normalized, String display) {
+            this.normalized = normalized;
+            this.display = display;
+        }
+
+        void add(long attemptId) {
+            count++;
+            lastAttemptId = Math.max(lastAttemptId, attemptId);
+        }
+    }
+
+    private static class Cluster {
+        private final AnswerSuggestion suggestion;
+        private final String jamo;
+        private boolean changed;
+
+        Cluster(AnswerSuggestion suggestion) {
+            this.suggestion = suggestion;
+            this.jamo = HangulUtil.toJamo(suggestion.getNormalizedAnswer());
+        }
+    }
+}
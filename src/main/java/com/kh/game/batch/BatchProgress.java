@@ -0,0 +1,68 @@
+package com.kh.game.batch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 단위 배치의 실행 진행 상황 (관리자 배치 화면 진행률 표시용)
+ */
+class BatchProgress {
+    private final int total;
+    private final long startedAt = System.nanoTime();
+    private volatile int processed;
+    private volatile long finishedAt;
+
+    BatchProgress(int total) {
+        this.total = total;
+    }
+
+    void advance(int count) {
+        processed += count;
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    int getTotal() {
+        return total;
+    }
+
+    int getProcessed() {
+        return processed;
+    }
+
+    boolean isRunning() {
+        return finishedAt == 0;
+    }
+
+    long elapsedSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds((isRunning() ? System.nanoTime() : finishedAt) - startedAt);
+    }
+
+    double rowsPerSecond() {
+        long elapsed = (isRunning() ? System.nanoTime() : finishedAt) - startedAt;
+        return elapsed > 0 ? processed * 1_000_000_000.0 / elapsed : 0;
+    }
+
+    /**
+     * 처리 건수, 초당 처리 건수, 예상 남은 시간 (실행한 적 없으면 running=false만)
+     */
+    static Map<String, Object> toMap(BatchProgress progress) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (progress == null) {
+            result.put("running", false);
+            return result;
+        }
+        double rate = progress.rowsPerSecond();
+        int remaining = progress.getTotal() - progress.getProcessed();
+        result.put("running", progress.isRunning());
+        result.put("processed", progress.getProcessed());
+        result.put("total", progress.getTotal());
+        result.put("rowsPerSecond", Math.round(rate * 10) / 10.0);
+        result.put("etaSeconds", progress.isRunning() && rate > 0 ? Math.round(remaining / rate) : null);
+        result.put("elapsedSeconds", progress.elapsedSeconds());
+        return result;
+    }
+}
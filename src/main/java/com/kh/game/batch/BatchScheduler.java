@@ -48,6 +48,8 @@ public class BatchScheduler {
     private final WeeklyPerfectRefreshBatch weeklyPerfectRefreshBatch;
     private final LpDecayBatch lpDecayBatch;
     private final SongAnswerGenerationBatch songAnswerGenerationBatch;
+    private final AnswerSuggestionBatch answerSuggestionBatch;
+    private final SongStatsBatch songStatsBatch;
     private final LoginStreakBatch loginStreakBatch;
 
     private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
@@ -312,6 +314,22 @@ public class BatchScheduler {
                         log.error("배치 실행 중 오류: {}", batchId, e);
                     }
                 };
+            case AnswerSuggestionBatch.BATCH_ID:
+                return () -> {
+                    try {
+                        answerSuggestionBatch.execute(BatchExecutionHistory.ExecutionType.SCHEDULED);
+                    } catch (Exception e) {
+                        log.error("배치 실행 중 오류: {}", batchId, e);
+                    }
+                };
+            case SongStatsBatch.BATCH_ID:
+                return () -> {
+                    try {
+                        songStatsBatch.execute(BatchExecutionHistory.ExecutionType.SCHEDULED);
+                    } catch (Exception e) {
+                        log.error("배치 실행 중 오류: {}", batchId, e);
+                    }
+                };
             default:
                 return null;
         }
@@ -396,6 +414,12 @@ public class BatchScheduler {
             case LoginStreakBatch.BATCH_ID:
                 loginStreakBatch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
                 break;
+            case AnswerSuggestionBatch.BATCH_ID:
+                answerSuggestionBatch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+                break;
+            case SongStatsBatch.BATCH_ID:
+                songStatsBatch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+                break;
             default:
                 throw new IllegalArgumentException("실행할 수 없는 배치입니다: " + batchId);
         }
@@ -6,6 +6,7 @@ import com.kh.game.entity.GameRoom;
 import com.kh.game.repository.GameRoomChatRepository;
 import com.kh.game.repository.GameRoomRepository;
 import com.kh.game.service.BatchService;
+import com.kh.game.service.MultiRoomRuntime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -22,6 +23,7 @@ public class SessionCleanupBatch {
     private final GameRoomRepository gameRoomRepository;
     private final GameRoomChatRepository chatRepository;
     private final BatchService batchService;
+    private final MultiRoomRuntime multiRoomRuntime;
 
     public static final String BATCH_ID = "BATCH_SESSION_CLEANUP";
 
@@ -41,6 +43,7 @@ public class SessionCleanupBatch {
             for (GameRoom room : stuckPlayingRooms) {
                 if (room.getUpdatedAt() != null && room.getUpdatedAt().isBefore(playingThreshold)) {
                     room.setStatus(GameRoom.RoomStatus.FINISHED);
+                    multiRoomRuntime.evict(room.getRoomCode());
                     stuckCount++;
                     log.debug("PLAYING 상태 방 종료: {} ({})", room.getRoomCode(), room.getRoomName());
                 }
@@ -55,6 +58,7 @@ public class SessionCleanupBatch {
             List<GameRoom> staleWaitingRooms = gameRoomRepository.findStaleWaitingRooms(waitingThreshold);
             for (GameRoom room : staleWaitingRooms) {
                 room.setStatus(GameRoom.RoomStatus.FINISHED);
+                multiRoomRuntime.evict(room.getRoomCode());
                 log.debug("오래된 대기 방 종료: {} ({})", room.getRoomCode(), room.getRoomName());
             }
             if (!staleWaitingRooms.isEmpty()) {
@@ -70,6 +74,7 @@ public class SessionCleanupBatch {
                 if (room.getUpdatedAt() != null && room.getUpdatedAt().isBefore(deleteThreshold)) {
                     chatRepository.deleteByGameRoom(room);
                     gameRoomRepository.delete(room);
+                    multiRoomRuntime.evict(room.getRoomCode());
                     deletedCount++;
                     log.debug("오래된 방 삭제: {} ({})", room.getRoomCode(), room.getRoomName());
                 }
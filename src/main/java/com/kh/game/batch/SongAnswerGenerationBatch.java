@@ -2,25 +2,38 @@ package com.kh.game.batch;
 
 import com.kh.game.entity.BatchConfig;
 import com.kh.game.entity.BatchExecutionHistory;
-import com.kh.game.entity.Song;
 import com.kh.game.entity.SongAnswer;
 import com.kh.game.repository.SongAnswerRepository;
 import com.kh.game.repository.SongRepository;
 import com.kh.game.service.BatchService;
 import com.kh.game.util.AnswerGeneratorUtil;
+import com.kh.game.util.AnswerNormalizer;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 곡 정답 자동 생성 배치
  * SongAnswer가 없는 곡에 대해 정답 변형을 자동으로 생성합니다.
  * - AnswerGeneratorUtil을 활용하여 원본, 괄호제거, 특수문자제거, 한글발음, feat제거 등 생성
  * - 실행 주기: 매일 06:00
+ *
+ * 처리 방식:
+ * - 곡 엔티티 대신 (id, 제목)만 읽어 여러 스레드에서 변형 생성
+ * - 청크마다 짧은 트랜잭션으로 일괄 INSERT (hibernate.jdbc.batch_size, 시퀀스 채번)
+ * - 청크 커밋마다 실행 이력에 체크포인트(마지막 곡 ID) 저장 → 중단 후 재실행하면 이어서 처리
+ * - 체크포인트는 모드별로 찾음 → 전체 재생성이 중단된 뒤 정답 미생성 실행이 끼어도 이어서 처리
+ * - regenerateAll: 발음 사전 변경 후 전체 곡에 대해 기존 정답에 없는 변형만 추가 (기존 정답은 유지)
+ * - 한 번에 한 실행만 (예약 실행, 수동 실행, 관리자 화면의 startRegenerateAll 공통) - 실행 중이면 건너뜀
  */
 @Slf4j
 @Component
@@ -30,73 +43,206 @@ public class SongAnswerGenerationBatch {
     private final SongRepository songRepository;
     private final SongAnswerRepository songAnswerRepository;
     private final BatchService batchService;
+    private final PlatformTransactionManager transactionManager;
 
     public static final String BATCH_ID = "BATCH_SONG_ANSWER_GENERATION";
 
-    @Transactional
+    // 체크포인트 모드 (정답 없는 곡만 / 전체 재생성)
+    private static final String MODE_MISSING = "MISSING";
+    private static final String MODE_ALL = "ALL";
+
+    @Value("${answer.batch.chunk-size:500}")
+    private int chunkSize = 500;
+
+    // 변형 생성 스레드 수 (0이면 CPU 코어 수)
+    @Value("${answer.batch.parallelism:0}")
+    private int parallelism = 0;
+
+    // 현재(또는 마지막) 실행의 진행 상황
+    private volatile BatchProgress progress;
+
+    // 실행 중 여부 (두 실행이 같은 곡에 정답을 중복 추가하지 않도록)
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 관리자 화면에서 시작한 전체 재생성 실행 (요청 스레드를 붙잡지 않도록)
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "answer-generation-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 정답이 없는 활성 곡에 정답 변형 생성
+     */
     public int execute(BatchExecutionHistory.ExecutionType executionType) {
+        return run(executionType, false);
+    }
+
+    /**
+     * 전체 활성 곡의 정답 변형 재생성 (기존 정답과 정규화 결과가 같은 변형은 건너뜀)
+     */
+    public int regenerateAll(BatchExecutionHistory.ExecutionType executionType) {
+        return run(executionType, true);
+    }
+
+    /**
+     * 전체 재생성을 백그라운드에서 시작 (진행 상황은 getProgress로 확인)
+     * @return 이미 실행 중이라 시작하지 않았으면 false
+     */
+    public boolean startRegenerateAll(BatchExecutionHistory.ExecutionType executionType) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            launcher.execute(() -> {
+                try {
+                    runExclusively(executionType, true);
+                } catch (Exception e) {
+                    log.error("[{}] 전체 재생성 실패", BATCH_ID, e);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            return false;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+    }
+
+    private int run(BatchExecutionHistory.ExecutionType executionType, boolean regenerate) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[{}] 이미 실행 중 - {} 건너뜀", BATCH_ID, regenerate ? "전체 재생성" : "정답 자동 생성");
+            return 0;
+        }
+        try {
+            return runExclusively(executionType, regenerate);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int runExclusively(BatchExecutionHistory.ExecutionType executionType, boolean regenerate) {
         long startTime = System.currentTimeMillis();
+        String mode = regenerate ? MODE_ALL : MODE_MISSING;
         int processedSongs = 0;
         int totalAnswersCreated = 0;
         StringBuilder resultMessage = new StringBuilder();
+        BatchExecutionHistory history = null;
+        ExecutorService executor = null;
 
         try {
-            log.info("[{}] 배치 실행 시작 - 정답 미생성 곡에 정답 변형 자동 생성", BATCH_ID);
+            log.info("[{}] 배치 실행 시작 - {}", BATCH_ID,
+                    regenerate ? "전체 곡 정답 변형 재생성" : "정답 미생성 곡에 정답 변형 자동 생성");
 
-            // 활성화된 곡 중 SongAnswer가 없는 곡 조회 (단일 쿼리, N+1 방지)
-            List<Song> songsWithoutAnswers = songRepository.findSongsWithoutAnswers("Y");
+            // 같은 모드의 이전 실행이 중단됐으면 마지막으로 커밋한 곡 다음부터
+            long afterId = 0;
+            Optional<BatchExecutionHistory> unfinished = batchService.findUnfinishedExecution(BATCH_ID, mode + ":");
+            if (unfinished.isPresent()) {
+                afterId = Long.parseLong(unfinished.get().getCheckpoint().substring(mode.length() + 1));
+                log.info("[{}] 중단된 실행(#{}) 이어서 처리 - 곡 ID {} 이후", BATCH_ID, unfinished.get().getId(), afterId);
+            }
 
-            log.info("정답 미생성 곡 수: {}개", songsWithoutAnswers.size());
+            if (executionType != null) {
+                history = batchService.createExecutionHistory(BATCH_ID, executionType);
+            }
 
-            for (Song song : songsWithoutAnswers) {
-                try {
-                    Set<String> variants = AnswerGeneratorUtil.generateAnswerVariants(song.getTitle());
+            List<Object[]> songs = regenerate
+                    ? songRepository.findTitlesByUseYn("Y", afterId)
+                    : songRepository.findTitlesWithoutAnswers("Y", afterId);
+            int total = songs.size();
+            BatchProgress current = new BatchProgress(total);
+            progress = current;
 
-                    if (variants.isEmpty()) {
-                        log.warn("곡 {} (ID: {}) 정답 변형 생성 실패 - 제목이 비어있음", song.getTitle(), song.getId());
-                        continue;
-                    }
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            log.info("[{}] 대상 곡 수: {}개 (청크 {}곡, 스레드 {}개)", BATCH_ID, total, chunkSize, threads);
+
+            // 시작 위치를 이 실행의 체크포인트로 → 이 모드의 이전 중단 기록은 이 실행으로 대체됨
+            if (history != null) {
+                batchService.saveProgress(history, mode + ":" + afterId, 0, total);
+            }
 
-                    boolean isFirst = true;
-                    int answersForSong = 0;
+            executor = Executors.newFixedThreadPool(threads, new GenerationThreadFactory());
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-                    for (String variant : variants) {
-                        SongAnswer answer = new SongAnswer();
-                        answer.setSong(song);
-                        answer.setAnswer(variant);
-                        answer.setIsPrimary(isFirst);  // 첫 번째만 primary
-                        songAnswerRepository.save(answer);
+            for (int from = 0; from < total; from += chunkSize) {
+                List<Object[]> chunk = songs.subList(from, Math.min(from + chunkSize, total));
+                List<Set<String>> variants = generateChunk(chunk, executor, threads);
 
-                        isFirst = false;
-                        answersForSong++;
-                        totalAnswersCreated++;
+                Map<Long, Set<String>> existing = regenerate ? loadExistingAnswers(chunk) : Map.of();
+
+                List<Long> songIds = new ArrayList<>();
+                List<String> texts = new ArrayList<>();
+                List<Boolean> primaries = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Long songId = (Long) chunk.get(i)[0];
+                    if (variants.get(i).isEmpty()) {
+                        log.warn("곡 ID {} 정답 변형 생성 실패 - 제목이 비어있음", songId);
+                        continue;
                     }
 
+                    Set<String> normalized = new HashSet<>(existing.getOrDefault(songId, Set.of()));
+                    // 기존 정답이 없을 때만 첫 번째 변형을 대표 정답으로
+                    boolean isFirst = normalized.isEmpty();
+                    for (String variant : variants.get(i)) {
+                        if (!normalized.add(AnswerNormalizer.normalize(variant))) {
+                            continue;
+                        }
+                        songIds.add(songId);
+                        texts.add(variant);
+                        primaries.add(isFirst);
+                        isFirst = false;
+                    }
                     processedSongs++;
-                    log.debug("곡 '{}' (ID: {}) 정답 {}개 생성: {}",
-                            song.getTitle(), song.getId(), answersForSong, variants);
+                }
 
-                } catch (Exception e) {
-                    log.warn("곡 {} (ID: {}) 정답 생성 중 오류: {}",
-                            song.getTitle(), song.getId(), e.getMessage());
+                // 청크 단위 일괄 INSERT (짧은 트랜잭션)
+                if (!texts.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        List<SongAnswer> answers = new ArrayList<>(texts.size());
+                        for (int i = 0; i < texts.size(); i++) {
+                            answers.add(new SongAnswer(songRepository.getReferenceById(songIds.get(i)),
+                                    texts.get(i), primaries.get(i)));
+                        }
+                        songAnswerRepository.saveAll(answers);
+                    });
+                    totalAnswersCreated += texts.size();
+                }
+
+                current.advance(chunk.size());
+                if (history != null) {
+                    Long lastId = (Long) chunk.get(chunk.size() - 1)[0];
+                    batchService.saveProgress(history, mode + ":" + lastId, current.getProcessed(), total);
                 }
+                log.debug("[{}] 진행 {}/{}곡, 생성 정답 {}개", BATCH_ID, current.getProcessed(), total, totalAnswersCreated);
             }
+            current.finish();
 
             resultMessage.append(String.format(
-                    "정답 자동 생성 완료. 처리 곡: %d개, 생성 정답: %d개",
-                    processedSongs, totalAnswersCreated
+                    "%s 완료. 처리 곡: %d개, 생성 정답: %d개",
+                    regenerate ? "정답 전체 재생성" : "정답 자동 생성", processedSongs, totalAnswersCreated
             ));
 
             long executionTime = System.currentTimeMillis() - startTime;
 
-            batchService.recordExecution(
-                    BATCH_ID,
-                    executionType,
-                    BatchConfig.ExecutionResult.SUCCESS,
-                    resultMessage.toString(),
-                    totalAnswersCreated,
-                    executionTime
-            );
+            if (history != null) {
+                batchService.completeExecution(
+                        history,
+                        BatchConfig.ExecutionResult.SUCCESS,
+                        resultMessage.toString(),
+                        totalAnswersCreated,
+                        executionTime
+                );
+            }
 
             log.info("[{}] 배치 실행 완료 - 처리 곡: {}개, 생성 정답: {}개, 소요시간: {}ms",
                     BATCH_ID, processedSongs, totalAnswersCreated, executionTime);
@@ -105,18 +251,86 @@ public class SongAnswerGenerationBatch {
 
         } catch (Exception e) {
             long executionTime = System.currentTimeMillis() - startTime;
+            BatchProgress current = progress;
+            if (current != null) {
+                current.finish();
+            }
 
-            batchService.recordExecution(
-                    BATCH_ID,
-                    executionType,
-                    BatchConfig.ExecutionResult.FAIL,
-                    "오류 발생: " + e.getMessage(),
-                    totalAnswersCreated,
-                    executionTime
-            );
+            // 체크포인트는 남겨두고 실패 처리 → 다음 실행이 이어서 처리
+            if (history != null) {
+                batchService.completeExecution(
+                        history,
+                        BatchConfig.ExecutionResult.FAIL,
+                        "오류 발생: " + e.getMessage(),
+                        totalAnswersCreated,
+                        executionTime
+                );
+            }
 
             log.error("[{}] 배치 실행 실패", BATCH_ID, e);
             throw new RuntimeException("배치 실행 실패: " + e.getMessage(), e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 청크를 스레드 수만큼 나눠 변형 생성 (결과는 입력 순서대로)
+     */
+    private List<Set<String>> generateChunk(List<Object[]> chunk, ExecutorService executor, int threads)
+            throws InterruptedException, ExecutionException {
+        int sliceSize = Math.max(1, (chunk.size() + threads - 1) / threads);
+        List<Future<List<Set<String>>>> futures = new ArrayList<>();
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<Object[]> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            futures.add(executor.submit(() -> {
+                List<Set<String>> result = new ArrayList<>(slice.size());
+                for (Object[] row : slice) {
+                    result.add(AnswerGeneratorUtil.generateAnswerVariants((String) row[1]));
+                }
+                return result;
+            }));
+        }
+        List<Set<String>> results = new ArrayList<>(chunk.size());
+        for (Future<List<Set<String>>> future : futures) {
+            results.addAll(future.get());
+        }
+        return results;
+    }
+
+    /**
+     * 청크 곡들의 기존 정답 (정규화 결과, 곡별)
+     */
+    private Map<Long, Set<String>> loadExistingAnswers(List<Object[]> chunk) {
+        List<Long> songIds = new ArrayList<>(chunk.size());
+        for (Object[] row : chunk) {
+            songIds.add((Long) row[0]);
+        }
+        Map<Long, Set<String>> existing = new HashMap<>();
+        for (Object[] row : songAnswerRepository.findAnswerTextsBySongIds(songIds)) {
+            existing.computeIfAbsent((Long) row[0], k -> new HashSet<>())
+                    .add(AnswerNormalizer.normalize((String) row[1]));
+        }
+        return existing;
+    }
+
+    /**
+     * 관리자 화면용 진행 상황 (처리 곡 수, 초당 처리 곡 수, 예상 남은 시간)
+     */
+    public Map<String, Object> getProgress() {
+        return BatchProgress.toMap(progress);
+    }
+
+    private static class GenerationThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "answer-generation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
 }
@@ -0,0 +1,175 @@
+package com.kh.game.batch;
+
+import com.kh.game.entity.BatchConfig;
+import com.kh.game.entity.BatchExecutionHistory;
+import com.kh.game.entity.MemberSongStats;
+import com.kh.game.entity.SongStats;
+import com.kh.game.repository.GameRoundRepository;
+import com.kh.game.repository.MemberSongStatsRepository;
+import com.kh.game.repository.SongStatsRepository;
+import com.kh.game.service.BatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 곡 난이도 집계 백필/점검 배치
+ * song_stats, member_song_stats(라운드 종료 시 SongStatsService가 증가)를 게임 기록과 맞춥니다.
+ * - 실행 주기: 매일 04:40
+ *
+ * 처리 방식:
+ * - 최초 1회(BatchConfig.watermark = 0): 남아 있는 게임 기록으로 집계를 채움 (백필)
+ *   → 배포 후 백필 전까지 증가된 라운드는 이미 집계에 있으므로 기록 값과 큰 쪽을 유지 (중복 가산 없음)
+ * - 이후: 점검 - 게임 기록으로 다시 센 값보다 집계가 작은 행(증가 누락)만 기록 값으로 올림
+ * - 두 경우 모두 행을 지우지 않고 GREATEST 업서트(raiseTo)로만 올림 → 동시에 실행되는 라운드 종료 increment와 충돌 없음
+ *   → 집계는 세션 정리 배치(7일)로 지워진 기록과 멀티게임 라운드까지 누적하므로 기록보다 큰 것은 정상
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongStatsBatch {
+
+    private final GameRoundRepository gameRoundRepository;
+    private final SongStatsRepository songStatsRepository;
+    private final MemberSongStatsRepository memberSongStatsRepository;
+    private final BatchService batchService;
+    private final PlatformTransactionManager transactionManager;
+
+    public static final String BATCH_ID = "BATCH_SONG_STATS";
+
+    // watermark 값: 백필 완료
+    private static final long BACKFILLED = 1L;
+
+    public int execute(BatchExecutionHistory.ExecutionType executionType) {
+        long startTime = System.currentTimeMillis();
+        BatchExecutionHistory history = null;
+
+        try {
+            if (executionType != null) {
+                history = batchService.createExecutionHistory(BATCH_ID, executionType);
+            }
+
+            boolean backfill = batchService.getWatermark(BATCH_ID) < BACKFILLED;
+            log.info("[{}] 배치 실행 시작 - {}", BATCH_ID, backfill ? "백필" : "점검");
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            Outcome outcome = transactionTemplate.execute(status -> backfill ? backfill() : check());
+            String resultMessage = outcome.message();
+            int affected = outcome.affected();
+
+            long executionTime = System.currentTimeMillis() - startTime;
+            if (history != null) {
+                batchService.completeExecution(history, BatchConfig.ExecutionResult.SUCCESS,
+                        resultMessage, affected, executionTime);
+            }
+
+            log.info("[{}] 배치 실행 완료 - {}, 소요시간: {}ms", BATCH_ID, resultMessage, executionTime);
+            return affected;
+
+        } catch (Exception e) {
+            long executionTime = System.currentTimeMillis() - startTime;
+
+            if (history != null) {
+                batchService.completeExecution(history, BatchConfig.ExecutionResult.FAIL,
+                        "오류 발생: " + e.getMessage(), 0, executionTime);
+            }
+
+            log.error("[{}] 배치 실행 실패", BATCH_ID, e);
+            throw new RuntimeException("배치 실행 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 게임 기록으로 집계를 채움 (워터마크 갱신과 한 트랜잭션)
+     * - 비우고 다시 넣지 않음: 그 사이 라운드 종료 increment가 지워지거나 saveAll과 키가 부딪히지 않도록 raiseTo로 올리기만 함
+     */
+    private Outcome backfill() {
+        Reconciled reconciled = reconcile();
+        batchService.saveWatermark(BATCH_ID, BACKFILLED);
+
+        return new Outcome(String.format("곡 난이도 집계 백필 완료. 곡: %d개, 회원-곡: %d개",
+                reconciled.fixedSongs(), reconciled.fixedMembers()), reconciled.affected());
+    }
+
+    /**
+     * 게임 기록보다 작은 집계(증가 누락)를 기록 값으로 보정
+     */
+    private Outcome check() {
+        Reconciled reconciled = reconcile();
+        if (reconciled.affected() > 0) {
+            log.warn("[{}] 집계 누락 보정 - 곡: {}건, 회원-곡: {}건", BATCH_ID, reconciled.fixedSongs(), reconciled.fixedMembers());
+        }
+
+        return new Outcome(String.format("곡 난이도 집계 점검 완료. 확인: 곡 %d개, 회원-곡 %d개 / 누락 보정: 곡 %d건, 회원-곡 %d건",
+                reconciled.songs(), reconciled.members(), reconciled.fixedSongs(), reconciled.fixedMembers()),
+                reconciled.affected());
+    }
+
+    /**
+     * 게임 기록으로 다시 센 값보다 작거나 없는 집계만 raiseTo로 올림 (큰 값은 그대로 - 기록에 없는 멀티게임/지워진 기록 분)
+     * - 비교에 쓰는 조회 값이 그새 바뀌어도 raiseTo가 GREATEST로 처리하므로 동시 increment를 덮어쓰지 않음
+     */
+    private Reconciled reconcile() {
+        List<Object[]> songRows = gameRoundRepository.countSongResults();
+        Map<Long, SongStats> songStats = new HashMap<>();
+        List<Long> songIds = songRows.stream().map(row -> (Long) row[0]).toList();
+        for (SongStats stats : songStatsRepository.findAllById(songIds)) {
+            songStats.put(stats.getSongId(), stats);
+        }
+
+        int fixedSongs = 0;
+        for (Object[] row : songRows) {
+            Long songId = (Long) row[0];
+            long plays = count(row[2]);
+            long correct = count(row[1]);
+            SongStats stats = songStats.get(songId);
+            if (stats == null || stats.getPlayCount() < plays || stats.getCorrectCount() < correct) {
+                songStatsRepository.raiseTo(songId, plays, correct);
+                fixedSongs++;
+            }
+        }
+
+        List<Object[]> memberRows = gameRoundRepository.countMemberSongResults();
+        Map<List<Long>, MemberSongStats> memberStats = new HashMap<>();
+        Set<Long> memberIds = new HashSet<>();
+        for (Object[] row : memberRows) {
+            memberIds.add((Long) row[0]);
+        }
+        for (MemberSongStats stats : memberIds.isEmpty()
+                ? List.<MemberSongStats>of() : memberSongStatsRepository.findByMemberIdIn(memberIds)) {
+            memberStats.put(List.of(stats.getMemberId(), stats.getSongId()), stats);
+        }
+
+        int fixedMembers = 0;
+        for (Object[] row : memberRows) {
+            Long memberId = (Long) row[0];
+            Long songId = (Long) row[1];
+            long plays = count(row[3]);
+            long correct = count(row[2]);
+            MemberSongStats stats = memberStats.get(List.of(memberId, songId));
+            if (stats == null || stats.getPlayCount() < plays || stats.getCorrectCount() < correct) {
+                memberSongStatsRepository.raiseTo(memberId, songId, plays, correct);
+                fixedMembers++;
+            }
+        }
+
+        return new Reconciled(songRows.size(), memberRows.size(), fixedSongs, fixedMembers);
+    }
+
+    private static long count(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private record Outcome(String message, int affected) {
+    }
+
+    private record Reconciled(int songs, int members, int fixedSongs, int fixedMembers) {
+        int affected() {
+            return fixedSongs + fixedMembers;
+        }
+    }
+}
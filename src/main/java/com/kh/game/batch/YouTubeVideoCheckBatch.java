@@ -1,6 +1,5 @@
 package com.kh.game.batch;
 
-import com.kh.game.entity.BatchAffectedSong;
 import com.kh.game.entity.BatchAffectedSong.ActionType;
 import com.kh.game.entity.BatchAffectedSong.AffectedReason;
 import com.kh.game.entity.BatchConfig;
@@ -8,14 +7,21 @@ import com.kh.game.entity.BatchExecutionHistory;
 import com.kh.game.entity.Song;
 import com.kh.game.repository.SongRepository;
 import com.kh.game.service.BatchService;
+import com.kh.game.service.SongCatalogService;
 import com.kh.game.service.YouTubeValidationService;
 import com.kh.game.service.YouTubeValidationService.ValidationResult;
+import com.kh.game.service.YouTubeVerdictCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * YouTube 영상 유효성 검사 배치
@@ -23,6 +29,14 @@ import java.util.List;
  * 검증 로직:
  * - oEmbed API + 썸네일 이중 체크
  * - 둘 다 실패해야 비활성화
+ * - 검사 결과는 곡의 YouTube 유효성 컬럼과 검증 캐시에 반영
+ * - 서킷 브레이커가 열려 있으면 (외부 호출 장애) 비활성화하지 않고 건너뜀
+ *
+ * 처리 방식:
+ * - 오래 검사하지 않은 곡부터 청크 단위로 처리 (청크마다 일괄 UPDATE 후 커밋)
+ * - 청크 안에서는 제한된 스레드로 동시 검증, YouTube 호출은 초당 요청 수 제한 (토큰 버킷)
+ * - 청크 커밋마다 실행 이력에 체크포인트 저장 → 중단 후 재실행하면 남은 곡만 이어서 검사
+ * - 진행률/처리 속도/예상 남은 시간은 관리자 배치 화면에서 조회
  *
  * 비활성화 사유:
  * - 삭제된 영상
@@ -36,40 +50,112 @@ public class YouTubeVideoCheckBatch {
     private final SongRepository songRepository;
     private final BatchService batchService;
     private final YouTubeValidationService youTubeValidationService;
+    private final YouTubeVerdictCache youTubeVerdictCache;
+    private final SongCatalogService songCatalogService;
+    private final PlatformTransactionManager transactionManager;
 
     public static final String BATCH_ID = "BATCH_YOUTUBE_VIDEO_CHECK";
 
-    @Transactional
+    @Value("${youtube.batch.chunk-size:100}")
+    private int chunkSize = 100;
+
+    @Value("${youtube.batch.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${youtube.batch.requests-per-second:10}")
+    private double requestsPerSecond = 10;
+
+    // 현재(또는 마지막) 실행의 진행 상황
+    private volatile BatchProgress progress;
+
     public int execute(BatchExecutionHistory.ExecutionType executionType) {
         long startTime = System.currentTimeMillis();
         int totalChecked = 0;
         int deletedCount = 0;
         int embedDisabledCount = 0;
+        int skippedCount = 0;
         StringBuilder resultMessage = new StringBuilder();
         BatchExecutionHistory history = null;
+        ExecutorService executor = null;
 
         try {
             log.info("[{}] 배치 실행 시작", BATCH_ID);
 
+            // 이전 실행이 중단됐으면 그 실행의 기준 시각을 이어받음 (이미 검사한 곡은 제외됨)
+            LocalDateTime cutoff = LocalDateTime.now();
+            if (batchService != null) {
+                Optional<BatchExecutionHistory> unfinished = batchService.findUnfinishedExecution(BATCH_ID);
+                if (unfinished.isPresent()) {
+                    cutoff = LocalDateTime.parse(unfinished.get().getCheckpoint());
+                    log.info("[{}] 중단된 실행(#{}) 이어서 검사 - 기준 시각: {}",
+                            BATCH_ID, unfinished.get().getId(), cutoff);
+                }
+            }
+
             // 배치 실행 이력 먼저 생성 (영향받은 곡 기록용)
             if (batchService != null && executionType != null) {
                 history = batchService.createExecutionHistory(BATCH_ID, executionType);
             }
 
-            // YouTube ID가 있는 활성 노래만 조회
-            List<Song> songsWithYoutube = songRepository.findByUseYnAndYoutubeVideoIdIsNotNull("Y");
-            totalChecked = songsWithYoutube.size();
+            // 기준 시각 이전에 검사한(또는 검사한 적 없는) 활성 곡, 오래된 순
+            List<Song> songs = songRepository.findSongsNeedingYoutubeCheck(cutoff);
+            totalChecked = songs.size();
+            BatchProgress current = new BatchProgress(totalChecked);
+            progress = current;
+
+            log.info("[{}] 검사 대상: {}곡 (청크 {}곡, 동시 {}건, 초당 {}건)",
+                    BATCH_ID, totalChecked, chunkSize, parallelism, requestsPerSecond);
 
-            log.info("[{}] 검사 대상: {}곡", BATCH_ID, totalChecked);
+            executor = Executors.newFixedThreadPool(parallelism, new CheckThreadFactory());
+            TokenBucket rateLimiter = new TokenBucket(requestsPerSecond);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-            for (Song song : songsWithYoutube) {
-                String videoId = song.getYoutubeVideoId();
+            for (int from = 0; from < songs.size(); from += chunkSize) {
+                List<Song> chunk = songs.subList(from, Math.min(from + chunkSize, songs.size()));
+                List<ValidationResult> results = validateChunk(chunk, executor, rateLimiter);
 
-                ValidationResult result = youTubeValidationService.validateVideo(videoId);
+                Map<String, ValidationResult> verdicts = new LinkedHashMap<>();
+                List<Long> validIds = new ArrayList<>();
+                Map<Integer, List<Long>> invalidIdsByError = new LinkedHashMap<>();
+                List<Song> deactivated = new ArrayList<>();
+                List<ValidationResult> deactivatedResults = new ArrayList<>();
 
-                if (!result.isValid()) {
-                    song.setUseYn("N");
-                    songRepository.save(song);
+                for (int i = 0; i < chunk.size(); i++) {
+                    Song song = chunk.get(i);
+                    ValidationResult result = results.get(i);
+
+                    // 장애 중에는 판정을 신뢰할 수 없으므로 곡 상태를 바꾸지 않음
+                    if (result.isUnavailable() || (!result.isValid() && youTubeValidationService.isCircuitOpen())) {
+                        skippedCount++;
+                        continue;
+                    }
+                    verdicts.put(song.getYoutubeVideoId(), result);
+                    if (result.isValid()) {
+                        validIds.add(song.getId());
+                    } else {
+                        invalidIdsByError.computeIfAbsent(YouTubeVerdictCache.errorCodeOf(result), k -> new ArrayList<>())
+                                .add(song.getId());
+                        deactivated.add(song);
+                        deactivatedResults.add(result);
+                    }
+                }
+
+                // 청크 결과 일괄 반영
+                LocalDateTime checkedAt = LocalDateTime.now();
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!validIds.isEmpty()) {
+                        songRepository.markYoutubeValid(validIds, checkedAt);
+                    }
+                    invalidIdsByError.forEach((errorCode, ids) ->
+                            songRepository.deactivateInvalidYoutube(ids, errorCode, checkedAt));
+                });
+
+                // 검증 결과 캐시 반영 (게임 중 검증 캐시가 재사용)
+                verdicts.forEach((videoId, result) -> youTubeVerdictCache.remember(videoId, result, checkedAt));
+
+                for (int i = 0; i < deactivated.size(); i++) {
+                    Song song = deactivated.get(i);
+                    ValidationResult result = deactivatedResults.get(i);
 
                     // 영향받은 곡 기록
                     AffectedReason reason;
@@ -80,14 +166,14 @@ public class YouTubeVideoCheckBatch {
                         reason = AffectedReason.YOUTUBE_EMBED_DISABLED;
                         reasonDetail = "임베드 불가";
                         log.warn("임베드 불가로 비활성화: [ID:{}] {} - {} (videoId: {})",
-                                song.getId(), song.getArtist(), song.getTitle(), videoId);
+                                song.getId(), song.getArtist(), song.getTitle(), song.getYoutubeVideoId());
                     } else {
                         deletedCount++;
                         reason = AffectedReason.YOUTUBE_DELETED;
                         reasonDetail = String.format("oEmbed: %s, 썸네일: %s",
                                 result.getOEmbedError(), result.getThumbnailError());
                         log.warn("삭제된 영상으로 비활성화: [ID:{}] {} - {} (videoId: {}) - {}",
-                                song.getId(), song.getArtist(), song.getTitle(), videoId, reasonDetail);
+                                song.getId(), song.getArtist(), song.getTitle(), song.getYoutubeVideoId(), reasonDetail);
                     }
 
                     // 영향받은 곡 기록 저장
@@ -95,7 +181,18 @@ public class YouTubeVideoCheckBatch {
                         batchService.recordAffectedSong(history, song, ActionType.DEACTIVATED, reason, reasonDetail);
                     }
                 }
+                if (!deactivated.isEmpty()) {
+                    songCatalogService.invalidate();
+                }
+
+                current.advance(chunk.size());
+                if (history != null && batchService != null) {
+                    batchService.saveProgress(history, cutoff.toString(), current.getProcessed(), totalChecked);
+                }
+                log.debug("[{}] 진행 {}/{}곡 ({}건/s)", BATCH_ID, current.getProcessed(), totalChecked,
+                        String.format("%.1f", current.rowsPerSecond()));
             }
+            current.finish();
 
             int totalDisabled = deletedCount + embedDisabledCount;
 
@@ -118,6 +215,9 @@ public class YouTubeVideoCheckBatch {
                     resultMessage.append(")");
                 }
             }
+            if (skippedCount > 0) {
+                resultMessage.append(String.format(" / YouTube 응답 장애로 %d곡 검사 보류", skippedCount));
+            }
 
             long executionTime = System.currentTimeMillis() - startTime;
 
@@ -132,14 +232,19 @@ public class YouTubeVideoCheckBatch {
                 );
             }
 
-            log.info("[{}] 배치 실행 완료 - 검사: {}곡, 삭제됨: {}곡, 임베드불가: {}곡, 소요시간: {}ms",
-                    BATCH_ID, totalChecked, deletedCount, embedDisabledCount, executionTime);
+            log.info("[{}] 배치 실행 완료 - 검사: {}곡, 삭제됨: {}곡, 임베드불가: {}곡, 보류: {}곡, 소요시간: {}ms",
+                    BATCH_ID, totalChecked, deletedCount, embedDisabledCount, skippedCount, executionTime);
 
             return totalDisabled;
 
         } catch (Exception e) {
             long executionTime = System.currentTimeMillis() - startTime;
+            BatchProgress current = progress;
+            if (current != null) {
+                current.finish();
+            }
 
+            // 체크포인트는 남겨두고 실패 처리 → 다음 실행이 이어서 검사
             if (history != null && batchService != null) {
                 batchService.completeExecution(
                         history,
@@ -152,6 +257,79 @@ public class YouTubeVideoCheckBatch {
 
             log.error("[{}] 배치 실행 실패", BATCH_ID, e);
             throw new RuntimeException("배치 실행 실패: " + e.getMessage(), e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 청크 내 곡을 동시에 검증 (결과는 입력 순서대로)
+     */
+    private List<ValidationResult> validateChunk(List<Song> chunk, ExecutorService executor, TokenBucket rateLimiter)
+            throws InterruptedException, ExecutionException {
+        List<Future<ValidationResult>> futures = new ArrayList<>(chunk.size());
+        for (Song song : chunk) {
+            String videoId = song.getYoutubeVideoId();
+            futures.add(executor.submit(() -> {
+                rateLimiter.acquire();
+                return youTubeValidationService.validateVideo(videoId);
+            }));
+        }
+        List<ValidationResult> results = new ArrayList<>(chunk.size());
+        for (Future<ValidationResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    /**
+     * 관리자 화면용 진행 상황 (처리 곡 수, 초당 처리 곡 수, 예상 남은 시간)
+     */
+    public Map<String, Object> getProgress() {
+        return BatchProgress.toMap(progress);
+    }
+
+    /**
+     * YouTube 호출 속도 제한 (토큰 버킷, 최대 1초분까지 몰아서 허용)
+     */
+    static class TokenBucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        TokenBucket(double permitsPerSecond) {
+            this.permitsPerNano = permitsPerSecond / 1_000_000_000.0;
+            this.capacity = Math.max(1, permitsPerSecond);
+            this.tokens = capacity;
+        }
+
+        void acquire() throws InterruptedException {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+                lastRefill = now;
+                // 토큰을 미리 차감 (음수면 그만큼 기다린 뒤 호출)
+                tokens -= 1;
+                waitNanos = tokens >= 0 ? 0 : (long) (-tokens / permitsPerNano);
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+
+    private static class CheckThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "youtube-check-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
 }
@@ -0,0 +1,48 @@
+package com.kh.game.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * song_answer_seq 시작값 보정 (MariaDB)
+ *
+ * - SongAnswer는 allocationSize = 50 (pooled 옵티마이저) → 시퀀스 값 S를 받으면 S-49 ~ S를 사용
+ * - ddl-auto=update가 기존 데이터가 있는 DB에 시퀀스를 1부터 만들거나, 마이그레이션 이후 다른 경로로
+ *   AUTO_INCREMENT ID가 들어가면 발급 ID가 기존 행과 겹침
+ * - 웹 서버가 요청을 받기 전(빈 초기화 시점)에 시퀀스를 MAX(id) + 50 이후로 올림
+ *   (SETVAL은 현재 값보다 낮은 값을 무시하므로 이미 앞서 있으면 그대로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongAnswerSequenceInitializer {
+
+    // SongAnswer @SequenceGenerator allocationSize와 같아야 함
+    static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequence() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MariaDB".equalsIgnoreCase(product)) {
+            return; // 시퀀스는 MariaDB에서만 사용 (테스트 H2는 create-drop)
+        }
+
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM song_answer", Long.class);
+            long floor = (maxId != null ? maxId : 0L) + ALLOCATION_SIZE;
+            Long applied = jdbcTemplate.queryForObject("SELECT SETVAL(song_answer_seq, " + floor + ")", Long.class);
+            if (applied != null) {
+                log.info("song_answer_seq 시작값 보정: {} (기존 최대 ID {})", applied, maxId);
+            }
+        } catch (Exception e) {
+            log.error("song_answer_seq 보정 실패 - migration_song_answer_sequence.sql 적용 여부 확인 필요", e);
+        }
+    }
+}
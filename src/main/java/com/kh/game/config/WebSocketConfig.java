@@ -19,6 +19,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
         config.setApplicationDestinationPrefixes("/app");
+        // 같은 세션으로 가는 메시지는 보낸 순서대로 (라운드 변경분 seq 순서 유지)
+        config.setPreservePublishOrder(true);
     }
 
     @Override
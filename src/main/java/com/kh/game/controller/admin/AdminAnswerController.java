@@ -1,10 +1,14 @@
 package com.kh.game.controller.admin;
 
+import com.kh.game.batch.SongAnswerGenerationBatch;
+import com.kh.game.entity.BatchExecutionHistory;
 import com.kh.game.entity.Song;
 import com.kh.game.entity.SongAnswer;
 import com.kh.game.repository.SongAnswerRepository;
+import com.kh.game.service.AnswerDictionaryService;
 import com.kh.game.service.SongService;
 import com.kh.game.util.AnswerGeneratorUtil;
+import com.kh.game.util.AnswerNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +29,8 @@ public class AdminAnswerController {
 
     private final SongService songService;
     private final SongAnswerRepository songAnswerRepository;
+    private final AnswerDictionaryService answerDictionaryService;
+    private final SongAnswerGenerationBatch songAnswerGenerationBatch;
 
     /**
      * 기존 URL → 통합 콘텐츠 페이지로 리다이렉트
@@ -217,6 +223,46 @@ public class AdminAnswerController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 자동 생성 발음 사전 다시 읽기 (추가 항목 파일 반영, 재시작 불필요)
+     */
+    @PostMapping("/dictionary/reload")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> reloadDictionary() {
+        Map<String, Object> result = new HashMap<>();
+        try {
+            Map<String, Object> size = answerDictionaryService.reload();
+            result.put("success", true);
+            result.put("message", String.format("발음 사전이 갱신되었습니다. (단어 %s개, 음소 %s개)",
+                    size.get("words"), size.get("phonetics")));
+            result.putAll(size);
+        } catch (IllegalArgumentException e) {
+            result.put("success", false);
+            result.put("message", e.getMessage());
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 전체 곡 정답 변형 재생성 시작 (발음 사전 변경 후, 기존 정답에 없는 변형만 추가)
+     * - 백그라운드에서 실행하고 바로 응답, 진행 상황은 /admin/batch/progress/{batchId}
+     * - 예약 실행 등 다른 정답 생성이 진행 중이면 시작하지 않음
+     */
+    @PostMapping("/regenerate-all")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> regenerateAll() {
+        Map<String, Object> result = new HashMap<>();
+        if (songAnswerGenerationBatch.startRegenerateAll(BatchExecutionHistory.ExecutionType.MANUAL)) {
+            result.put("success", true);
+            result.put("message", "정답 재생성을 시작했습니다. 진행 상황은 배치 관리에서 확인할 수 있습니다.");
+        } else {
+            result.put("success", false);
+            result.put("message", "정답 생성 배치가 이미 실행 중입니다.");
+        }
+        result.put("running", true);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 개선된 자동 생성 - 영어→한글 발음 포함 다양한 변형 생성
      */
@@ -267,9 +313,6 @@ public class AdminAnswerController {
      * 비교용 정규화 (중복 체크용)
      */
     private String normalizeForComparison(String text) {
-        if (text == null) return "";
-        return text.toLowerCase()
-                .replaceAll("\\s+", "")
-                .replaceAll("[^a-z0-9가-힣]", "");
+        return AnswerNormalizer.normalize(text);
     }
 }
\ No newline at end of file
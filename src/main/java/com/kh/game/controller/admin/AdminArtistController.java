@@ -1,6 +1,7 @@
 package com.kh.game.controller.admin;
 
 import com.kh.game.service.SongService;
+import com.kh.game.util.AnswerNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -113,9 +114,7 @@ public class AdminArtistController {
 
         for (Map<String, Object> artist : artists) {
             String name = (String) artist.get("name");
-            String normalized = name.toLowerCase()
-                    .replaceAll("\\s+", "")
-                    .replaceAll("[^a-z0-9가-힣]", "");
+            String normalized = AnswerNormalizer.normalize(name);
 
             groups.computeIfAbsent(normalized, k -> new java.util.ArrayList<>()).add(artist);
         }
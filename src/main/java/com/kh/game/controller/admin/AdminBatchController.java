@@ -1,9 +1,12 @@
 package com.kh.game.controller.admin;
 
 import com.kh.game.batch.BatchScheduler;
+import com.kh.game.batch.SongAnswerGenerationBatch;
+import com.kh.game.batch.YouTubeVideoCheckBatch;
 import com.kh.game.entity.BatchConfig;
 import com.kh.game.entity.BatchExecutionHistory;
 import com.kh.game.service.BatchService;
+import com.kh.game.service.YouTubeValidationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -22,6 +25,9 @@ public class AdminBatchController {
 
     private final BatchService batchService;
     private final BatchScheduler batchScheduler;
+    private final YouTubeValidationService youTubeValidationService;
+    private final YouTubeVideoCheckBatch youTubeVideoCheckBatch;
+    private final SongAnswerGenerationBatch songAnswerGenerationBatch;
 
     /**
      * 기존 URL → 통합 시스템 설정 페이지로 리다이렉트
@@ -77,6 +83,10 @@ public class AdminBatchController {
                     result.put("lastAffectedCount", config.getLastAffectedCount());
                     result.put("lastExecutionTimeMs", config.getLastExecutionTimeMs());
                     result.put("isScheduled", batchScheduler.isScheduled(batchId));
+                    Map<String, Object> progress = progressOf(batchId);
+                    if (progress != null) {
+                        result.put("progress", progress);
+                    }
 
                     // 최근 실행 이력
                     List<BatchExecutionHistory> history = batchService.getRecentHistory(batchId);
@@ -88,6 +98,8 @@ public class AdminBatchController {
                         hMap.put("message", h.getMessage());
                         hMap.put("affectedCount", h.getAffectedCount());
                         hMap.put("executionTimeMs", h.getExecutionTimeMs());
+                        hMap.put("processedCount", h.getProcessedCount());
+                        hMap.put("totalCount", h.getTotalCount());
                         hMap.put("executedAt", h.getExecutedAt());
                         return hMap;
                     }).collect(Collectors.toList()));
@@ -97,6 +109,36 @@ public class AdminBatchController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 배치 진행 상황 (처리 곡 수, 초당 처리 곡 수, 예상 남은 시간)
+     * - 진행률을 제공하는 배치만 값이 있음
+     */
+    @GetMapping("/progress/{batchId}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> progress(@PathVariable String batchId) {
+        Map<String, Object> progress = progressOf(batchId);
+        return ResponseEntity.ok(progress != null ? progress : Map.of("running", false));
+    }
+
+    private Map<String, Object> progressOf(String batchId) {
+        if (YouTubeVideoCheckBatch.BATCH_ID.equals(batchId)) {
+            return youTubeVideoCheckBatch.getProgress();
+        }
+        if (SongAnswerGenerationBatch.BATCH_ID.equals(batchId)) {
+            return songAnswerGenerationBatch.getProgress();
+        }
+        return null;
+    }
+
+    /**
+     * YouTube 서킷 브레이커 상태 (상태, 차단 횟수, 실패/지연 호출 수)
+     */
+    @GetMapping("/youtube-circuit")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> youtubeCircuit() {
+        return ResponseEntity.ok(youTubeValidationService.getCircuitStats());
+    }
+
     /**
      * 배치 수동 실행
      */
@@ -6,6 +6,7 @@ import com.kh.game.repository.GameRoomChatRepository;
 import com.kh.game.repository.GameRoomParticipantRepository;
 import com.kh.game.repository.GameRoomRepository;
 import com.kh.game.service.GameRoomService;
+import com.kh.game.service.MultiRoomRuntime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +31,7 @@ public class AdminRoomController {
     private final GameRoomChatRepository gameRoomChatRepository;
     private final GameRoomParticipantRepository participantRepository;
     private final GameRoomService gameRoomService;
+    private final MultiRoomRuntime multiRoomRuntime;
 
     /**
      * 레거시 URL → 통합 페이지로 리다이렉트
@@ -159,6 +161,7 @@ public class AdminRoomController {
 
             room.setStatus(GameRoom.RoomStatus.FINISHED);
             gameRoomRepository.save(room);
+            multiRoomRuntime.evict(room.getRoomCode());
 
             result.put("success", true);
             result.put("message", "방이 종료되었습니다.");
@@ -185,6 +188,7 @@ public class AdminRoomController {
 
             // 방 삭제
             gameRoomRepository.delete(room);
+            multiRoomRuntime.evict(room.getRoomCode());
 
             result.put("success", true);
             result.put("message", "방이 삭제되었습니다.");
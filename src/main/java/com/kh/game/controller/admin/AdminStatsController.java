@@ -1,5 +1,6 @@
 package com.kh.game.controller.admin;
 
+import com.kh.game.service.AnswerSuggestionService;
 import com.kh.game.service.SongService;
 import com.kh.game.service.WrongAnswerStatsService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ public class AdminStatsController {
 
     private final WrongAnswerStatsService wrongAnswerStatsService;
     private final SongService songService;
+    private final AnswerSuggestionService answerSuggestionService;
 
     /**
      * 통합 통계 페이지 진입점
@@ -67,6 +69,9 @@ public class AdminStatsController {
         model.addAttribute("commonWrongAnswers", commonWrongAnswers);
         model.addAttribute("hardestSongs", hardestSongs);
         model.addAttribute("recentWrongAnswers", recentWrongAnswers);
+
+        // 정답 후보 (오답 군집화 배치 결과)
+        model.addAttribute("answerSuggestions", answerSuggestionService.getPendingSuggestions(50));
     }
 
     @GetMapping("/wrong-answers/song/{songId}")
@@ -78,6 +83,28 @@ public class AdminStatsController {
         return ResponseEntity.ok(wrongAnswers);
     }
 
+    @PostMapping("/suggestions/{id}/accept")
+    @ResponseBody
+    public ResponseEntity<?> acceptSuggestion(@PathVariable Long id) {
+        try {
+            answerSuggestionService.accept(id);
+            return ResponseEntity.ok(Map.of("success", true));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/suggestions/{id}/reject")
+    @ResponseBody
+    public ResponseEntity<?> rejectSuggestion(@PathVariable Long id) {
+        try {
+            answerSuggestionService.reject(id);
+            return ResponseEntity.ok(Map.of("success", true));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
     // ========================================
     // 곡 대중성 통계 페이지
     // ========================================
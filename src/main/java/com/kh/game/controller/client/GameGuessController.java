@@ -7,7 +7,9 @@ import com.kh.game.service.BadgeService;
 import com.kh.game.service.GameSessionService;
 import com.kh.game.service.GenreService;
 import com.kh.game.service.MemberService;
+import com.kh.game.service.SongFacetService;
 import com.kh.game.service.SongService;
+import com.kh.game.service.SongStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,8 +27,10 @@ import java.util.*;
 public class GameGuessController {
 
     private final SongService songService;
+    private final SongFacetService songFacetService;
     private final GenreService genreService;
     private final GameSessionService gameSessionService;
+    private final SongStatsService songStatsService;
     private final MemberService memberService;
     private final BadgeService badgeService;
 
@@ -77,16 +81,14 @@ public class GameGuessController {
 
     @GetMapping("/years")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getYears() {
-        List<Map<String, Object>> years = songService.getYearsWithCount();
-        return ResponseEntity.ok(years);
+    public ResponseEntity<String> getYears() {
+        return JsonResponses.raw(songFacetService.getYearsJson(null));
     }
 
     @GetMapping("/artists")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getArtists() {
-        List<Map<String, Object>> artists = songService.getArtistsWithCount();
-        return ResponseEntity.ok(artists);
+    public ResponseEntity<String> getArtists() {
+        return JsonResponses.raw(songFacetService.getArtistsWithSoloJson());
     }
 
     @GetMapping("/artists/search")
@@ -98,53 +100,30 @@ public class GameGuessController {
 
     @GetMapping("/genres-with-count")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getGenresWithCount(HttpSession httpSession) {
-        List<Map<String, Object>> result = new ArrayList<>();
-
+    public ResponseEntity<String> getGenresWithCount(HttpSession httpSession) {
         @SuppressWarnings("unchecked")
         List<Long> playedSongIds = (List<Long>) httpSession.getAttribute("guessPlayedSongIds");
-        if (playedSongIds == null) {
-            playedSongIds = new ArrayList<>();
-        }
 
-        for (var genre : genreService.findActiveGenresForGame()) {
-            Map<String, Object> genreInfo = new HashMap<>();
-            genreInfo.put("id", genre.getId());
-            genreInfo.put("name", genre.getName());
-
-            int availableCount = songService.getAvailableSongCountByGenreExcluding(genre.getId(), playedSongIds);
-            genreInfo.put("availableCount", availableCount);
-
-            result.add(genreInfo);
-        }
-
-        return ResponseEntity.ok(result);
+        // 장르별 곡 수는 카탈로그 버전별로 미리 집계, 출제된 곡만 차감
+        return JsonResponses.raw(songFacetService.getGenresJson(playedSongIds));
     }
 
     @GetMapping("/artists-with-count")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getArtistsWithCount(HttpSession httpSession) {
+    public ResponseEntity<String> getArtistsWithCount(HttpSession httpSession) {
         @SuppressWarnings("unchecked")
         List<Long> playedSongIds = (List<Long>) httpSession.getAttribute("guessPlayedSongIds");
-        if (playedSongIds == null) {
-            playedSongIds = new ArrayList<>();
-        }
 
-        List<Map<String, Object>> artists = songService.getArtistsWithCountExcluding(playedSongIds);
-        return ResponseEntity.ok(artists);
+        return JsonResponses.raw(songFacetService.getArtistsJson(playedSongIds));
     }
 
     @GetMapping("/years-with-count")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getYearsWithCount(HttpSession httpSession) {
+    public ResponseEntity<String> getYearsWithCount(HttpSession httpSession) {
         @SuppressWarnings("unchecked")
         List<Long> playedSongIds = (List<Long>) httpSession.getAttribute("guessPlayedSongIds");
-        if (playedSongIds == null) {
-            playedSongIds = new ArrayList<>();
-        }
 
-        List<Map<String, Object>> years = songService.getYearsWithCountExcluding(playedSongIds);
-        return ResponseEntity.ok(years);
+        return JsonResponses.raw(songFacetService.getYearsJson(playedSongIds));
     }
 
     @PostMapping("/start")
@@ -592,7 +571,7 @@ public class GameGuessController {
             round.setAttemptCount(currentAttempt);
 
             // 정답 체크
-            boolean isCorrect = songService.checkAnswer(song.getId(), userAnswer);
+            boolean isCorrect = songService.checkAnswer(song.getId(), userAnswer, GameSession.GameType.SOLO_GUESS);
 
             // 시도 기록 저장
             GameRoundAttempt attempt = new GameRoundAttempt(round, currentAttempt, userAnswer, isCorrect);
@@ -706,6 +685,11 @@ public class GameGuessController {
 
         gameSessionService.save(session);
 
+        // 라운드가 끝났으면 곡 난이도 집계 반영
+        if (Boolean.TRUE.equals(result.get("isRoundOver"))) {
+            songStatsService.recordRound(session, round);
+        }
+
         result.put("success", true);
         result.put("isGameOver", session.getStatus() == GameSession.GameStatus.COMPLETED);
         result.put("completedRounds", session.getCompletedRounds());
@@ -900,4 +884,4 @@ public class GameGuessController {
             return 60;
         }
     }
-}
\ No newline at end of file
+}
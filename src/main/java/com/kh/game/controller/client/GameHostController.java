@@ -4,7 +4,9 @@ import com.kh.game.dto.GameSettings;
 import com.kh.game.entity.*;
 import com.kh.game.service.GameSessionService;
 import com.kh.game.service.GenreService;
+import com.kh.game.service.SongFacetService;
 import com.kh.game.service.SongService;
+import com.kh.game.service.SongStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -21,8 +23,10 @@ import java.util.*;
 public class GameHostController {
 
     private final SongService songService;
+    private final SongFacetService songFacetService;
     private final GenreService genreService;
     private final GameSessionService gameSessionService;
+    private final SongStatsService songStatsService;
 
     @GetMapping
     public String setup(Model model) {
@@ -101,16 +105,14 @@ public class GameHostController {
 
     @GetMapping("/years")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getYears() {
-        List<Map<String, Object>> years = songService.getYearsWithCount();
-        return ResponseEntity.ok(years);
+    public ResponseEntity<String> getYears() {
+        return JsonResponses.raw(songFacetService.getYearsJson(null));
     }
 
     @GetMapping("/artists")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getArtists() {
-        List<Map<String, Object>> artists = songService.getArtistsWithCount();
-        return ResponseEntity.ok(artists);
+    public ResponseEntity<String> getArtists() {
+        return JsonResponses.raw(songFacetService.getArtistsWithSoloJson());
     }
 
     /**
@@ -157,53 +159,30 @@ public class GameHostController {
 
     @GetMapping("/genres-with-count")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getGenresWithCount(HttpSession httpSession) {
-        List<Map<String, Object>> result = new ArrayList<>();
-
+    public ResponseEntity<String> getGenresWithCount(HttpSession httpSession) {
         @SuppressWarnings("unchecked")
         List<Long> playedSongIds = (List<Long>) httpSession.getAttribute("playedSongIds");
-        if (playedSongIds == null) {
-            playedSongIds = new ArrayList<>();
-        }
-
-        for (var genre : genreService.findActiveGenresForGame()) {
-            Map<String, Object> genreInfo = new HashMap<>();
-            genreInfo.put("id", genre.getId());
-            genreInfo.put("name", genre.getName());
-
-            int availableCount = songService.getAvailableSongCountByGenreExcluding(genre.getId(), playedSongIds);
-            genreInfo.put("availableCount", availableCount);
-
-            result.add(genreInfo);
-        }
 
-        return ResponseEntity.ok(result);
+        // 장르별 곡 수는 카탈로그 버전별로 미리 집계, 출제된 곡만 차감
+        return JsonResponses.raw(songFacetService.getGenresJson(playedSongIds));
     }
 
     @GetMapping("/artists-with-count")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getArtistsWithCount(HttpSession httpSession) {
+    public ResponseEntity<String> getArtistsWithCount(HttpSession httpSession) {
         @SuppressWarnings("unchecked")
         List<Long> playedSongIds = (List<Long>) httpSession.getAttribute("playedSongIds");
-        if (playedSongIds == null) {
-            playedSongIds = new ArrayList<>();
-        }
 
-        List<Map<String, Object>> artists = songService.getArtistsWithCountExcluding(playedSongIds);
-        return ResponseEntity.ok(artists);
+        return JsonResponses.raw(songFacetService.getArtistsJson(playedSongIds));
     }
 
     @GetMapping("/years-with-count")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getYearsWithCount(HttpSession httpSession) {
+    public ResponseEntity<String> getYearsWithCount(HttpSession httpSession) {
         @SuppressWarnings("unchecked")
         List<Long> playedSongIds = (List<Long>) httpSession.getAttribute("playedSongIds");
-        if (playedSongIds == null) {
-            playedSongIds = new ArrayList<>();
-        }
 
-        List<Map<String, Object>> years = songService.getYearsWithCountExcluding(playedSongIds);
-        return ResponseEntity.ok(years);
+        return JsonResponses.raw(songFacetService.getYearsJson(playedSongIds));
     }
 
     @PostMapping("/start")
@@ -715,6 +694,7 @@ public class GameHostController {
         }
 
         gameSessionService.save(session);
+        songStatsService.recordRound(session, round);
 
         result.put("success", true);
         result.put("isGameOver", session.getStatus() == GameSession.GameStatus.COMPLETED);
@@ -804,4 +784,4 @@ public class GameHostController {
         result.put("success", true);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+}
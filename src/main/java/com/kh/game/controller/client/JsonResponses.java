@@ -0,0 +1,20 @@
+package com.kh.game.controller.client;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 미리 직렬화된 JSON 응답 (SongFacetService의 연도/아티스트/장르 목록 등)
+ */
+final class JsonResponses {
+
+    private JsonResponses() {
+    }
+
+    /**
+     * 미리 직렬화된 JSON 그대로 응답
+     */
+    static ResponseEntity<String> raw(String json) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+    }
+}
@@ -10,6 +10,8 @@ import com.kh.game.service.GameRoomService;
 import com.kh.game.service.GenreService;
 import com.kh.game.service.MemberService;
 import com.kh.game.service.MultiGameService;
+import com.kh.game.service.MultiRoomRuntime;
+import com.kh.game.service.SongFacetService;
 import com.kh.game.service.SongService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpSession;
@@ -24,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Controller
@@ -33,9 +36,11 @@ public class MultiGameController {
 
     private final GameRoomService gameRoomService;
     private final MultiGameService multiGameService;
+    private final MultiRoomRuntime multiRoomRuntime;
     private final MemberService memberService;
     private final GenreService genreService;
     private final SongService songService;
+    private final SongFacetService songFacetService;
     private final ObjectMapper objectMapper;
     private final GameBroadcastService gameBroadcastService;
 
@@ -378,9 +383,8 @@ public class MultiGameController {
      */
     @GetMapping("/years")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getYears() {
-        List<Map<String, Object>> years = songService.getYearsWithCount();
-        return ResponseEntity.ok(years);
+    public ResponseEntity<String> getYears() {
+        return JsonResponses.raw(songFacetService.getYearsJson(null));
     }
 
     /**
@@ -388,9 +392,8 @@ public class MultiGameController {
      */
     @GetMapping("/artists")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getArtists() {
-        List<Map<String, Object>> artists = songService.getArtistsWithCount();
-        return ResponseEntity.ok(artists);
+    public ResponseEntity<String> getArtists() {
+        return JsonResponses.raw(songFacetService.getArtistsWithSoloJson());
     }
 
     /**
@@ -684,6 +687,7 @@ public class MultiGameController {
         }
 
         gameRoomService.kickParticipant(room, member, targetMember);
+        multiRoomRuntime.removePlayer(roomCode, targetMemberId);
         result.put("success", true);
         result.put("message", targetMember.getNickname() + "님이 강퇴되었습니다.");
 
@@ -755,6 +759,7 @@ public class MultiGameController {
         }
 
         gameRoomService.restartRoom(room, member);
+        multiRoomRuntime.evict(roomCode);
         result.put("success", true);
         result.put("roomCode", roomCode);
 
@@ -793,6 +798,7 @@ public class MultiGameController {
         }
 
         multiGameService.startGame(room, member);
+        multiRoomRuntime.evict(roomCode);
         result.put("success", true);
 
         gameBroadcastService.broadcastGameStart(roomCode);
@@ -805,7 +811,7 @@ public class MultiGameController {
      */
     @PostMapping("/room/{roomCode}/start-round")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> startRound(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> startRound(
             @PathVariable String roomCode,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
@@ -815,28 +821,13 @@ public class MultiGameController {
         if (memberId == null) {
             result.put("success", false);
             result.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
-        Member member = memberService.findById(memberId).orElse(null);
-        GameRoom room = gameRoomService.findByRoomCode(roomCode).orElse(null);
-
-        if (member == null || room == null) {
-            result.put("success", false);
-            result.put("message", "정보를 찾을 수 없습니다.");
+        return multiRoomRuntime.startRound(roomCode, memberId).thenApply(roundResult -> {
+            result.putAll(roundResult);
             return ResponseEntity.ok(result);
-        }
-
-        Map<String, Object> roundResult = multiGameService.startRound(room, member);
-        result.putAll(roundResult);
-
-        if (Boolean.TRUE.equals(roundResult.get("isGameOver"))) {
-            gameBroadcastService.broadcastGameFinish(roomCode);
-        } else if (Boolean.TRUE.equals(roundResult.get("success"))) {
-            gameBroadcastService.broadcastRoundUpdate(roomCode, multiGameService.getCurrentRoundInfo(room));
-        }
-
-        return ResponseEntity.ok(result);
+        });
     }
 
     /**
@@ -844,7 +835,7 @@ public class MultiGameController {
      */
     @PostMapping("/room/{roomCode}/next-round")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> nextRound(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> nextRound(
             @PathVariable String roomCode,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
@@ -854,28 +845,13 @@ public class MultiGameController {
         if (memberId == null) {
             result.put("success", false);
             result.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
-        Member member = memberService.findById(memberId).orElse(null);
-        GameRoom room = gameRoomService.findByRoomCode(roomCode).orElse(null);
-
-        if (member == null || room == null) {
-            result.put("success", false);
-            result.put("message", "정보를 찾을 수 없습니다.");
+        return multiRoomRuntime.nextRound(roomCode, memberId).thenApply(roundResult -> {
+            result.putAll(roundResult);
             return ResponseEntity.ok(result);
-        }
-
-        Map<String, Object> roundResult = multiGameService.nextRound(room, member);
-        result.putAll(roundResult);
-
-        if (Boolean.TRUE.equals(roundResult.get("isGameOver"))) {
-            gameBroadcastService.broadcastGameFinish(roomCode);
-        } else if (Boolean.TRUE.equals(roundResult.get("success"))) {
-            gameBroadcastService.broadcastRoundUpdate(roomCode, multiGameService.getCurrentRoundInfo(room));
-        }
-
-        return ResponseEntity.ok(result);
+        });
     }
 
     /**
@@ -883,7 +859,7 @@ public class MultiGameController {
      */
     @PostMapping("/room/{roomCode}/round-ready")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> setRoundReady(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> setRoundReady(
             @PathVariable String roomCode,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
@@ -893,26 +869,13 @@ public class MultiGameController {
         if (memberId == null) {
             result.put("success", false);
             result.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
-        Member member = memberService.findById(memberId).orElse(null);
-        GameRoom room = gameRoomService.findByRoomCode(roomCode).orElse(null);
-
-        if (member == null || room == null) {
-            result.put("success", false);
-            result.put("message", "정보를 찾을 수 없습니다.");
+        return multiRoomRuntime.setRoundReady(roomCode, memberId).thenApply(readyResult -> {
+            result.putAll(readyResult);
             return ResponseEntity.ok(result);
-        }
-
-        Map<String, Object> readyResult = multiGameService.setRoundReady(room, member);
-        result.putAll(readyResult);
-
-        if (Boolean.TRUE.equals(readyResult.get("success"))) {
-            gameBroadcastService.broadcastRoundUpdate(roomCode, multiGameService.getCurrentRoundInfo(room));
-        }
-
-        return ResponseEntity.ok(result);
+        });
     }
 
     /**
@@ -920,7 +883,7 @@ public class MultiGameController {
      */
     @PostMapping("/room/{roomCode}/skip-song")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> skipSong(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> skipSong(
             @PathVariable String roomCode,
             @RequestBody Map<String, Object> request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -931,33 +894,16 @@ public class MultiGameController {
         if (memberId == null) {
             result.put("success", false);
             result.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.ok(result);
-        }
-
-        Member member = memberService.findById(memberId).orElse(null);
-        GameRoom room = gameRoomService.findByRoomCode(roomCode).orElse(null);
-
-        if (member == null || room == null) {
-            result.put("success", false);
-            result.put("message", "정보를 찾을 수 없습니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
         Long songId = request.get("songId") != null ?
                 Long.valueOf(request.get("songId").toString()) : null;
 
-        Map<String, Object> skipResult = multiGameService.skipCurrentSong(room, member, songId);
-        result.putAll(skipResult);
-
-        if (Boolean.TRUE.equals(skipResult.get("success"))) {
-            if (Boolean.TRUE.equals(skipResult.get("isGameOver"))) {
-                gameBroadcastService.broadcastGameFinish(roomCode);
-            } else {
-                gameBroadcastService.broadcastRoundUpdate(roomCode, multiGameService.getCurrentRoundInfo(room));
-            }
-        }
-
-        return ResponseEntity.ok(result);
+        return multiRoomRuntime.skipCurrentSong(roomCode, memberId, songId).thenApply(skipResult -> {
+            result.putAll(skipResult);
+            return ResponseEntity.ok(result);
+        });
     }
 
     /**
@@ -965,7 +911,7 @@ public class MultiGameController {
      */
     @PostMapping("/room/{roomCode}/skip-vote")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> voteSkipRound(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> voteSkipRound(
             @PathVariable String roomCode,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
@@ -975,47 +921,53 @@ public class MultiGameController {
         if (memberId == null) {
             result.put("success", false);
             result.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
-        Member member = memberService.findById(memberId).orElse(null);
-        GameRoom room = gameRoomService.findByRoomCode(roomCode).orElse(null);
-
-        if (member == null || room == null) {
-            result.put("success", false);
-            result.put("message", "정보를 찾을 수 없습니다.");
+        return multiRoomRuntime.voteSkipRound(roomCode, memberId).thenApply(voteResult -> {
+            result.putAll(voteResult);
             return ResponseEntity.ok(result);
-        }
-
-        Map<String, Object> voteResult = multiGameService.voteSkipRound(room, member);
-        result.putAll(voteResult);
-
-        if (Boolean.TRUE.equals(voteResult.get("success"))) {
-            gameBroadcastService.broadcastRoundUpdate(roomCode, multiGameService.getCurrentRoundInfo(room));
-        }
-
-        return ResponseEntity.ok(result);
+        });
     }
 
     /**
      * 라운드 정보 조회 API (폴링용)
+     * - since: 마지막으로 받은 seq → 그 이후 변경분(changes)만, 따라잡을 수 없으면 전체 스냅샷
      */
     @GetMapping("/room/{roomCode}/round")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> getRoundInfo(@PathVariable String roomCode) {
-        Map<String, Object> result = new HashMap<>();
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getRoundInfo(
+            @PathVariable String roomCode,
+            @RequestParam(required = false) Long since) {
+        // 진행 중인 방은 메모리 상태로 응답
+        if (multiRoomRuntime.isLive(roomCode)) {
+            CompletableFuture<Map<String, Object>> live = since != null
+                    ? multiRoomRuntime.getChangesSince(roomCode, since)
+                    : multiRoomRuntime.getCurrentRoundInfo(roomCode);
+            return live.thenApply(liveInfo -> {
+                Map<String, Object> result = new HashMap<>();
+                result.put("success", liveInfo != null);
+                if (liveInfo != null) {
+                    result.putAll(liveInfo);
+                } else {
+                    result.put("message", "방을 찾을 수 없습니다.");
+                }
+                return ResponseEntity.ok(result);
+            });
+        }
 
+        Map<String, Object> result = new HashMap<>();
         GameRoom room = gameRoomService.findByRoomCode(roomCode).orElse(null);
         if (room == null) {
             result.put("success", false);
             result.put("message", "방을 찾을 수 없습니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
         result.put("success", true);
         result.putAll(multiGameService.getCurrentRoundInfo(room));
 
-        return ResponseEntity.ok(result);
+        return CompletableFuture.completedFuture(ResponseEntity.ok(result));
     }
 
     // ========== 채팅 API ==========
@@ -1025,7 +977,7 @@ public class MultiGameController {
      */
     @PostMapping("/room/{roomCode}/chat")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> sendChat(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> sendChat(
             @PathVariable String roomCode,
             @RequestBody Map<String, String> request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -1036,38 +988,33 @@ public class MultiGameController {
         if (memberId == null) {
             result.put("success", false);
             result.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
+        }
+
+        String message = request.get("message");
+        if (multiRoomRuntime.isLive(roomCode)) {
+            // 게임 진행 중 - 방 우편함에서 정답 판정 (DB 조회 없음), 채팅 브로드캐스트도 우편함에서 정답 공개보다 먼저
+            return multiRoomRuntime.sendChat(roomCode, memberId, message).thenApply(chatResult -> {
+                result.putAll(chatResult);
+                return ResponseEntity.ok(result);
+            });
         }
 
+        // 대기실/결과 화면
         Member member = memberService.findById(memberId).orElse(null);
         GameRoom room = gameRoomService.findByRoomCode(roomCode).orElse(null);
 
         if (member == null || room == null) {
             result.put("success", false);
             result.put("message", "정보를 찾을 수 없습니다.");
-            return ResponseEntity.ok(result);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
-        String message = request.get("message");
         Map<String, Object> chatResult = multiGameService.sendChat(room, member, message);
         result.putAll(chatResult);
+        broadcastChatResult(roomCode, member.getNickname(), message, chatResult);
 
-        if (Boolean.TRUE.equals(chatResult.get("success"))) {
-            // 채팅 브로드캐스트
-            Map<String, Object> chatData = new HashMap<>();
-            chatData.put("nickname", member.getNickname());
-            chatData.put("message", message);
-            chatData.put("messageType", Boolean.TRUE.equals(chatResult.get("isCorrect")) ? "CORRECT" : "CHAT");
-            chatData.put("createdAt", LocalDateTime.now().toString());
-            gameBroadcastService.broadcastChat(roomCode, chatData);
-
-            // 정답인 경우 라운드 업데이트도 브로드캐스트
-            if (Boolean.TRUE.equals(chatResult.get("isCorrect"))) {
-                gameBroadcastService.broadcastRoundUpdate(roomCode, multiGameService.getCurrentRoundInfo(room));
-            }
-        }
-
-        return ResponseEntity.ok(result);
+        return CompletableFuture.completedFuture(ResponseEntity.ok(result));
     }
 
     /**
@@ -1160,13 +1107,8 @@ public class MultiGameController {
             return ResponseEntity.ok(result);
         }
 
-        // 곡의 YouTube 유효성 플래그 업데이트
-        songService.findById(songId).ifPresent(song -> {
-            song.setIsYoutubeValid(false);
-            song.setYoutubeCheckedAt(java.time.LocalDateTime.now());
-            song.setYoutubeErrorCode(finalErrorCode);
-            songService.save(song);
-        });
+        // 곡의 YouTube 유효성 플래그 업데이트 (검증 캐시에도 반영)
+        songService.reportPlaybackError(songId, finalErrorCode);
 
         result.put("success", true);
         result.put("message", "재생 오류가 보고되었습니다.");
@@ -1177,6 +1119,21 @@ public class MultiGameController {
 
     // ========== Private Helper ==========
 
+    /**
+     * 채팅 브로드캐스트 (정답에 따른 라운드 변경분은 MultiRoomRuntime이 전송)
+     */
+    private void broadcastChatResult(String roomCode, String nickname, String message, Map<String, Object> chatResult) {
+        if (!Boolean.TRUE.equals(chatResult.get("success"))) {
+            return;
+        }
+        Map<String, Object> chatData = new HashMap<>();
+        chatData.put("nickname", nickname);
+        chatData.put("message", message);
+        chatData.put("messageType", Boolean.TRUE.equals(chatResult.get("isCorrect")) ? "CORRECT" : "CHAT");
+        chatData.put("createdAt", LocalDateTime.now().toString());
+        gameBroadcastService.broadcastChat(roomCode, chatData);
+    }
+
     /**
      * 방 상태 정보를 Map으로 빌드 (getRoomStatus와 브로드캐스트 공용)
      */
@@ -1209,4 +1166,4 @@ public class MultiGameController {
 
         return status;
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import com.kh.game.service.BadgeService;
 import com.kh.game.service.GameSessionService;
 import com.kh.game.service.MemberService;
 import com.kh.game.service.SongService;
+import com.kh.game.service.SongStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -29,6 +30,7 @@ public class RetroGameController {
 
     private final SongService songService;
     private final GameSessionService gameSessionService;
+    private final SongStatsService songStatsService;
     private final MemberService memberService;
     private final BadgeService badgeService;
 
@@ -298,7 +300,7 @@ public class RetroGameController {
                 round.setAttemptCount(currentAttempt);
 
                 // 정답 체크
-                boolean isCorrect = songService.checkAnswer(song.getId(), userAnswer);
+                boolean isCorrect = songService.checkAnswer(song.getId(), userAnswer, GameSession.GameType.RETRO_GUESS);
 
                 // 시도 기록 저장
                 GameRoundAttempt attempt = new GameRoundAttempt(round, currentAttempt, userAnswer, isCorrect);
@@ -407,6 +409,11 @@ public class RetroGameController {
 
             gameSessionService.save(session);
 
+            // 라운드가 끝났으면 곡 난이도 집계 반영
+            if (Boolean.TRUE.equals(result.get("isRoundOver"))) {
+                songStatsService.recordRound(session, round);
+            }
+
             result.put("success", true);
             result.put("isGameOver", session.getStatus() == GameSession.GameStatus.COMPLETED);
             result.put("completedRounds", session.getCompletedRounds());
@@ -0,0 +1,40 @@
+package com.kh.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 곡 카탈로그 스냅샷용 경량 곡 정보 (불변)
+ * - Song 엔티티/Genre 하이드레이션 없이 JPQL 생성자 표현식으로 조회
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogSong {
+    private final Long id;
+    private final String title;
+    private final String artist;
+    private final Long genreId;
+    private final String genreCode;
+    private final String genreName;
+    private final Integer genreDisplayOrder;
+    private final Integer releaseYear;
+    private final Boolean isSolo;
+    private final Boolean isPopular;
+    private final String youtubeVideoId;
+    private final String filePath;
+    private final Boolean isYoutubeValid;
+
+    public boolean hasYoutubeVideo() {
+        return youtubeVideoId != null && !youtubeVideoId.isEmpty();
+    }
+
+    // 대중곡 여부 (null은 대중곡으로 간주)
+    public boolean isPopularSong() {
+        return isPopular == null || isPopular;
+    }
+
+    // DB상 YouTube 유효 플래그 (null은 미확인 → 유효로 간주)
+    public boolean isYoutubeUsable() {
+        return isYoutubeValid == null || isYoutubeValid;
+    }
+}
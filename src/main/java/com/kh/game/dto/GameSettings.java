@@ -39,6 +39,7 @@ public class GameSettings {
     private Boolean privateRoom = false;         // 비공개 방 여부
     private String gameMode = "RANDOM";          // 게임 모드 (RANDOM, FIXED_GENRE, FIXED_ARTIST)
     private Boolean isRetroMode = false;         // 레트로 모드 여부 (2000년 이전 곡만)
+    private Integer roundDuration = 60;          // 라운드 제한시간(초) - 지나면 정답 없이 결과 공개
 
     // boolean getter는 is로 시작해야 함
     public boolean isPrivateRoom() {
@@ -0,0 +1,78 @@
+package com.kh.game.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정답 후보 (곡별로 비슷한 오답을 묶은 군집)
+ * - normalizedAnswer: 군집 대표 오답의 정규화 결과 (곡 안에서 유일)
+ * - 자모 편집 거리가 가까운 이후 오답은 새 후보를 만들지 않고 attemptCount에 합산
+ */
+@Entity
+@Table(name = "answer_suggestion",
+        uniqueConstraints = @UniqueConstraint(name = "uk_answer_suggestion_song_answer",
+                columnNames = {"song_id", "normalized_answer"}),
+        indexes = @Index(name = "idx_answer_suggestion_status", columnList = "status"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class AnswerSuggestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "song_id", nullable = false)
+    private Song song;
+
+    @Column(name = "normalized_answer", nullable = false, length = 255)
+    private String normalizedAnswer;
+
+    // 정답으로 추가할 원문 (군집을 처음 만든 오답)
+    @Column(name = "display_answer", nullable = false, length = 255)
+    private String displayAnswer;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    // 제목/기존 정답과의 최소 자모 편집 거리 (상한 초과 시 null)
+    private Integer distance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "last_attempt_id")
+    private Long lastAttemptId;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING, ACCEPTED, REJECTED
+    }
+
+    public AnswerSuggestion(Song song, String normalizedAnswer, String displayAnswer, Integer distance) {
+        this.song = song;
+        this.normalizedAnswer = normalizedAnswer;
+        this.displayAnswer = displayAnswer;
+        this.distance = distance;
+    }
+
+    public void addAttempts(int count, long attemptId) {
+        this.attemptCount += count;
+        this.lastAttemptId = lastAttemptId == null ? attemptId : Math.max(lastAttemptId, attemptId);
+    }
+}
@@ -57,6 +57,9 @@ public class BatchConfig {
     @Column(nullable = false)
     private Boolean implemented = false;
 
+    // 증분 배치의 처리 위치 (마지막으로 반영한 원본 레코드 ID, 없으면 처음부터)
+    private Long watermark;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
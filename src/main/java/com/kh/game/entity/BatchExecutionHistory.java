@@ -40,6 +40,14 @@ public class BatchExecutionHistory {
 
     private Long executionTimeMs;
 
+    // 대량 배치 진행 상황 (재실행 시 이어서 처리할 기준)
+    @Column(length = 100)
+    private String checkpoint;
+
+    private Integer processedCount;
+
+    private Integer totalCount;
+
     @CreationTimestamp
     private LocalDateTime executedAt;
 
@@ -59,4 +67,11 @@ public class BatchExecutionHistory {
         this.affectedCount = affectedCount;
         this.executionTimeMs = executionTimeMs;
     }
+
+    public void updateProgress(String checkpoint, int processedCount, int totalCount) {
+        this.result = BatchConfig.ExecutionResult.RUNNING;
+        this.checkpoint = checkpoint;
+        this.processedCount = processedCount;
+        this.totalCount = totalCount;
+    }
 }
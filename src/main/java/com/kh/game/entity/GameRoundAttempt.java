@@ -1,5 +1,6 @@
 package com.kh.game.entity;
 
+import com.kh.game.util.JunkInputFilter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "game_round_attempt")
+@EntityListeners(GameRoundAttemptListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,12 +33,19 @@ public class GameRoundAttempt {
     @Column(name = "is_correct", nullable = false)
     private Boolean isCorrect;
 
+    // 정크 입력 여부 (저장 시 JunkInputFilter로 판정, 오답 통계 쿼리에서 제외)
+    @Column(name = "is_junk")
+    private Boolean isJunk;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        if (isJunk == null) {
+            isJunk = JunkInputFilter.isJunkInput(userAnswer);
+        }
     }
 
     public GameRoundAttempt(GameRound gameRound, Integer attemptNumber, String userAnswer, Boolean isCorrect) {
@@ -44,5 +53,6 @@ public class GameRoundAttempt {
         this.attemptNumber = attemptNumber;
         this.userAnswer = userAnswer;
         this.isCorrect = isCorrect;
+        this.isJunk = JunkInputFilter.isJunkInput(userAnswer);
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.kh.game.entity;
+
+import jakarta.persistence.PostPersist;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 오답 시도 저장 감지 → 등록된 집계기(WrongAnswerTopK)에 (곡 ID, 입력값) 전달
+ *
+ * - 트랜잭션 안이면 커밋된 뒤에만 전달 (롤백된 시도는 집계하지 않음)
+ * - 집계기가 아직 등록되지 않았으면 무시 (시작 시 DB에서 복원)
+ */
+public class GameRoundAttemptListener {
+
+    private static volatile BiConsumer<Long, String> recorder;
+
+    private static final Object TX_KEY = new Object();
+
+    public static void register(BiConsumer<Long, String> wrongAnswerRecorder) {
+        recorder = wrongAnswerRecorder;
+    }
+
+    @PostPersist
+    void onPersist(GameRoundAttempt attempt) {
+        if (Boolean.TRUE.equals(attempt.getIsCorrect()) || attempt.getUserAnswer() == null) {
+            return;
+        }
+        GameRound round = attempt.getGameRound();
+        Long songId = round != null && round.getSong() != null ? round.getSong().getId() : null;
+        recordAfterCommit(new WrongAnswer(songId, attempt.getUserAnswer()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void recordAfterCommit(WrongAnswer wrongAnswer) {
+        if (recorder == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(List.of(wrongAnswer));
+            return;
+        }
+
+        // 트랜잭션당 1회만 커밋 콜백 등록, 오답은 모아서 커밋 후 전달
+        List<WrongAnswer> pending = (List<WrongAnswer>) TransactionSynchronizationManager.getResource(TX_KEY);
+        if (pending == null) {
+            List<WrongAnswer> registered = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(TX_KEY, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(registered);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TX_KEY);
+                }
+            });
+            pending = registered;
+        }
+        pending.add(wrongAnswer);
+    }
+
+    private static void deliver(List<WrongAnswer> wrongAnswers) {
+        BiConsumer<Long, String> current = recorder;
+        if (current == null) {
+            return;
+        }
+        for (WrongAnswer wrongAnswer : wrongAnswers) {
+            current.accept(wrongAnswer.songId, wrongAnswer.answer);
+        }
+    }
+
+    private record WrongAnswer(Long songId, String answer) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.kh.game.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 곡 누적 플레이/정답 집계 (SongStats의 회원 단위)
+ * - 회원 기준 조회 정렬(플레이 수, 정답 수, 정답률)은 (member_id, ...) 인덱스로 처리
+ */
+@Entity
+@Table(name = "member_song_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_member_song_stats",
+                columnNames = {"member_id", "song_id"}),
+        indexes = {
+                @Index(name = "idx_member_song_stats_play", columnList = "member_id, play_count, correct_count"),
+                @Index(name = "idx_member_song_stats_correct", columnList = "member_id, correct_count, play_count"),
+                @Index(name = "idx_member_song_stats_rate", columnList = "member_id, correct_rate")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class MemberSongStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "song_id", nullable = false)
+    private Long songId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "song_id", insertable = false, updatable = false)
+    private Song song;
+
+    @Column(name = "play_count", nullable = false)
+    private Long playCount = 0L;
+
+    @Column(name = "correct_count", nullable = false)
+    private Long correctCount = 0L;
+
+    @Column(name = "correct_rate", nullable = false)
+    private Double correctRate = 0.0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public MemberSongStats(Long memberId, Long songId, long playCount, long correctCount) {
+        this.memberId = memberId;
+        this.songId = songId;
+        setCounts(playCount, correctCount);
+    }
+
+    public void setCounts(long playCount, long correctCount) {
+        this.playCount = playCount;
+        this.correctCount = correctCount;
+        this.correctRate = playCount > 0 ? (double) correctCount / playCount : 0.0;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
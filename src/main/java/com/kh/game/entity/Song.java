@@ -16,6 +16,7 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+@EntityListeners({SongCatalogListener.class, SongAnswerListener.class})
 public class Song {
 
     @Id
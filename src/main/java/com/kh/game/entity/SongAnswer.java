@@ -9,13 +9,17 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "song_answer")
+@EntityListeners(SongAnswerListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 public class SongAnswer {
 
+    // 시퀀스 채번 (IDENTITY는 INSERT마다 키를 받아야 해서 JDBC 배치 INSERT가 꺼짐)
+    // allocationSize를 바꾸면 SongAnswerSequenceInitializer.ALLOCATION_SIZE도 함께 변경
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "song_answer_seq")
+    @SequenceGenerator(name = "song_answer_seq", sequenceName = "song_answer_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
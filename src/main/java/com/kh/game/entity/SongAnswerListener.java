@@ -0,0 +1,83 @@
+package com.kh.game.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Song/SongAnswer 변경 감지 → 곡별 정답 인덱스 스탬프 증가
+ *
+ * - SongCatalogListener와 같은 방식이지만 곡 단위로 관리 (바뀐 곡의 정답만 다시 로드)
+ * - 변경 즉시 + 트랜잭션 종료 시 한 번 더 증가시켜 미커밋 상태로 로드된 항목을 폐기
+ * - JPQL 벌크 변경은 리스너가 호출되지 않으므로 markChanged()를 직접 호출해야 함
+ */
+public class SongAnswerListener {
+
+    // 곡 ID → 변경 스탬프 (변경된 적 없는 곡은 0)
+    private static final Map<Long, Long> STAMPS = new ConcurrentHashMap<>();
+
+    // 전체 변경 횟수 (일괄 로드 중 변경 여부 확인용)
+    private static final AtomicLong TOTAL = new AtomicLong();
+
+    private static final Object TX_KEY = new Object();
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        if (entity instanceof SongAnswer answer) {
+            if (answer.getSong() != null) {
+                markChanged(answer.getSong().getId());
+            }
+        } else if (entity instanceof Song song) {
+            markChanged(song.getId());
+        }
+    }
+
+    public static long stampOf(Long songId) {
+        return STAMPS.getOrDefault(songId, 0L);
+    }
+
+    public static long totalChanges() {
+        return TOTAL.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void markChanged(Long songId) {
+        if (songId == null) {
+            return;
+        }
+        bump(songId);
+
+        // 트랜잭션당 1회만 종료 콜백 등록, 바뀐 곡은 모아서 종료 시 다시 증가
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(TX_KEY);
+            if (changed == null) {
+                Set<Long> registered = new HashSet<>();
+                TransactionSynchronizationManager.bindResource(TX_KEY, registered);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(TX_KEY);
+                        registered.forEach(SongAnswerListener::bump);
+                    }
+                });
+                changed = registered;
+            }
+            changed.add(songId);
+        }
+    }
+
+    private static void bump(Long songId) {
+        STAMPS.merge(songId, 1L, Long::sum);
+        TOTAL.incrementAndGet();
+    }
+}
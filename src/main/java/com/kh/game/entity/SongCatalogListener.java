@@ -0,0 +1,70 @@
+package com.kh.game.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Song/Genre 변경 감지 → 곡 카탈로그 버전 증가
+ *
+ * - 트랜잭션 안의 변경은 커밋된 뒤에만 버전을 올림 (롤백되면 그대로)
+ *   → 미커밋 상태로 만든 스냅샷이 다른 요청에 공개되지 않음
+ * - 커밋 전까지는 트랜잭션별 변경 수만 기록 → 같은 트랜잭션의 조회는 SongCatalogService가 전용 스냅샷으로 처리
+ * - JPQL 벌크 업데이트는 리스너가 호출되지 않으므로 markChanged()를 직접 호출해야 함
+ */
+public class SongCatalogListener {
+
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    // 현재 트랜잭션의 미커밋 변경 수 (AtomicLong)
+    private static final Object TX_KEY = new Object();
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        markChanged();
+    }
+
+    public static long currentVersion() {
+        return VERSION.get();
+    }
+
+    public static void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            VERSION.incrementAndGet();
+            return;
+        }
+
+        // 트랜잭션당 1회만 커밋 콜백 등록
+        AtomicLong changes = (AtomicLong) TransactionSynchronizationManager.getResource(TX_KEY);
+        if (changes == null) {
+            changes = new AtomicLong();
+            TransactionSynchronizationManager.bindResource(TX_KEY, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    VERSION.incrementAndGet();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TX_KEY);
+                }
+            });
+        }
+        changes.incrementAndGet();
+    }
+
+    /**
+     * 현재 트랜잭션에서 아직 커밋되지 않은 변경 수 (트랜잭션 밖이거나 변경이 없으면 0)
+     */
+    public static long pendingChanges() {
+        AtomicLong changes = (AtomicLong) TransactionSynchronizationManager.getResource(TX_KEY);
+        return changes != null ? changes.get() : 0L;
+    }
+}
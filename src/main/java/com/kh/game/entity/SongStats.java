@@ -0,0 +1,56 @@
+package com.kh.game.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 곡별 누적 플레이/정답 집계
+ * - 라운드가 끝날 때마다 SongStatsService가 원자적으로 증가 (게임 기록 GROUP BY 없이 조회)
+ * - correctRate: 정답 수 / 플레이 수 (0~1), 정답률 순 정렬을 인덱스로 처리하기 위해 함께 저장
+ * - 게임 세션 정리 배치(7일)와 무관하게 누적
+ */
+@Entity
+@Table(name = "song_stats", indexes = {
+        @Index(name = "idx_song_stats_rate", columnList = "correct_rate")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class SongStats {
+
+    @Id
+    @Column(name = "song_id")
+    private Long songId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "song_id", insertable = false, updatable = false)
+    private Song song;
+
+    @Column(name = "play_count", nullable = false)
+    private Long playCount = 0L;
+
+    @Column(name = "correct_count", nullable = false)
+    private Long correctCount = 0L;
+
+    @Column(name = "correct_rate", nullable = false)
+    private Double correctRate = 0.0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public SongStats(Long songId, long playCount, long correctCount) {
+        this.songId = songId;
+        setCounts(playCount, correctCount);
+    }
+
+    public void setCounts(long playCount, long correctCount) {
+        this.playCount = playCount;
+        this.correctCount = correctCount;
+        this.correctRate = playCount > 0 ? (double) correctCount / playCount : 0.0;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.kh.game.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메모리 통계 구조(빈도 상위 항목, 고유 수 추정 등)의 저장본
+ * - 원본 기록 정리 배치와 무관하게 재시작 후에도 누적 통계를 이어가기 위함
+ * - payload: 구조별 직렬화 결과 (Base64)
+ */
+@Entity
+@Table(name = "stats_sketch")
+@Getter
+@Setter
+@NoArgsConstructor
+public class StatsSketch {
+
+    @Id
+    @Column(name = "sketch_key", length = 100)
+    private String sketchKey;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public StatsSketch(String sketchKey, String payload) {
+        this.sketchKey = sketchKey;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,25 @@
+package com.kh.game.repository;
+
+import com.kh.game.entity.AnswerSuggestion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AnswerSuggestionRepository extends JpaRepository<AnswerSuggestion, Long> {
+
+    // 군집화 배치용 - 처리 중인 곡들의 기존 후보 (상태 무관, 거절된 후보도 계속 합산해 다시 뜨지 않게)
+    @Query("SELECT s FROM AnswerSuggestion s WHERE s.song.id IN :songIds")
+    List<AnswerSuggestion> findBySongIds(@Param("songIds") Collection<Long> songIds);
+
+    // 검토 대기 후보 (제목/정답과 가까운 순 → 많이 나온 순)
+    @Query("SELECT s FROM AnswerSuggestion s JOIN FETCH s.song " +
+            "WHERE s.status = 'PENDING' AND s.attemptCount >= :minAttempts " +
+            "ORDER BY CASE WHEN s.distance IS NULL THEN 1 ELSE 0 END, s.distance, s.attemptCount DESC, s.id")
+    List<AnswerSuggestion> findPendingRanked(@Param("minAttempts") int minAttempts, Pageable pageable);
+}
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BatchExecutionHistoryRepository extends JpaRepository<BatchExecutionHistory, Long> {
@@ -20,6 +21,10 @@ public interface BatchExecutionHistoryRepository extends JpaRepository<BatchExec
 
     List<BatchExecutionHistory> findTop10ByBatchIdOrderByExecutedAtDesc(String batchId);
 
+    Optional<BatchExecutionHistory> findTopByBatchIdOrderByExecutedAtDesc(String batchId);
+
+    Optional<BatchExecutionHistory> findTopByBatchIdAndCheckpointStartingWithOrderByExecutedAtDesc(String batchId, String checkpointPrefix);
+
     Page<BatchExecutionHistory> findAllByOrderByExecutedAtDesc(Pageable pageable);
 
     Page<BatchExecutionHistory> findByBatchIdOrderByExecutedAtDesc(String batchId, Pageable pageable);
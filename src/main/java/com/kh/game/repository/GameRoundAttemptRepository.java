@@ -1,6 +1,7 @@
 package com.kh.game.repository;
 
 import com.kh.game.entity.GameRoundAttempt;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -44,17 +46,6 @@ public interface GameRoundAttemptRepository extends JpaRepository<GameRoundAttem
             "ORDER BY cnt DESC")
     List<Object[]> findMostCommonWrongAnswersBySong(@Param("songId") Long songId);
 
-    // 오답률이 높은 곡 (정답률이 낮은 곡)
-    @Query("SELECT gr.song.id, gr.song.title, gr.song.artist, " +
-            "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) as correct, " +
-            "COUNT(gr) as total " +
-            "FROM GameRound gr " +
-            "WHERE gr.song IS NOT NULL AND gr.status != 'WAITING' " +
-            "GROUP BY gr.song.id, gr.song.title, gr.song.artist " +
-            "HAVING COUNT(gr) >= :minPlays " +
-            "ORDER BY (SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) * 1.0 / COUNT(gr))")
-    List<Object[]> findHardestSongs(@Param("minPlays") int minPlays);
-
     // 최근 오답 목록
     @Query("SELECT gra.userAnswer, gr.song.title, gr.song.artist, gra.createdAt " +
             "FROM GameRoundAttempt gra " +
@@ -72,6 +63,41 @@ public interface GameRoundAttemptRepository extends JpaRepository<GameRoundAttem
             "ORDER BY cnt DESC")
     List<Object[]> findMostCommonWrongAnswersWithSong();
 
+    // 정크 입력을 제외한 오답+정답 쌍 (is_junk 플래그로 SQL에서 제외)
+    @Query("SELECT gra.userAnswer, gr.song.id, gr.song.title, gr.song.artist, COUNT(gra) as cnt " +
+            "FROM GameRoundAttempt gra " +
+            "JOIN gra.gameRound gr " +
+            "WHERE gra.isCorrect = false AND gra.isJunk = false AND gr.song IS NOT NULL " +
+            "GROUP BY gra.userAnswer, gr.song.id, gr.song.title, gr.song.artist " +
+            "ORDER BY cnt DESC")
+    List<Object[]> findMostCommonValidWrongAnswersWithSong(Pageable pageable);
+
+    // 오답 중 정크 입력 수 / 전체 오답 수
+    @Query("SELECT SUM(CASE WHEN gra.isJunk = true THEN 1 ELSE 0 END), COUNT(gra) " +
+            "FROM GameRoundAttempt gra " +
+            "WHERE gra.isCorrect = false")
+    List<Object[]> countJunkWrongAnswers();
+
+    // 정크 판정이 없는 기존 기록의 입력값 (마이그레이션 이후 백필용)
+    @Query("SELECT DISTINCT gra.userAnswer FROM GameRoundAttempt gra WHERE gra.isJunk IS NULL")
+    List<String> findUserAnswersWithoutJunkFlag(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE GameRoundAttempt gra SET gra.isJunk = :junk " +
+            "WHERE gra.isJunk IS NULL AND gra.userAnswer IN :answers")
+    int updateJunkFlag(@Param("answers") Collection<String> answers, @Param("junk") boolean junk);
+
+    // 정답 후보 배치용 (id, songId, 입력값) - 워터마크 이후 유효 오답만 ID 순으로
+    // before: 아직 커밋되지 않았을 수 있는 최근 기록은 다음 실행으로 미룸 (IDENTITY 채번 순서 ≠ 커밋 순서)
+    @Query("SELECT gra.id, gr.song.id, gra.userAnswer FROM GameRoundAttempt gra " +
+            "JOIN gra.gameRound gr " +
+            "WHERE gra.id > :afterId AND gra.createdAt < :before " +
+            "AND gra.isCorrect = false AND (gra.isJunk = false OR gra.isJunk IS NULL) AND gr.song IS NOT NULL " +
+            "ORDER BY gra.id")
+    List<Object[]> findWrongAnswersAfter(@Param("afterId") Long afterId,
+                                         @Param("before") LocalDateTime before,
+                                         Pageable pageable);
+
     // 지정된 날짜 이전에 생성된 시도 기록 삭제
     @Modifying
     @Query("DELETE FROM GameRoundAttempt gra WHERE gra.createdAt < :threshold")
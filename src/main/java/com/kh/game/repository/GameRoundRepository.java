@@ -41,37 +41,24 @@ public interface GameRoundRepository extends JpaRepository<GameRound, Long> {
     @Query("UPDATE GameRound gr SET gr.song = null WHERE gr.song.id = :songId")
     void clearSongReference(@Param("songId") Long songId);
 
-    // 특정 회원의 곡별 플레이 통계 (정답 횟수, 총 플레이 횟수)
-    @Query("SELECT gr.song.id, gr.song.title, gr.song.artist, " +
-            "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) as correctCount, " +
-            "COUNT(gr) as totalCount " +
+    // 곡별 집계 재계산 (SongStatsBatch 백필/점검용) - 끝난 라운드만
+    @Query("SELECT gr.song.id, " +
+            "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END), " +
+            "COUNT(gr) " +
             "FROM GameRound gr " +
-            "WHERE gr.gameSession.member.id = :memberId AND gr.song IS NOT NULL " +
-            "GROUP BY gr.song.id, gr.song.title, gr.song.artist " +
-            "ORDER BY totalCount DESC, correctCount DESC")
-    List<Object[]> findMemberSongStatistics(@Param("memberId") Long memberId);
-
-    // 특정 회원이 가장 많이 맞춘 곡 TOP N
-    @Query("SELECT gr.song.id, gr.song.title, gr.song.artist, " +
-            "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) as correctCount, " +
-            "COUNT(gr) as totalCount " +
-            "FROM GameRound gr " +
-            "WHERE gr.gameSession.member.id = :memberId AND gr.song IS NOT NULL " +
-            "GROUP BY gr.song.id, gr.song.title, gr.song.artist " +
-            "HAVING SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) > 0 " +
-            "ORDER BY correctCount DESC, totalCount DESC")
-    List<Object[]> findMemberMostCorrectSongs(@Param("memberId") Long memberId);
+            "WHERE gr.song IS NOT NULL AND gr.status <> com.kh.game.entity.GameRound.RoundStatus.WAITING " +
+            "GROUP BY gr.song.id")
+    List<Object[]> countSongResults();
 
-    // 특정 회원이 가장 많이 틀린 곡 TOP N (정답률 기준)
-    @Query("SELECT gr.song.id, gr.song.title, gr.song.artist, " +
-            "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) as correctCount, " +
-            "COUNT(gr) as totalCount " +
+    // 회원별 곡 집계 재계산 (SongStatsBatch 백필/점검용) - 회원 세션의 끝난 라운드만
+    @Query("SELECT gr.gameSession.member.id, gr.song.id, " +
+            "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END), " +
+            "COUNT(gr) " +
             "FROM GameRound gr " +
-            "WHERE gr.gameSession.member.id = :memberId AND gr.song IS NOT NULL " +
-            "GROUP BY gr.song.id, gr.song.title, gr.song.artist " +
-            "HAVING COUNT(gr) >= 2 " +
-            "ORDER BY (SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) * 1.0 / COUNT(gr)) ASC")
-    List<Object[]> findMemberHardestSongs(@Param("memberId") Long memberId);
+            "WHERE gr.song IS NOT NULL AND gr.gameSession.member IS NOT NULL " +
+            "AND gr.status <> com.kh.game.entity.GameRound.RoundStatus.WAITING " +
+            "GROUP BY gr.gameSession.member.id, gr.song.id")
+    List<Object[]> countMemberSongResults();
 
     // 라운드와 시도(attempts)를 함께 로드
     @Query("SELECT DISTINCT gr FROM GameRound gr " +
@@ -81,17 +68,6 @@ public interface GameRoundRepository extends JpaRepository<GameRound, Long> {
             "ORDER BY gr.roundNumber ASC")
     List<GameRound> findRoundsWithAttemptsBySessionId(@Param("sessionId") Long sessionId);
 
-    // 곡별 대중성 통계 (현재 isPopular 설정과 실제 정답률 비교용)
-    @Query("SELECT gr.song.id, gr.song.title, gr.song.artist, gr.song.isPopular, " +
-            "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) as correct, " +
-            "COUNT(gr) as total " +
-            "FROM GameRound gr " +
-            "WHERE gr.song IS NOT NULL AND gr.status <> com.kh.game.entity.GameRound.RoundStatus.WAITING " +
-            "GROUP BY gr.song.id, gr.song.title, gr.song.artist, gr.song.isPopular " +
-            "HAVING COUNT(gr) >= :minPlays " +
-            "ORDER BY (SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) * 1.0 / COUNT(gr)) DESC")
-    List<Object[]> findSongPopularityMismatch(@Param("minPlays") int minPlays);
-
     // 전체 곡별 정답률 통계 (대중성 분석용)
     @Query("SELECT gr.song.id, gr.song.title, gr.song.artist, gr.song.isPopular, gr.song.genre.name, " +
             "SUM(CASE WHEN gr.isCorrect = true THEN 1 ELSE 0 END) as correct, " +
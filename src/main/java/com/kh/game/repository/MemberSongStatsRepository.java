@@ -0,0 +1,64 @@
+package com.kh.game.repository;
+
+import com.kh.game.entity.MemberSongStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MemberSongStatsRepository extends JpaRepository<MemberSongStats, Long> {
+
+    // 라운드 종료 1건 반영 (없으면 생성, uk_member_song_stats 기준)
+    @Modifying
+    @Query(value = "INSERT INTO member_song_stats (member_id, song_id, play_count, correct_count, correct_rate, updated_at) " +
+            "VALUES (:memberId, :songId, 1, :correct, :correct, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "correct_rate = (correct_count + :correct) / (play_count + 1.0), " +
+            "play_count = play_count + 1, " +
+            "correct_count = correct_count + :correct, " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int increment(@Param("memberId") Long memberId, @Param("songId") Long songId, @Param("correct") int correct);
+
+    // 게임 기록으로 다시 센 값까지 올림 (없으면 생성, 백필/점검 배치용)
+    // - 지우고 다시 넣지 않고 큰 값을 유지 → 배치 도중 들어온 increment가 사라지지 않음
+    @Modifying
+    @Query(value = "INSERT INTO member_song_stats (member_id, song_id, play_count, correct_count, correct_rate, updated_at) " +
+            "VALUES (:memberId, :songId, :plays, :correct, COALESCE(:correct / NULLIF(:plays * 1.0, 0), 0), CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "correct_rate = COALESCE(GREATEST(correct_count, :correct) / NULLIF(GREATEST(play_count, :plays) * 1.0, 0), 0), " +
+            "play_count = GREATEST(play_count, :plays), " +
+            "correct_count = GREATEST(correct_count, :correct), " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int raiseTo(@Param("memberId") Long memberId, @Param("songId") Long songId, @Param("plays") long plays, @Param("correct") long correct);
+
+    // 회원의 곡별 통계 (플레이 많은 순, idx_member_song_stats_play)
+    @Query("SELECT ms FROM MemberSongStats ms JOIN FETCH ms.song " +
+            "WHERE ms.memberId = :memberId " +
+            "ORDER BY ms.playCount DESC, ms.correctCount DESC")
+    List<MemberSongStats> findMostPlayed(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 회원이 가장 많이 맞춘 곡 (idx_member_song_stats_correct)
+    @Query("SELECT ms FROM MemberSongStats ms JOIN FETCH ms.song " +
+            "WHERE ms.memberId = :memberId AND ms.correctCount > 0 " +
+            "ORDER BY ms.correctCount DESC, ms.playCount DESC")
+    List<MemberSongStats> findMostCorrect(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 회원이 가장 많이 틀린 곡 - 2회 이상 플레이, 정답률 낮은 순 (idx_member_song_stats_rate)
+    @Query("SELECT ms FROM MemberSongStats ms JOIN FETCH ms.song " +
+            "WHERE ms.memberId = :memberId AND ms.playCount >= :minPlays " +
+            "ORDER BY ms.correctRate ASC")
+    List<MemberSongStats> findHardest(@Param("memberId") Long memberId, @Param("minPlays") long minPlays, Pageable pageable);
+
+    // 집계 점검 배치용
+    List<MemberSongStats> findByMemberIdIn(Collection<Long> memberIds);
+
+    @Modifying
+    @Query("DELETE FROM MemberSongStats ms WHERE ms.songId = :songId")
+    void deleteBySongId(@Param("songId") Long songId);
+}
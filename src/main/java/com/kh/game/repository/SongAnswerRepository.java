@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,4 +22,16 @@ public interface SongAnswerRepository extends JpaRepository<SongAnswer, Long> {
     List<SongAnswer> findMatchingAnswer(@Param("songId") Long songId, @Param("answer") String answer);
 
     boolean existsBySongId(Long songId);
+
+    // 정답 인덱스 일괄 로드용 (songId, answer)
+    @Query("SELECT sa.song.id, sa.answer FROM SongAnswer sa")
+    List<Object[]> findAllAnswerTexts();
+
+    // 정답 인덱스 곡 단위 로드용
+    @Query("SELECT sa.answer FROM SongAnswer sa WHERE sa.song.id = :songId")
+    List<String> findAnswerTextsBySongId(@Param("songId") Long songId);
+
+    // 정답 자동 생성 배치용 (songId, answer) - 청크 단위 기존 정답 조회
+    @Query("SELECT sa.song.id, sa.answer FROM SongAnswer sa WHERE sa.song.id IN :songIds")
+    List<Object[]> findAnswerTextsBySongIds(@Param("songIds") Collection<Long> songIds);
 }
\ No newline at end of file
@@ -1,14 +1,17 @@
 package com.kh.game.repository;
 
+import com.kh.game.dto.CatalogSong;
 import com.kh.game.entity.Song;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -22,19 +25,17 @@ public interface SongRepository extends JpaRepository<Song, Long> {
 
     List<Song> findByUseYnAndFilePathIsNotNull(String useYn);
 
-    List<Song> findByUseYnAndYoutubeVideoIdIsNotNull(String useYn);
-
     // YouTube 또는 MP3 파일이 있는 곡 조회
     @Query("SELECT s FROM Song s WHERE s.useYn = :useYn AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL)")
     List<Song> findByUseYnAndHasAudioSource(@Param("useYn") String useYn);
 
-    // YouTube 또는 MP3 파일이 있는 곡 조회 (특정 장르 제외 - 게임용)
-    @Query("SELECT s FROM Song s WHERE s.useYn = :useYn AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) AND (s.genre IS NULL OR s.genre.code <> :excludeGenreCode)")
-    List<Song> findByUseYnAndHasAudioSourceExcludingGenre(@Param("useYn") String useYn, @Param("excludeGenreCode") String excludeGenreCode);
-
-    // YouTube 또는 MP3 파일이 있는 대중곡 조회 (특정 장르 제외, 매니악 곡 제외 - 일반 게임용)
-    @Query("SELECT s FROM Song s WHERE s.useYn = :useYn AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) AND (s.genre IS NULL OR s.genre.code <> :excludeGenreCode) AND (s.isPopular IS NULL OR s.isPopular = true)")
-    List<Song> findPopularSongsForGame(@Param("useYn") String useYn, @Param("excludeGenreCode") String excludeGenreCode);
+    // 곡 카탈로그 스냅샷용 경량 조회 (활성 + YouTube 또는 MP3, 엔티티 하이드레이션 없음)
+    @Query("SELECT new com.kh.game.dto.CatalogSong(s.id, s.title, s.artist, g.id, g.code, g.name, g.displayOrder, " +
+           "s.releaseYear, s.isSolo, s.isPopular, s.youtubeVideoId, s.filePath, s.isYoutubeValid) " +
+           "FROM Song s LEFT JOIN s.genre g " +
+           "WHERE s.useYn = 'Y' AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) " +
+           "ORDER BY s.id")
+    List<CatalogSong> findCatalogSongs();
 
     Page<Song> findByTitleContainingOrArtistContaining(String title, String artist, Pageable pageable);
 
@@ -59,14 +60,6 @@ public interface SongRepository extends JpaRepository<Song, Long> {
     @Query("SELECT s.artist, COUNT(s) FROM Song s WHERE s.useYn = 'Y' AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) AND (s.genre IS NULL OR s.genre.code <> :excludeGenreCode) GROUP BY s.artist ORDER BY s.artist")
     List<Object[]> findDistinctArtistsWithCountExcludingGenre(@Param("excludeGenreCode") String excludeGenreCode);
 
-    // 아티스트 검색 (자동완성용) - YouTube 또는 MP3
-    @Query("SELECT DISTINCT s.artist FROM Song s WHERE s.useYn = 'Y' AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) AND LOWER(s.artist) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY s.artist")
-    List<String> findArtistsByKeyword(@Param("keyword") String keyword);
-
-    // 아티스트 검색 (자동완성용, 특정 장르 제외) - 게임용
-    @Query("SELECT DISTINCT s.artist FROM Song s WHERE s.useYn = 'Y' AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) AND (s.genre IS NULL OR s.genre.code <> :excludeGenreCode) AND LOWER(s.artist) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY s.artist")
-    List<String> findArtistsByKeywordExcludingGenre(@Param("keyword") String keyword, @Param("excludeGenreCode") String excludeGenreCode);
-
     // 복합 필터 검색 (관리자용) - 단일 아티스트
     @Query("SELECT s FROM Song s WHERE " +
             "(:keyword IS NULL OR LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(s.artist) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
@@ -169,13 +162,49 @@ public interface SongRepository extends JpaRepository<Song, Long> {
     @Query("SELECT s FROM Song s WHERE s.isYoutubeValid = false")
     List<Song> findInvalidYoutubeSongs();
 
-    // YouTube 유효성 미확인 곡 조회 (배치용)
+    // YouTube 유효성 미확인 곡 조회 (배치용, 오래 검사하지 않은 곡부터)
     @Query("SELECT s FROM Song s WHERE s.useYn = 'Y' " +
            "AND s.youtubeVideoId IS NOT NULL " +
            "AND s.youtubeVideoId <> '' " +
-           "AND (s.youtubeCheckedAt IS NULL OR s.youtubeCheckedAt < :beforeDate)")
+           "AND (s.youtubeCheckedAt IS NULL OR s.youtubeCheckedAt < :beforeDate) " +
+           "ORDER BY s.youtubeCheckedAt ASC NULLS FIRST, s.id ASC")
     List<Song> findSongsNeedingYoutubeCheck(@Param("beforeDate") LocalDateTime beforeDate);
 
+    // YouTube 검사 통과 곡 일괄 반영 (배치 청크 단위)
+    @Modifying
+    @Query("UPDATE Song s SET s.isYoutubeValid = true, s.youtubeCheckedAt = :checkedAt, s.youtubeErrorCode = null " +
+           "WHERE s.id IN :ids")
+    int markYoutubeValid(@Param("ids") Collection<Long> ids, @Param("checkedAt") LocalDateTime checkedAt);
+
+    // YouTube 검사 실패 곡 일괄 비활성화 (배치 청크 단위, 오류 코드별)
+    @Modifying
+    @Query("UPDATE Song s SET s.useYn = 'N', s.isYoutubeValid = false, s.youtubeCheckedAt = :checkedAt, " +
+           "s.youtubeErrorCode = :errorCode WHERE s.id IN :ids")
+    int deactivateInvalidYoutube(@Param("ids") Collection<Long> ids,
+                                 @Param("errorCode") Integer errorCode,
+                                 @Param("checkedAt") LocalDateTime checkedAt);
+
+    // 정답 인덱스 일괄 로드용 (id, title)
+    @Query("SELECT s.id, s.title FROM Song s")
+    List<Object[]> findAllTitles();
+
+    @Query("SELECT s.title FROM Song s WHERE s.id = :id")
+    Optional<String> findTitleById(@Param("id") Long id);
+
+    // YouTube 검증 결과 캐시 워밍용 (videoId, isYoutubeValid, youtubeCheckedAt, youtubeErrorCode)
+    @Query("SELECT s.youtubeVideoId, s.isYoutubeValid, s.youtubeCheckedAt, s.youtubeErrorCode FROM Song s " +
+           "WHERE s.youtubeVideoId IS NOT NULL AND s.youtubeCheckedAt IS NOT NULL")
+    List<Object[]> findYoutubeVerdicts();
+
+    // YouTube 검증 결과 일괄 반영 (같은 영상을 쓰는 곡 모두)
+    @Modifying
+    @Query("UPDATE Song s SET s.isYoutubeValid = :valid, s.youtubeCheckedAt = :checkedAt, s.youtubeErrorCode = :errorCode " +
+           "WHERE s.youtubeVideoId = :videoId")
+    int updateYoutubeVerdict(@Param("videoId") String videoId,
+                             @Param("valid") Boolean valid,
+                             @Param("checkedAt") LocalDateTime checkedAt,
+                             @Param("errorCode") Integer errorCode);
+
     // ========== 이력 기반 관리용 메서드 ==========
 
     /**
@@ -243,55 +272,21 @@ public interface SongRepository extends JpaRepository<Song, Long> {
     @Query("SELECT s FROM Song s WHERE LOWER(s.artist) = LOWER(:artist) AND LOWER(s.title) = LOWER(:title)")
     Optional<Song> findByArtistAndTitleIgnoreCase(@Param("artist") String artist, @Param("title") String title);
 
-    // ========== 장르 챌린지용 쿼리 ==========
-
-    /**
-     * 장르별 유효한 곡 조회 (YouTube 또는 MP3, YouTube 검증 완료된 곡만)
-     */
-    @Query("SELECT s FROM Song s WHERE s.useYn = 'Y' " +
-           "AND s.genre.code = :genreCode " +
-           "AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) " +
-           "AND (s.isYoutubeValid IS NULL OR s.isYoutubeValid = true)")
-    List<Song> findByGenreCodeAndHasAudioSource(@Param("genreCode") String genreCode);
-
-    /**
-     * 장르별 유효한 곡 수 조회 (YouTube 검증 완료된 곡만)
-     */
-    @Query("SELECT COUNT(s) FROM Song s WHERE s.useYn = 'Y' " +
-           "AND s.genre.code = :genreCode " +
-           "AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) " +
-           "AND (s.isYoutubeValid IS NULL OR s.isYoutubeValid = true)")
-    int countByGenreCodeAndHasAudioSource(@Param("genreCode") String genreCode);
-
-    /**
-     * 장르 목록 조회 (곡 수 포함, YouTube 또는 MP3 있는 곡만)
-     */
-    @Query("SELECT g.code, g.name, COUNT(s) FROM Song s " +
-           "JOIN s.genre g " +
-           "WHERE s.useYn = 'Y' " +
-           "AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) " +
-           "GROUP BY g.code, g.name, g.displayOrder " +
-           "ORDER BY g.displayOrder, g.name")
-    List<Object[]> findGenresWithSongCount();
+    long countByUseYn(String useYn);
 
-    /**
-     * 장르 목록 조회 (곡 수 포함, 특정 최소 곡 수 이상)
-     */
-    @Query("SELECT g.code, g.name, COUNT(s) as cnt FROM Song s " +
-           "JOIN s.genre g " +
-           "WHERE s.useYn = 'Y' " +
-           "AND (s.youtubeVideoId IS NOT NULL OR s.filePath IS NOT NULL) " +
-           "GROUP BY g.code, g.name, g.displayOrder " +
-           "HAVING COUNT(s) >= :minCount " +
-           "ORDER BY g.displayOrder, g.name")
-    List<Object[]> findGenresWithSongCountMinimum(@Param("minCount") long minCount);
+    // 정답 자동 생성 배치용 (id, title) - SongAnswer가 없는 곡, afterId 이후 id 순
+    @Query("SELECT s.id, s.title FROM Song s WHERE s.useYn = :useYn AND s.id > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM SongAnswer sa WHERE sa.song = s) " +
+           "ORDER BY s.id")
+    List<Object[]> findTitlesWithoutAnswers(@Param("useYn") String useYn, @Param("afterId") Long afterId);
 
-    long countByUseYn(String useYn);
+    // 정답 전체 재생성 배치용 (id, title) - afterId 이후 id 순
+    @Query("SELECT s.id, s.title FROM Song s WHERE s.useYn = :useYn AND s.id > :afterId ORDER BY s.id")
+    List<Object[]> findTitlesByUseYn(@Param("useYn") String useYn, @Param("afterId") Long afterId);
 
-    // SongAnswer가 없는 활성 곡 조회 (배치용 - N+1 방지)
-    @Query("SELECT s FROM Song s WHERE s.useYn = :useYn " +
-           "AND NOT EXISTS (SELECT 1 FROM SongAnswer sa WHERE sa.song = s)")
-    List<Song> findSongsWithoutAnswers(@Param("useYn") String useYn);
+    // 정답 후보 배치용 (id, 제목) - 청크에 등장한 곡만
+    @Query("SELECT s.id, s.title FROM Song s WHERE s.id IN :ids")
+    List<Object[]> findTitlesByIds(@Param("ids") Collection<Long> ids);
 
     // ========== 아티스트 관리 (병합) ==========
 
@@ -0,0 +1,58 @@
+package com.kh.game.repository;
+
+import com.kh.game.entity.SongStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SongStatsRepository extends JpaRepository<SongStats, Long> {
+
+    // 라운드 종료 1건 반영 (없으면 생성) - 정답률은 증가 전 값 기준으로 먼저 계산
+    @Modifying
+    @Query(value = "INSERT INTO song_stats (song_id, play_count, correct_count, correct_rate, updated_at) " +
+            "VALUES (:songId, 1, :correct, :correct, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "correct_rate = (correct_count + :correct) / (play_count + 1.0), " +
+            "play_count = play_count + 1, " +
+            "correct_count = correct_count + :correct, " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int increment(@Param("songId") Long songId, @Param("correct") int correct);
+
+    // 게임 기록으로 다시 센 값까지 올림 (없으면 생성, 백필/점검 배치용)
+    // - 지우고 다시 넣지 않고 큰 값을 유지 → 배치 도중 들어온 increment가 사라지지 않음
+    @Modifying
+    @Query(value = "INSERT INTO song_stats (song_id, play_count, correct_count, correct_rate, updated_at) " +
+            "VALUES (:songId, :plays, :correct, COALESCE(:correct / NULLIF(:plays * 1.0, 0), 0), CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "correct_rate = COALESCE(GREATEST(correct_count, :correct) / NULLIF(GREATEST(play_count, :plays) * 1.0, 0), 0), " +
+            "play_count = GREATEST(play_count, :plays), " +
+            "correct_count = GREATEST(correct_count, :correct), " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int raiseTo(@Param("songId") Long songId, @Param("plays") long plays, @Param("correct") long correct);
+
+    // 정답률 낮은 순 (idx_song_stats_rate)
+    @Query("SELECT ss FROM SongStats ss JOIN FETCH ss.song " +
+            "WHERE ss.playCount >= :minPlays " +
+            "ORDER BY ss.correctRate ASC, ss.songId ASC")
+    List<SongStats> findHardest(@Param("minPlays") long minPlays, Pageable pageable);
+
+    // 정답률과 현재 대중성 설정이 어긋나는 곡 (정답률 높은 순)
+    @Query("SELECT ss FROM SongStats ss JOIN FETCH ss.song s " +
+            "WHERE ss.playCount >= :minPlays " +
+            "AND ((ss.correctRate >= :popularRate AND s.isPopular = false) " +
+            "OR (ss.correctRate <= :maniacRate AND (s.isPopular IS NULL OR s.isPopular = true))) " +
+            "ORDER BY ss.correctRate DESC, ss.songId DESC")
+    List<SongStats> findPopularityMismatch(@Param("minPlays") long minPlays,
+                                           @Param("popularRate") double popularRate,
+                                           @Param("maniacRate") double maniacRate);
+
+    @Modifying
+    @Query("DELETE FROM SongStats ss WHERE ss.songId = :songId")
+    void deleteBySongId(@Param("songId") Long songId);
+}
@@ -0,0 +1,13 @@
+package com.kh.game.repository;
+
+import com.kh.game.entity.StatsSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StatsSketchRepository extends JpaRepository<StatsSketch, String> {
+
+    List<StatsSketch> findBySketchKeyStartingWith(String prefix);
+}
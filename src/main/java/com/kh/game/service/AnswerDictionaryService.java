@@ -0,0 +1,94 @@
+package com.kh.game.service;
+
+import com.kh.game.util.AnswerGeneratorUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 정답 자동 생성 발음 사전 관리
+ *
+ * - answer.dictionary.path 파일의 추가 항목을 AnswerGeneratorUtil 기본 사전에 합쳐 컴파일
+ * - 파일 형식: word.<영어 단어>=<한글 발음>, phonetic.<음소 패턴>=<한글 발음> (UTF-8)
+ * - 관리자가 파일을 고친 뒤 reload를 호출하면 재시작 없이 반영 (변형 캐시도 함께 초기화)
+ */
+@Slf4j
+@Service
+public class AnswerDictionaryService {
+
+    private static final String WORD_PREFIX = "word.";
+    private static final String PHONETIC_PREFIX = "phonetic.";
+
+    @Value("${answer.dictionary.path:}")
+    private String dictionaryPath = "";
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (IllegalArgumentException e) {
+            log.warn("발음 사전 추가 항목 로드 실패 (기본 사전 사용): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 추가 항목 파일을 다시 읽어 사전 재컴파일
+     *
+     * @return words: 단어 수, phonetics: 음소 패턴 수, extraWords / extraPhonetics: 파일에서 읽은 항목 수
+     */
+    public Map<String, Object> reload() {
+        Map<String, String> extraWords = new LinkedHashMap<>();
+        Map<String, String> extraPhonetics = new LinkedHashMap<>();
+
+        if (dictionaryPath != null && !dictionaryPath.isBlank()) {
+            Path path = Path.of(dictionaryPath.trim());
+            if (!Files.isRegularFile(path)) {
+                throw new IllegalArgumentException("발음 사전 파일을 찾을 수 없습니다: " + path);
+            }
+
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("발음 사전 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+
+            for (String key : properties.stringPropertyNames()) {
+                String value = properties.getProperty(key).trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                if (key.startsWith(WORD_PREFIX) && key.length() > WORD_PREFIX.length()) {
+                    extraWords.put(key.substring(WORD_PREFIX.length()), value);
+                } else if (key.startsWith(PHONETIC_PREFIX) && key.length() > PHONETIC_PREFIX.length()) {
+                    extraPhonetics.put(key.substring(PHONETIC_PREFIX.length()), value);
+                } else {
+                    log.warn("발음 사전 항목 무시 (word./phonetic. 접두사 필요): {}", key);
+                }
+            }
+        }
+
+        AnswerGeneratorUtil.reloadDictionaries(extraWords, extraPhonetics);
+        int[] size = AnswerGeneratorUtil.dictionarySize();
+        log.info("발음 사전 컴파일 완료: 단어 {}개, 음소 {}개 (추가 단어 {}개, 추가 음소 {}개)",
+                size[0], size[1], extraWords.size(), extraPhonetics.size());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("words", size[0]);
+        result.put("phonetics", size[1]);
+        result.put("extraWords", extraWords.size());
+        result.put("extraPhonetics", extraPhonetics.size());
+        return result;
+    }
+}
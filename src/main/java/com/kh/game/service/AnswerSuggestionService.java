@@ -0,0 +1,88 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.AnswerSuggestion;
+import com.kh.game.repository.AnswerSuggestionRepository;
+import com.kh.game.repository.SongAnswerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정답 후보 (AnswerSuggestionBatch가 오답을 군집화한 결과) 조회/수락/거절
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnswerSuggestionService {
+
+    private final AnswerSuggestionRepository suggestionRepository;
+    private final SongAnswerRepository songAnswerRepository;
+    private final SongService songService;
+
+    // 이 횟수 미만으로 나온 후보는 노출하지 않음
+    @Value("${answer.suggestion.min-attempts:3}")
+    private int minAttempts = 3;
+
+    /**
+     * 검토 대기 후보 (제목/정답과 가까운 순 → 많이 나온 순)
+     */
+    public List<Map<String, Object>> getPendingSuggestions(int limit) {
+        List<Map<String, Object>> suggestions = new ArrayList<>();
+        for (AnswerSuggestion suggestion : suggestionRepository.findPendingRanked(minAttempts, PageRequest.of(0, limit))) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", suggestion.getId());
+            item.put("songId", suggestion.getSong().getId());
+            item.put("songTitle", suggestion.getSong().getTitle());
+            item.put("artist", suggestion.getSong().getArtist());
+            item.put("answer", suggestion.getDisplayAnswer());
+            item.put("count", suggestion.getAttemptCount());
+            item.put("distance", suggestion.getDistance());
+            suggestions.add(item);
+        }
+        return suggestions;
+    }
+
+    /**
+     * 후보를 곡의 정답으로 추가 (이미 같은 정답이 있으면 추가 없이 수락 처리)
+     */
+    @Transactional
+    public AnswerSuggestion accept(Long suggestionId) {
+        AnswerSuggestion suggestion = findPending(suggestionId);
+        Long songId = suggestion.getSong().getId();
+
+        if (songAnswerRepository.findMatchingAnswer(songId, suggestion.getDisplayAnswer()).isEmpty()) {
+            songService.addAnswer(songId, suggestion.getDisplayAnswer(), false);
+        }
+        suggestion.setStatus(AnswerSuggestion.Status.ACCEPTED);
+        log.info("정답 후보 수락: songId={}, answer={}", songId, suggestion.getDisplayAnswer());
+        return suggestion;
+    }
+
+    /**
+     * 후보 거절 (이후 같은 군집의 오답은 합산만 되고 다시 노출되지 않음)
+     */
+    @Transactional
+    public AnswerSuggestion reject(Long suggestionId) {
+        AnswerSuggestion suggestion = findPending(suggestionId);
+        suggestion.setStatus(AnswerSuggestion.Status.REJECTED);
+        return suggestion;
+    }
+
+    private AnswerSuggestion findPending(Long suggestionId) {
+        AnswerSuggestion suggestion = suggestionRepository.findById(suggestionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 정답 후보입니다: " + suggestionId));
+        if (suggestion.getStatus() != AnswerSuggestion.Status.PENDING) {
+            throw new IllegalArgumentException("이미 처리된 정답 후보입니다.");
+        }
+        return suggestion;
+    }
+}
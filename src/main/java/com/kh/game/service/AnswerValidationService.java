@@ -1,18 +1,15 @@
 package com.kh.game.service;
 
 import com.kh.game.entity.Song;
-import com.kh.game.entity.SongAnswer;
-import com.kh.game.repository.SongAnswerRepository;
+import com.kh.game.util.AnswerNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class AnswerValidationService {
 
-    private final SongAnswerRepository songAnswerRepository;
+    private final SongAnswerIndex songAnswerIndex;
 
     /**
      * 사용자 답변이 정답인지 검증
@@ -25,11 +22,8 @@ public class AnswerValidationService {
             return false;
         }
 
-        String normalizedUserAnswer = normalize(userAnswer);
-        String normalizedCorrectTitle = normalize(correctTitle);
-
         // 정규화된 정답과 비교
-        return normalizedUserAnswer.equals(normalizedCorrectTitle);
+        return AnswerNormalizer.hash64(userAnswer) == AnswerNormalizer.hash64(correctTitle);
     }
 
     /**
@@ -40,35 +34,19 @@ public class AnswerValidationService {
             return false;
         }
 
-        String normalizedUserAnswer = normalize(userAnswer);
-
-        // 1. 기본 제목과 비교
-        if (normalizedUserAnswer.equals(normalize(song.getTitle()))) {
-            return true;
-        }
-
-        // 2. SongAnswer 테이블의 대체 정답들과 비교
-        List<SongAnswer> answers = songAnswerRepository.findBySongId(song.getId());
-        for (SongAnswer answer : answers) {
-            if (normalizedUserAnswer.equals(normalize(answer.getAnswer()))) {
-                return true;
-            }
-        }
-
-        return false;
+        return validateAnswer(userAnswer, song.getId());
     }
 
     /**
-     * 문자열 정규화
-     * - 공백 제거
-     * - 소문자 변환
-     * - 특수문자 제거
+     * 곡 ID로 정답 검증 (멀티게임 방 메모리 상태처럼 Song 엔티티가 없을 때)
      */
-    private String normalize(String text) {
-        if (text == null) return "";
+    public boolean validateAnswer(String userAnswer, Long songId) {
+        if (userAnswer == null || userAnswer.trim().isEmpty() || songId == null) {
+            return false;
+        }
 
-        return text.toLowerCase()
-                .replaceAll("\\s+", "")           // 공백 제거
-                .replaceAll("[^a-z0-9가-힣]", ""); // 특수문자 제거 (영문, 숫자, 한글만 유지)
+        // 기본 제목 + SongAnswer 대체 정답 (정답 인덱스, DB 조회 없음)
+        boolean fuzzy = songAnswerIndex.isFuzzyEnabled(SongAnswerIndex.MODE_MULTIPLAYER);
+        return songAnswerIndex.matchesTitleOrAlias(songId, userAnswer, fuzzy);
     }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.util.HangulUtil;
+
+import java.util.*;
+
+/**
+ * 아티스트 자동완성 인덱스 (불변, SongCatalog와 함께 빌드)
+ *
+ * - 아티스트는 곡 수 내림차순 → 이름순으로 순위(rank)를 매겨 저장, 모든 목록은 rank 오름차순
+ * - 접두어: 트라이 (각 노드에 하위 아티스트 rank 목록 보관)
+ * - 중간 일치: 1/2-gram 역색인으로 후보를 좁힌 뒤 contains로 확인
+ * - 검색어에 초성(ㄱ~ㅎ)이 있으면 초성 키로 검색 (ㅂㅌㅅ → 방탄소년단)
+ * - 키는 소문자 + 공백 제거 기준
+ */
+public class ArtistSearchIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final String[] names;
+    private final String[] keys;
+    private final String[] chosungKeys;
+
+    private final TrieNode nameTrie = new TrieNode();
+    private final TrieNode chosungTrie = new TrieNode();
+    private final Map<String, int[]> nameGrams;
+    private final Map<String, int[]> chosungGrams;
+
+    public ArtistSearchIndex(List<CatalogSong> songs) {
+        Map<String, Integer> songCounts = new HashMap<>();
+        for (CatalogSong song : songs) {
+            if (song.getArtist() != null && !song.getArtist().isBlank()) {
+                songCounts.merge(song.getArtist(), 1, Integer::sum);
+            }
+        }
+
+        List<String> ranked = new ArrayList<>(songCounts.keySet());
+        ranked.sort(Comparator.comparing((String name) -> songCounts.get(name)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        int size = ranked.size();
+        this.names = ranked.toArray(new String[0]);
+        this.keys = new String[size];
+        this.chosungKeys = new String[size];
+
+        Map<String, List<Integer>> nameGramLists = new HashMap<>();
+        Map<String, List<Integer>> chosungGramLists = new HashMap<>();
+        for (int rank = 0; rank < size; rank++) {
+            keys[rank] = normalize(names[rank]);
+            chosungKeys[rank] = HangulUtil.toChosung(keys[rank]);
+
+            nameTrie.insert(keys[rank], rank);
+            chosungTrie.insert(chosungKeys[rank], rank);
+            addGrams(nameGramLists, keys[rank], rank);
+            addGrams(chosungGramLists, chosungKeys[rank], rank);
+        }
+        nameTrie.freeze();
+        chosungTrie.freeze();
+        this.nameGrams = freeze(nameGramLists);
+        this.chosungGrams = freeze(chosungGramLists);
+    }
+
+    /**
+     * 아티스트 검색 - 접두어 일치 먼저, 그다음 중간 일치 (각각 곡 수 순)
+     */
+    public List<String> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        boolean chosungMode = HangulUtil.containsChosung(query);
+        if (chosungMode) {
+            query = HangulUtil.toChosung(query);
+        }
+        TrieNode trie = chosungMode ? chosungTrie : nameTrie;
+        Map<String, int[]> grams = chosungMode ? chosungGrams : nameGrams;
+        String[] targets = chosungMode ? chosungKeys : keys;
+
+        List<String> result = new ArrayList<>();
+        BitSet added = new BitSet(names.length);
+
+        // 1. 접두어 일치 (트라이)
+        for (int rank : trie.find(query)) {
+            if (result.size() >= limit) return result;
+            added.set(rank);
+            result.add(names[rank]);
+        }
+
+        // 2. 중간 일치 (n-gram 후보 → contains 확인)
+        for (int rank : infixCandidates(grams, query)) {
+            if (result.size() >= limit) break;
+            if (added.get(rank) || !targets[rank].contains(query)) continue;
+            result.add(names[rank]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 검색어의 2-gram 중 가장 짧은 역색인 목록 (1글자 검색어는 1-gram 목록)
+     */
+    private int[] infixCandidates(Map<String, int[]> grams, String query) {
+        if (query.length() == 1) {
+            return grams.getOrDefault(query, NONE);
+        }
+        int[] best = null;
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            int[] posting = grams.getOrDefault(query.substring(i, i + 2), NONE);
+            if (best == null || posting.length < best.length) {
+                best = posting;
+            }
+            if (best.length == 0) break;
+        }
+        return best;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void addGrams(Map<String, List<Integer>> grams, String key, int rank) {
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < key.length(); i++) {
+            seen.add(key.substring(i, i + 1));
+            if (i + 2 <= key.length()) {
+                seen.add(key.substring(i, i + 2));
+            }
+        }
+        for (String gram : seen) {
+            grams.computeIfAbsent(gram, k -> new ArrayList<>()).add(rank);
+        }
+    }
+
+    private static Map<String, int[]> freeze(Map<String, List<Integer>> lists) {
+        Map<String, int[]> frozen = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, ranks) -> frozen.put(gram, toArray(ranks)));
+        return frozen;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * 트라이 노드 - ranks: 이 노드를 접두어로 갖는 아티스트 (rank 오름차순)
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private List<Integer> building = new ArrayList<>();
+        private int[] ranks = NONE;
+
+        void insert(String key, int rank) {
+            TrieNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), k -> new TrieNode());
+                node.building.add(rank);
+            }
+        }
+
+        void freeze() {
+            ranks = toArray(building);
+            building = null;
+            for (TrieNode child : children.values()) {
+                child.freeze();
+            }
+        }
+
+        int[] find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node != null ? node.ranks : NONE;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.kh.game.service;
+
+import java.util.*;
+
+/**
+ * 금지어 매처 (불변, Aho–Corasick 오토마톤, BadWordService.reloadCache에서 빌드)
+ *
+ * - 메시지를 한 번만 훑어 모든 금지어 위치를 찾음 → 금지어 수와 무관하게 메시지 길이에 비례
+ * - 대소문자 무시 (문자 단위 소문자 변환, 원문 위치 유지)
+ * - 겹치는 금지어는 왼쪽에서 먼저 시작하는 것, 같은 위치면 긴 것을 우선 치환 (결과가 항상 동일)
+ * - 노드 전이는 자식 문자 정렬 배열 + 이진 탐색 (노드당 HashMap 없이 5만 단어도 메모리 적게 사용)
+ */
+public class BadWordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] words;
+    private final String[] replacements;
+
+    // 노드별 자식 (정렬된 문자 / 대상 노드)
+    private final char[][] childChars;
+    private final int[][] childNodes;
+    // 실패 링크, 이 노드에서 끝나는 단어(없으면 -1), 실패 링크를 따라 다음으로 단어가 끝나는 노드
+    private final int[] fail;
+    private final int[] output;
+    private final int[] outputLink;
+
+    /**
+     * @param wordReplacements 금지어(소문자) → 대체 문자열
+     */
+    public BadWordMatcher(Map<String, String> wordReplacements) {
+        List<String> wordList = new ArrayList<>();
+        List<String> replacementList = new ArrayList<>();
+        for (Map.Entry<String, String> entry : wordReplacements.entrySet()) {
+            if (entry.getKey() != null && !entry.getKey().isEmpty()) {
+                wordList.add(entry.getKey());
+                replacementList.add(entry.getValue());
+            }
+        }
+        this.words = wordList.toArray(new String[0]);
+        this.replacements = replacementList.toArray(new String[0]);
+
+        // 1. 트라이 (빌드 중에만 Map 사용)
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new HashMap<>());
+        terminal.add(NONE);
+        for (int w = 0; w < words.length; w++) {
+            int node = ROOT;
+            for (int i = 0; i < words[w].length(); i++) {
+                char c = Character.toLowerCase(words[w].charAt(i));
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    terminal.add(NONE);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            terminal.set(node, w);
+        }
+
+        int size = trie.size();
+        childChars = new char[size][];
+        childNodes = new int[size][];
+        fail = new int[size];
+        output = new int[size];
+        outputLink = new int[size];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> children = trie.get(node);
+            char[] chars = new char[children.size()];
+            int k = 0;
+            for (char c : children.keySet()) {
+                chars[k++] = c;
+            }
+            Arrays.sort(chars);
+            int[] nodes = new int[chars.length];
+            for (int i = 0; i < chars.length; i++) {
+                nodes[i] = children.get(chars[i]);
+            }
+            childChars[node] = chars;
+            childNodes[node] = nodes;
+            output[node] = terminal.get(node);
+        }
+
+        // 2. 실패 링크 / 출력 링크 (BFS)
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        fail[ROOT] = ROOT;
+        outputLink[ROOT] = NONE;
+        for (int child : childNodes[ROOT]) {
+            fail[child] = ROOT;
+            outputLink[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < childChars[node].length; i++) {
+                char c = childChars[node][i];
+                int child = childNodes[node][i];
+
+                int f = fail[node];
+                int target;
+                while ((target = childOf(f, c)) == NONE && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = target != NONE ? target : ROOT;
+                int suffix = fail[child];
+                outputLink[child] = output[suffix] != NONE ? suffix : outputLink[suffix];
+                queue.add(child);
+            }
+        }
+    }
+
+    public static BadWordMatcher empty() {
+        return new BadWordMatcher(Collections.emptyMap());
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 금지어 포함 여부 (첫 일치에서 바로 종료)
+     */
+    public boolean containsAny(CharSequence text) {
+        if (text == null || isEmpty()) {
+            return false;
+        }
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, Character.toLowerCase(text.charAt(i)));
+            if (output[node] != NONE || outputLink[node] != NONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 포함된 금지어 전체 (처음 등장한 순서, 중복 제거)
+     */
+    public List<String> findAll(CharSequence text) {
+        if (text == null || isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<String> found = new LinkedHashSet<>();
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, Character.toLowerCase(text.charAt(i)));
+            for (int n = output[node] != NONE ? node : outputLink[node]; n != NONE; n = outputLink[n]) {
+                found.add(words[output[n]]);
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * 금지어를 대체 문자열로 치환 (일치가 없으면 원본 그대로 반환)
+     */
+    public String replaceAll(String text) {
+        if (text == null || text.isEmpty() || isEmpty()) {
+            return text;
+        }
+
+        // 시작 위치별 가장 긴 금지어 (단어 번호 + 1, 0이면 없음)
+        int[] longestAt = null;
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, Character.toLowerCase(text.charAt(i)));
+            for (int n = output[node] != NONE ? node : outputLink[node]; n != NONE; n = outputLink[n]) {
+                int word = output[n];
+                int start = i - words[word].length() + 1;
+                if (longestAt == null) {
+                    longestAt = new int[text.length()];
+                }
+                int current = longestAt[start] - 1;
+                if (current < 0 || words[word].length() > words[current].length()) {
+                    longestAt[start] = word + 1;
+                }
+            }
+        }
+        if (longestAt == null) {
+            return text;
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            int word = longestAt[i] - 1;
+            if (word >= 0) {
+                sb.append(replacements[word]);
+                i += words[word].length();
+            } else {
+                sb.append(text.charAt(i));
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private int step(int node, char c) {
+        while (true) {
+            int next = childOf(node, c);
+            if (next != NONE) {
+                return next;
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = fail[node];
+        }
+    }
+
+    private int childOf(int node, char c) {
+        int index = Arrays.binarySearch(childChars[node], c);
+        return index >= 0 ? childNodes[node][index] : NONE;
+    }
+}
@@ -13,7 +13,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -25,7 +24,8 @@ public class BadWordService {
 
     // 캐시된 금지어 목록 (성능 최적화)
     private final Map<String, String> badWordCache = new ConcurrentHashMap<>();
-    private Pattern badWordPattern = null;
+    // badWordCache로 빌드한 Aho–Corasick 매처 (리로드 시 통째로 교체)
+    private volatile BadWordMatcher matcher = BadWordMatcher.empty();
 
     @PostConstruct
     public void init() {
@@ -36,82 +36,56 @@ public class BadWordService {
      * 캐시 리로드
      */
     public void reloadCache() {
-        badWordCache.clear();
         List<BadWord> badWords = badWordRepository.findByIsActiveTrue();
 
-        if (badWords.isEmpty()) {
-            badWordPattern = null;
-            return;
-        }
-
-        StringBuilder patternBuilder = new StringBuilder();
-        for (int i = 0; i < badWords.size(); i++) {
-            BadWord bw = badWords.get(i);
+        Map<String, String> words = new HashMap<>();
+        for (BadWord bw : badWords) {
             String word = bw.getWord().toLowerCase();
+            if (word.isEmpty()) {
+                continue;
+            }
             String replacement = bw.getReplacement() != null ? bw.getReplacement() : "***";
-            badWordCache.put(word, replacement);
-
-            if (i > 0) patternBuilder.append("|");
-            patternBuilder.append(Pattern.quote(word));
+            words.put(word, replacement);
         }
 
-        badWordPattern = Pattern.compile(patternBuilder.toString(), Pattern.CASE_INSENSITIVE);
-        log.info("금지어 캐시 리로드 완료: {}개", badWords.size());
+        badWordCache.clear();
+        badWordCache.putAll(words);
+        matcher = new BadWordMatcher(words);
+
+        if (!badWords.isEmpty()) {
+            log.info("금지어 캐시 리로드 완료: {}개", badWords.size());
+        }
     }
 
     /**
      * 메시지에서 금지어 필터링
+     * 겹치는 금지어는 먼저 시작하는 것(같으면 긴 것)을 치환
      */
     public String filterMessage(String message) {
-        if (message == null || message.isEmpty() || badWordPattern == null) {
+        if (message == null || message.isEmpty()) {
             return message;
         }
-
-        String result = message;
-        String lowerMessage = message.toLowerCase();
-
-        for (Map.Entry<String, String> entry : badWordCache.entrySet()) {
-            String word = entry.getKey();
-            String replacement = entry.getValue();
-
-            int index = lowerMessage.indexOf(word);
-            while (index >= 0) {
-                // 원본 메시지의 해당 부분을 대체
-                result = result.substring(0, index) + replacement + result.substring(index + word.length());
-                lowerMessage = result.toLowerCase();
-                index = lowerMessage.indexOf(word, index + replacement.length());
-            }
-        }
-
-        return result;
+        return matcher.replaceAll(message);
     }
 
     /**
      * 금지어 포함 여부 확인
      */
     public boolean containsBadWord(String message) {
-        if (message == null || message.isEmpty() || badWordPattern == null) {
+        if (message == null || message.isEmpty()) {
             return false;
         }
-        return badWordPattern.matcher(message).find();
+        return matcher.containsAny(message);
     }
 
     /**
-     * 메시지에서 발견된 금지어 목록 반환
+     * 메시지에서 발견된 금지어 목록 반환 (등장 순서)
      */
     public List<String> findBadWords(String message) {
-        List<String> found = new ArrayList<>();
         if (message == null || message.isEmpty()) {
-            return found;
-        }
-
-        String lowerMessage = message.toLowerCase();
-        for (String word : badWordCache.keySet()) {
-            if (lowerMessage.contains(word)) {
-                found.add(word);
-            }
+            return new ArrayList<>();
         }
-        return found;
+        return matcher.findAll(message);
     }
 
     // ========== CRUD ==========
@@ -290,7 +290,9 @@ public class BatchService {
                 "BATCH_WEEKLY_PERFECT_REFRESH",
                 "BATCH_LP_DECAY",
                 "BATCH_SONG_ANSWER_GENERATION",
-                "BATCH_LOGIN_STREAK"
+                "BATCH_LOGIN_STREAK",
+                "BATCH_ANSWER_SUGGESTION",
+                "BATCH_SONG_STATS"
         );
 
         int updatedCount = 0;
@@ -588,6 +590,36 @@ public class BatchService {
             ));
             log.info("BATCH_LOGIN_STREAK 배치 설정 추가 완료");
         }
+
+        // BATCH_ANSWER_SUGGESTION: 오답 군집화 → 정답 후보 추천 배치
+        if (!batchConfigRepository.existsById("BATCH_ANSWER_SUGGESTION")) {
+            batchConfigRepository.save(new BatchConfig(
+                    "BATCH_ANSWER_SUGGESTION",
+                    "정답 후보 추천",
+                    "마지막 처리 이후 새로 쌓인 오답만 곡별로 묶어, 제목/정답과 가까운 오답을 정답 후보로 추천합니다.",
+                    "0 20 * * * *",
+                    "매시 20분",
+                    "GameRoundAttempt",
+                    BatchConfig.Priority.LOW,
+                    true  // 구현됨
+            ));
+            log.info("BATCH_ANSWER_SUGGESTION 배치 설정 추가 완료");
+        }
+
+        // BATCH_SONG_STATS: 곡 난이도 집계 최초 백필 + 누락 점검 배치
+        if (!batchConfigRepository.existsById("BATCH_SONG_STATS")) {
+            batchConfigRepository.save(new BatchConfig(
+                    "BATCH_SONG_STATS",
+                    "곡 난이도 집계 점검",
+                    "최초 실행 시 게임 기록으로 곡/회원별 정답률 집계를 만들고, 이후에는 기록보다 작은(증가가 누락된) 집계를 보정합니다.",
+                    "0 40 4 * * *",
+                    "매일 04:40",
+                    "SongStats",
+                    BatchConfig.Priority.MEDIUM,
+                    true  // 구현됨
+            ));
+            log.info("BATCH_SONG_STATS 배치 설정 추가 완료");
+        }
     }
 
     /**
@@ -706,6 +738,51 @@ public class BatchService {
         return historyRepository.save(history);
     }
 
+    /**
+     * 진행 상황 저장 (청크 단위 커밋 후 호출, 중단 시 재실행 기준)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveProgress(BatchExecutionHistory history, String checkpoint, int processedCount, int totalCount) {
+        history.updateProgress(checkpoint, processedCount, totalCount);
+        historyRepository.save(history);
+    }
+
+    /**
+     * 마지막 실행이 완료되지 않았으면 그 실행 이력 반환 (체크포인트가 있는 경우만)
+     */
+    public Optional<BatchExecutionHistory> findUnfinishedExecution(String batchId) {
+        return historyRepository.findTopByBatchIdOrderByExecutedAtDesc(batchId)
+                .filter(h -> h.getResult() != BatchConfig.ExecutionResult.SUCCESS)
+                .filter(h -> h.getCheckpoint() != null);
+    }
+
+    /**
+     * 체크포인트가 prefix로 시작하는 마지막 실행이 완료되지 않았으면 그 실행 이력 반환
+     * - 모드가 여러 개인 배치용: 다른 모드의 실행이 끼어도 이 모드의 중단 위치를 잃지 않음
+     */
+    public Optional<BatchExecutionHistory> findUnfinishedExecution(String batchId, String checkpointPrefix) {
+        return historyRepository.findTopByBatchIdAndCheckpointStartingWithOrderByExecutedAtDesc(batchId, checkpointPrefix)
+                .filter(h -> h.getResult() != BatchConfig.ExecutionResult.SUCCESS);
+    }
+
+    /**
+     * 증분 배치의 처리 위치 (없으면 0)
+     */
+    public long getWatermark(String batchId) {
+        return batchConfigRepository.findById(batchId)
+                .map(BatchConfig::getWatermark)
+                .orElse(0L);
+    }
+
+    /**
+     * 증분 배치의 처리 위치 저장
+     * - 호출한 쪽 트랜잭션에 참여 → 처리 결과와 처리 위치가 함께 커밋/롤백
+     */
+    @Transactional
+    public void saveWatermark(String batchId, long watermark) {
+        batchConfigRepository.findById(batchId).ifPresent(config -> config.setWatermark(watermark));
+    }
+
     /**
      * 영향받은 곡 기록
      */
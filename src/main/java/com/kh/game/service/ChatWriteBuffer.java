@@ -0,0 +1,345 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.GameRoomChat;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 방 채팅(game_room_chat) 저장 버퍼 (write-behind)
+ *
+ * - 채팅/정답/시스템 메시지는 방별 링 버퍼에 넣고 바로 반환 (브로드캐스트는 호출한 쪽에서 즉시)
+ * - flush-interval-ms마다, 또는 밀린 메시지가 flush-size개가 되면 모아서 다중 행 INSERT 한 번으로 저장
+ *   (IDENTITY 키라 JPA 배치 저장이 안 되므로 JdbcTemplate 사용)
+ * - 방 버퍼(room-capacity)가 가득 차면 넣으려던 스레드는 저장이 끝날 때까지 기다림 → 메모리 상한 + 생산 속도 억제
+ *   (단, 방 루프처럼 nonBlocking으로 표시된 스레드는 기다리지 않고 가장 오래된 일반 채팅을 버림)
+ * - created_at은 메시지가 발생한 시각으로 저장 → 정렬, 일별 통계, ChatCleanupBatch 보관 기간(30일)이 저장 지연과 무관
+ * - 서버가 비정상 종료되면 마지막 저장 주기만큼의 채팅은 유실될 수 있음 (정상 종료 시에는 모두 저장)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatWriteBuffer {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO game_room_chat (game_room_id, member_id, message, message_type, round_number, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int DROP_LOG_INTERVAL = 100;
+
+    // 버퍼가 가득 차도 기다리면 안 되는 스레드 (방 루프 - 한 스레드가 여러 방의 명령을 처리)
+    private static final ThreadLocal<Boolean> NON_BLOCKING = new ThreadLocal<>();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 밀린 메시지가 이 수에 이르면 주기를 기다리지 않고 저장 (한 INSERT 문의 최대 행 수이기도 함)
+    @Value("${multi.chat.flush-size:100}")
+    private int flushSize = 100;
+
+    // 방 하나에 저장 대기할 수 있는 최대 메시지 수
+    @Value("${multi.chat.room-capacity:256}")
+    private int roomCapacity = 256;
+
+    private final ConcurrentHashMap<Long, RoomRing> rings = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // 주기 저장, 크기 초과 저장, 버퍼가 가득 찬 호출 스레드의 저장이 겹치지 않도록 (방별 저장 순서 유지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-chat-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public void chat(Long roomId, Long memberId, String message) {
+        append(roomId, memberId, message, GameRoomChat.MessageType.CHAT, null);
+    }
+
+    public void correctAnswer(Long roomId, Long memberId, String message, int roundNumber) {
+        append(roomId, memberId, message, GameRoomChat.MessageType.CORRECT_ANSWER, roundNumber);
+    }
+
+    public void system(Long roomId, Long memberId, String message) {
+        append(roomId, memberId, message, GameRoomChat.MessageType.SYSTEM, null);
+    }
+
+    /**
+     * 저장 대기 메시지 수
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * 버퍼가 가득 차 버린 메시지 수 (nonBlocking 스레드에서만 발생)
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * task를 실행하는 스레드는 방 버퍼가 가득 차도 기다리지 않음 - 가장 오래된 일반 채팅을 버리고 추가
+     * (일반 채팅이 없으면 새 메시지를 버림)
+     */
+    public static Runnable nonBlocking(Runnable task) {
+        return () -> {
+            NON_BLOCKING.set(Boolean.TRUE);
+            try {
+                task.run();
+            } finally {
+                NON_BLOCKING.remove();
+            }
+        };
+    }
+
+    /**
+     * 메시지 추가 - 트랜잭션 안에서 호출되면 커밋된 뒤에 추가 (롤백되면 버림, 방 INSERT 커밋 전 저장 방지)
+     */
+    private void append(Long roomId, Long memberId, String message, GameRoomChat.MessageType type, Integer roundNumber) {
+        PendingChat chat = new PendingChat(roomId, memberId, message, type, roundNumber, LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(chat);
+                }
+            });
+        } else {
+            offer(chat);
+        }
+    }
+
+    private void offer(PendingChat chat) {
+        boolean nonBlocking = Boolean.TRUE.equals(NON_BLOCKING.get());
+        while (true) {
+            RoomRing ring = rings.computeIfAbsent(chat.roomId(), id -> new RoomRing(roomCapacity));
+            int result = ring.offer(chat, nonBlocking);
+            if (result == RoomRing.ACCEPTED) {
+                break;
+            }
+            if (result == RoomRing.DROPPED) {
+                // 한 건 들어오고 한 건 버림 → 대기 수는 그대로, 저장만 앞당김
+                long count = dropped.incrementAndGet();
+                if (count % DROP_LOG_INTERVAL == 1) {
+                    log.warn("방 채팅 버퍼 가득 참 - 대기하지 않고 채팅 버림 (방: {}, 누적: {}건)", chat.roomId(), count);
+                }
+                requestFlush();
+                return;
+            }
+            if (result == RoomRing.FULL) {
+                // 방 버퍼가 가득 참 → 저장이 끝날 때까지 이 스레드가 기다림 (backpressure)
+                awaitFlush();
+            }
+            // CLOSED: 저장 스레드가 빈 버퍼를 내림 → 새 버퍼로 다시 시도
+        }
+
+        if (pending.incrementAndGet() >= flushSize) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 밀린 메시지 저장 (방별 도착 순서 유지)
+     */
+    @Scheduled(fixedDelayString = "${multi.chat.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<PendingChat> batch = new ArrayList<>();
+            for (Map.Entry<Long, RoomRing> entry : rings.entrySet()) {
+                if (!entry.getValue().drainTo(batch)) {
+                    rings.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            pending.addAndGet(-batch.size());
+
+            for (int from = 0; from < batch.size(); from += flushSize) {
+                insert(batch.subList(from, Math.min(batch.size(), from + flushSize)));
+            }
+            log.debug("방 채팅 저장: {}건", batch.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    /**
+     * 저장 스레드에서 저장하고 끝날 때까지 대기
+     * (afterCommit 안에서는 끝난 트랜잭션의 커넥션이 아직 묶여 있어 호출 스레드에서 직접 저장하지 않음)
+     */
+    private void awaitFlush() {
+        try {
+            flushExecutor.submit(this::flush).get(10, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(); // 종료 중 - 트랜잭션 밖(@PreDestroy)에서만 발생
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅 저장 대기 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("방 채팅 저장 대기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return; // 이미 저장 예약됨
+        }
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false); // 종료 중 - shutdown()에서 저장
+        }
+    }
+
+    /**
+     * 다중 행 INSERT 한 번으로 저장, 실패하면 한 건씩 다시 시도 (삭제된 방/회원의 메시지만 버림)
+     */
+    private void insert(List<PendingChat> rows) {
+        try {
+            jdbcTemplate.update(INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDER)),
+                    parameters(rows));
+        } catch (Exception e) {
+            log.warn("방 채팅 일괄 저장 실패 - 한 건씩 재시도 ({}건): {}", rows.size(), e.getMessage());
+            for (PendingChat row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_PREFIX + ROW_PLACEHOLDER, parameters(List.of(row)));
+                } catch (Exception rowError) {
+                    log.warn("방 채팅 저장 실패 - 방: {}, 회원: {}: {}", row.roomId(), row.memberId(), rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Object[] parameters(List<PendingChat> rows) {
+        Object[] args = new Object[rows.size() * 6];
+        int i = 0;
+        for (PendingChat row : rows) {
+            args[i++] = row.roomId();
+            args[i++] = row.memberId();
+            args[i++] = row.message();
+            args[i++] = row.type().name();
+            args[i++] = row.roundNumber();
+            args[i++] = Timestamp.valueOf(row.createdAt());
+        }
+        return args;
+    }
+
+    record PendingChat(Long roomId, Long memberId, String message, GameRoomChat.MessageType type,
+                       Integer roundNumber, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 방 하나의 저장 대기 링 버퍼 (고정 크기)
+     * - 비어 있을 때 저장 스레드가 닫고 맵에서 내림 (끝난 방의 버퍼가 남지 않도록)
+     */
+    private static final class RoomRing {
+
+        static final int ACCEPTED = 0;
+        static final int FULL = 1;
+        static final int CLOSED = 2;
+        static final int DROPPED = 3;
+
+        private final PendingChat[] slots;
+        private int head;
+        private int size;
+        private boolean closed;
+
+        RoomRing(int capacity) {
+            this.slots = new PendingChat[capacity];
+        }
+
+        /**
+         * @param dropOldestChat 가득 찼을 때 FULL 대신 가장 오래된 일반 채팅을 버리고 추가 (없으면 chat을 버림)
+         */
+        synchronized int offer(PendingChat chat, boolean dropOldestChat) {
+            if (closed) {
+                return CLOSED;
+            }
+            if (size == slots.length) {
+                if (!dropOldestChat) {
+                    return FULL;
+                }
+                if (removeOldestChat()) {
+                    slots[(head + size) % slots.length] = chat;
+                    size++;
+                }
+                return DROPPED;
+            }
+            slots[(head + size) % slots.length] = chat;
+            size++;
+            return ACCEPTED;
+        }
+
+        private boolean removeOldestChat() {
+            for (int i = 0; i < size; i++) {
+                if (slots[(head + i) % slots.length].type() != GameRoomChat.MessageType.CHAT) {
+                    continue;
+                }
+                // 뒤의 메시지를 한 칸씩 당김 (순서 유지)
+                for (int j = i; j < size - 1; j++) {
+                    slots[(head + j) % slots.length] = slots[(head + j + 1) % slots.length];
+                }
+                size--;
+                slots[(head + size) % slots.length] = null;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 모두 꺼내 out에 추가
+         * @return 비어 있어서 닫았으면 false
+         */
+        synchronized boolean drainTo(List<PendingChat> out) {
+            if (size == 0) {
+                closed = true;
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) % slots.length;
+                out.add(slots[index]);
+                slots[index] = null;
+            }
+            head = 0;
+            size = 0;
+            return true;
+        }
+    }
+}
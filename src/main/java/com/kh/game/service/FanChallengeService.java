@@ -7,6 +7,7 @@ import com.kh.game.entity.*;
 import com.kh.game.repository.FanChallengeRecordRepository;
 import com.kh.game.repository.FanChallengeStageConfigRepository;
 import com.kh.game.repository.GameSessionRepository;
+import com.kh.game.util.HangulUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -28,16 +29,11 @@ public class FanChallengeService {
     private final FanChallengeStageConfigRepository stageConfigRepository;
     private final ObjectMapper objectMapper;
     private final BadgeService badgeService;
+    private final SongStatsService songStatsService;
 
     // 챌린지 곡 수 (20곡 고정)
     public static final int CHALLENGE_SONG_COUNT = 20;
 
-    // 한글 초성 배열
-    private static final char[] CHOSUNG = {
-            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
-            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
-    };
-
     /**
      * 팬 챌린지 게임 시작 (기본 난이도: NORMAL)
      */
@@ -177,7 +173,7 @@ public class FanChallengeService {
         boolean isCorrect = false;
 
         if (!isTimeout && answer != null && !answer.trim().isEmpty()) {
-            isCorrect = songService.checkAnswer(round.getSong().getId(), answer);
+            isCorrect = songService.checkAnswer(round.getSong().getId(), answer, GameSession.GameType.FAN_CHALLENGE);
         }
 
         // 라운드 업데이트
@@ -204,6 +200,7 @@ public class FanChallengeService {
         }
 
         session.setCompletedRounds(session.getCompletedRounds() + 1);
+        songStatsService.recordRound(session, round);
 
         // 게임 종료 체크
         boolean isGameOver = false;
@@ -492,10 +489,9 @@ public class FanChallengeService {
 
         StringBuilder result = new StringBuilder();
         for (char c : title.toCharArray()) {
-            if (c >= '가' && c <= '힣') {
+            if (HangulUtil.isSyllable(c)) {
                 // 한글: 초성 추출
-                int index = (c - '가') / 588;
-                result.append(CHOSUNG[index]);
+                result.append(HangulUtil.chosungOf(c));
             } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
                 // 영어: 첫 글자만 대문자, 나머지는 *
                 if (result.length() == 0 || result.charAt(result.length() - 1) == ' ') {
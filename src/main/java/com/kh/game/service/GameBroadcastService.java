@@ -27,6 +27,13 @@ public class GameBroadcastService {
         send(roomCode, "ROUND_UPDATE", roundInfo);
     }
 
+    /**
+     * 라운드 변경분 (seq 순번 + 바뀐 항목만)
+     */
+    public void broadcastRoundDelta(String roomCode, Map<String, Object> delta) {
+        send(roomCode, "ROUND_DELTA", delta);
+    }
+
     public void broadcastRoundResult(String roomCode, Map<String, Object> roundInfo) {
         send(roomCode, "ROUND_RESULT", roundInfo);
     }
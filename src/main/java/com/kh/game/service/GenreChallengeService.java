@@ -33,6 +33,7 @@ public class GenreChallengeService {
     private final GenreChallengeRecordRepository genreChallengeRecordRepository;
     private final GenreRepository genreRepository;
     private final ObjectMapper objectMapper;
+    private final SongStatsService songStatsService;
 
     // 최소 곡 수 (50곡 이상)
     public static final int MIN_SONG_COUNT = 50;
@@ -145,7 +146,7 @@ public class GenreChallengeService {
         boolean isCorrect = false;
 
         if (!isTimeout && answer != null && !answer.trim().isEmpty()) {
-            isCorrect = songService.checkAnswer(round.getSong().getId(), answer);
+            isCorrect = songService.checkAnswer(round.getSong().getId(), answer, GameSession.GameType.GENRE_CHALLENGE);
         }
 
         // 라운드 업데이트
@@ -183,6 +184,7 @@ public class GenreChallengeService {
         }
 
         session.setCompletedRounds(session.getCompletedRounds() + 1);
+        songStatsService.recordRound(session, round);
 
         // 게임 종료 체크
         boolean isGameOver = false;
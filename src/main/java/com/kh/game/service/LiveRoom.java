@@ -0,0 +1,511 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.GameSettings;
+import com.kh.game.entity.GameRoom;
+import com.kh.game.entity.GameRoomParticipant;
+import com.kh.game.entity.Song;
+import com.kh.game.util.TimingWheel;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 진행 중인 멀티게임 방의 메모리 상태 (MultiRoomRuntime이 소유)
+ *
+ * - 게임 진행 중 상태 변경은 모두 이 객체에서 일어나고, game_room/game_room_participant는
+ *   단계 전환 시 snapshot()으로 뒤따라 저장
+ * - 스레드 안전하지 않음 → 읽기/쓰기 모두 mailbox 명령 안에서만 (명령은 한 번에 하나씩 실행)
+ * - 변경된 항목을 표시해 두었다가 commitDelta()로 순번(seq)이 붙은 변경분만 만들어 브로드캐스트
+ *   · 최근 DELTA_HISTORY개 변경분을 보관 → 누락을 감지한 클라이언트/폴링은 changesSince(seq)로 따라잡음
+ *   · 보관 범위를 벗어나면 toRoundInfo() 전체 스냅샷
+ */
+class LiveRoom {
+
+    // 따라잡기용으로 보관하는 최근 변경분 수
+    static final int DELTA_HISTORY = 64;
+
+    final Long roomId;
+    final String roomCode;
+    final Long hostId;
+    final int totalRounds;
+    final GameSettings settings;
+    final RoomMailbox mailbox;
+
+    private GameRoom.RoomStatus status;
+    private int currentRound;
+    private GameRoom.RoundPhase phase;
+    private volatile LiveSong song;  // 채팅 정답 검증이 명령 밖에서 미리 읽음
+    private LocalDateTime roundStartTime;
+    private boolean audioPlaying;
+    private Long audioPlayedAt;
+    private Long winnerId;
+
+    // 단계가 바뀔 때마다 증가 - 예약해둔 타이머가 아직 유효한지 확인용
+    private int phaseSeq;
+    // 참가자가 마지막으로 보낸 명령 시각 (타이머/조회는 제외)
+    private long lastActivityAt = System.currentTimeMillis();
+
+    // 현재 단계 마감 타이머 (라운드 제한시간 또는 결과 화면 자동 진행), 유휴 방 만료 타이머
+    TimingWheel.Timeout phaseTimer;
+    int phaseTimerSeq;
+    TimingWheel.Timeout idleTimer;
+
+    // 곡 준비 풀에서 다음 곡을 뽑는 중 (결과가 우편함으로 돌아올 때까지 라운드 시작/진행/곡 교체 거부)
+    boolean drawingSong;
+
+    // 게임 참가자 (입장 순서 유지)
+    private final Map<Long, Player> players = new LinkedHashMap<>();
+
+    // 브로드캐스트 순번 - 적재 시각(ms) × 1000부터 시작 (방을 다시 적재해도 감소하지 않음)
+    private long seq = System.currentTimeMillis() * 1000;
+    private final Map<String, Object>[] history = newHistory();
+
+    // 마지막 commitDelta() 이후 변경된 항목
+    private boolean statusChanged;
+    private boolean phaseChanged;   // 라운드 번호, 단계, 곡/정답
+    private boolean audioChanged;
+    private boolean winnerChanged;
+    private final Set<Long> changedPlayers = new LinkedHashSet<>();
+    private final Set<Long> removedPlayers = new LinkedHashSet<>();
+
+    LiveRoom(GameRoom room, List<GameRoomParticipant> participants, GameSettings settings, RoomMailbox mailbox) {
+        this.roomId = room.getId();
+        this.roomCode = room.getRoomCode();
+        this.hostId = room.getHost().getId();
+        this.totalRounds = room.getTotalRounds();
+        this.settings = settings;
+        this.mailbox = mailbox;
+        this.status = room.getStatus();
+        this.currentRound = room.getCurrentRound() != null ? room.getCurrentRound() : 0;
+        this.phase = room.getRoundPhase();
+        this.song = room.getCurrentSong() != null ? LiveSong.of(room.getCurrentSong()) : null;
+        this.roundStartTime = room.getRoundStartTime();
+        this.audioPlaying = Boolean.TRUE.equals(room.getAudioPlaying());
+        this.audioPlayedAt = room.getAudioPlayedAt();
+        this.winnerId = room.getWinner() != null ? room.getWinner().getId() : null;
+
+        for (GameRoomParticipant p : participants) {
+            Player player = new Player(p.getMember().getId(), p.getMember().getNickname());
+            player.score = p.getScore();
+            player.correctCount = p.getCorrectCount();
+            player.roundReady = Boolean.TRUE.equals(p.getRoundReady());
+            player.skipVote = Boolean.TRUE.equals(p.getSkipVote());
+            players.put(player.memberId, player);
+        }
+    }
+
+    // ========== 조회 ==========
+
+    boolean isHost(Long memberId) {
+        return hostId.equals(memberId);
+    }
+
+    boolean isPlaying() {
+        return status == GameRoom.RoomStatus.PLAYING;
+    }
+
+    GameRoom.RoundPhase getPhase() {
+        return phase;
+    }
+
+    int getCurrentRound() {
+        return currentRound;
+    }
+
+    LiveSong getSong() {
+        return song;
+    }
+
+    Long getWinnerId() {
+        return winnerId;
+    }
+
+    int getPhaseSeq() {
+        return phaseSeq;
+    }
+
+    long getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    Player getPlayer(Long memberId) {
+        return players.get(memberId);
+    }
+
+    String nicknameOf(Long memberId) {
+        Player player = players.get(memberId);
+        return player != null ? player.nickname : null;
+    }
+
+    List<Long> playerIds() {
+        return new ArrayList<>(players.keySet());
+    }
+
+    boolean allRoundReady() {
+        return players.values().stream().allMatch(p -> p.roundReady);
+    }
+
+    boolean allSkipVoted() {
+        return players.values().stream().allMatch(p -> p.skipVote);
+    }
+
+    // ========== 변경 ==========
+
+    void touch() {
+        lastActivityAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 다음 라운드 번호로 이동
+     * @return 총 라운드를 넘었으면 false
+     */
+    boolean advanceRound() {
+        phaseChanged = true;
+        currentRound++;
+        return currentRound <= totalRounds;
+    }
+
+    /**
+     * 새 곡으로 라운드 시작 (바로 PLAYING 단계)
+     */
+    void startRound(Song newSong) {
+        song = LiveSong.of(newSong);
+        if (winnerId != null) {
+            winnerId = null;
+            winnerChanged = true;
+        }
+        for (Player p : players.values()) {
+            if (p.skipVote) {
+                p.skipVote = false;
+                changedPlayers.add(p.memberId);
+            }
+        }
+        play();
+    }
+
+    /**
+     * 재생 오류로 곡만 교체 (정답자/스킵 투표 유지)
+     */
+    void replaceSong(Song newSong) {
+        song = LiveSong.of(newSong);
+        play();
+    }
+
+    /**
+     * PREPARING/곡 교체 → PLAYING (재생 시작 시각 기록)
+     */
+    void play() {
+        phaseSeq++;
+        phaseChanged = true;
+        audioChanged = true;
+        phase = GameRoom.RoundPhase.PLAYING;
+        roundStartTime = LocalDateTime.now();
+        audioPlaying = true;
+        audioPlayedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 정답 처리 - 먼저 맞춘 1명만 인정
+     * @return 정답자로 인정되었는지 (이미 정답자가 있으면 false)
+     */
+    boolean acceptWinner(Long memberId, int points) {
+        if (winnerId != null || phase != GameRoom.RoundPhase.PLAYING) {
+            return false;
+        }
+        Player player = players.get(memberId);
+        if (player == null) {
+            return false;
+        }
+        winnerId = memberId;
+        player.score += points;
+        player.correctCount++;
+        winnerChanged = true;
+        changedPlayers.add(memberId);
+        endRound();
+        return true;
+    }
+
+    /**
+     * 오디오 정지 후 결과 단계로
+     */
+    void endRound() {
+        phaseSeq++;
+        phaseChanged = true;
+        audioChanged = true;
+        audioPlaying = false;
+        audioPlayedAt = null;
+        phase = GameRoom.RoundPhase.RESULT;
+    }
+
+    void finish() {
+        phaseSeq++;
+        statusChanged = true;
+        audioChanged = true;
+        status = GameRoom.RoomStatus.FINISHED;
+        audioPlaying = false;
+        audioPlayedAt = null;
+    }
+
+    /**
+     * 라운드 준비 완료 표시
+     * @return 참가자가 아니면 false
+     */
+    boolean markRoundReady(Long memberId) {
+        Player player = players.get(memberId);
+        if (player == null) {
+            return false;
+        }
+        if (!player.roundReady) {
+            player.roundReady = true;
+            changedPlayers.add(memberId);
+        }
+        return true;
+    }
+
+    /**
+     * 스킵 투표
+     * @return 참가자가 아니거나 이미 투표했으면 false
+     */
+    boolean voteSkip(Long memberId) {
+        Player player = players.get(memberId);
+        if (player == null || player.skipVote) {
+            return false;
+        }
+        player.skipVote = true;
+        changedPlayers.add(memberId);
+        return true;
+    }
+
+    void removePlayer(Long memberId) {
+        if (players.remove(memberId) != null) {
+            changedPlayers.remove(memberId);
+            removedPlayers.add(memberId);
+        }
+    }
+
+    // ========== 응답/저장 ==========
+
+    /**
+     * 현재 라운드 전체 스냅샷 (MultiGameService.getCurrentRoundInfo와 같은 형태 + seq)
+     * - 입장한 클라이언트, 변경분 누락을 감지한 클라이언트용
+     */
+    Map<String, Object> toRoundInfo() {
+        Map<String, Object> info = new HashMap<>();
+
+        info.put("seq", seq);
+        info.put("totalRounds", totalRounds);
+        info.put("status", status.name());
+        info.put("serverTime", System.currentTimeMillis());  // 클라이언트 시간 동기화용
+        // 라운드 제한시간 (서버가 마감 시 정답 없이 결과 단계로 넘김)
+        info.put("roundDuration", settings.getRoundDuration());
+        putPhase(info);
+        putAudio(info);
+        putWinner(info);
+
+        // 참가자별 점수 (점수순 정렬)
+        List<Map<String, Object>> participantInfos = new ArrayList<>();
+        for (Player p : players.values()) {
+            Map<String, Object> pInfo = playerInfo(p);
+            pInfo.put("nickname", p.nickname);
+            pInfo.put("isHost", isHost(p.memberId));
+            participantInfos.add(pInfo);
+        }
+        participantInfos.sort((a, b) -> (Integer) b.get("score") - (Integer) a.get("score"));
+        info.put("participants", participantInfos);
+        info.put("skipVoteStatus", skipVoteStatus());
+
+        return info;
+    }
+
+    /**
+     * 마지막 호출 이후 바뀐 항목만 담은 변경분 (바뀐 것이 없으면 null)
+     * - 값이 null이 된 항목도 키를 넣어 클라이언트가 지우도록 함 (정답자 초기화 등)
+     * - 참가자는 바뀐 사람의 점수/상태만, 나간 사람은 removed
+     */
+    Map<String, Object> commitDelta() {
+        if (!statusChanged && !phaseChanged && !audioChanged && !winnerChanged
+                && changedPlayers.isEmpty() && removedPlayers.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("seq", ++seq);
+        delta.put("serverTime", System.currentTimeMillis());
+        if (statusChanged) {
+            delta.put("status", status.name());
+        }
+        if (phaseChanged) {
+            putPhase(delta);
+        }
+        if (audioChanged) {
+            putAudio(delta);
+        }
+        if (winnerChanged) {
+            putWinner(delta);
+        }
+        if (!changedPlayers.isEmpty()) {
+            List<Map<String, Object>> changed = new ArrayList<>(changedPlayers.size());
+            for (Long memberId : changedPlayers) {
+                Player p = players.get(memberId);
+                if (p != null) {
+                    changed.add(playerInfo(p));
+                }
+            }
+            delta.put("players", changed);
+        }
+        if (!removedPlayers.isEmpty()) {
+            delta.put("removed", new ArrayList<>(removedPlayers));
+        }
+        if (!changedPlayers.isEmpty() || !removedPlayers.isEmpty()) {
+            delta.put("skipVoteStatus", skipVoteStatus());
+        }
+
+        history[(int) (seq % DELTA_HISTORY)] = delta;
+        statusChanged = phaseChanged = audioChanged = winnerChanged = false;
+        changedPlayers.clear();
+        removedPlayers.clear();
+        return delta;
+    }
+
+    /**
+     * since 이후 변경분 목록 (보관 범위를 벗어났거나 다른 적재 시점의 순번이면 null → 전체 스냅샷 필요)
+     */
+    Map<String, Object> changesSince(long since) {
+        if (since > seq || seq - since > DELTA_HISTORY) {
+            return null;
+        }
+        List<Map<String, Object>> changes = new ArrayList<>((int) (seq - since));
+        for (long s = since + 1; s <= seq; s++) {
+            changes.add(history[(int) (s % DELTA_HISTORY)]);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("seq", seq);
+        result.put("changes", changes);
+        return result;
+    }
+
+    long getSeq() {
+        return seq;
+    }
+
+    private void putPhase(Map<String, Object> info) {
+        info.put("currentRound", currentRound);
+        info.put("roundPhase", phase != null ? phase.name() : null);
+        info.put("roundEndsAt", phase == GameRoom.RoundPhase.PLAYING && audioPlayedAt != null
+                ? audioPlayedAt + settings.getRoundDuration() * 1000L : null);
+
+        // PLAYING 상태에서 노래 파일 정보 (정답은 숨김)
+        Map<String, Object> songInfo = null;
+        if (song != null && phase == GameRoom.RoundPhase.PLAYING) {
+            songInfo = new HashMap<>();
+            songInfo.put("id", song.id());
+            songInfo.put("youtubeVideoId", song.youtubeVideoId());
+            songInfo.put("filePath", song.filePath());
+            songInfo.put("startTime", song.startTime());
+            songInfo.put("playDuration", song.playDuration());
+        }
+        info.put("song", songInfo);
+
+        // RESULT 상태에서 정답 정보
+        Map<String, Object> answerInfo = null;
+        if (song != null && phase == GameRoom.RoundPhase.RESULT) {
+            answerInfo = new HashMap<>();
+            answerInfo.put("title", song.title());
+            answerInfo.put("artist", song.artist());
+            answerInfo.put("releaseYear", song.releaseYear());
+            if (song.genreName() != null) {
+                answerInfo.put("genre", song.genreName());
+            }
+        }
+        info.put("answer", answerInfo);
+    }
+
+    private void putAudio(Map<String, Object> info) {
+        info.put("audioPlaying", audioPlaying);
+        info.put("audioPlayedAt", audioPlayedAt);
+    }
+
+    private void putWinner(Map<String, Object> info) {
+        info.put("winnerId", winnerId);
+        info.put("winnerNickname", winnerId != null ? nicknameOf(winnerId) : null);
+    }
+
+    private static Map<String, Object> playerInfo(Player p) {
+        Map<String, Object> pInfo = new HashMap<>();
+        pInfo.put("memberId", p.memberId);
+        pInfo.put("score", p.score);
+        pInfo.put("correctCount", p.correctCount);
+        pInfo.put("roundReady", p.roundReady);
+        pInfo.put("skipVote", p.skipVote);
+        return pInfo;
+    }
+
+    private Map<String, Object> skipVoteStatus() {
+        int votedCount = 0;
+        for (Player p : players.values()) {
+            if (p.skipVote) {
+                votedCount++;
+            }
+        }
+        Map<String, Object> status = new HashMap<>();
+        status.put("votedCount", votedCount);
+        status.put("totalCount", players.size());
+        return status;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object>[] newHistory() {
+        return new Map[DELTA_HISTORY];
+    }
+
+    /**
+     * DB 반영용 스냅샷 (불변, 저장 스레드로 넘김)
+     */
+    Snapshot snapshot() {
+        Map<Long, PlayerSnapshot> playerSnapshots = new HashMap<>();
+        for (Player p : players.values()) {
+            playerSnapshots.put(p.memberId, new PlayerSnapshot(p.score, p.correctCount, p.roundReady, p.skipVote));
+        }
+        return new Snapshot(roomId, status, currentRound, phase, song != null ? song.id() : null,
+                roundStartTime, audioPlaying, audioPlayedAt, winnerId, Map.copyOf(playerSnapshots));
+    }
+
+    static class Player {
+        final Long memberId;
+        final String nickname;
+        int score;
+        int correctCount;
+        boolean roundReady;
+        boolean skipVote;
+
+        Player(Long memberId, String nickname) {
+            this.memberId = memberId;
+            this.nickname = nickname;
+        }
+    }
+
+    /**
+     * 출제 곡 정보 (엔티티 대신 필요한 값만 보관)
+     */
+    record LiveSong(Long id, String title, String artist, Integer releaseYear, String genreName,
+                    String youtubeVideoId, String filePath, Integer startTime, Integer playDuration) {
+
+        static LiveSong of(Song song) {
+            // 빈 문자열이면 null로 변환 (YouTube Error 2 방지)
+            String videoId = song.getYoutubeVideoId();
+            return new LiveSong(song.getId(), song.getTitle(), song.getArtist(), song.getReleaseYear(),
+                    song.getGenre() != null ? song.getGenre().getName() : null,
+                    (videoId != null && !videoId.isBlank()) ? videoId : null,
+                    song.getFilePath(), song.getStartTime(), song.getPlayDuration());
+        }
+    }
+
+    record PlayerSnapshot(int score, int correctCount, boolean roundReady, boolean skipVote) {
+    }
+
+    record Snapshot(Long roomId, GameRoom.RoomStatus status, int currentRound, GameRoom.RoundPhase phase,
+                    Long songId, LocalDateTime roundStartTime, boolean audioPlaying, Long audioPlayedAt,
+                    Long winnerId, Map<Long, PlayerSnapshot> players) {
+    }
+}
@@ -10,9 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -20,22 +18,21 @@ import java.util.concurrent.ConcurrentHashMap;
 @Transactional(readOnly = true)
 public class MultiGameService {
 
+    // 라운드 제한시간 허용 범위(초)
+    private static final int MIN_ROUND_DURATION = 10;
+    private static final int MAX_ROUND_DURATION = 180;
+
     private final GameRoomRepository gameRoomRepository;
     private final GameRoomParticipantRepository participantRepository;
     private final GameRoomChatRepository chatRepository;
+    private final ChatWriteBuffer chatWriteBuffer;
     private final SongService songService;
     private final GenreService genreService;
-    private final AnswerValidationService answerValidationService;
     private final MemberService memberService;
     private final MultiTierService multiTierService;
     private final BadgeService badgeService;
     private final ObjectMapper objectMapper;
-
-    // 이미 출제된 노래 ID를 방별로 관리 (스레드 안전)
-    private final ConcurrentHashMap<Long, Set<Long>> usedSongsByRoom = new ConcurrentHashMap<>();
-
-    // 방 단위 락 (메서드 레벨 synchronized 대체)
-    private final ConcurrentHashMap<Long, Object> roomLocks = new ConcurrentHashMap<>();
+    private final SongDeckService songDeckService;
 
     // ========== 게임 진행 ==========
 
@@ -73,375 +70,17 @@ public class MultiGameService {
             p.resetScore();
         }
 
-        // 사용된 노래 목록 초기화 (스레드 안전한 Set)
-        usedSongsByRoom.put(room.getId(), ConcurrentHashMap.newKeySet());
+        // 출제 덱 구성 (총 라운드 + 여분, 백그라운드에서 앞 라운드부터 검증)
+        songDeckService.prepare(room.getId(), parseGameSettings(room), room.getTotalRounds());
 
         // 시스템 메시지
         addSystemMessage(room, host, "🎮 게임이 시작되었습니다! 방장이 라운드를 시작하면 노래가 재생됩니다.");
     }
 
-    /**
-     * 라운드 시작 (방장만) - 노래 선택 및 재생
-     */
-    @Transactional
-    public Map<String, Object> startRound(GameRoom room, Member host) {
-        Map<String, Object> result = new HashMap<>();
-
-        if (!room.isHost(host)) {
-            result.put("success", false);
-            result.put("message", "방장만 라운드를 시작할 수 있습니다.");
-            return result;
-        }
-
-        if (room.getStatus() != GameRoom.RoomStatus.PLAYING) {
-            result.put("success", false);
-            result.put("message", "게임이 진행중이 아닙니다.");
-            return result;
-        }
-
-        // 이미 PLAYING 상태면 중복 시작 방지
-        if (room.getRoundPhase() == GameRoom.RoundPhase.PLAYING) {
-            result.put("success", false);
-            result.put("message", "이미 라운드가 진행중입니다.");
-            return result;
-        }
-
-        // 라운드 증가
-        room.setCurrentRound(room.getCurrentRound() + 1);
-
-        // 총 라운드 초과 체크
-        if (room.getCurrentRound() > room.getTotalRounds()) {
-            finishGame(room);
-            result.put("success", true);
-            result.put("isGameOver", true);
-            return result;
-        }
-
-        // 노래 선택
-        Song song = selectSong(room);
-        if (song == null) {
-            finishGame(room);
-            result.put("success", true);
-            result.put("isGameOver", true);
-            result.put("message", "출제할 노래가 없습니다.");
-            return result;
-        }
-
-        // 라운드 상태 설정 - 바로 PLAYING 단계로 시작
-        room.setCurrentSong(song);
-        room.setRoundPhase(GameRoom.RoundPhase.PLAYING);
-        room.setRoundStartTime(LocalDateTime.now());
-        room.setWinner(null);  // 정답자 초기화
-
-        // 스킵 투표 초기화
-        resetSkipVotes(room);
-
-        // 오디오 바로 재생
-        room.setAudioPlaying(true);
-        room.setAudioPlayedAt(System.currentTimeMillis());
-
-        // 시스템 메시지
-        addSystemMessage(room, host, "🎵 라운드 " + room.getCurrentRound() + " - 노래를 맞춰보세요!");
-
-        result.put("success", true);
-        result.put("isGameOver", false);
-        result.put("currentRound", room.getCurrentRound());
-
-        return result;
-    }
-
-    /**
-     * 참가자 라운드 준비 완료
-     */
-    @Transactional
-    public Map<String, Object> setRoundReady(GameRoom room, Member member) {
-        Map<String, Object> result = new HashMap<>();
-
-        if (room.getRoundPhase() != GameRoom.RoundPhase.PREPARING) {
-            result.put("success", false);
-            result.put("message", "준비 단계가 아닙니다.");
-            return result;
-        }
-
-        GameRoomParticipant participant = participantRepository.findByGameRoomAndMember(room, member)
-                .orElse(null);
-        if (participant == null) {
-            result.put("success", false);
-            result.put("message", "참가자가 아닙니다.");
-            return result;
-        }
-
-        participant.setRoundReady(true);
-        result.put("success", true);
-
-        // 모든 참가자가 준비됐는지 체크
-        boolean allReady = checkAllRoundReady(room);
-        result.put("allReady", allReady);
-
-        if (allReady) {
-            // 자동으로 PLAYING 단계로 전환
-            startPlaying(room);
-        }
-
-        return result;
-    }
-
-    /**
-     * 모든 참가자가 라운드 준비 완료했는지 체크
-     */
-    private boolean checkAllRoundReady(GameRoom room) {
-        List<GameRoomParticipant> participants = participantRepository.findGameParticipants(room);
-        return participants.stream().allMatch(GameRoomParticipant::getRoundReady);
-    }
-
-    /**
-     * PREPARING에서 PLAYING으로 전환 (모든 참가자 준비 완료 시)
-     */
-    private void startPlaying(GameRoom room) {
-        room.setRoundPhase(GameRoom.RoundPhase.PLAYING);
-        room.setRoundStartTime(LocalDateTime.now());  // 실제 재생 시작 시간으로 리셋
-        room.setAudioPlaying(true);
-        room.setAudioPlayedAt(System.currentTimeMillis());
-
-        addSystemMessage(room, room.getHost(), "🎵 모든 참가자 준비 완료! 노래를 맞춰보세요!");
-    }
-
-    /**
-     * 현재 곡 스킵 (재생 오류 시 방장만)
-     * PREPARING 또는 PLAYING 상태에서 호출 가능
-     */
-    @Transactional
-    public Map<String, Object> skipCurrentSong(GameRoom room, Member host, Long songId) {
-        synchronized (roomLocks.computeIfAbsent(room.getId(), k -> new Object())) {
-        Map<String, Object> result = new HashMap<>();
-
-        if (!room.isHost(host)) {
-            result.put("success", false);
-            result.put("message", "방장만 곡을 스킵할 수 있습니다.");
-            return result;
-        }
-
-        if (room.getRoundPhase() != GameRoom.RoundPhase.PLAYING) {
-            result.put("success", false);
-            result.put("message", "현재 스킵할 수 없는 상태입니다.");
-            return result;
-        }
-
-        // 이미 정답자가 있으면 스킵 불가 (race condition 방지)
-        if (room.getWinner() != null) {
-            result.put("success", false);
-            result.put("message", "이미 정답자가 있습니다.");
-            return result;
-        }
-
-        // 현재 곡이 맞는지 확인
-        Song currentSong = room.getCurrentSong();
-        if (currentSong == null || !currentSong.getId().equals(songId)) {
-            result.put("success", false);
-            result.put("message", "이미 다른 곡이 선택되었습니다.");
-            return result;
-        }
-
-        // 새 노래 선택
-        Song newSong = selectSong(room);
-        if (newSong == null) {
-            // 더 이상 곡이 없으면 게임 종료
-            finishGame(room);
-            result.put("success", true);
-            result.put("isGameOver", true);
-            result.put("message", "출제할 노래가 없습니다.");
-            return result;
-        }
-
-        // 노래 교체 및 바로 재생
-        room.setCurrentSong(newSong);
-        room.setRoundPhase(GameRoom.RoundPhase.PLAYING);
-        room.setRoundStartTime(LocalDateTime.now());
-        room.setAudioPlaying(true);
-        room.setAudioPlayedAt(System.currentTimeMillis());
-
-        // 시스템 메시지
-        addSystemMessage(room, host, "⚠️ 재생 오류로 다른 곡으로 변경되었습니다. 노래를 맞춰보세요!");
-
-        result.put("success", true);
-        result.put("isGameOver", false);
-        result.put("currentRound", room.getCurrentRound());
-
-        return result;
-        } // synchronized
-    }
-
-    /**
-     * 라운드 스킵 투표
-     */
-    @Transactional
-    public Map<String, Object> voteSkipRound(GameRoom room, Member member) {
-        Map<String, Object> result = new HashMap<>();
-
-        if (room.getRoundPhase() != GameRoom.RoundPhase.PLAYING) {
-            result.put("success", false);
-            result.put("message", "현재 스킵 투표를 할 수 없는 상태입니다.");
-            return result;
-        }
-
-        // 이미 정답자가 있으면 투표 불가
-        if (room.getWinner() != null) {
-            result.put("success", false);
-            result.put("message", "이미 정답자가 있습니다.");
-            return result;
-        }
-
-        GameRoomParticipant participant = participantRepository.findByGameRoomAndMember(room, member)
-                .orElse(null);
-        if (participant == null) {
-            result.put("success", false);
-            result.put("message", "참가자가 아닙니다.");
-            return result;
-        }
-
-        // 이미 스킵 투표했는지 확인
-        if (Boolean.TRUE.equals(participant.getSkipVote())) {
-            result.put("success", false);
-            result.put("message", "이미 스킵 투표를 하셨습니다.");
-            return result;
-        }
-
-        participant.setSkipVote(true);
-        result.put("success", true);
-
-        // 모든 참가자가 스킵 투표했는지 체크
-        boolean allSkipped = checkAllSkipVotes(room);
-        result.put("allSkipped", allSkipped);
-
-        if (allSkipped) {
-            // 라운드 스킵 처리
-            handleRoundSkip(room);
-            result.put("roundSkipped", true);
-        }
-
-        return result;
-    }
-
-    /**
-     * 모든 참가자가 스킵 투표했는지 체크
-     */
-    private boolean checkAllSkipVotes(GameRoom room) {
-        List<GameRoomParticipant> participants = participantRepository.findGameParticipants(room);
-        return participants.stream().allMatch(p -> Boolean.TRUE.equals(p.getSkipVote()));
-    }
-
-    /**
-     * 라운드 스킵 처리 (모든 참가자가 포기한 경우)
-     */
-    private void handleRoundSkip(GameRoom room) {
-        // 오디오 정지
-        room.setAudioPlaying(false);
-        room.setAudioPlayedAt(null);
-
-        // 라운드 결과로 전환 (정답자 없음)
-        room.setRoundPhase(GameRoom.RoundPhase.RESULT);
-
-        // 정답 정보 시스템 메시지
-        Song song = room.getCurrentSong();
-        if (song != null) {
-            String skipMessage = String.format("⏭️ 모든 참가자가 포기했습니다. 정답: %s - %s", song.getArtist(), song.getTitle());
-            addSystemMessage(room, room.getHost(), skipMessage);
-        }
-    }
-
-    /**
-     * 스킵 투표 현황 조회
-     */
-    public Map<String, Object> getSkipVoteStatus(GameRoom room) {
-        List<GameRoomParticipant> participants = participantRepository.findGameParticipants(room);
-        long votedCount = participants.stream().filter(p -> Boolean.TRUE.equals(p.getSkipVote())).count();
-
-        Map<String, Object> status = new HashMap<>();
-        status.put("votedCount", votedCount);
-        status.put("totalCount", participants.size());
-        status.put("allSkipped", votedCount == participants.size());
-        return status;
-    }
-
-    /**
-     * 참가자들의 스킵 투표 초기화
-     */
-    private void resetSkipVotes(GameRoom room) {
-        List<GameRoomParticipant> participants = participantRepository.findGameParticipants(room);
-        for (GameRoomParticipant p : participants) {
-            p.setSkipVote(false);
-        }
-    }
-
-    /**
-     * 다음 라운드로 (방장만) - RESULT 상태에서 호출, 바로 다음 라운드 시작
-     */
-    @Transactional
-    public Map<String, Object> nextRound(GameRoom room, Member host) {
-        Map<String, Object> result = new HashMap<>();
-
-        if (!room.isHost(host)) {
-            result.put("success", false);
-            result.put("message", "방장만 다음 라운드를 진행할 수 있습니다.");
-            return result;
-        }
-
-        // 마지막 라운드였으면 게임 종료
-        if (room.getCurrentRound() >= room.getTotalRounds()) {
-            finishGame(room);
-            result.put("success", true);
-            result.put("isGameOver", true);
-            return result;
-        }
-
-        // 라운드 증가
-        room.setCurrentRound(room.getCurrentRound() + 1);
-
-        // 총 라운드 초과 체크
-        if (room.getCurrentRound() > room.getTotalRounds()) {
-            finishGame(room);
-            result.put("success", true);
-            result.put("isGameOver", true);
-            return result;
-        }
-
-        // 노래 선택
-        Song song = selectSong(room);
-        if (song == null) {
-            finishGame(room);
-            result.put("success", true);
-            result.put("isGameOver", true);
-            result.put("message", "출제할 노래가 없습니다.");
-            return result;
-        }
-
-        // 라운드 상태 설정 - 바로 PLAYING 단계로 시작
-        room.setCurrentSong(song);
-        room.setRoundPhase(GameRoom.RoundPhase.PLAYING);
-        room.setRoundStartTime(LocalDateTime.now());
-        room.setWinner(null);
-
-        // 스킵 투표 초기화
-        resetSkipVotes(room);
-
-        // 오디오 바로 재생
-        room.setAudioPlaying(true);
-        room.setAudioPlayedAt(System.currentTimeMillis());
-
-        // 시스템 메시지
-        addSystemMessage(room, host, "🎵 라운드 " + room.getCurrentRound() + " - 노래를 맞춰보세요!");
-
-        result.put("success", true);
-        result.put("isGameOver", false);
-        result.put("currentRound", room.getCurrentRound());
-
-        return result;
-    }
-
     // ========== 채팅 ==========
 
     /**
-     * 채팅 전송 (정답 체크 포함)
+     * 대기실/결과 화면 채팅 (진행 중인 게임 채팅은 MultiRoomRuntime이 처리)
      */
     @Transactional
     public Map<String, Object> sendChat(GameRoom room, Member member, String message) {
@@ -467,83 +106,18 @@ public class MultiGameService {
             return result;
         }
 
-        // PLAYING 상태이고 정답자가 없으면 정답 체크
-        boolean isCorrectAnswer = false;
-        if (room.getRoundPhase() == GameRoom.RoundPhase.PLAYING && room.getWinner() == null) {
-            Song currentSong = room.getCurrentSong();
-            if (currentSong != null) {
-                isCorrectAnswer = answerValidationService.validateAnswer(trimmedMessage, currentSong);
-            }
-        }
-
-        if (isCorrectAnswer) {
-            // 정답 처리 (이미 정답자가 있으면 false 반환)
-            boolean wasWinner = handleCorrectAnswer(room, member, participant, trimmedMessage);
-            if (wasWinner) {
-                result.put("isCorrect", true);
-            } else {
-                // 이미 다른 사람이 먼저 맞춤 - 일반 채팅으로 저장
-                GameRoomChat chat = GameRoomChat.chat(room, member, trimmedMessage);
-                chatRepository.save(chat);
-                result.put("isCorrect", false);
-            }
-        } else {
-            // 일반 채팅 저장
-            GameRoomChat chat = GameRoomChat.chat(room, member, trimmedMessage);
-            chatRepository.save(chat);
-            result.put("isCorrect", false);
-        }
+        chatWriteBuffer.chat(room.getId(), member.getId(), trimmedMessage);
 
         result.put("success", true);
+        result.put("isCorrect", false);
         return result;
     }
 
-    /**
-     * 정답 처리 (방 단위 락으로 동시 제출 방지)
-     * @return 정답 처리 성공 여부 (이미 정답자가 있으면 false)
-     */
-    private boolean handleCorrectAnswer(GameRoom room, Member member, GameRoomParticipant participant, String answer) {
-        synchronized (roomLocks.computeIfAbsent(room.getId(), k -> new Object())) {
-            // 이미 정답자가 있으면 무시 (동시 제출 방지)
-            if (room.getWinner() != null) {
-                return false;
-            }
-
-            // 정답자 설정
-            room.setWinner(member);
-
-            // 오디오 정지
-            room.setAudioPlaying(false);
-            room.setAudioPlayedAt(null);
-
-            // 라운드 결과로 전환
-            room.setRoundPhase(GameRoom.RoundPhase.RESULT);
-
-            // 점수 추가 (100점 고정)
-            participant.addScore(100);
-            participant.incrementCorrect();
-
-            // 정답 채팅 저장
-            GameRoomChat correctChat = GameRoomChat.correctAnswer(room, member, answer, room.getCurrentRound());
-            chatRepository.save(correctChat);
-
-            // 정답 정보 시스템 메시지 (song null 체크)
-            Song song = room.getCurrentSong();
-            if (song != null) {
-                String answerMessage = String.format("🎉 정답: %s - %s", song.getArtist(), song.getTitle());
-                addSystemMessage(room, member, answerMessage);
-            }
-
-            return true;
-        }
-    }
-
     /**
      * 시스템 메시지 추가
      */
     private void addSystemMessage(GameRoom room, Member member, String message) {
-        GameRoomChat systemChat = GameRoomChat.system(room, member, message);
-        chatRepository.save(systemChat);
+        chatWriteBuffer.system(room.getId(), member.getId(), message);
     }
 
     /**
@@ -577,7 +151,7 @@ public class MultiGameService {
     // ========== 게임 상태 조회 ==========
 
     /**
-     * 현재 라운드 정보 조회
+     * 현재 라운드 정보 조회 (DB 기준 - 진행 중인 방은 MultiRoomRuntime 메모리 상태 사용)
      */
     public Map<String, Object> getCurrentRoundInfo(GameRoom room) {
         Map<String, Object> info = new HashMap<>();
@@ -731,31 +305,11 @@ public class MultiGameService {
 
     // ========== 내부 헬퍼 ==========
 
-    /**
-     * 노래 선택 + 사용 기록을 원자적으로 수행 (중복 선택 방지)
-     */
-    private Song selectSong(GameRoom room) {
-        Set<Long> usedSongs = usedSongsByRoom.getOrDefault(room.getId(), Collections.emptySet());
-
-        // GameSettings 파싱
-        GameSettings settings = parseGameSettings(room);
-
-        // YouTube 검증 포함된 메서드 사용
-        Song song = songService.getValidatedRandomSongWithSettings(settings, usedSongs);
-
-        // 선택된 곡을 즉시 사용 기록에 추가 (원자적)
-        if (song != null) {
-            usedSongsByRoom.computeIfAbsent(room.getId(), k -> ConcurrentHashMap.newKeySet()).add(song.getId());
-        }
-
-        return song;
-    }
-
     /**
      * 방 설정에서 GameSettings 파싱
      */
     @SuppressWarnings("unchecked")
-    private GameSettings parseGameSettings(GameRoom room) {
+    public GameSettings parseGameSettings(GameRoom room) {
         GameSettings settings = new GameSettings();
 
         try {
@@ -800,6 +354,19 @@ public class MultiGameService {
                 if (groupOnly instanceof Boolean) {
                     settings.setGroupOnly((Boolean) groupOnly);
                 }
+
+                // 라운드 제한시간 (10 ~ 180초)
+                Object roundDuration = settingsMap.get("roundDuration");
+                if (roundDuration instanceof Number) {
+                    settings.setRoundDuration(Math.max(MIN_ROUND_DURATION,
+                            Math.min(MAX_ROUND_DURATION, ((Number) roundDuration).intValue())));
+                }
+
+                // 결과 화면 자동 진행
+                Object autoNextRound = settingsMap.get("autoNextRound");
+                if (autoNextRound instanceof Boolean) {
+                    settings.setAutoNextRound((Boolean) autoNextRound);
+                }
             }
         } catch (Exception e) {
             log.error("설정 파싱 오류", e);
@@ -813,11 +380,20 @@ public class MultiGameService {
      */
     @Transactional
     public void cleanupRoom(GameRoom room) {
-        usedSongsByRoom.remove(room.getId());
-        roomLocks.remove(room.getId());
+        songDeckService.discard(room.getId());
         room.setStatus(GameRoom.RoomStatus.FINISHED);
     }
 
+    /**
+     * 게임 종료 처리 (방 ID) - MultiRoomRuntime이 메모리 상태 저장을 끝낸 뒤 호출
+     */
+    @Transactional
+    public List<MultiTierService.LpChangeResult> finishGame(Long roomId) {
+        GameRoom room = gameRoomRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("방을 찾을 수 없습니다."));
+        return finishGame(room);
+    }
+
     /**
      * 게임 종료 처리 - Member 통계 업데이트 및 LP 적용 (ELO 기반)
      * 전원 0점인 경우 LP를 적용하지 않음 (실제 게임이 진행되지 않은 것으로 간주)
@@ -825,8 +401,7 @@ public class MultiGameService {
     @Transactional
     public List<MultiTierService.LpChangeResult> finishGame(GameRoom room) {
         room.setStatus(GameRoom.RoomStatus.FINISHED);
-        usedSongsByRoom.remove(room.getId());
-        roomLocks.remove(room.getId());
+        songDeckService.discard(room.getId());
 
         // 모든 참가자의 통계를 Member에 반영
         List<GameRoomParticipant> participants = participantRepository.findGameParticipants(room);
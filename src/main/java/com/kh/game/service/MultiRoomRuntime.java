@@ -0,0 +1,836 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.*;
+import com.kh.game.repository.*;
+import com.kh.game.util.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 진행 중인 멀티게임 방의 권위 있는 메모리 상태 (방 코드 → LiveRoom)
+ *
+ * - 방이 PLAYING일 때 첫 요청에서 DB로 한 번 적재, 이후 라운드 진행/채팅/스킵 투표/라운드 준비는
+ *   메모리에서만 처리 (방·회원 재조회 없음)
+ * - 방마다 우편함(RoomMailbox)이 있고 모든 명령은 도착 순서대로 하나씩 실행 → 락 없음,
+ *   첫 정답 판정도 우편함 순서로 결정, 호출한 쪽은 CompletableFuture로 결과를 받음
+ * - DB 반영은 저장 스레드 1개가 뒤따라 처리 (write-behind)
+ *   · 방/참가자 상태: 단계 전환(라운드 시작·종료, 곡 교체) 시 스냅샷, 밀린 스냅샷은 최신 것만 저장
+ *   · 곡 난이도 집계: 발생 순서대로 저장
+ *   · 채팅/시스템 메시지: ChatWriteBuffer가 모아서 저장
+ * - 방마다 서버 마감 시각을 타이밍 휠(스레드 1개)에 예약, 만료되면 방 우편함에 명령으로 넣음
+ *   · 라운드 제한시간(GameSettings.roundDuration) → 정답 없이 결과 단계
+ *   · 결과 화면 자동 진행(GameSettings.autoNextRound) → 다음 라운드 또는 게임 종료
+ *   · 유휴 방 만료(참가자 명령 없음) → 게임 종료
+ * - 명령이 끝날 때마다 바뀐 항목만 순번(seq)을 붙여 브로드캐스트 (ROUND_DELTA), 게임 종료는 GAME_FINISH
+ *   · 입장/누락 시에는 getCurrentRoundInfo(전체 스냅샷) 또는 getChangesSince(seq 이후 변경분)
+ * - 우편함 실행 스레드에서는 기다리는 작업을 하지 않음 (다른 방 명령이 밀리지 않도록)
+ *   · 곡 뽑기(SongDeckService.next, 검증 대기 포함)는 곡 준비 풀에서 실행하고 결과를 우편함 명령으로 반영
+ *   · 게임 종료 시 LP/통계(MultiGameService.finishGame)는 저장 스레드에서 이 방의 마지막 스냅샷 저장 다음에 실행,
+ *     끝나면 우편함 명령으로 GAME_FINISH 전송
+ * - 방 상태는 이 서버 메모리에만 있음 (WebSocket도 서버 내장 simple broker라 한 방은 한 서버가 담당)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MultiRoomRuntime {
+
+    // 정답 점수 (고정)
+    static final int CORRECT_POINTS = 100;
+
+    // 방 명령 실행 스레드 수 (명령은 기다리는 작업 없이 메모리 상태만 다룸)
+    private static final int ROOM_LOOP_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    // 곡 준비 스레드 수 (YouTube 검증을 기다릴 수 있음)
+    private static final int SONG_PICKER_THREADS = 8;
+
+    // 방 상태 저장 재시도 횟수 (대기실 API와 @Version 충돌 시)
+    private static final int SAVE_ATTEMPTS = 3;
+
+    // 타이밍 휠 - 100ms 간격, 1024칸 (한 바퀴 약 100초, 더 긴 마감은 바퀴 수로 처리)
+    private static final long TIMER_TICK_MS = 100;
+    private static final int TIMER_WHEEL_SIZE = 1024;
+
+    private final GameRoomRepository gameRoomRepository;
+    private final GameRoomParticipantRepository participantRepository;
+    private final ChatWriteBuffer chatWriteBuffer;
+    private final MemberRepository memberRepository;
+    private final SongRepository songRepository;
+    private final MultiGameService multiGameService;
+    private final SongDeckService songDeckService;
+    private final AnswerValidationService answerValidationService;
+    private final SongStatsService songStatsService;
+    private final GameBroadcastService gameBroadcastService;
+    private final PlatformTransactionManager transactionManager;
+
+    // 결과 화면에서 다음 라운드로 자동 진행하기까지(초)
+    @Value("${multi.result-advance-seconds:10}")
+    private int resultAdvanceSeconds = 10;
+
+    // 참가자 명령이 없으면 게임을 끝낼 시간(분)
+    @Value("${multi.idle-expire-minutes:15}")
+    private int idleExpireMinutes = 15;
+
+    private final ConcurrentHashMap<String, LiveRoom> rooms = new ConcurrentHashMap<>();
+
+    // 저장 대기 중인 방 스냅샷 (방 ID → 최신 스냅샷)
+    private final ConcurrentHashMap<Long, LiveRoom.Snapshot> pendingSnapshots = new ConcurrentHashMap<>();
+
+    // 방 명령 실행 풀 (방마다 우편함 하나, 우편함은 한 번에 스레드 하나만 사용)
+    private final ExecutorService roomLoop = Executors.newFixedThreadPool(ROOM_LOOP_THREADS, new ThreadFactory() {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            // 방 명령 중 채팅 저장 버퍼가 가득 차도 기다리지 않음 (같은 스레드의 다른 방이 멈추지 않도록)
+            Thread thread = new Thread(ChatWriteBuffer.nonBlocking(runnable), "multi-room-loop-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    // 다음 곡 뽑기 (방 명령 실행 풀과 분리 - 검증 대기가 다른 방 명령을 막지 않도록)
+    private final ExecutorService songPicker = Executors.newFixedThreadPool(SONG_PICKER_THREADS, new ThreadFactory() {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "multi-room-song-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "multi-room-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 모든 방의 마감 타이머 (만료 작업은 우편함에 넣기만 함)
+    private final TimingWheel timers = new TimingWheel("multi-room-timer", TIMER_TICK_MS, TIMER_WHEEL_SIZE);
+
+    // ========== 게임 진행 ==========
+
+    /**
+     * 라운드 시작 (방장만) - 노래 선택 및 재생
+     */
+    public CompletableFuture<Map<String, Object>> startRound(String roomCode, Long memberId) {
+        return dispatchAsync(roomCode, room -> {
+            if (!room.isHost(memberId)) {
+                return completed(fail("방장만 라운드를 시작할 수 있습니다."));
+            }
+            if (!room.isPlaying()) {
+                return completed(fail("게임이 진행중이 아닙니다."));
+            }
+            // 이미 PLAYING 상태거나 곡을 뽑는 중이면 중복 시작 방지
+            if (room.getPhase() == GameRoom.RoundPhase.PLAYING || room.drawingSong) {
+                return completed(fail("이미 라운드가 진행중입니다."));
+            }
+            return beginNextRound(room);
+        });
+    }
+
+    /**
+     * 다음 라운드로 (방장만) - RESULT 상태에서 호출, 바로 다음 라운드 시작
+     */
+    public CompletableFuture<Map<String, Object>> nextRound(String roomCode, Long memberId) {
+        return dispatchAsync(roomCode, room -> {
+            if (!room.isHost(memberId)) {
+                return completed(fail("방장만 다음 라운드를 진행할 수 있습니다."));
+            }
+            if (!room.isPlaying()) {
+                return completed(fail("게임이 진행중이 아닙니다."));
+            }
+            // 결과 화면 자동 진행이 먼저 실행된 경우 중복 진행 방지
+            if (room.getPhase() != GameRoom.RoundPhase.RESULT || room.drawingSong) {
+                return completed(fail("결과 확인 단계가 아닙니다."));
+            }
+            // 마지막 라운드였으면 게임 종료
+            if (room.getCurrentRound() >= room.totalRounds) {
+                return finish(room, null);
+            }
+            return beginNextRound(room);
+        });
+    }
+
+    /**
+     * 참가자 라운드 준비 완료 (PREPARING 단계)
+     */
+    public CompletableFuture<Map<String, Object>> setRoundReady(String roomCode, Long memberId) {
+        return dispatch(roomCode, room -> {
+            if (room.getPhase() != GameRoom.RoundPhase.PREPARING) {
+                return fail("준비 단계가 아닙니다.");
+            }
+            if (!room.markRoundReady(memberId)) {
+                return fail("참가자가 아닙니다.");
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+
+            boolean allReady = room.allRoundReady();
+            result.put("allReady", allReady);
+            if (allReady) {
+                // 자동으로 PLAYING 단계로 전환
+                room.play();
+                addSystemMessage(room, room.hostId, "🎵 모든 참가자 준비 완료! 노래를 맞춰보세요!");
+                persist(room);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 현재 곡 스킵 (재생 오류 시 방장만)
+     */
+    public CompletableFuture<Map<String, Object>> skipCurrentSong(String roomCode, Long memberId, Long songId) {
+        return dispatchAsync(roomCode, room -> {
+            if (!room.isHost(memberId)) {
+                return completed(fail("방장만 곡을 스킵할 수 있습니다."));
+            }
+            if (room.getPhase() != GameRoom.RoundPhase.PLAYING) {
+                return completed(fail("현재 스킵할 수 없는 상태입니다."));
+            }
+            // 우편함에서 정답 처리가 먼저 실행됐으면 스킵 불가
+            if (room.getWinnerId() != null) {
+                return completed(fail("이미 정답자가 있습니다."));
+            }
+            // 현재 곡이 맞는지 확인 (여러 명이 동시에 보고한 경우), 이미 교체 중이면 중복 교체 방지
+            if (room.getSong() == null || !room.getSong().id().equals(songId) || room.drawingSong) {
+                return completed(fail("이미 다른 곡이 선택되었습니다."));
+            }
+
+            return drawSong(room, newSong -> {
+                room.replaceSong(newSong);
+                addSystemMessage(room, room.hostId, "⚠️ 재생 오류로 다른 곡으로 변경되었습니다. 노래를 맞춰보세요!");
+                persist(room);
+                return roundStarted(room);
+            });
+        });
+    }
+
+    /**
+     * 라운드 스킵 투표 - 전원이 투표하면 정답 없이 결과 단계로
+     */
+    public CompletableFuture<Map<String, Object>> voteSkipRound(String roomCode, Long memberId) {
+        return dispatch(roomCode, room -> {
+            if (room.getPhase() != GameRoom.RoundPhase.PLAYING) {
+                return fail("현재 스킵 투표를 할 수 없는 상태입니다.");
+            }
+            if (room.getWinnerId() != null) {
+                return fail("이미 정답자가 있습니다.");
+            }
+            if (room.getPlayer(memberId) == null) {
+                return fail("참가자가 아닙니다.");
+            }
+            if (!room.voteSkip(memberId)) {
+                return fail("이미 스킵 투표를 하셨습니다.");
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+
+            boolean allSkipped = room.allSkipVoted();
+            result.put("allSkipped", allSkipped);
+            if (allSkipped) {
+                room.endRound();
+                LiveRoom.LiveSong song = room.getSong();
+                if (song != null) {
+                    addSystemMessage(room, room.hostId,
+                            String.format("⏭️ 모든 참가자가 포기했습니다. 정답: %s - %s", song.artist(), song.title()));
+                }
+                recordRound(room, null);
+                persist(room);
+                result.put("roundSkipped", true);
+            }
+            return result;
+        });
+    }
+
+    // ========== 채팅 ==========
+
+    /**
+     * 채팅 전송 (정답 체크 포함) - 정답자는 우편함에 먼저 도착한 1명
+     */
+    public CompletableFuture<Map<String, Object>> sendChat(String roomCode, Long memberId, String message) {
+        if (message == null || message.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(fail("메시지를 입력해주세요."));
+        }
+        String trimmedMessage = message.trim().length() > 200 ? message.trim().substring(0, 200) : message.trim();
+
+        LiveRoom room = find(roomCode);
+        if (room == null) {
+            return CompletableFuture.completedFuture(fail("진행 중인 게임을 찾을 수 없습니다."));
+        }
+
+        // 정답 검증(정답 인덱스, 퍼지 매칭 포함)은 요청 스레드에서 미리 계산 → 방 명령은 판정만
+        LiveRoom.LiveSong candidateSong = room.getSong();
+        boolean matches = candidateSong != null
+                && answerValidationService.validateAnswer(trimmedMessage, candidateSong.id());
+
+        return room.mailbox.submit(() -> {
+            LiveRoom.Player player = room.getPlayer(memberId);
+            if (player == null) {
+                return fail("참가자가 아닙니다.");
+            }
+            room.touch();
+
+            // 검증 후 곡이 바뀌었으면 정답 아님
+            boolean isCorrect = matches && room.getSong() == candidateSong
+                    && room.acceptWinner(memberId, CORRECT_POINTS);
+
+            // 보낸 채팅을 정답 공개(시스템 메시지, 변경분)보다 먼저 전송
+            broadcastChat(room, memberId, player.nickname, trimmedMessage, isCorrect ? "CORRECT" : "CHAT");
+
+            if (isCorrect) {
+                chatWriteBuffer.correctAnswer(room.roomId, memberId, trimmedMessage, room.getCurrentRound());
+                addSystemMessage(room, memberId,
+                        String.format("🎉 정답: %s - %s", candidateSong.artist(), candidateSong.title()));
+                recordRound(room, memberId);
+                persist(room);
+            } else {
+                addChat(room, memberId, trimmedMessage);
+            }
+            publish(room);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("isCorrect", isCorrect);
+            result.put("nickname", player.nickname);
+            return result;
+        });
+    }
+
+    // ========== 조회/관리 ==========
+
+    /**
+     * 현재 라운드 정보 (진행 중인 방이 아니면 null)
+     * - 우편함 순서대로 실행되므로 앞서 보낸 명령이 반영된 상태
+     */
+    public CompletableFuture<Map<String, Object>> getCurrentRoundInfo(String roomCode) {
+        LiveRoom room = find(roomCode);
+        if (room == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return room.mailbox.submit(room::toRoundInfo);
+    }
+
+    /**
+     * since 순번 이후 변경분 (폴링용) - 보관 범위를 벗어났으면 전체 스냅샷, 진행 중인 방이 아니면 null
+     */
+    public CompletableFuture<Map<String, Object>> getChangesSince(String roomCode, long since) {
+        LiveRoom room = find(roomCode);
+        if (room == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return room.mailbox.submit(() -> {
+            Map<String, Object> changes = room.changesSince(since);
+            return changes != null ? changes : room.toRoundInfo();
+        });
+    }
+
+    /**
+     * 게임이 진행 중인 방인지 (메모리에 없으면 DB에서 적재 시도)
+     */
+    public boolean isLive(String roomCode) {
+        return find(roomCode) != null;
+    }
+
+    /**
+     * 게임 중 강퇴된 참가자 제외
+     */
+    public void removePlayer(String roomCode, Long memberId) {
+        LiveRoom room = rooms.get(roomCode);
+        if (room != null) {
+            room.mailbox.submit(() -> {
+                room.removePlayer(memberId);
+                persist(room);
+                publish(room);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 메모리 상태 버림 (게임 시작/재시작 시 DB 상태로 다시 적재되도록)
+     * - 런타임 밖에서 방 상태를 바꾸거나 방을 삭제한 경우에도 호출 (관리자 강제 종료, 정리 배치)
+     */
+    public void evict(String roomCode) {
+        LiveRoom room = rooms.remove(roomCode);
+        if (room != null) {
+            room.mailbox.submit(() -> {
+                cancelTimers(room);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 밀린 저장을 모두 처리할 때까지 대기
+     */
+    public void awaitWrites() {
+        try {
+            writer.submit(() -> { }).get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("멀티게임 저장 대기 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timers.stop();
+        songPicker.shutdownNow();
+        roomLoop.shutdown();
+        try {
+            roomLoop.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("멀티게임 저장 미완료 - 대기 {}건 유실", writer.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== 내부 ==========
+
+    /**
+     * 방 상태 조회, 없으면 DB에서 적재 (PLAYING이 아니면 null)
+     */
+    LiveRoom find(String roomCode) {
+        LiveRoom room = rooms.get(roomCode);
+        if (room != null) {
+            return room;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        LiveRoom loaded = transactionTemplate.execute(status -> gameRoomRepository.findByRoomCode(roomCode)
+                .filter(r -> r.getStatus() == GameRoom.RoomStatus.PLAYING)
+                .map(r -> new LiveRoom(r, participantRepository.findGameParticipants(r),
+                        multiGameService.parseGameSettings(r), new RoomMailbox(roomLoop)))
+                .orElse(null));
+        if (loaded == null) {
+            return null;
+        }
+
+        LiveRoom existing = rooms.putIfAbsent(roomCode, loaded);
+        if (existing == null) {
+            log.debug("멀티게임 방 적재 - {}, 참가자: {}명", roomCode, loaded.playerIds().size());
+            loaded.mailbox.submit(() -> {
+                armPhaseTimer(loaded);
+                armIdleTimer(loaded, TimeUnit.MINUTES.toMillis(idleExpireMinutes));
+                return null;
+            });
+        }
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 방 우편함에 명령 추가 (진행 중인 방이 아니면 바로 실패 응답)
+     */
+    private CompletableFuture<Map<String, Object>> dispatch(String roomCode,
+                                                           Function<LiveRoom, Map<String, Object>> command) {
+        return dispatchAsync(roomCode, room -> completed(command.apply(room)));
+    }
+
+    /**
+     * 방 우편함에 명령 추가 - 곡 뽑기/게임 종료처럼 우편함 밖 작업을 거치는 명령은 그 작업이 끝나야 응답
+     */
+    private CompletableFuture<Map<String, Object>> dispatchAsync(
+            String roomCode, Function<LiveRoom, CompletableFuture<Map<String, Object>>> command) {
+        LiveRoom room = find(roomCode);
+        if (room == null) {
+            return completed(fail("진행 중인 게임을 찾을 수 없습니다."));
+        }
+        return room.mailbox.submit(() -> {
+            room.touch();
+            CompletableFuture<Map<String, Object>> result = command.apply(room);
+            publish(room);
+            return result;
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * 곡 선택 → 라운드 번호 증가 → 재생 (총 라운드 초과/곡 소진 시 게임 종료)
+     */
+    private CompletableFuture<Map<String, Object>> beginNextRound(LiveRoom room) {
+        if (room.getCurrentRound() >= room.totalRounds) {
+            return finish(room, null);
+        }
+
+        return drawSong(room, song -> {
+            room.advanceRound();
+            room.startRound(song);
+            addSystemMessage(room, room.hostId, "🎵 라운드 " + room.getCurrentRound() + " - 노래를 맞춰보세요!");
+            persist(room);
+            return roundStarted(room);
+        });
+    }
+
+    /**
+     * 곡 준비 풀에서 다음 곡을 뽑고, 결과는 우편함 명령으로 반영 (곡이 없으면 게임 종료)
+     * - 뽑는 동안 단계가 바뀌었으면(시간 초과, 정답, 종료) 뽑은 곡은 버림
+     */
+    private CompletableFuture<Map<String, Object>> drawSong(LiveRoom room, Function<Song, Map<String, Object>> onDrawn) {
+        room.drawingSong = true;
+        int phaseSeq = room.getPhaseSeq();
+
+        CompletableFuture<Song> drawn;
+        try {
+            drawn = CompletableFuture.supplyAsync(() -> songDeckService.next(room.roomId, room.settings), songPicker);
+        } catch (RejectedExecutionException e) {
+            room.drawingSong = false;
+            return completed(fail("서버가 종료 중입니다."));
+        }
+
+        return drawn.handle((song, error) -> room.mailbox.submit(() -> {
+            room.drawingSong = false;
+            if (error != null) {
+                log.error("멀티게임 곡 선택 실패 - 방: {}", room.roomCode, error);
+                // 결과 화면 자동 진행 타이머가 곡을 기다리다 소모됐을 수 있으므로 다시 예약
+                room.phaseTimer = null;
+                armPhaseTimer(room);
+                return completed(fail("노래를 불러오지 못했습니다. 다시 시도해주세요."));
+            }
+            if (rooms.get(room.roomCode) != room || !room.isPlaying() || room.getPhaseSeq() != phaseSeq) {
+                return completed(fail("진행 상태가 바뀌었습니다."));
+            }
+
+            CompletableFuture<Map<String, Object>> result = song != null
+                    ? completed(onDrawn.apply(song))
+                    : finish(room, "출제할 노래가 없습니다.");
+            publish(room);
+            return result;
+        }).thenCompose(Function.identity())).thenCompose(Function.identity());
+    }
+
+    private Map<String, Object> roundStarted(LiveRoom room) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("isGameOver", false);
+        result.put("currentRound", room.getCurrentRound());
+        return result;
+    }
+
+    /**
+     * 게임 종료 - 메모리 상태 제거, 저장 스레드에서 이 방의 마지막 스냅샷 저장 다음에 LP/통계 반영
+     * - 반영이 끝나면 우편함 명령으로 GAME_FINISH 전송, 응답도 그때 완료 (결과 화면에서 LP가 보이도록)
+     */
+    private CompletableFuture<Map<String, Object>> finish(LiveRoom room, String message) {
+        room.finish();
+        cancelTimers(room);
+        persist(room);
+        rooms.remove(room.roomCode, room);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("isGameOver", true);
+        if (message != null) {
+            result.put("message", message);
+        }
+
+        CompletableFuture<Map<String, Object>> finished = new CompletableFuture<>();
+        Runnable finishGame = () -> {
+            try {
+                multiGameService.finishGame(room.roomId);
+            } catch (Exception e) {
+                log.error("멀티게임 종료 처리 실패 - 방: {}", room.roomCode, e);
+            }
+            room.mailbox.submit(() -> {
+                gameBroadcastService.broadcastGameFinish(room.roomCode);
+                return result;
+            }).whenComplete((r, e) -> finished.complete(result));
+        };
+        try {
+            // 저장 스레드는 예약 순서대로 실행 → 위 persist의 스냅샷이 먼저 저장됨
+            writer.execute(finishGame);
+        } catch (RejectedExecutionException e) {
+            log.warn("멀티게임 종료 처리 예약 실패 (종료 중) - 방: {}", room.roomCode);
+            finished.complete(result);
+        }
+        return finished;
+    }
+
+    // ========== 서버 타이머 ==========
+
+    /**
+     * 현재 단계의 마감 타이머 예약 (이미 같은 단계로 예약돼 있으면 유지)
+     * - PLAYING: 라운드 제한시간, RESULT: 자동 진행(설정 시), 그 외: 없음
+     */
+    private void armPhaseTimer(LiveRoom room) {
+        int phaseSeq = room.getPhaseSeq();
+        if (room.phaseTimer != null && room.phaseTimerSeq == phaseSeq) {
+            return;
+        }
+        if (room.phaseTimer != null) {
+            room.phaseTimer.cancel();
+            room.phaseTimer = null;
+        }
+        if (!room.isPlaying()) {
+            return;
+        }
+
+        if (room.getPhase() == GameRoom.RoundPhase.PLAYING) {
+            room.phaseTimer = timers.schedule(() -> fire(room, "라운드 제한시간", () -> onRoundTimeout(room, phaseSeq)),
+                    room.settings.getRoundDuration(), TimeUnit.SECONDS);
+        } else if (room.getPhase() == GameRoom.RoundPhase.RESULT && Boolean.TRUE.equals(room.settings.getAutoNextRound())) {
+            room.phaseTimer = timers.schedule(() -> fire(room, "결과 자동 진행", () -> onResultTimeout(room, phaseSeq)),
+                    resultAdvanceSeconds, TimeUnit.SECONDS);
+        }
+        room.phaseTimerSeq = phaseSeq;
+    }
+
+    /**
+     * 유휴 확인 타이머 예약 (명령마다 다시 걸지 않고, 만료 시 마지막 명령 시각으로 남은 시간 재계산)
+     */
+    private void armIdleTimer(LiveRoom room, long delayMillis) {
+        room.idleTimer = timers.schedule(() -> fire(room, "유휴 방 만료", () -> onIdleCheck(room)),
+                delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelTimers(LiveRoom room) {
+        if (room.phaseTimer != null) {
+            room.phaseTimer.cancel();
+            room.phaseTimer = null;
+        }
+        if (room.idleTimer != null) {
+            room.idleTimer.cancel();
+            room.idleTimer = null;
+        }
+    }
+
+    /**
+     * 타이머 만료 → 방 우편함에 명령 추가 (휠 스레드는 넣기만 하고 바로 반환)
+     */
+    private void fire(LiveRoom room, String description, Runnable handler) {
+        room.mailbox.submit(() -> {
+            // 이미 내려간(종료/재시작) 방의 타이머는 무시
+            if (rooms.get(room.roomCode) != room || !room.isPlaying()) {
+                return null;
+            }
+            handler.run();
+            publish(room);
+            return null;
+        }).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.error("멀티게임 {} 처리 실패 - 방: {}", description, room.roomCode, e);
+            }
+        });
+    }
+
+    /**
+     * 라운드 제한시간 초과 - 정답 없이 결과 단계로
+     */
+    private void onRoundTimeout(LiveRoom room, int phaseSeq) {
+        if (room.getPhaseSeq() != phaseSeq || room.getPhase() != GameRoom.RoundPhase.PLAYING) {
+            return; // 그 사이 정답/스킵/곡 교체로 단계가 바뀜
+        }
+
+        room.endRound();
+        LiveRoom.LiveSong song = room.getSong();
+        if (song != null) {
+            addSystemMessage(room, room.hostId,
+                    String.format("⏰ 시간 초과! 정답: %s - %s", song.artist(), song.title()));
+        }
+        recordRound(room, null);
+        persist(room);
+    }
+
+    /**
+     * 결과 화면 자동 진행 - 다음 라운드 시작 또는 게임 종료
+     */
+    private void onResultTimeout(LiveRoom room, int phaseSeq) {
+        if (room.getPhaseSeq() != phaseSeq || room.getPhase() != GameRoom.RoundPhase.RESULT || room.drawingSong) {
+            return; // 방장이 먼저 다음 라운드로 넘김
+        }
+
+        if (room.getCurrentRound() >= room.totalRounds) {
+            finish(room, null);
+        } else {
+            beginNextRound(room);
+        }
+    }
+
+    /**
+     * 유휴 확인 - 마지막 명령 이후 만료 시간이 지났으면 게임 종료, 아니면 남은 시간으로 다시 예약
+     */
+    private void onIdleCheck(LiveRoom room) {
+        long idleLimit = TimeUnit.MINUTES.toMillis(idleExpireMinutes);
+        long remaining = room.getLastActivityAt() + idleLimit - System.currentTimeMillis();
+        if (remaining > 0) {
+            armIdleTimer(room, remaining);
+            return;
+        }
+
+        log.info("멀티게임 유휴 방 종료 - {}, {}분간 참가자 명령 없음", room.roomCode, idleExpireMinutes);
+        addSystemMessage(room, room.hostId, "💤 오랫동안 진행이 없어 게임이 종료되었습니다.");
+        finish(room, null);
+    }
+
+    /**
+     * 명령에서 바뀐 항목을 변경분으로 브로드캐스트 (우편함 안에서 호출 → 순번 순서대로 전송)
+     */
+    private void publish(LiveRoom room) {
+        if (!room.isPlaying()) {
+            return; // 종료 - GAME_FINISH는 finishGame(LP 반영)이 끝난 뒤 finish에서 전송
+        }
+        Map<String, Object> delta = room.commitDelta();
+        if (delta != null) {
+            gameBroadcastService.broadcastRoundDelta(room.roomCode, delta);
+        }
+    }
+
+    /**
+     * 라운드 종료 곡 난이도 집계 (참가자 전원 플레이, 정답자만 정답)
+     */
+    private void recordRound(LiveRoom room, Long winnerId) {
+        if (room.getSong() == null) {
+            return;
+        }
+        Long songId = room.getSong().id();
+        List<Long> participantIds = room.playerIds();
+        enqueue("곡 난이도 집계", () -> songStatsService.recordMultiRound(songId, participantIds, winnerId));
+    }
+
+    private void addChat(LiveRoom room, Long memberId, String message) {
+        chatWriteBuffer.chat(room.roomId, memberId, message);
+    }
+
+    /**
+     * 시스템 메시지 - 저장은 채팅 버퍼에 맡기고 바로 브로드캐스트
+     */
+    private void addSystemMessage(LiveRoom room, Long memberId, String message) {
+        chatWriteBuffer.system(room.roomId, memberId, message);
+        broadcastChat(room, memberId, null, message, GameRoomChat.MessageType.SYSTEM.name());
+    }
+
+    /**
+     * 채팅 브로드캐스트 (우편함 안에서 호출 → 같은 방의 다른 전송과 순서 유지)
+     */
+    private void broadcastChat(LiveRoom room, Long memberId, String nickname, String message, String messageType) {
+        Map<String, Object> chatData = new HashMap<>();
+        chatData.put("memberId", memberId);
+        if (nickname != null) {
+            chatData.put("nickname", nickname);
+        }
+        chatData.put("message", message);
+        chatData.put("messageType", messageType);
+        chatData.put("createdAt", LocalDateTime.now().toString());
+        gameBroadcastService.broadcastChat(room.roomCode, chatData);
+    }
+
+    /**
+     * 방/참가자 상태 저장 예약 (같은 방의 밀린 스냅샷은 최신 것 하나만 저장)
+     * - 저장 시점이 곧 단계 전환 시점이므로 단계 마감 타이머도 여기서 다시 예약
+     */
+    private void persist(LiveRoom room) {
+        armPhaseTimer(room);
+        pendingSnapshots.put(room.roomId, room.snapshot());
+        try {
+            writer.execute(() -> writeSnapshot(room.roomId));
+        } catch (RejectedExecutionException e) {
+            log.warn("멀티게임 저장 예약 실패 (종료 중) - 방: {}", room.roomCode);
+        }
+    }
+
+    private void writeSnapshot(Long roomId) {
+        LiveRoom.Snapshot snapshot = pendingSnapshots.remove(roomId);
+        if (snapshot == null) {
+            return; // 앞선 작업이 최신 스냅샷까지 저장함
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; attempt <= SAVE_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applySnapshot(snapshot));
+                return;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("멀티게임 방 저장 충돌 - 방: {}, 시도: {}", roomId, attempt);
+            } catch (Exception e) {
+                log.error("멀티게임 방 저장 실패 - 방: {}", roomId, e);
+                return;
+            }
+        }
+        log.warn("멀티게임 방 저장 포기 (충돌 반복) - 방: {}", roomId);
+    }
+
+    private void applySnapshot(LiveRoom.Snapshot snapshot) {
+        GameRoom room = gameRoomRepository.findById(snapshot.roomId()).orElse(null);
+        if (room == null) {
+            return;
+        }
+        if (room.getStatus() != GameRoom.RoomStatus.PLAYING) {
+            // 관리자 강제 종료/정리 배치 등 런타임 밖에서 종료된 방 - 덮어쓰지 않고 메모리 상태만 버림
+            log.info("멀티게임 방 저장 생략 (DB 상태: {}) - {}", room.getStatus(), room.getRoomCode());
+            evict(room.getRoomCode());
+            return;
+        }
+
+        room.setStatus(snapshot.status());
+        room.setCurrentRound(snapshot.currentRound());
+        room.setRoundPhase(snapshot.phase());
+        room.setCurrentSong(snapshot.songId() != null ? songRepository.getReferenceById(snapshot.songId()) : null);
+        room.setRoundStartTime(snapshot.roundStartTime());
+        room.setAudioPlaying(snapshot.audioPlaying());
+        room.setAudioPlayedAt(snapshot.audioPlayedAt());
+        room.setWinner(snapshot.winnerId() != null ? memberRepository.getReferenceById(snapshot.winnerId()) : null);
+
+        for (GameRoomParticipant participant : participantRepository.findGameParticipants(room)) {
+            LiveRoom.PlayerSnapshot player = snapshot.players().get(participant.getMember().getId());
+            if (player != null) {
+                participant.setScore(player.score());
+                participant.setCorrectCount(player.correctCount());
+                participant.setRoundReady(player.roundReady());
+                participant.setSkipVote(player.skipVote());
+            }
+        }
+    }
+
+    /**
+     * 저장 스레드에서 트랜잭션으로 실행 (실패는 로그만 남김)
+     */
+    private void enqueue(String description, Runnable action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            writer.execute(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> action.run());
+                } catch (Exception e) {
+                    log.error("멀티게임 {} 실패", description, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("멀티게임 {} 예약 실패 (종료 중)", description);
+        }
+    }
+
+    private static CompletableFuture<Map<String, Object>> completed(Map<String, Object> result) {
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private static Map<String, Object> fail(String message) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", false);
+        result.put("message", message);
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.service.YouTubeValidationService.ValidationResult;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 곡을 한 번에 고를 때의 YouTube 재생 가능 곡 선택
+ *
+ * - 검증 캐시에 판정이 있는 곡은 네트워크 없이 바로 판정
+ * - 판정이 없는 곡만 비동기로 동시에 검증 (동시 요청 수 제한), 완료되는 순서대로 채택
+ * - 필요한 곡 수를 채우면 나머지 후보는 더 검증하지 않음 (진행 중인 검증 결과는 캐시에만 반영)
+ * - 마감 시간까지 확인하지 못한 곡(서킷 브레이커 OPEN 포함)은 DB 유효성 플래그(isYoutubeValid)로 판정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayableSongSelector {
+
+    // 필요한 곡 수보다 미리 더 검증해두는 곡 수 (검증 실패 대체용)
+    private static final int SPECULATIVE_CHECKS = 2;
+
+    private final YouTubeVerdictCache youTubeVerdictCache;
+
+    @Value("${youtube.validation.max-concurrency:8}")
+    private int maxConcurrency = 8;
+
+    @Value("${youtube.validation.deadline-ms:3000}")
+    private long deadlineMs = 3000;
+
+    /**
+     * 후보 순서대로 재생 가능한 곡을 최대 limit곡 선택
+     *
+     * @param candidates 후보 (무작위 순서, 지연 순회 가능)
+     * @param limit      선택할 곡 수 (Integer.MAX_VALUE면 전체)
+     */
+    public Selection select(Iterable<CatalogSong> candidates, int limit) {
+        Selection selection = new Selection();
+        if (limit <= 0) {
+            return selection;
+        }
+
+        Iterator<CatalogSong> iterator = candidates.iterator();
+        BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        Map<Long, CatalogSong> inFlight = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        while (selection.size() < limit) {
+            // 1. 캐시로 판정 가능한 후보는 바로 처리, 미확인 후보는 동시 검증 한도까지 요청
+            while (selection.size() < limit && inFlight.size() < inFlightLimit(limit - selection.size())
+                    && iterator.hasNext()) {
+                CatalogSong song = iterator.next();
+                Boolean cached = song.hasYoutubeVideo() ? youTubeVerdictCache.lookup(song.getYoutubeVideoId()) : Boolean.TRUE;
+                if (cached != null) {
+                    selection.add(song, cached);
+                    continue;
+                }
+                inFlight.put(song.getId(), song);
+                startCheck(song, completions);
+            }
+            if (inFlight.isEmpty()) {
+                break;
+            }
+
+            // 2. 먼저 끝난 검증부터 반영
+            Completion completion = poll(completions, deadline);
+            if (completion == null) {
+                break;
+            }
+            apply(selection, inFlight, completion);
+        }
+
+        // 3. 마감 후 남은 자리는 네트워크 없이 채움 (이미 끝난 검증 → 캐시 → DB 유효성 플래그)
+        Completion completed;
+        while (selection.size() < limit && (completed = completions.poll()) != null) {
+            apply(selection, inFlight, completed);
+        }
+        if (selection.size() < limit && !inFlight.isEmpty()) {
+            log.debug("YouTube 검증 마감 초과 - 미확인 {}곡은 DB 플래그로 판정", inFlight.size());
+        }
+        for (CatalogSong song : inFlight.values()) {
+            if (selection.size() >= limit) break;
+            selection.addFallback(song);
+        }
+        while (selection.size() < limit && iterator.hasNext()) {
+            CatalogSong song = iterator.next();
+            Boolean cached = song.hasYoutubeVideo() ? youTubeVerdictCache.lookup(song.getYoutubeVideoId()) : Boolean.TRUE;
+            if (cached != null) {
+                selection.add(song, cached);
+            } else {
+                selection.addFallback(song);
+            }
+        }
+        return selection;
+    }
+
+    private int inFlightLimit(int remaining) {
+        return (int) Math.min(maxConcurrency, (long) remaining + SPECULATIVE_CHECKS);
+    }
+
+    private void startCheck(CatalogSong song, BlockingQueue<Completion> completions) {
+        CompletableFuture<ValidationResult> future;
+        try {
+            future = youTubeVerdictCache.checkAsync(song.getYoutubeVideoId());
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, e) -> {
+            if (e != null) {
+                log.debug("YouTube 비동기 검증 실패 [{}]: {}", song.getYoutubeVideoId(), e.getMessage());
+            }
+            completions.add(new Completion(song, e == null ? result : null));
+        });
+    }
+
+    private void apply(Selection selection, Map<Long, CatalogSong> inFlight, Completion completion) {
+        inFlight.remove(completion.song.getId());
+        if (completion.result != null && !completion.result.isUnavailable()) {
+            selection.add(completion.song, completion.result.isValid());
+        } else {
+            selection.addFallback(completion.song);
+        }
+    }
+
+    /**
+     * 다음 완료 결과 대기 (마감 시간이 지나면 null)
+     */
+    private Completion poll(BlockingQueue<Completion> completions, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return null;
+        }
+        try {
+            return completions.poll(remaining, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * 선택 결과
+     */
+    @Getter
+    public static class Selection {
+        private final List<CatalogSong> songs = new ArrayList<>();
+        // 검증 실패로 제외된 곡 수
+        private int rejectedCount;
+        // 마감/오류/확인 불가로 DB 플래그로 판정한 곡 수
+        private int fallbackCount;
+
+        void add(CatalogSong song, boolean playable) {
+            if (playable) {
+                songs.add(song);
+            } else {
+                rejectedCount++;
+            }
+        }
+
+        void addFallback(CatalogSong song) {
+            fallbackCount++;
+            add(song, song.isYoutubeUsable());
+        }
+
+        public int size() {
+            return songs.size();
+        }
+    }
+
+    private static class Completion {
+        private final CatalogSong song;
+        private final ValidationResult result;
+
+        Completion(CatalogSong song, ValidationResult result) {
+            this.song = song;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.kh.game.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 방 하나의 명령 우편함 (serial executor)
+ *
+ * - 들어온 순서대로 한 번에 하나씩 실행 → 명령끼리 락 없이 방 상태를 바꿀 수 있음
+ * - 실행 스레드는 여러 방이 공유하는 풀에서 빌려 쓰고, 한 번에 최대 DRAIN_BATCH개 처리 후 양보
+ * - 호출한 쪽은 CompletableFuture로 결과를 받음 (요청 스레드가 락을 기다리며 막히지 않음)
+ */
+@Slf4j
+final class RoomMailbox {
+
+    // 한 번 실행 스레드를 잡았을 때 처리할 최대 명령 수 (다른 방 굶주림 방지)
+    static final int DRAIN_BATCH = 64;
+
+    private final Executor executor;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    RoomMailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 명령 추가 (도착 순서 = 실행 순서)
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        queue.add(() -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return future;
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return; // 이미 실행 중이거나 실행 예약됨 → 그 스레드가 처리
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 서버 종료 중 - 남은 명령은 호출한 스레드에서 바로 처리
+            log.warn("방 명령 실행 풀 종료됨 - 대기 명령 {}건 직접 처리", queue.size());
+            drainAll();
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < DRAIN_BATCH; i++) {
+            Runnable command = queue.poll();
+            if (command == null) {
+                break;
+            }
+            command.run();
+        }
+        scheduled.set(false);
+        // 처리 중 들어온 명령, 또는 배치 한도로 남긴 명령이 있으면 다시 예약
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void drainAll() {
+        Runnable command;
+        while ((command = queue.poll()) != null) {
+            command.run();
+        }
+        scheduled.set(false);
+    }
+}
@@ -0,0 +1,241 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.SongAnswerListener;
+import com.kh.game.repository.SongAnswerRepository;
+import com.kh.game.repository.SongRepository;
+import com.kh.game.util.AnswerNormalizer;
+import com.kh.game.util.EditDistance;
+import com.kh.game.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 곡별 정규화 정답 인덱스
+ *
+ * - 곡 제목과 SongAnswer 대체 정답을 정규화 결과의 64비트 해시로 메모리에 보관
+ * - 정답 확인은 사용자 입력 1회 해시 계산 + 조회 (DB 조회, 문자열 생성 없음)
+ * - 시작 시 전체를 한 번에 로드, 이후 Song/SongAnswer가 바뀐 곡만 다음 조회 때 다시 로드 (SongAnswerListener 스탬프)
+ *
+ * 오타 허용 (answer.fuzzy.modes에 지정한 게임 모드만):
+ * - 정확히 일치하지 않을 때만 자모 단위 편집 거리로 비교 (다이나마이트 ≈ 다이너마이트)
+ * - 허용 거리는 정답 자모 길이에 비례 (jamo-per-edit자당 1, 최대 max-edits), 짧은 정답은 정확히 일치해야 함
+ * - 정답 자모열은 길이순으로 정렬해 두고 길이 차이가 허용 거리 이내인 것만 비교
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongAnswerIndex {
+
+    private final SongRepository songRepository;
+    private final SongAnswerRepository songAnswerRepository;
+
+    // 멀티게임 모드 이름 (싱글 모드는 GameSession.GameType 이름 사용)
+    public static final String MODE_MULTIPLAYER = "MULTIPLAYER";
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${answer.fuzzy.modes:}")
+    private String[] fuzzyModes = new String[0];
+
+    @Value("${answer.fuzzy.jamo-per-edit:7}")
+    private int jamoPerEdit = 7;
+
+    @Value("${answer.fuzzy.max-edits:2}")
+    private int maxEdits = 2;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            long changesBefore = SongAnswerListener.totalChanges();
+
+            Map<Long, String> titles = new HashMap<>();
+            for (Object[] row : songRepository.findAllTitles()) {
+                titles.put((Long) row[0], (String) row[1]);
+            }
+            Map<Long, List<String>> answers = new HashMap<>();
+            for (Object[] row : songAnswerRepository.findAllAnswerTexts()) {
+                answers.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+
+            // 로드 중 정답이 바뀌었으면 어느 곡인지 알 수 없으므로 버리고 곡 단위 로드에 맡김
+            if (SongAnswerListener.totalChanges() != changesBefore) {
+                log.info("정답 인덱스 로드 중 변경 발생 - 곡 단위 로드로 대체");
+                return;
+            }
+            titles.forEach((songId, title) -> entries.put(songId,
+                    Entry.of(SongAnswerListener.stampOf(songId), title, answers.getOrDefault(songId, List.of()),
+                            isFuzzyConfigured())));
+            log.info("정답 인덱스 로드 완료: {}곡, 대체 정답 {}개", titles.size(),
+                    answers.values().stream().mapToInt(List::size).sum());
+        } catch (Exception e) {
+            log.warn("정답 인덱스 초기 로드 실패 (곡 단위로 로드): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게임 모드의 오타 허용 여부
+     */
+    public boolean isFuzzyEnabled(String mode) {
+        for (String fuzzyMode : fuzzyModes) {
+            if (fuzzyMode.trim().equalsIgnoreCase(mode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 제목 또는 대체 정답 중 하나와 일치하는지 (멀티게임)
+     */
+    public boolean matchesTitleOrAlias(Long songId, String userAnswer) {
+        return matchesTitleOrAlias(songId, userAnswer, false);
+    }
+
+    public boolean matchesTitleOrAlias(Long songId, String userAnswer, boolean fuzzy) {
+        if (songId == null || userAnswer == null || userAnswer.trim().isEmpty()) {
+            return false;
+        }
+        long hash = AnswerNormalizer.hash64(userAnswer);
+        Entry entry = entryOf(songId, fuzzy);
+        if ((entry.hasTitle && hash == entry.titleHash) || entry.hasAlias(hash)) {
+            return true;
+        }
+        if (!fuzzy) {
+            return false;
+        }
+        String jamo = HangulUtil.toJamo(AnswerNormalizer.normalize(userAnswer));
+        return (entry.titleJamo != null && withinTolerance(jamo, entry.titleJamo))
+                || anyWithinTolerance(jamo, entry.aliasJamo);
+    }
+
+    /**
+     * 대체 정답과 일치하는지 - 대체 정답이 없는 곡은 제목으로 확인 (싱글 게임 모드)
+     */
+    public boolean matchesAnswer(Long songId, String userAnswer) {
+        return matchesAnswer(songId, userAnswer, false);
+    }
+
+    public boolean matchesAnswer(Long songId, String userAnswer, boolean fuzzy) {
+        if (songId == null || userAnswer == null || userAnswer.trim().isEmpty()) {
+            return false;
+        }
+        long hash = AnswerNormalizer.hash64(userAnswer);
+        Entry entry = entryOf(songId, fuzzy);
+        boolean titleOnly = entry.aliasHashes.length == 0;
+        if (titleOnly ? entry.hasTitle && hash == entry.titleHash : entry.hasAlias(hash)) {
+            return true;
+        }
+        if (!fuzzy) {
+            return false;
+        }
+        String jamo = HangulUtil.toJamo(AnswerNormalizer.normalize(userAnswer));
+        return titleOnly
+                ? entry.titleJamo != null && withinTolerance(jamo, entry.titleJamo)
+                : anyWithinTolerance(jamo, entry.aliasJamo);
+    }
+
+    /**
+     * 곡의 정답 항목 폐기 (JPQL 벌크 변경 후 호출)
+     */
+    public void evict(Long songId) {
+        SongAnswerListener.markChanged(songId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isFuzzyConfigured() {
+        return fuzzyModes.length > 0;
+    }
+
+    /**
+     * 길이순 정렬된 정답 자모열 중 허용 거리 이내가 있는지 (길이 차이가 max-edits 이내인 구간만 비교)
+     */
+    private boolean anyWithinTolerance(String input, String[] sortedForms) {
+        int low = 0;
+        int high = sortedForms.length;
+        int minLength = input.length() - maxEdits;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedForms[mid].length() < minLength) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < sortedForms.length && sortedForms[i].length() <= input.length() + maxEdits; i++) {
+            if (withinTolerance(input, sortedForms[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean withinTolerance(String input, String answer) {
+        int allowed = Math.min(maxEdits, answer.length() / jamoPerEdit);
+        return allowed > 0 && EditDistance.withinDistance(input, answer, allowed);
+    }
+
+    private Entry entryOf(Long songId, boolean withJamo) {
+        Entry entry = entries.get(songId);
+        if (entry != null && entry.stamp == SongAnswerListener.stampOf(songId)
+                && (!withJamo || entry.aliasJamo != null)) {
+            return entry;
+        }
+        // 조회 전 스탬프 기준으로 저장 (조회 중 변경되면 다음 조회에서 다시 로드)
+        long stamp = SongAnswerListener.stampOf(songId);
+        String title = songRepository.findTitleById(songId).orElse(null);
+        Entry loaded = Entry.of(stamp, title, songAnswerRepository.findAnswerTextsBySongId(songId),
+                withJamo || isFuzzyConfigured());
+        entries.put(songId, loaded);
+        return loaded;
+    }
+
+    private static class Entry {
+        private final long stamp;
+        private final boolean hasTitle;
+        private final long titleHash;
+        // 정렬된 대체 정답 해시 (중복 제거)
+        private final long[] aliasHashes;
+        // 오타 허용 비교용 자모열 (오타 허용 모드가 없으면 null)
+        private final String titleJamo;
+        private final String[] aliasJamo;
+
+        private Entry(long stamp, boolean hasTitle, long titleHash, long[] aliasHashes,
+                      String titleJamo, String[] aliasJamo) {
+            this.stamp = stamp;
+            this.hasTitle = hasTitle;
+            this.titleHash = titleHash;
+            this.aliasHashes = aliasHashes;
+            this.titleJamo = titleJamo;
+            this.aliasJamo = aliasJamo;
+        }
+
+        static Entry of(long stamp, String title, Collection<String> answers, boolean withJamo) {
+            long[] hashes = answers.stream().mapToLong(AnswerNormalizer::hash64).sorted().distinct().toArray();
+            String titleJamo = null;
+            String[] aliasJamo = null;
+            if (withJamo) {
+                titleJamo = title != null ? HangulUtil.toJamo(AnswerNormalizer.normalize(title)) : null;
+                aliasJamo = answers.stream()
+                        .map(answer -> HangulUtil.toJamo(AnswerNormalizer.normalize(answer)))
+                        .distinct()
+                        .sorted(Comparator.comparingInt(String::length))
+                        .toArray(String[]::new);
+            }
+            return new Entry(stamp, title != null, AnswerNormalizer.hash64(title), hashes, titleJamo, aliasJamo);
+        }
+
+        boolean hasAlias(long hash) {
+            return Arrays.binarySearch(aliasHashes, hash) >= 0;
+        }
+    }
+}
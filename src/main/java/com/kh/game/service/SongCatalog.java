@@ -0,0 +1,61 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.service.SongFilterIndex.Partition;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 게임용 곡 카탈로그 스냅샷 (불변)
+ * - 활성(useYn='Y') + 음원(YouTube 또는 MP3) 보유 곡만 포함
+ * - 게임 모드별 후보군과 비트맵 인덱스(SongFilterIndex)를 빌드 시점에 함께 생성
+ * - 변경 시 새 스냅샷을 만들어 통째로 교체 (SongCatalogService)
+ */
+@Getter
+public class SongCatalog {
+
+    private final long version;
+
+    // 전체 (레트로/매니악 포함)
+    private final List<CatalogSong> songs;
+
+    // 일반 게임용 (레트로 장르 제외, 대중곡만 - isPopular가 null이면 대중곡)
+    private final List<CatalogSong> gameSongs;
+
+    // 팬 챌린지용 (레트로 장르 제외, 매니악 곡 포함)
+    private final List<CatalogSong> fanChallengeSongs;
+
+    // 레트로 게임용 (releaseYear < 2000 OR 장르 RETRO, 대중곡만)
+    private final List<CatalogSong> retroSongs;
+
+    // GameSettings 조건 필터링용 비트맵 인덱스
+    private final SongFilterIndex filterIndex;
+
+    // 아티스트 자동완성 인덱스 (팬 챌린지 후보군 기준 - 레트로 장르 제외, 매니악 곡 포함)
+    private final ArtistSearchIndex artistSearchIndex;
+
+    public SongCatalog(long version, List<CatalogSong> rows) {
+        this.version = version;
+        this.songs = Collections.unmodifiableList(new ArrayList<>(rows));
+        this.filterIndex = new SongFilterIndex(this.songs);
+
+        this.gameSongs = Collections.unmodifiableList(filterIndex.songsOf(filterIndex.partition(Partition.GAME)));
+        this.fanChallengeSongs = Collections.unmodifiableList(filterIndex.songsOf(filterIndex.partition(Partition.FAN_CHALLENGE)));
+        this.retroSongs = Collections.unmodifiableList(filterIndex.songsOf(filterIndex.partition(Partition.RETRO)));
+        this.artistSearchIndex = new ArtistSearchIndex(this.fanChallengeSongs);
+    }
+
+    public static SongCatalog empty() {
+        return new SongCatalog(-1, Collections.emptyList());
+    }
+
+    public CatalogSong findById(Long id) {
+        int pos = filterIndex.positionOf(id);
+        return pos >= 0 ? filterIndex.get(pos) : null;
+    }
+
+    public int size() {
+        return songs.size();
+    }
+}
@@ -0,0 +1,132 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.entity.SongCatalogListener;
+import com.kh.game.repository.SongRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 곡 카탈로그 스냅샷 관리
+ *
+ * - 게임 모드의 곡 선택/카운트/패싯 조회는 매 요청마다 전체 곡을 DB에서 읽지 않고 이 스냅샷을 사용
+ * - Song/Genre 변경이 커밋되면 SongCatalogListener가 버전을 올리고, 다음 조회 시 새 스냅샷을 빌드해 원자적으로 교체
+ * - 쓰기 트랜잭션 안의 조회는 그 트랜잭션 전용 스냅샷 사용 (자기 변경은 보이고, 공유 스냅샷에는 커밋된 데이터만)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongCatalogService {
+
+    private final SongRepository songRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 쓰기 트랜잭션 전용 스냅샷 (트랜잭션 리소스, version = 빌드 시점의 미커밋 변경 수)
+    private static final Object TX_CATALOG_KEY = new Object();
+
+    private volatile SongCatalog catalog = SongCatalog.empty();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            SongCatalog loaded = getCatalog();
+            log.info("곡 카탈로그 로드 완료: {}곡 (게임용 {}곡)", loaded.size(), loaded.getGameSongs().size());
+        } catch (Exception e) {
+            log.warn("곡 카탈로그 초기 로드 실패 (첫 조회 시 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 버전의 카탈로그 스냅샷 반환 (버전이 바뀌었으면 재빌드)
+     */
+    public SongCatalog getCatalog() {
+        flushPendingChanges();
+
+        long pendingChanges = SongCatalogListener.pendingChanges();
+        if (pendingChanges > 0) {
+            return transactionCatalog(pendingChanges);
+        }
+
+        SongCatalog current = catalog;
+        if (current.getVersion() == SongCatalogListener.currentVersion()) {
+            return current;
+        }
+        synchronized (this) {
+            current = catalog;
+            if (current.getVersion() == SongCatalogListener.currentVersion()) {
+                return current;
+            }
+            return rebuild();
+        }
+    }
+
+    /**
+     * 스냅샷 무효화 (JPQL 벌크 업데이트 등 엔티티 리스너가 동작하지 않는 변경 후 호출)
+     * - 트랜잭션 안에서 호출하면 커밋된 뒤에 반영
+     */
+    public void invalidate() {
+        SongCatalogListener.markChanged();
+    }
+
+    /**
+     * 쓰기 트랜잭션 안의 미반영 변경(dirty checking 대기)을 flush하여 리스너가 버전을 올리도록 함
+     * - 기존 JPQL 조회의 auto flush와 동일하게, 같은 트랜잭션에서 바꾼 곡이 바로 반영되도록 유지
+     */
+    private void flushPendingChanges() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        if (session.isDirty()) {
+            session.flush();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 미커밋 변경이 보이는 스냅샷 - 공유 스냅샷으로 교체하지 않고 트랜잭션이 끝나면 버림
+     */
+    private SongCatalog transactionCatalog(long pendingChanges) {
+        SongCatalog local = (SongCatalog) TransactionSynchronizationManager.getResource(TX_CATALOG_KEY);
+        if (local != null && local.getVersion() == pendingChanges) {
+            return local;
+        }
+
+        SongCatalog built = new SongCatalog(pendingChanges, songRepository.findCatalogSongs());
+        if (local == null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TX_CATALOG_KEY);
+                }
+            });
+        } else {
+            TransactionSynchronizationManager.unbindResource(TX_CATALOG_KEY);
+        }
+        TransactionSynchronizationManager.bindResource(TX_CATALOG_KEY, built);
+        log.debug("곡 카탈로그 트랜잭션 스냅샷 빌드: 미커밋 변경 {}건, {}곡", pendingChanges, built.size());
+        return built;
+    }
+
+    private SongCatalog rebuild() {
+        // 조회 전 버전 기준으로 빌드 (조회 중 변경이 생기면 다음 조회에서 다시 빌드)
+        long version = SongCatalogListener.currentVersion();
+        List<CatalogSong> rows = songRepository.findCatalogSongs();
+        SongCatalog rebuilt = new SongCatalog(version, rows);
+        catalog = rebuilt;
+        log.debug("곡 카탈로그 재빌드: version={}, {}곡", version, rebuilt.size());
+        return rebuilt;
+    }
+}
@@ -0,0 +1,264 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.dto.GameSettings;
+import com.kh.game.entity.Song;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 멀티게임 방별 출제 덱
+ *
+ * - 게임 시작 시 totalRounds + 여분(SPARE_SONGS)곡을 GameSettings 조건으로 미리 추출
+ * - 백그라운드에서 다음 라운드 곡들을 YouTube 검증해 ready 큐에 준비 (LOOKAHEAD곡)
+ * - 라운드 시작/다음 라운드/재생 오류 스킵은 ready 큐에서 꺼내기만 함
+ * - 검증 실패 곡은 버리고 여분 곡으로 대체, 덱이 바닥나면 카탈로그에서 추가 추출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongDeckService {
+
+    // 총 라운드 외에 미리 뽑아두는 여분 곡 수 (스킵/검증 실패 대체용)
+    static final int SPARE_SONGS = 5;
+
+    // 현재 라운드보다 앞서 검증해두는 곡 수
+    static final int LOOKAHEAD = 2;
+
+    private final SongService songService;
+
+    private final ConcurrentHashMap<Long, RoomSongDeck> decks = new ConcurrentHashMap<>();
+
+    private final ExecutorService validationExecutor = Executors.newFixedThreadPool(2, new DeckThreadFactory());
+
+    /**
+     * 게임 시작 시 덱 생성 (기존 덱은 교체)
+     */
+    public void prepare(Long roomId, GameSettings settings, int totalRounds) {
+        RoomSongDeck deck = new RoomSongDeck(settings);
+        deck.addPending(songService.drawSongsWithSettings(settings, totalRounds + SPARE_SONGS, Collections.emptySet()));
+        decks.put(roomId, deck);
+
+        log.debug("출제 덱 생성 - 방: {}, 곡: {}", roomId, deck.pendingCount());
+        scheduleValidation(deck);
+    }
+
+    /**
+     * 다음 출제 곡 꺼내기
+     * - ready 큐에 검증된 곡이 있으면 바로 반환
+     * - 없으면 대기 중인 곡을 직접 검증, 덱이 바닥나면 카탈로그에서 보충
+     *
+     * @param settings 덱이 없을 때(서버 재시작 등) 새로 만들 조건
+     * @return 출제할 곡 (더 이상 없으면 null)
+     */
+    public Song next(Long roomId, GameSettings settings) {
+        RoomSongDeck deck = decks.computeIfAbsent(roomId, k -> new RoomSongDeck(settings));
+
+        while (true) {
+            Long readyId = deck.pollReady();
+            if (readyId != null) {
+                Song song = loadActiveSong(readyId);
+                if (song != null) {
+                    scheduleValidation(deck);
+                    return song;
+                }
+                continue;
+            }
+
+            CatalogSong candidate = deck.pollPending();
+            if (candidate == null) {
+                if (deck.isClosed()) {
+                    return null;
+                }
+                // 백그라운드에서 검증 중인 곡이 있으면 결과를 기다림
+                if (deck.awaitValidation()) {
+                    continue;
+                }
+                // 덱 소진 → 이미 뽑은 곡을 제외하고 여분만큼 보충
+                List<CatalogSong> refill = songService.drawSongsWithSettings(
+                        deck.settings, SPARE_SONGS, deck.drawnIds());
+                if (refill.isEmpty()) {
+                    return null;
+                }
+                deck.addPending(refill);
+                continue;
+            }
+
+            if (!songService.isPlayable(candidate)) {
+                continue; // 여분 곡으로 대체
+            }
+            Song song = loadActiveSong(candidate.getId());
+            if (song != null) {
+                scheduleValidation(deck);
+                return song;
+            }
+        }
+    }
+
+    /**
+     * 게임 종료/방 정리 시 덱 제거
+     */
+    public void discard(Long roomId) {
+        RoomSongDeck deck = decks.remove(roomId);
+        if (deck != null) {
+            deck.close();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
+    /**
+     * ready 큐가 LOOKAHEAD곡이 되도록 백그라운드 검증 예약 (방당 한 작업만 실행)
+     */
+    private void scheduleValidation(RoomSongDeck deck) {
+        if (!deck.tryStartValidation()) {
+            return;
+        }
+        try {
+            validationExecutor.execute(() -> fillReady(deck));
+        } catch (RejectedExecutionException e) {
+            deck.finishValidation();
+        }
+    }
+
+    private void fillReady(RoomSongDeck deck) {
+        try {
+            while (deck.needsMoreReady()) {
+                CatalogSong candidate = deck.pollPending();
+                if (candidate == null) {
+                    break;
+                }
+                if (songService.isPlayable(candidate)) {
+                    deck.addReady(candidate.getId());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("출제 덱 사전 검증 오류: {}", e.getMessage());
+        } finally {
+            deck.finishValidation();
+        }
+    }
+
+    private Song loadActiveSong(Long songId) {
+        return songService.findById(songId)
+                .filter(song -> "Y".equals(song.getUseYn()))
+                .orElse(null);
+    }
+
+    /**
+     * 방 하나의 덱 상태 (모든 접근은 deck 단위로 동기화)
+     */
+    static class RoomSongDeck {
+        private final GameSettings settings;
+        private final Deque<CatalogSong> pending = new ArrayDeque<>();
+        private final Deque<Long> ready = new ArrayDeque<>();
+        private final Set<Long> drawn = new HashSet<>();
+        private boolean validating;
+        private boolean closed;
+
+        RoomSongDeck(GameSettings settings) {
+            this.settings = settings;
+        }
+
+        synchronized void addPending(List<CatalogSong> songs) {
+            for (CatalogSong song : songs) {
+                if (drawn.add(song.getId())) {
+                    pending.add(song);
+                }
+            }
+        }
+
+        synchronized CatalogSong pollPending() {
+            return closed ? null : pending.poll();
+        }
+
+        synchronized void addReady(Long songId) {
+            if (!closed) {
+                ready.add(songId);
+            }
+        }
+
+        synchronized Long pollReady() {
+            return ready.poll();
+        }
+
+        synchronized boolean needsMoreReady() {
+            return !closed && ready.size() < LOOKAHEAD;
+        }
+
+        synchronized boolean tryStartValidation() {
+            if (closed || validating || ready.size() >= LOOKAHEAD || pending.isEmpty()) {
+                return false;
+            }
+            validating = true;
+            return true;
+        }
+
+        synchronized void finishValidation() {
+            validating = false;
+            notifyAll();
+        }
+
+        /**
+         * 진행 중인 사전 검증이 있으면 끝날 때까지 대기
+         *
+         * @return 대기했으면 true
+         */
+        synchronized boolean awaitValidation() {
+            if (!validating) {
+                return false;
+            }
+            while (validating) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized Set<Long> drawnIds() {
+            return new HashSet<>(drawn);
+        }
+
+        synchronized int pendingCount() {
+            return pending.size();
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        synchronized void close() {
+            closed = true;
+            pending.clear();
+            ready.clear();
+        }
+    }
+
+    private static class DeckThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "song-deck-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
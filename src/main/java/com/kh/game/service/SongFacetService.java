@@ -0,0 +1,314 @@
+package com.kh.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.entity.Genre;
+import com.kh.game.service.SongFilterIndex.Partition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 연도/아티스트/장르별 곡 수 (게임 설정 화면 필터용)
+ *
+ * - 카탈로그 버전마다 facet별 곡 수를 한 번만 집계 (FacetCube)
+ * - 이미 출제된 곡(playedSongIds)은 해당 곡의 기여분만 빼서 계산 → O(|제외 곡|)
+ * - 제외 곡이 없는 요청은 JSON 문자열을 캐시해 그대로 응답 (카탈로그 변경 시 폐기)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongFacetService {
+
+    private static final String YEARS = "years";
+    private static final String ARTISTS = "artists";
+    private static final String ARTISTS_WITH_SOLO = "artistsWithSolo";
+    private static final String GENRES = "genres";
+
+    private final SongCatalogService songCatalogService;
+    private final GenreService genreService;
+    private final ObjectMapper objectMapper;
+
+    private volatile FacetCube cube;
+
+    // ========== 목록 조회 ==========
+
+    /**
+     * 연도 목록 (곡 수 포함, 최신 연도부터) - 게임용 (레트로 제외)
+     */
+    public List<Map<String, Object>> getYears(Collection<Long> excludeSongIds) {
+        return years(currentCube(), excludeSongIds);
+    }
+
+    /**
+     * 아티스트 목록 (곡 수 포함, 이름순) - 게임용 (레트로 제외)
+     *
+     * @param withSolo isSolo 포함 여부 (아티스트의 첫 곡 기준)
+     */
+    public List<Map<String, Object>> getArtists(Collection<Long> excludeSongIds, boolean withSolo) {
+        return artists(currentCube(), excludeSongIds, withSolo);
+    }
+
+    /**
+     * 게임용 활성 장르 목록 (남은 곡 수 포함, 곡이 없는 장르도 포함)
+     */
+    public List<Map<String, Object>> getGenres(Collection<Long> excludeSongIds) {
+        return genres(currentCube(), excludeSongIds);
+    }
+
+    /**
+     * 장르 챌린지용 장르 목록 (최소 곡 수 이상, displayOrder → name 순)
+     */
+    public List<Map<String, Object>> getGenreChallengeGenres(int minCount) {
+        List<Map<String, Object>> genres = new ArrayList<>();
+        for (Map<String, Object> genre : currentCube().challengeGenres) {
+            if ((Integer) genre.get("count") < minCount) continue;
+            genres.add(new LinkedHashMap<>(genre));
+        }
+        return genres;
+    }
+
+    private List<Map<String, Object>> years(FacetCube c, Collection<Long> excludeSongIds) {
+        int[] counts = c.subtract(c.yearCounts, c.yearSlots, excludeSongIds);
+
+        List<Map<String, Object>> years = new ArrayList<>();
+        for (int i = 0; i < c.years.length; i++) {
+            if (counts[i] <= 0) continue;
+            Map<String, Object> yearInfo = new LinkedHashMap<>();
+            yearInfo.put("year", c.years[i]);
+            yearInfo.put("count", counts[i]);
+            years.add(yearInfo);
+        }
+        return years;
+    }
+
+    private List<Map<String, Object>> artists(FacetCube c, Collection<Long> excludeSongIds, boolean withSolo) {
+        int[] counts = c.subtract(c.artistCounts, c.artistSlots, excludeSongIds);
+
+        List<Map<String, Object>> artists = new ArrayList<>();
+        for (int i = 0; i < c.artists.length; i++) {
+            if (counts[i] <= 0) continue;
+            Map<String, Object> artist = new LinkedHashMap<>();
+            artist.put("name", c.artists[i]);
+            artist.put("count", counts[i]);
+            if (withSolo) {
+                artist.put("isSolo", c.artistSolo[i]);
+            }
+            artists.add(artist);
+        }
+        return artists;
+    }
+
+    private List<Map<String, Object>> genres(FacetCube c, Collection<Long> excludeSongIds) {
+        int[] counts = c.subtract(c.genreCounts, c.genreSlots, excludeSongIds);
+
+        List<Map<String, Object>> genres = new ArrayList<>();
+        for (int i = 0; i < c.genreIds.length; i++) {
+            Map<String, Object> genreInfo = new LinkedHashMap<>();
+            genreInfo.put("id", c.genreIds[i]);
+            genreInfo.put("name", c.genreNames[i]);
+            genreInfo.put("availableCount", counts[i]);
+            genres.add(genreInfo);
+        }
+        return genres;
+    }
+
+    // ========== JSON 응답 ==========
+
+    public String getYearsJson(Collection<Long> excludeSongIds) {
+        return toJson(YEARS, excludeSongIds, c -> years(c, excludeSongIds));
+    }
+
+    public String getArtistsJson(Collection<Long> excludeSongIds) {
+        return toJson(ARTISTS, excludeSongIds, c -> artists(c, excludeSongIds, false));
+    }
+
+    public String getArtistsWithSoloJson() {
+        return toJson(ARTISTS_WITH_SOLO, null, c -> artists(c, null, true));
+    }
+
+    public String getGenresJson(Collection<Long> excludeSongIds) {
+        return toJson(GENRES, excludeSongIds, c -> genres(c, excludeSongIds));
+    }
+
+    /**
+     * 제외 곡이 없으면 카탈로그 버전별 캐시된 JSON 사용, 있으면 매번 직렬화
+     */
+    private String toJson(String key, Collection<Long> excludeSongIds,
+                          Function<FacetCube, List<Map<String, Object>>> producer) {
+        FacetCube c = currentCube();
+        if (excludeSongIds != null && !excludeSongIds.isEmpty()) {
+            return writeJson(producer.apply(c));
+        }
+        return c.jsonCache.computeIfAbsent(key, k -> writeJson(producer.apply(c)));
+    }
+
+    private String writeJson(List<Map<String, Object>> value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("facet JSON 변환 실패", e);
+        }
+    }
+
+    // ========== 카탈로그 버전별 집계 ==========
+
+    private FacetCube currentCube() {
+        SongCatalog catalog = songCatalogService.getCatalog();
+        FacetCube c = cube;
+        if (c != null && c.version == catalog.getVersion()) {
+            return c;
+        }
+        synchronized (this) {
+            c = cube;
+            if (c == null || c.version != catalog.getVersion()) {
+                c = new FacetCube(catalog, genreService.findActiveGenresForGame());
+                cube = c;
+                log.debug("facet 집계 갱신 - 버전: {}, 아티스트: {}, 연도: {}",
+                        c.version, c.artists.length, c.years.length);
+            }
+            return c;
+        }
+    }
+
+    /**
+     * 카탈로그 한 버전의 facet별 곡 수 (불변, jsonCache만 지연 채움)
+     * - xxxSlots[카탈로그 위치] = facet 인덱스 (게임용 후보가 아니거나 값이 없으면 -1)
+     */
+    static class FacetCube {
+        private final long version;
+        private final SongFilterIndex index;
+
+        private final String[] artists;
+        private final Boolean[] artistSolo;
+        private final int[] artistCounts;
+        private final int[] artistSlots;
+
+        private final int[] years;
+        private final int[] yearCounts;
+        private final int[] yearSlots;
+
+        private final Long[] genreIds;
+        private final String[] genreNames;
+        private final int[] genreCounts;
+        private final int[] genreSlots;
+
+        // 장르 챌린지용 (전체 카탈로그 기준 장르 코드별 곡 수)
+        private final List<Map<String, Object>> challengeGenres;
+
+        private final Map<String, String> jsonCache = new ConcurrentHashMap<>();
+
+        FacetCube(SongCatalog catalog, List<Genre> activeGenres) {
+            this.version = catalog.getVersion();
+            this.index = catalog.getFilterIndex();
+            int size = index.size();
+            BitSet game = index.partition(Partition.GAME);
+
+            // 아티스트 (이름순), isSolo는 카탈로그 순서상 첫 곡 기준
+            Map<String, Boolean> soloByArtist = new TreeMap<>();
+            Set<Integer> yearSet = new TreeSet<>(Collections.reverseOrder());
+            for (int pos = game.nextSetBit(0); pos >= 0; pos = game.nextSetBit(pos + 1)) {
+                CatalogSong song = index.get(pos);
+                if (song.getArtist() != null && !soloByArtist.containsKey(song.getArtist())) {
+                    soloByArtist.put(song.getArtist(), song.getIsSolo());
+                }
+                if (song.getReleaseYear() != null) {
+                    yearSet.add(song.getReleaseYear());
+                }
+            }
+            this.artists = soloByArtist.keySet().toArray(new String[0]);
+            this.artistSolo = soloByArtist.values().toArray(new Boolean[0]);
+            this.years = yearSet.stream().mapToInt(Integer::intValue).toArray();
+            this.genreIds = activeGenres.stream().map(Genre::getId).toArray(Long[]::new);
+            this.genreNames = activeGenres.stream().map(Genre::getName).toArray(String[]::new);
+
+            Map<String, Integer> artistSlot = slotMap(Arrays.asList(artists));
+            Map<Integer, Integer> yearSlot = slotMap(Arrays.stream(years).boxed().toList());
+            Map<Long, Integer> genreSlot = slotMap(Arrays.asList(genreIds));
+
+            this.artistCounts = new int[artists.length];
+            this.yearCounts = new int[years.length];
+            this.genreCounts = new int[genreIds.length];
+            this.artistSlots = new int[size];
+            this.yearSlots = new int[size];
+            this.genreSlots = new int[size];
+            Arrays.fill(artistSlots, -1);
+            Arrays.fill(yearSlots, -1);
+            Arrays.fill(genreSlots, -1);
+
+            for (int pos = game.nextSetBit(0); pos >= 0; pos = game.nextSetBit(pos + 1)) {
+                CatalogSong song = index.get(pos);
+                artistSlots[pos] = count(artistSlot.get(song.getArtist()), artistCounts);
+                yearSlots[pos] = count(yearSlot.get(song.getReleaseYear()), yearCounts);
+                genreSlots[pos] = count(genreSlot.get(song.getGenreId()), genreCounts);
+            }
+
+            this.challengeGenres = buildChallengeGenres(catalog.getSongs());
+        }
+
+        private static List<Map<String, Object>> buildChallengeGenres(List<CatalogSong> songs) {
+            Map<String, Integer> genreCountMap = new HashMap<>();
+            Map<String, CatalogSong> genreInfoMap = new HashMap<>();
+            for (CatalogSong song : songs) {
+                if (song.getGenreCode() == null) continue;
+                genreCountMap.merge(song.getGenreCode(), 1, Integer::sum);
+                genreInfoMap.putIfAbsent(song.getGenreCode(), song);
+            }
+
+            List<CatalogSong> genreInfos = new ArrayList<>(genreInfoMap.values());
+            genreInfos.sort(Comparator.comparing(CatalogSong::getGenreDisplayOrder, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(CatalogSong::getGenreName, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            List<Map<String, Object>> genres = new ArrayList<>();
+            for (CatalogSong info : genreInfos) {
+                Map<String, Object> genre = new LinkedHashMap<>();
+                genre.put("code", info.getGenreCode());
+                genre.put("name", info.getGenreName());
+                genre.put("count", genreCountMap.get(info.getGenreCode()));
+                genres.add(genre);
+            }
+            return Collections.unmodifiableList(genres);
+        }
+
+        /**
+         * 제외 곡의 기여분만 뺀 곡 수 (제외 곡이 없으면 집계값 복사본)
+         */
+        int[] subtract(int[] counts, int[] slots, Collection<Long> excludeSongIds) {
+            int[] result = counts.clone();
+            if (excludeSongIds == null || excludeSongIds.isEmpty()) {
+                return result;
+            }
+            BitSet seen = new BitSet();
+            for (Long songId : excludeSongIds) {
+                int pos = index.positionOf(songId);
+                if (pos < 0 || seen.get(pos)) continue;
+                seen.set(pos);
+                if (slots[pos] >= 0) {
+                    result[slots[pos]]--;
+                }
+            }
+            return result;
+        }
+
+        private static int count(Integer slot, int[] counts) {
+            if (slot == null) {
+                return -1;
+            }
+            counts[slot]++;
+            return slot;
+        }
+
+        private static <T> Map<T, Integer> slotMap(List<T> keys) {
+            Map<T, Integer> slots = new HashMap<>(keys.size() * 2);
+            for (int i = 0; i < keys.size(); i++) {
+                slots.put(keys.get(i), i);
+            }
+            return slots;
+        }
+    }
+}
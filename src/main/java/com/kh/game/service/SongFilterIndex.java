@@ -0,0 +1,294 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.dto.GameSettings;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 곡 카탈로그 비트맵 인덱스 (불변, SongCatalog와 함께 빌드)
+ *
+ * - 카탈로그 내 곡 위치(position)를 비트 번호로 사용
+ * - 장르/연도/아티스트/솔로/대중곡/레트로별 BitSet을 미리 만들어 두고
+ *   GameSettings 조건은 AND/OR로, 곡 수는 cardinality로 계산
+ * - 제외 목록(playedSongIds, 방별 출제 곡)은 ANDNOT으로 적용
+ * - 조회 메서드는 항상 새 BitSet을 반환하므로 호출자가 자유롭게 변경 가능
+ * - 무작위 선택은 SongSampler로 필요한 개수만 추출 (목록 복사/셔플 없음)
+ */
+public class SongFilterIndex {
+
+    /**
+     * 게임 모드별 후보군
+     */
+    public enum Partition {
+        ALL,            // 전체 (활성 + 음원 보유)
+        GAME,           // 일반 게임용 (레트로 장르 제외, 대중곡만)
+        FAN_CHALLENGE,  // 팬 챌린지용 (레트로 장르 제외, 매니악 곡 포함)
+        RETRO           // 레트로 게임용 (releaseYear < 2000 OR 장르 RETRO, 대중곡만)
+    }
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final List<CatalogSong> songs;
+    private final Map<Long, Integer> positionById;
+
+    private final Map<Long, BitSet> genreBits = new HashMap<>();
+    private final Map<String, BitSet> genreCodeBits = new HashMap<>();
+    private final Map<Integer, BitSet> yearBits = new HashMap<>();
+    private final Map<String, BitSet> artistBits = new HashMap<>();
+    private final BitSet nullYearBits = new BitSet();
+    private final BitSet soloBits = new BitSet();
+    private final BitSet youtubeUsableBits = new BitSet();
+
+    private final BitSet allBits = new BitSet();
+    private final BitSet gameBits = new BitSet();
+    private final BitSet fanChallengeBits = new BitSet();
+    private final BitSet retroBits = new BitSet();
+
+    public SongFilterIndex(List<CatalogSong> songs) {
+        this.songs = songs;
+        this.positionById = new HashMap<>(songs.size() * 2);
+
+        for (int pos = 0; pos < songs.size(); pos++) {
+            CatalogSong song = songs.get(pos);
+            positionById.put(song.getId(), pos);
+            allBits.set(pos);
+
+            if (song.getGenreId() != null) {
+                genreBits.computeIfAbsent(song.getGenreId(), k -> new BitSet()).set(pos);
+            }
+            if (song.getGenreCode() != null) {
+                genreCodeBits.computeIfAbsent(song.getGenreCode(), k -> new BitSet()).set(pos);
+            }
+            if (song.getReleaseYear() != null) {
+                yearBits.computeIfAbsent(song.getReleaseYear(), k -> new BitSet()).set(pos);
+            } else {
+                nullYearBits.set(pos);
+            }
+            if (song.getArtist() != null) {
+                artistBits.computeIfAbsent(song.getArtist(), k -> new BitSet()).set(pos);
+            }
+            if (Boolean.TRUE.equals(song.getIsSolo())) {
+                soloBits.set(pos);
+            }
+            if (song.isYoutubeUsable()) {
+                youtubeUsableBits.set(pos);
+            }
+
+            boolean retroGenre = GenreService.EXCLUDED_GENRE_CODE.equals(song.getGenreCode());
+            boolean oldSong = song.getReleaseYear() != null && song.getReleaseYear() < 2000;
+            if (!retroGenre) {
+                fanChallengeBits.set(pos);
+                if (song.isPopularSong()) {
+                    gameBits.set(pos);
+                }
+            }
+            if ((oldSong || retroGenre) && song.isPopularSong()) {
+                retroBits.set(pos);
+            }
+        }
+    }
+
+    // ========== 후보군 / 단일 조건 ==========
+
+    public BitSet partition(Partition partition) {
+        return (BitSet) partitionBits(partition).clone();
+    }
+
+    public BitSet withGenre(Partition partition, Long genreId) {
+        return and(partition, genreId != null ? genreBits.get(genreId) : null);
+    }
+
+    public BitSet withGenreCode(Partition partition, String genreCode) {
+        return and(partition, genreCode != null ? genreCodeBits.get(genreCode) : null);
+    }
+
+    public BitSet withArtist(Partition partition, String artist) {
+        return and(partition, artist != null ? artistBits.get(artist) : null);
+    }
+
+    public BitSet withYear(Partition partition, Integer year) {
+        return and(partition, year != null ? yearBits.get(year) : null);
+    }
+
+    /**
+     * DB상 YouTube 유효 플래그가 false인 곡 제거 (장르 챌린지용)
+     */
+    public BitSet retainYoutubeUsable(BitSet bits) {
+        bits.and(youtubeUsableBits);
+        return bits;
+    }
+
+    // ========== GameSettings 조건 ==========
+
+    /**
+     * GameSettings 조건(연도/솔로·그룹/장르/아티스트)에 맞는 곡
+     */
+    public BitSet matching(Partition partition, GameSettings settings) {
+        BitSet bits = partition(partition);
+        if (settings == null) {
+            return bits;
+        }
+
+        // 연도 필터 (복수 선택)
+        if (settings.getSelectedYears() != null && !settings.getSelectedYears().isEmpty()) {
+            BitSet years = new BitSet();
+            for (Integer year : settings.getSelectedYears()) {
+                BitSet yb = year != null ? yearBits.get(year) : null;
+                if (yb != null) years.or(yb);
+            }
+            bits.and(years);
+        } else if (settings.getYearFrom() != null || settings.getYearTo() != null) {
+            // 레거시: 연도 범위 필터 (연도 미등록 곡은 통과)
+            BitSet years = (BitSet) nullYearBits.clone();
+            for (Map.Entry<Integer, BitSet> entry : yearBits.entrySet()) {
+                int year = entry.getKey();
+                if (settings.getYearFrom() != null && year < settings.getYearFrom()) continue;
+                if (settings.getYearTo() != null && year > settings.getYearTo()) continue;
+                years.or(entry.getValue());
+            }
+            bits.and(years);
+        }
+
+        // 솔로/그룹 필터
+        applySoloGroup(bits, settings);
+
+        // 장르 필터
+        if (settings.getFixedGenreId() != null) {
+            bits.and(genreBits.getOrDefault(settings.getFixedGenreId(), EMPTY));
+        }
+
+        // 아티스트 필터 (복수 선택)
+        if (settings.getSelectedArtists() != null && !settings.getSelectedArtists().isEmpty()) {
+            BitSet artists = new BitSet();
+            for (String artist : settings.getSelectedArtists()) {
+                BitSet ab = artist != null ? artistBits.get(artist) : null;
+                if (ab != null) artists.or(ab);
+            }
+            bits.and(artists);
+        } else if (settings.getFixedArtistName() != null && !settings.getFixedArtistName().isEmpty()) {
+            // 레거시: 단일 아티스트 필터
+            bits.and(artistBits.getOrDefault(settings.getFixedArtistName(), EMPTY));
+        }
+
+        return bits;
+    }
+
+    /**
+     * 솔로/그룹 조건만 적용 (레트로 게임용 - 연도/장르는 후보군에서 이미 처리됨)
+     */
+    public BitSet matchingSoloGroup(Partition partition, GameSettings settings) {
+        BitSet bits = partition(partition);
+        if (settings != null) {
+            applySoloGroup(bits, settings);
+        }
+        return bits;
+    }
+
+    private void applySoloGroup(BitSet bits, GameSettings settings) {
+        if (Boolean.TRUE.equals(settings.getSoloOnly())) {
+            bits.and(soloBits);
+        }
+        if (Boolean.TRUE.equals(settings.getGroupOnly())) {
+            bits.andNot(soloBits);
+        }
+    }
+
+    // ========== 제외 목록 ==========
+
+    /**
+     * 제외 목록 적용 (ANDNOT) - 카탈로그에 없는 ID는 무시
+     */
+    public BitSet exclude(BitSet bits, Collection<Long> excludeSongIds) {
+        if (excludeSongIds == null || excludeSongIds.isEmpty()) {
+            return bits;
+        }
+        BitSet excluded = new BitSet(songs.size());
+        for (Long songId : excludeSongIds) {
+            Integer pos = songId != null ? positionById.get(songId) : null;
+            if (pos != null) excluded.set(pos);
+        }
+        bits.andNot(excluded);
+        return bits;
+    }
+
+    // ========== 조회 ==========
+
+    public CatalogSong get(int position) {
+        return songs.get(position);
+    }
+
+    public int positionOf(Long songId) {
+        Integer pos = songId != null ? positionById.get(songId) : null;
+        return pos != null ? pos : -1;
+    }
+
+    public int size() {
+        return songs.size();
+    }
+
+    /**
+     * 비트에 해당하는 곡 목록 (카탈로그 순서)
+     */
+    public List<CatalogSong> songsOf(BitSet bits) {
+        List<CatalogSong> result = new ArrayList<>(bits.cardinality());
+        for (int pos = bits.nextSetBit(0); pos >= 0; pos = bits.nextSetBit(pos + 1)) {
+            result.add(songs.get(pos));
+        }
+        return result;
+    }
+
+    // ========== 무작위 추출 ==========
+
+    /**
+     * 후보 중 최대 k곡을 중복 없이 무작위 추출 (전체 목록 셔플 없이)
+     */
+    public List<CatalogSong> sample(BitSet bits, int k) {
+        int[] picked = SongSampler.sample(bits, k, ThreadLocalRandom.current());
+        List<CatalogSong> result = new ArrayList<>(picked.length);
+        for (int pos : picked) {
+            result.add(songs.get(pos));
+        }
+        return result;
+    }
+
+    /**
+     * 후보를 무작위 순서로 하나씩 꺼내는 지연 순열 (검증 실패 시 다음 곡 대체용)
+     */
+    public Iterable<CatalogSong> shuffled(BitSet bits) {
+        return () -> {
+            PrimitiveIterator.OfInt positions = SongSampler.permutation(bits, ThreadLocalRandom.current());
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return positions.hasNext();
+                }
+
+                @Override
+                public CatalogSong next() {
+                    return songs.get(positions.nextInt());
+                }
+            };
+        };
+    }
+
+    private BitSet and(Partition partition, BitSet condition) {
+        BitSet bits = partition(partition);
+        bits.and(condition != null ? condition : EMPTY);
+        return bits;
+    }
+
+    private BitSet partitionBits(Partition partition) {
+        switch (partition) {
+            case GAME:
+                return gameBits;
+            case FAN_CHALLENGE:
+                return fanChallengeBits;
+            case RETRO:
+                return retroBits;
+            default:
+                return allBits;
+        }
+    }
+}
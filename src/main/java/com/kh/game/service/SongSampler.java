@@ -0,0 +1,109 @@
+package com.kh.game.service;
+
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.random.RandomGenerator;
+
+/**
+ * 후보 BitSet에서 k개의 서로 다른 위치를 무작위 추출
+ *
+ * - 전체 목록을 복사/셔플하지 않고 필요한 개수만 뽑음
+ * - 후보 밀도가 충분하면 거부 샘플링(rejection), 아니면 int[] 부분 Fisher–Yates
+ * - permutation()은 호출될 때마다 한 칸씩 셔플하는 지연 순열 (YouTube 검증 대체 루프용)
+ */
+public final class SongSampler {
+
+    /**
+     * 거부 샘플링 사용 기준: 후보 밀도(cardinality / length)가 이 값 이상이고
+     * 뽑을 개수가 후보의 1/4 이하일 때
+     */
+    private static final int REJECTION_MAX_SPARSITY = 4;
+
+    private SongSampler() {
+    }
+
+    /**
+     * 후보 중 최대 k개의 위치를 중복 없이 무작위 추출 (추출 순서가 곧 무작위 순서)
+     */
+    public static int[] sample(BitSet candidates, int k, RandomGenerator random) {
+        int n = candidates.cardinality();
+        int count = Math.min(Math.max(k, 0), n);
+        if (count == 0) {
+            return new int[0];
+        }
+
+        int length = candidates.length();
+        if ((long) count * REJECTION_MAX_SPARSITY <= n && (long) n * REJECTION_MAX_SPARSITY >= length) {
+            return rejectionSample(candidates, count, length, random);
+        }
+
+        int[] positions = positions(candidates, n);
+        for (int i = 0; i < count; i++) {
+            swap(positions, i, i + random.nextInt(n - i));
+        }
+        if (count == n) {
+            return positions;
+        }
+        int[] result = new int[count];
+        System.arraycopy(positions, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * 후보 전체에 대한 지연 무작위 순열
+     * - next() 호출 시마다 Fisher–Yates 한 단계만 수행
+     * - 앞쪽 몇 개만 소비하고 멈추면 나머지는 셔플하지 않음
+     */
+    public static PrimitiveIterator.OfInt permutation(BitSet candidates, RandomGenerator random) {
+        int n = candidates.cardinality();
+        int[] positions = positions(candidates, n);
+
+        return new PrimitiveIterator.OfInt() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < n;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next >= n) {
+                    throw new NoSuchElementException();
+                }
+                swap(positions, next, next + random.nextInt(n - next));
+                return positions[next++];
+            }
+        };
+    }
+
+    private static int[] rejectionSample(BitSet candidates, int count, int length, RandomGenerator random) {
+        int[] result = new int[count];
+        BitSet picked = new BitSet(length);
+        int filled = 0;
+        while (filled < count) {
+            int pos = random.nextInt(length);
+            if (candidates.get(pos) && !picked.get(pos)) {
+                picked.set(pos);
+                result[filled++] = pos;
+            }
+        }
+        return result;
+    }
+
+    private static int[] positions(BitSet candidates, int n) {
+        int[] positions = new int[n];
+        int i = 0;
+        for (int pos = candidates.nextSetBit(0); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+            positions[i++] = pos;
+        }
+        return positions;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+}
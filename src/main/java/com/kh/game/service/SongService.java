@@ -1,16 +1,21 @@
 package com.kh.game.service;
 
+import com.kh.game.dto.CatalogSong;
 import com.kh.game.dto.GameSettings;
 import com.kh.game.exception.BusinessException;
+import com.kh.game.entity.GameSession;
 import com.kh.game.entity.Song;
 import com.kh.game.entity.SongAnswer;
 import com.kh.game.repository.BadgeRepository;
 import com.kh.game.repository.FanChallengeRecordRepository;
 import com.kh.game.repository.GameRoomRepository;
 import com.kh.game.repository.GameRoundRepository;
+import com.kh.game.repository.MemberSongStatsRepository;
 import com.kh.game.repository.SongAnswerRepository;
 import com.kh.game.repository.SongReportRepository;
 import com.kh.game.repository.SongRepository;
+import com.kh.game.repository.SongStatsRepository;
+import com.kh.game.service.SongFilterIndex.Partition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,6 +29,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -37,25 +43,34 @@ public class SongService {
     private final SongReportRepository songReportRepository;
     private final GameRoundRepository gameRoundRepository;
     private final GameRoomRepository gameRoomRepository;
-    private final YouTubeValidationService youTubeValidationService;
+    private final SongStatsRepository songStatsRepository;
+    private final MemberSongStatsRepository memberSongStatsRepository;
+    private final YouTubeVerdictCache youTubeVerdictCache;
+    private final PlayableSongSelector playableSongSelector;
+    private final SongCatalogService songCatalogService;
+    private final SongFacetService songFacetService;
+    private final SongAnswerIndex songAnswerIndex;
+
+    // 아티스트 자동완성 최대 결과 수
+    private static final int ARTIST_SEARCH_LIMIT = 50;
 
     @Value("${file.upload-dir:uploads/songs}")
     private String uploadDir;
 
     /**
-     * 일반 게임용 노래 목록 조회 (레트로 장르 제외, 대중곡만)
-     * - 랜덤 게임, 멀티플레이어, 호스트 모드, 내가 맞추기에서 사용
+     * 아티스트 챌린지용 노래 목록 조회 (레트로 장르 제외, 매니악 곡 포함) - 카탈로그 스냅샷
+     * - 팬 챌린지에서 사용 (팬이라면 매니악 곡도 알아야 함)
      */
-    private List<Song> findSongsForGame() {
-        return songRepository.findPopularSongsForGame("Y", GenreService.EXCLUDED_GENRE_CODE);
+    private List<CatalogSong> findAllSongsForArtistChallenge() {
+        return songCatalogService.getCatalog().getFanChallengeSongs();
     }
 
     /**
-     * 아티스트 챌린지용 노래 목록 조회 (레트로 장르 제외, 매니악 곡 포함)
-     * - 팬 챌린지에서 사용 (팬이라면 매니악 곡도 알아야 함)
+     * 카탈로그 스냅샷의 비트맵 필터 인덱스
+     * - 설정 조건은 BitSet AND/OR, 제외 목록은 ANDNOT, 개수는 cardinality로 계산
      */
-    private List<Song> findAllSongsForArtistChallenge() {
-        return songRepository.findByUseYnAndHasAudioSourceExcludingGenre("Y", GenreService.EXCLUDED_GENRE_CODE);
+    private SongFilterIndex filterIndex() {
+        return songCatalogService.getCatalog().getFilterIndex();
     }
 
     /**
@@ -114,7 +129,8 @@ public class SongService {
 
     @Transactional
     public Song save(Song song) {
-        return songRepository.save(song);
+        Song saved = songRepository.save(song);
+        return saved;
     }
 
     /**
@@ -127,7 +143,8 @@ public class SongService {
             throw new BusinessException(
                 String.format("이미 등록된 곡입니다: %s - %s", song.getArtist(), song.getTitle()));
         }
-        return songRepository.save(song);
+        Song saved = songRepository.save(song);
+        return saved;
     }
 
     /**
@@ -160,7 +177,10 @@ public class SongService {
         gameRoundRepository.clearSongReference(id);
         // 3. GameRoom의 currentSong 참조를 null로 설정
         gameRoomRepository.clearCurrentSongReference(id);
-        // 4. Song 삭제 (SongAnswer는 cascade로 자동 삭제)
+        // 4. 곡 난이도 집계 삭제
+        songStatsRepository.deleteBySongId(id);
+        memberSongStatsRepository.deleteBySongId(id);
+        // 5. Song 삭제 (SongAnswer는 cascade로 자동 삭제)
         songRepository.deleteById(id);
     }
 
@@ -217,75 +237,13 @@ public class SongService {
     }
 
     public List<Song> getRandomSongs(int count, GameSettings settings) {
-        List<Song> allSongs = findSongsForGame();
-
-        // 필터링
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (!matchesSettings(song, settings)) continue;
-            filtered.add(song);
-        }
-
-        // 셔플 후 필요한 만큼 반환
-        Collections.shuffle(filtered);
-        return filtered.subList(0, Math.min(count, filtered.size()));
-    }
-
-    /**
-     * 노래가 설정 조건에 맞는지 확인
-     */
-    private boolean matchesSettings(Song song, GameSettings settings) {
-        // 연도 필터 (복수 선택)
-        if (settings.getSelectedYears() != null && !settings.getSelectedYears().isEmpty()) {
-            if (song.getReleaseYear() == null || !settings.getSelectedYears().contains(song.getReleaseYear())) {
-                return false;
-            }
-        } else {
-            // 레거시: 연도 범위 필터
-            if (settings.getYearFrom() != null && song.getReleaseYear() != null) {
-                if (song.getReleaseYear() < settings.getYearFrom()) return false;
-            }
-            if (settings.getYearTo() != null && song.getReleaseYear() != null) {
-                if (song.getReleaseYear() > settings.getYearTo()) return false;
-            }
-        }
-
-        // 솔로/그룹 필터
-        if (settings.getSoloOnly() != null && settings.getSoloOnly()) {
-            if (song.getIsSolo() == null || !song.getIsSolo()) return false;
-        }
-        if (settings.getGroupOnly() != null && settings.getGroupOnly()) {
-            if (song.getIsSolo() != null && song.getIsSolo()) return false;
-        }
-
-        // 장르 필터
-        if (settings.getFixedGenreId() != null) {
-            if (song.getGenre() == null || !song.getGenre().getId().equals(settings.getFixedGenreId())) return false;
-        }
-
-        // 아티스트 필터 (복수 선택)
-        if (settings.getSelectedArtists() != null && !settings.getSelectedArtists().isEmpty()) {
-            if (song.getArtist() == null || !settings.getSelectedArtists().contains(song.getArtist())) {
-                return false;
-            }
-        } else if (settings.getFixedArtistName() != null && !settings.getFixedArtistName().isEmpty()) {
-            // 레거시: 단일 아티스트 필터
-            if (song.getArtist() == null || !song.getArtist().equals(settings.getFixedArtistName())) return false;
-        }
-
-        return true;
+        SongFilterIndex index = filterIndex();
+        // 필요한 만큼만 무작위 추출 (선택된 곡만 DB에서 로드)
+        return loadSongs(index.sample(index.matching(Partition.GAME, settings), count));
     }
 
     public int getAvailableSongCount(GameSettings settings) {
-        List<Song> allSongs = findSongsForGame();
-
-        int count = 0;
-        for (Song song : allSongs) {
-            if (!matchesSettings(song, settings)) continue;
-            count++;
-        }
-
-        return count;
+        return filterIndex().matching(Partition.GAME, settings).cardinality();
     }
 
     // ========== 레트로 게임용 메서드 ==========
@@ -294,103 +252,37 @@ public class SongService {
      * 레트로 게임용 랜덤 노래 목록 가져오기
      */
     public List<Song> getRandomRetroSongs(int count, GameSettings settings) {
-        List<Song> allSongs = findRetroSongsForGame();
-
-        // 필터링
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (!matchesRetroSettings(song, settings)) continue;
-            filtered.add(song);
-        }
-
-        // 셔플 후 필요한 만큼 반환
-        Collections.shuffle(filtered);
-        return filtered.subList(0, Math.min(count, filtered.size()));
+        SongFilterIndex index = filterIndex();
+        return loadSongs(index.sample(index.matchingSoloGroup(Partition.RETRO, settings), count));
     }
 
     /**
      * 레트로 게임용 노래 수 조회
+     * - 레트로 게임은 연도/장르 조건이 후보군에서 이미 처리되어 솔로/그룹 필터만 적용
      */
     public int getAvailableRetroSongCount(GameSettings settings) {
-        List<Song> allSongs = findRetroSongsForGame();
-
-        int count = 0;
-        for (Song song : allSongs) {
-            if (!matchesRetroSettings(song, settings)) continue;
-            count++;
-        }
-
-        return count;
+        return filterIndex().matchingSoloGroup(Partition.RETRO, settings).cardinality();
     }
 
     /**
      * 레트로 게임용 검증된 랜덤 노래 목록 가져오기
      */
     public ValidatedSongsResult getRandomRetroSongsWithValidation(int count, GameSettings settings) {
-        List<Song> allSongs = findRetroSongsForGame();
+        SongFilterIndex index = filterIndex();
+        Iterable<CatalogSong> candidates = index.shuffled(index.matchingSoloGroup(Partition.RETRO, settings));
 
-        // 필터링
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (!matchesRetroSettings(song, settings)) continue;
-            filtered.add(song);
-        }
-
-        Collections.shuffle(filtered);
-
-        List<Song> validSongs = new ArrayList<>();
-        Set<Long> usedSongIds = new HashSet<>();
-        int replacedCount = 0;
-        int validationFailCount = 0;
-
-        for (Song song : filtered) {
-            if (validSongs.size() >= count) break;
-            if (usedSongIds.contains(song.getId())) continue;
-
-            // YouTube 검증
-            if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
-
-                if (!result.isValid()) {
-                    validationFailCount++;
-                    continue;
-                }
-            }
+        // YouTube 동시 검증 (무효한 곡은 다음 후보로 대체)
+        PlayableSongSelector.Selection selection = playableSongSelector.select(candidates, count);
 
-            validSongs.add(song);
-            usedSongIds.add(song.getId());
-        }
-
-        replacedCount = Math.min(validationFailCount, count);
-        return new ValidatedSongsResult(validSongs, replacedCount);
-    }
-
-    /**
-     * 레트로 노래가 설정 조건에 맞는지 확인
-     */
-    private boolean matchesRetroSettings(Song song, GameSettings settings) {
-        // 레트로 게임은 연도/장르 필터가 이미 쿼리에서 처리됨
-        // 여기서는 솔로/그룹 필터만 적용
-
-        // 솔로/그룹 필터
-        if (settings != null) {
-            if (settings.getSoloOnly() != null && settings.getSoloOnly()) {
-                if (song.getIsSolo() == null || !song.getIsSolo()) return false;
-            }
-            if (settings.getGroupOnly() != null && settings.getGroupOnly()) {
-                if (song.getIsSolo() != null && song.getIsSolo()) return false;
-            }
-        }
-
-        return true;
+        int replacedCount = Math.min(selection.getRejectedCount(), count);
+        return new ValidatedSongsResult(loadSongs(selection.getSongs()), replacedCount);
     }
 
     /**
      * 레트로 게임용 총 곡 수 조회
      */
     public long countRetroSongs() {
-        return songRepository.countRetroSongsForGame("Y");
+        return filterIndex().partition(Partition.RETRO).cardinality();
     }
 
     public long count() {
@@ -403,29 +295,7 @@ public class SongService {
 
     // 아티스트 목록 조회 (곡 수 포함, isSolo 정보 포함) - 게임용 (레트로 제외, 대중곡만)
     public List<Map<String, Object>> getArtistsWithCount() {
-        List<Song> allSongs = findSongsForGame();
-        Map<String, Integer> artistCountMap = new TreeMap<>();
-        Map<String, Boolean> artistSoloMap = new HashMap<>();
-
-        for (Song song : allSongs) {
-            if (song.getArtist() != null) {
-                artistCountMap.merge(song.getArtist(), 1, Integer::sum);
-                // 첫 번째 곡의 isSolo 값 저장
-                if (!artistSoloMap.containsKey(song.getArtist())) {
-                    artistSoloMap.put(song.getArtist(), song.getIsSolo());
-                }
-            }
-        }
-
-        List<Map<String, Object>> artists = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : artistCountMap.entrySet()) {
-            Map<String, Object> artist = new HashMap<>();
-            artist.put("name", entry.getKey());
-            artist.put("count", entry.getValue());
-            artist.put("isSolo", artistSoloMap.get(entry.getKey()));
-            artists.add(artist);
-        }
-        return artists;
+        return songFacetService.getArtists(null, true);
     }
 
     /**
@@ -433,31 +303,18 @@ public class SongService {
      * 장르, 연도, 솔로/그룹 필터에 맞는 곡이 있는 아티스트만 반환
      */
     public List<Map<String, Object>> getArtistsWithCountFiltered(Long genreId, List<Integer> years, Boolean soloOnly, Boolean groupOnly) {
-        List<Song> allSongs = findSongsForGame();
+        GameSettings filter = new GameSettings();
+        filter.setFixedGenreId(genreId);
+        filter.setSelectedYears(years);
+        filter.setSoloOnly(soloOnly);
+        filter.setGroupOnly(groupOnly);
+
+        SongFilterIndex index = filterIndex();
         Map<String, Integer> artistCountMap = new TreeMap<>();
         Map<String, Boolean> artistSoloMap = new HashMap<>();
 
-        for (Song song : allSongs) {
+        for (CatalogSong song : index.songsOf(index.matching(Partition.GAME, filter))) {
             if (song.getArtist() == null) continue;
-
-            // 장르 필터
-            if (genreId != null) {
-                if (song.getGenre() == null || !song.getGenre().getId().equals(genreId)) continue;
-            }
-
-            // 연도 필터 (복수 선택)
-            if (years != null && !years.isEmpty()) {
-                if (song.getReleaseYear() == null || !years.contains(song.getReleaseYear())) continue;
-            }
-
-            // 솔로/그룹 필터
-            if (Boolean.TRUE.equals(soloOnly)) {
-                if (song.getIsSolo() == null || !song.getIsSolo()) continue;
-            }
-            if (Boolean.TRUE.equals(groupOnly)) {
-                if (song.getIsSolo() != null && song.getIsSolo()) continue;
-            }
-
             artistCountMap.merge(song.getArtist(), 1, Integer::sum);
             if (!artistSoloMap.containsKey(song.getArtist())) {
                 artistSoloMap.put(song.getArtist(), song.getIsSolo());
@@ -477,10 +334,10 @@ public class SongService {
 
     // 아티스트 목록 조회 (곡 수 포함) - 아티스트 챌린지용 (레트로 제외, 매니악 곡 포함)
     public List<Map<String, Object>> getArtistsWithCountForFanChallenge() {
-        List<Song> allSongs = findAllSongsForArtistChallenge();
+        List<CatalogSong> allSongs = findAllSongsForArtistChallenge();
         Map<String, Integer> artistCountMap = new TreeMap<>();
 
-        for (Song song : allSongs) {
+        for (CatalogSong song : allSongs) {
             if (song.getArtist() != null) {
                 artistCountMap.merge(song.getArtist(), 1, Integer::sum);
             }
@@ -512,173 +369,17 @@ public class SongService {
 
     // 연도 목록 조회 (곡 수 포함) - 게임용 (레트로 제외)
     public List<Map<String, Object>> getYearsWithCount() {
-        List<Song> allSongs = findSongsForGame();
-        Map<Integer, Integer> yearCountMap = new TreeMap<>(Collections.reverseOrder()); // 최신 연도부터
-
-        for (Song song : allSongs) {
-            if (song.getReleaseYear() != null) {
-                yearCountMap.merge(song.getReleaseYear(), 1, Integer::sum);
-            }
-        }
-
-        List<Map<String, Object>> years = new ArrayList<>();
-        for (Map.Entry<Integer, Integer> entry : yearCountMap.entrySet()) {
-            Map<String, Object> yearInfo = new HashMap<>();
-            yearInfo.put("year", entry.getKey());
-            yearInfo.put("count", entry.getValue());
-            years.add(yearInfo);
-        }
-        return years;
+        return songFacetService.getYears(null);
     }
 
-    // 아티스트 검색 (자동완성용) - 게임용 (레트로 제외)
+    // 아티스트 검색 (자동완성용, 초성 검색 지원) - 게임용 (레트로 제외), 곡 수 많은 순
     public List<String> searchArtists(String keyword) {
-        return songRepository.findArtistsByKeywordExcludingGenre(keyword, GenreService.EXCLUDED_GENRE_CODE);
+        return songCatalogService.getCatalog().getArtistSearchIndex().search(keyword, ARTIST_SEARCH_LIMIT);
     }
 
     public int getAvailableSongCountByGenreExcluding(Long genreId, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        int count = 0;
-        for (Song song : allSongs) {
-            if (song.getGenre() == null || !song.getGenre().getId().equals(genreId)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            count++;
-        }
-
-        return count;
-    }
-
-    public Song getRandomSongByGenreExcluding(Long genreId, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (song.getGenre() == null || !song.getGenre().getId().equals(genreId)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        if (filtered.isEmpty()) {
-            return null;
-        }
-
-        Collections.shuffle(filtered);
-        return filtered.get(0);
-    }
-
-    // ========== 매 라운드 선택 모드용 메서드 ==========
-
-    // 아티스트별 사용 가능한 곡 수 (제외 목록 적용) - 게임용 (레트로 제외)
-    public int getAvailableSongCountByArtistExcluding(String artist, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        int count = 0;
-        for (Song song : allSongs) {
-            if (song.getArtist() == null || !song.getArtist().equals(artist)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            count++;
-        }
-
-        return count;
-    }
-
-    // 아티스트로 랜덤 노래 가져오기 (제외 목록 적용) - 게임용 (레트로 제외)
-    public Song getRandomSongByArtistExcluding(String artist, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (song.getArtist() == null || !song.getArtist().equals(artist)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        if (filtered.isEmpty()) {
-            return null;
-        }
-
-        Collections.shuffle(filtered);
-        return filtered.get(0);
-    }
-
-    // 연도별 사용 가능한 곡 수 (제외 목록 적용) - 게임용 (레트로 제외)
-    public int getAvailableSongCountByYearExcluding(Integer year, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        int count = 0;
-        for (Song song : allSongs) {
-            if (song.getReleaseYear() == null || !song.getReleaseYear().equals(year)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            count++;
-        }
-
-        return count;
-    }
-
-    // 연도로 랜덤 노래 가져오기 (제외 목록 적용) - 게임용 (레트로 제외)
-    public Song getRandomSongByYearExcluding(Integer year, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (song.getReleaseYear() == null || !song.getReleaseYear().equals(year)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        if (filtered.isEmpty()) {
-            return null;
-        }
-
-        Collections.shuffle(filtered);
-        return filtered.get(0);
-    }
-
-    // 아티스트 목록 조회 (곡 수 포함, 제외 목록 적용) - 게임용 (레트로 제외)
-    public List<Map<String, Object>> getArtistsWithCountExcluding(List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-        Map<String, Integer> artistCountMap = new HashMap<>();
-
-        for (Song song : allSongs) {
-            if (song.getArtist() == null) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            artistCountMap.merge(song.getArtist(), 1, Integer::sum);
-        }
-
-        List<Map<String, Object>> artists = new ArrayList<>();
-        artistCountMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(entry -> {
-                    Map<String, Object> artist = new HashMap<>();
-                    artist.put("name", entry.getKey());
-                    artist.put("count", entry.getValue());
-                    artists.add(artist);
-                });
-
-        return artists;
-    }
-
-    // 연도 목록 조회 (곡 수 포함, 제외 목록 적용) - 게임용 (레트로 제외)
-    public List<Map<String, Object>> getYearsWithCountExcluding(List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-        Map<Integer, Integer> yearCountMap = new TreeMap<>(Collections.reverseOrder());
-
-        for (Song song : allSongs) {
-            if (song.getReleaseYear() == null) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            yearCountMap.merge(song.getReleaseYear(), 1, Integer::sum);
-        }
-
-        List<Map<String, Object>> years = new ArrayList<>();
-        for (Map.Entry<Integer, Integer> entry : yearCountMap.entrySet()) {
-            Map<String, Object> yearInfo = new HashMap<>();
-            yearInfo.put("year", entry.getKey());
-            yearInfo.put("count", entry.getValue());
-            years.add(yearInfo);
-        }
-
-        return years;
+        SongFilterIndex index = filterIndex();
+        return index.exclude(index.withGenre(Partition.GAME, genreId), excludeSongIds).cardinality();
     }
 
     // ========== 정답 관련 메서드 ==========
@@ -691,12 +392,17 @@ public class SongService {
     public SongAnswer addAnswer(Long songId, String answer, Boolean isPrimary) {
         Song song = songRepository.findById(songId).orElseThrow();
         SongAnswer songAnswer = new SongAnswer(song, answer, isPrimary);
-        return songAnswerRepository.save(songAnswer);
+        SongAnswer saved = songAnswerRepository.save(songAnswer);
+        songAnswerIndex.evict(songId);
+        return saved;
     }
 
     @Transactional
     public void deleteAnswer(Long answerId) {
-        songAnswerRepository.deleteById(answerId);
+        songAnswerRepository.findById(answerId).ifPresent(answer -> {
+            songAnswerRepository.delete(answer);
+            songAnswerIndex.evict(answer.getSong().getId());
+        });
     }
 
     @Transactional
@@ -712,153 +418,33 @@ public class SongService {
                 isFirst = false;
             }
         }
+        songAnswerIndex.evict(songId);
     }
 
-    public boolean checkAnswer(Long songId, String userAnswer) {
-        if (userAnswer == null || userAnswer.trim().isEmpty()) {
-            return false;
-        }
-
-        String normalizedUserAnswer = normalizeAnswer(userAnswer);
-
-        // 1. song_answer 테이블에서 정답 확인
-        List<SongAnswer> answers = songAnswerRepository.findBySongId(songId);
-        for (SongAnswer answer : answers) {
-            if (normalizeAnswer(answer.getAnswer()).equals(normalizedUserAnswer)) {
-                return true;
-            }
-        }
-
-        // 2. song_answer가 없으면 title로 체크
-        if (answers.isEmpty()) {
-            Song song = songRepository.findById(songId).orElse(null);
-            if (song != null) {
-                return normalizeAnswer(song.getTitle()).equals(normalizedUserAnswer);
-            }
-        }
-
-        return false;
-    }
-
-    private String normalizeAnswer(String answer) {
-        if (answer == null) return "";
-        // 공백 제거, 소문자 변환, 특수문자 제거
-        return answer.toLowerCase()
-                .replaceAll("\\s+", "")
-                .replaceAll("[^a-z0-9가-힣]", "");
-    }
-
-    // ========== 멀티게임용 메서드 ==========
-
     /**
-     * 랜덤 노래 가져오기 (excludeSongIds 제외) - 게임용 (레트로 제외)
+     * 정답 확인 - song_answer에 등록된 정답, 없으면 제목 (정답 인덱스, DB 조회 없음)
      */
-    public Song getRandomSongExcluding(Long genreId, Set<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            // 장르 필터 (genreId가 null이면 전체)
-            if (genreId != null) {
-                if (song.getGenre() == null || !song.getGenre().getId().equals(genreId)) continue;
-            }
-            // 제외 목록 체크
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        if (filtered.isEmpty()) {
-            return null;
-        }
-
-        Collections.shuffle(filtered);
-        return filtered.get(0);
+    public boolean checkAnswer(Long songId, String userAnswer) {
+        return songAnswerIndex.matchesAnswer(songId, userAnswer);
     }
 
     /**
-     * 장르별 사용 가능한 노래 수 (excludeSongIds 제외) - 게임용 (레트로 제외)
+     * 게임 모드별 정답 확인 (오타 허용 설정된 모드는 자모 단위 오타 허용)
      */
-    public int getAvailableCountByGenreExcluding(Long genreId, Set<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        int count = 0;
-        for (Song song : allSongs) {
-            if (song.getGenre() == null || !song.getGenre().getId().equals(genreId)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            count++;
-        }
-
-        return count;
+    public boolean checkAnswer(Long songId, String userAnswer, GameSession.GameType gameType) {
+        boolean fuzzy = gameType != null && songAnswerIndex.isFuzzyEnabled(gameType.name());
+        return songAnswerIndex.matchesAnswer(songId, userAnswer, fuzzy);
     }
 
-    /**
-     * 랜덤 노래 가져오기 (YouTube 검증 포함, excludeSongIds 제외)
-     * 멀티플레이어용 - 게임용 (레트로 제외)
-     */
-    public Song getValidatedRandomSongExcluding(Long genreId, Set<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            // 장르 필터 (genreId가 null이면 전체)
-            if (genreId != null) {
-                if (song.getGenre() == null || !song.getGenre().getId().equals(genreId)) continue;
-            }
-            // 제외 목록 체크
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        Collections.shuffle(filtered);
-
-        // YouTube 검증하면서 유효한 곡 반환
-        for (Song song : filtered) {
-            if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
-
-                if (!result.isValid()) {
-                    continue; // 다음 곡 시도
-                }
-            }
-            return song;
-        }
-
-        return null;
-    }
+    // ========== 멀티게임용 메서드 ==========
 
     /**
-     * GameSettings 기반 랜덤 노래 가져오기 (YouTube 검증 포함, excludeSongIds 제외)
-     * 멀티플레이어용 - 게임용 (레트로 제외)
+     * GameSettings 조건으로 최대 count곡을 무작위 추출 (YouTube 검증 전, 카탈로그 정보만)
+     * 멀티플레이어 덱 구성용 - 게임용 (레트로 제외)
      */
-    public Song getValidatedRandomSongWithSettings(GameSettings settings, Set<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            // GameSettings 기반 필터링
-            if (!matchesSettings(song, settings)) continue;
-            // 제외 목록 체크
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        Collections.shuffle(filtered);
-
-        // YouTube 검증하면서 유효한 곡 반환
-        for (Song song : filtered) {
-            if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
-
-                if (!result.isValid()) {
-                    continue; // 다음 곡 시도
-                }
-            }
-            return song;
-        }
-
-        return null;
+    public List<CatalogSong> drawSongsWithSettings(GameSettings settings, int count, Set<Long> excludeSongIds) {
+        SongFilterIndex index = filterIndex();
+        return index.sample(index.exclude(index.matching(Partition.GAME, settings), excludeSongIds), count);
     }
 
     // ========== YouTube 사전 검증 메서드 ==========
@@ -870,47 +456,17 @@ public class SongService {
      * @return ValidatedSongsResult (노래 목록 + 대체된 곡 수)
      */
     public ValidatedSongsResult getRandomSongsWithValidation(int count, GameSettings settings) {
-        // 여유분 포함해서 후보 가져오기 (대체용으로 2배 요청)
-        List<Song> allSongs = findSongsForGame();
-
-        // 필터링
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (!matchesSettings(song, settings)) continue;
-            filtered.add(song);
-        }
-
-        Collections.shuffle(filtered);
-
-        List<Song> validSongs = new ArrayList<>();
-        Set<Long> usedSongIds = new HashSet<>();
-        int replacedCount = 0;
-        int validationFailCount = 0;
-
-        for (Song song : filtered) {
-            if (validSongs.size() >= count) break;
-            if (usedSongIds.contains(song.getId())) continue;
-
-            // YouTube 검증
-            if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
-
-                if (!result.isValid()) {
-                    validationFailCount++;
-                    continue; // 다음 곡으로 (대체됨)
-                }
-            }
+        SongFilterIndex index = filterIndex();
+        Iterable<CatalogSong> candidates = index.shuffled(index.matching(Partition.GAME, settings));
 
-            validSongs.add(song);
-            usedSongIds.add(song.getId());
-        }
+        // YouTube 동시 검증 (무효한 곡은 다음 후보로 대체)
+        PlayableSongSelector.Selection selection = playableSongSelector.select(candidates, count);
 
         // 검증 실패로 인해 대체된 곡 수 계산
-        // count 요청했는데 실제로 validationFailCount개가 스킵됨
-        replacedCount = Math.min(validationFailCount, count);
+        // count 요청했는데 실제로 rejectedCount개가 스킵됨
+        int replacedCount = Math.min(selection.getRejectedCount(), count);
 
-        return new ValidatedSongsResult(validSongs, replacedCount);
+        return new ValidatedSongsResult(loadSongs(selection.getSongs()), replacedCount);
     }
 
     /**
@@ -918,30 +474,8 @@ public class SongService {
      * 무효시 같은 장르의 다른 곡으로 대체 - 게임용 (레트로 제외)
      */
     public ValidatedSongResult getValidatedSongByGenre(Long genreId, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (song.getGenre() == null || !song.getGenre().getId().equals(genreId)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        Collections.shuffle(filtered);
-
-        for (Song song : filtered) {
-            if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
-
-                if (!result.isValid()) {
-                    continue; // 다음 곡 시도
-                }
-            }
-            return new ValidatedSongResult(song, false);
-        }
-
-        return new ValidatedSongResult(null, false);
+        SongFilterIndex index = filterIndex();
+        return pickValidatedSong(index, index.exclude(index.withGenre(Partition.GAME, genreId), excludeSongIds));
     }
 
     /**
@@ -949,104 +483,110 @@ public class SongService {
      * 무효한 곡은 제외됨 - 매니악 곡 포함 (팬이라면 알아야 함)
      */
     public List<Song> getAllValidatedSongsByArtist(String artist) {
-        List<Song> allSongs = findAllSongsForArtistChallenge();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (song.getArtist() == null || !song.getArtist().equals(artist)) continue;
-            filtered.add(song);
-        }
+        SongFilterIndex index = filterIndex();
+        // 무작위 순서로 YouTube 동시 검증 (유효한 곡만 반환)
+        PlayableSongSelector.Selection selection =
+                playableSongSelector.select(index.shuffled(index.withArtist(Partition.FAN_CHALLENGE, artist)), Integer.MAX_VALUE);
 
-        // YouTube 검증
-        List<Song> validSongs = new ArrayList<>();
-        for (Song song : filtered) {
-            if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
-                if (!result.isValid()) {
-                    continue;
-                }
-            }
-            validSongs.add(song);
-        }
-
-        // 셔플 후 반환
-        Collections.shuffle(validSongs);
-        return validSongs;
+        return loadSongs(selection.getSongs());
     }
 
     /**
      * 아티스트의 전체 곡 수 조회 (팬 챌린지 설정용) - 레트로 장르 제외, 매니악 곡 포함
      */
     public int getSongCountByArtist(String artist) {
-        List<Song> allSongs = findAllSongsForArtistChallenge();
-        int count = 0;
-        for (Song song : allSongs) {
-            if (song.getArtist() != null && song.getArtist().equals(artist)) {
-                count++;
-            }
-        }
-        return count;
+        return filterIndex().withArtist(Partition.FAN_CHALLENGE, artist).cardinality();
     }
 
     /**
      * 단일 곡 YouTube 검증 후 유효한 곡 반환 (아티스트 기준) - 게임용 (레트로 제외)
      */
     public ValidatedSongResult getValidatedSongByArtist(String artist, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (song.getArtist() == null || !song.getArtist().equals(artist)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
-        }
-
-        Collections.shuffle(filtered);
+        SongFilterIndex index = filterIndex();
+        return pickValidatedSong(index, index.exclude(index.withArtist(Partition.GAME, artist), excludeSongIds));
+    }
 
-        for (Song song : filtered) {
-            if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
+    /**
+     * 단일 곡 YouTube 검증 후 유효한 곡 반환 (연도 기준) - 게임용 (레트로 제외)
+     */
+    public ValidatedSongResult getValidatedSongByYear(Integer year, List<Long> excludeSongIds) {
+        SongFilterIndex index = filterIndex();
+        return pickValidatedSong(index, index.exclude(index.withYear(Partition.GAME, year), excludeSongIds));
+    }
 
-                if (!result.isValid()) {
-                    continue;
-                }
+    /**
+     * 후보 중 무작위로 YouTube 검증을 통과한 첫 곡 반환
+     */
+    private ValidatedSongResult pickValidatedSong(SongFilterIndex index, BitSet candidates) {
+        for (CatalogSong song : index.shuffled(candidates)) {
+            if (!isPlayable(song)) {
+                continue; // 다음 곡 시도
             }
-            return new ValidatedSongResult(song, false);
+            return new ValidatedSongResult(loadSong(song), false);
         }
 
         return new ValidatedSongResult(null, false);
     }
 
     /**
-     * 단일 곡 YouTube 검증 후 유효한 곡 반환 (연도 기준) - 게임용 (레트로 제외)
+     * YouTube 재생 가능 여부 확인 (영상 ID가 없으면 MP3 곡으로 간주하여 통과)
+     * - 검증 결과 캐시 사용, 캐시에 없는 영상만 즉시 검증
      */
-    public ValidatedSongResult getValidatedSongByYear(Integer year, List<Long> excludeSongIds) {
-        List<Song> allSongs = findSongsForGame();
-
-        List<Song> filtered = new ArrayList<>();
-        for (Song song : allSongs) {
-            if (song.getReleaseYear() == null || !song.getReleaseYear().equals(year)) continue;
-            if (excludeSongIds != null && excludeSongIds.contains(song.getId())) continue;
-            filtered.add(song);
+    public boolean isPlayable(CatalogSong song) {
+        if (!song.hasYoutubeVideo()) {
+            return true;
         }
+        return youTubeVerdictCache.isPlayable(song.getYoutubeVideoId());
+    }
 
-        Collections.shuffle(filtered);
+    /**
+     * 재생 오류 보고 처리 - 곡의 YouTube 유효성 플래그 해제 및 검증 캐시 반영
+     */
+    @Transactional
+    public void reportPlaybackError(Long songId, Integer errorCode) {
+        songRepository.findById(songId).ifPresent(song -> {
+            LocalDateTime now = LocalDateTime.now();
+            song.setIsYoutubeValid(false);
+            song.setYoutubeCheckedAt(now);
+            song.setYoutubeErrorCode(errorCode);
+            songRepository.save(song);
 
-        for (Song song : filtered) {
             if (song.getYoutubeVideoId() != null && !song.getYoutubeVideoId().isEmpty()) {
-                YouTubeValidationService.ValidationResult result =
-                        youTubeValidationService.validateVideo(song.getYoutubeVideoId());
+                youTubeVerdictCache.recordPlaybackError(song.getYoutubeVideoId(), errorCode, now);
+            }
+        });
+    }
 
-                if (!result.isValid()) {
-                    continue;
-                }
+    /**
+     * 카탈로그에서 선택된 곡만 DB에서 로드 (선택 순서 유지)
+     */
+    private List<Song> loadSongs(List<CatalogSong> picked) {
+        if (picked.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = new ArrayList<>(picked.size());
+        for (CatalogSong song : picked) {
+            ids.add(song.getId());
+        }
+
+        Map<Long, Song> songMap = new HashMap<>();
+        for (Song song : songRepository.findAllById(ids)) {
+            songMap.put(song.getId(), song);
+        }
+
+        List<Song> songs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Song song = songMap.get(id);
+            if (song != null) {
+                songs.add(song);
             }
-            return new ValidatedSongResult(song, false);
         }
+        return songs;
+    }
 
-        return new ValidatedSongResult(null, false);
+    private Song loadSong(CatalogSong picked) {
+        return songRepository.findById(picked.getId()).orElse(null);
     }
 
     /**
@@ -1128,57 +668,38 @@ public class SongService {
 
     /**
      * 장르별 유효한 곡 조회 (YouTube 또는 MP3)
-     * - DB에서 이미 YouTube 검증된 곡만 조회 (isYoutubeValid = true 또는 null)
+     * - 이미 YouTube 검증된 곡만 조회 (isYoutubeValid = true 또는 null)
      * - 실시간 검증 제거로 성능 개선
      */
     public List<Song> getAllValidatedSongsByGenreCode(String genreCode) {
-        List<Song> songs = songRepository.findByGenreCodeAndHasAudioSource(genreCode);
+        SongFilterIndex index = filterIndex();
+        BitSet bits = index.retainYoutubeUsable(index.withGenreCode(Partition.ALL, genreCode));
 
-        // 셔플 후 반환
-        List<Song> shuffledSongs = new ArrayList<>(songs);
-        Collections.shuffle(shuffledSongs);
-        return shuffledSongs;
+        // 무작위 순서로 전체 반환
+        return loadSongs(index.sample(bits, bits.cardinality()));
     }
 
     /**
      * 장르별 곡 수 조회 (장르 챌린지 설정용)
      */
     public int getSongCountByGenreCode(String genreCode) {
-        return songRepository.countByGenreCodeAndHasAudioSource(genreCode);
+        SongFilterIndex index = filterIndex();
+        return index.retainYoutubeUsable(index.withGenreCode(Partition.ALL, genreCode)).cardinality();
     }
 
     /**
      * 장르 목록 조회 (곡 수 포함) - 장르 챌린지용
      */
     public List<Map<String, Object>> getGenresWithSongCount() {
-        List<Object[]> results = songRepository.findGenresWithSongCount();
-        List<Map<String, Object>> genres = new ArrayList<>();
-
-        for (Object[] row : results) {
-            Map<String, Object> genre = new HashMap<>();
-            genre.put("code", row[0]);
-            genre.put("name", row[1]);
-            genre.put("count", ((Number) row[2]).intValue());
-            genres.add(genre);
-        }
-        return genres;
+        return getGenresWithSongCountMinimum(0);
     }
 
     /**
      * 장르 목록 조회 (최소 곡 수 이상) - 장르 챌린지용
+     * 정렬: displayOrder, name
      */
     public List<Map<String, Object>> getGenresWithSongCountMinimum(int minCount) {
-        List<Object[]> results = songRepository.findGenresWithSongCountMinimum(minCount);
-        List<Map<String, Object>> genres = new ArrayList<>();
-
-        for (Object[] row : results) {
-            Map<String, Object> genre = new HashMap<>();
-            genre.put("code", row[0]);
-            genre.put("name", row[1]);
-            genre.put("count", ((Number) row[2]).intValue());
-            genres.add(genre);
-        }
-        return genres;
+        return songFacetService.getGenreChallengeGenres(minCount);
     }
 
     // ========== 아티스트 관리 (병합) ==========
@@ -1203,8 +724,9 @@ public class SongService {
             throw new BusinessException("동일한 아티스트명으로는 변경할 수 없습니다.");
         }
 
-        // 1. Song 테이블 업데이트
+        // 1. Song 테이블 업데이트 (벌크 업데이트는 엔티티 리스너를 거치지 않으므로 카탈로그 직접 무효화)
         int songCount = songRepository.updateArtistName(fromArtist, toArtist);
+        songCatalogService.invalidate();
 
         // 2. FanChallengeRecord 테이블 업데이트
         int fanChallengeCount = fanChallengeRecordRepository.updateArtistName(fromArtist, toArtist);
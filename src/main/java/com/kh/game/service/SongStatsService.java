@@ -0,0 +1,64 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.GameRound;
+import com.kh.game.entity.GameSession;
+import com.kh.game.repository.MemberSongStatsRepository;
+import com.kh.game.repository.SongStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 라운드 종료 → 곡/회원별 난이도 집계(song_stats, member_song_stats) 반영
+ *
+ * - 행 단위 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 증가 (동시 종료에도 유실 없음)
+ * - 호출한 쪽 트랜잭션에 참여 → 라운드 저장이 롤백되면 집계도 롤백
+ * - 비회원(게스트) 라운드는 곡 집계에만 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SongStatsService {
+
+    private final SongStatsRepository songStatsRepository;
+    private final MemberSongStatsRepository memberSongStatsRepository;
+
+    /**
+     * 솔로/호스트/레트로/팬 챌린지/장르 챌린지 라운드 종료
+     */
+    @Transactional
+    public void recordRound(GameSession session, GameRound round) {
+        if (round.getSong() == null) {
+            return;
+        }
+        Long songId = round.getSong().getId();
+        int correct = round.isCorrect() ? 1 : 0;
+
+        songStatsRepository.increment(songId, correct);
+        if (session.getMember() != null) {
+            memberSongStatsRepository.increment(session.getMember().getId(), songId, correct);
+        }
+    }
+
+    /**
+     * 멀티게임 라운드 종료
+     * - 곡 집계는 라운드당 1회 (정답자가 있으면 정답)
+     * - 회원 집계는 참가자마다 1회 (정답자만 정답)
+     *
+     * @param winnerId 정답자 회원 ID (모두 포기했으면 null)
+     */
+    @Transactional
+    public void recordMultiRound(Long songId, Collection<Long> participantIds, Long winnerId) {
+        if (songId == null) {
+            return;
+        }
+        songStatsRepository.increment(songId, winnerId != null ? 1 : 0);
+        for (Long memberId : participantIds) {
+            memberSongStatsRepository.increment(memberId, songId, memberId.equals(winnerId) ? 1 : 0);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.kh.game.service;
 
+import com.kh.game.entity.MemberSongStats;
+import com.kh.game.entity.SongStats;
 import com.kh.game.repository.GameRoundAttemptRepository;
-import com.kh.game.repository.GameRoundRepository;
+import com.kh.game.repository.MemberSongStatsRepository;
+import com.kh.game.repository.SongStatsRepository;
+import com.kh.game.util.HeavyHitters;
 import com.kh.game.util.JunkInputFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,74 +30,64 @@ import java.util.Map;
 public class WrongAnswerStatsService {
 
     private final GameRoundAttemptRepository attemptRepository;
-    private final GameRoundRepository gameRoundRepository;
+    private final SongStatsRepository songStatsRepository;
+    private final MemberSongStatsRepository memberSongStatsRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final WrongAnswerTopK wrongAnswerTopK;
 
-    public List<Map<String, Object>> getMostCommonWrongAnswers(int limit) {
-        List<Object[]> results = attemptRepository.findMostCommonWrongAnswers();
-        List<Map<String, Object>> wrongAnswers = new ArrayList<>();
+    // 정크 플래그 백필 시 한 번에 판정하는 입력값 수
+    private static final int JUNK_BACKFILL_CHUNK_SIZE = 500;
 
-        int count = 0;
-        for (Object[] row : results) {
-            if (count >= limit) break;
+    // 대중성 추천 기준 정답률 (이상: 대중적, 이하: 매니악)
+    private static final double POPULAR_RATE = 0.7;
+    private static final double MANIAC_RATE = 0.3;
 
-            Map<String, Object> item = new HashMap<>();
-            item.put("answer", row[0]);
-            item.put("count", row[1]);
-            wrongAnswers.add(item);
-            count++;
-        }
-
-        return wrongAnswers;
+    /**
+     * 자주 틀리는 답변 상위 limit개 (WrongAnswerTopK 메모리 집계, 횟수는 보장 빈도)
+     */
+    public List<Map<String, Object>> getMostCommonWrongAnswers(int limit) {
+        return toAnswerCounts(wrongAnswerTopK.top(limit));
     }
 
     public List<Map<String, Object>> getWrongAnswersForSong(Long songId, int limit) {
-        List<Object[]> results = attemptRepository.findMostCommonWrongAnswersBySong(songId);
-        List<Map<String, Object>> wrongAnswers = new ArrayList<>();
-
-        int count = 0;
-        for (Object[] row : results) {
-            if (count >= limit) break;
+        return toAnswerCounts(wrongAnswerTopK.topForSong(songId, limit));
+    }
 
+    private List<Map<String, Object>> toAnswerCounts(List<HeavyHitters.Entry<String>> entries) {
+        List<Map<String, Object>> wrongAnswers = new ArrayList<>(entries.size());
+        for (HeavyHitters.Entry<String> entry : entries) {
             Map<String, Object> item = new HashMap<>();
-            item.put("answer", row[0]);
-            item.put("count", row[1]);
+            item.put("answer", entry.key());
+            item.put("count", entry.guaranteed());
             wrongAnswers.add(item);
-            count++;
         }
-
         return wrongAnswers;
     }
 
+    /**
+     * 정답률 낮은 곡 (song_stats, 정답률 인덱스 순)
+     */
     public List<Map<String, Object>> getHardestSongs(int minPlays, int limit) {
-        List<Object[]> results = attemptRepository.findHardestSongs(minPlays);
         List<Map<String, Object>> hardestSongs = new ArrayList<>();
-
-        int count = 0;
-        for (Object[] row : results) {
-            if (count >= limit) break;
-
-            Map<String, Object> item = new HashMap<>();
-            item.put("songId", row[0]);
-            item.put("title", row[1]);
-            item.put("artist", row[2]);
-
-            long correct = ((Number) row[3]).longValue();
-            long total = ((Number) row[4]).longValue();
-            double correctRate = total > 0 ? (correct * 100.0 / total) : 0;
-            double wrongRate = 100 - correctRate;
-
-            item.put("correctCount", correct);
-            item.put("totalPlays", total);
-            item.put("correctRate", Math.round(correctRate * 10) / 10.0);
-            item.put("wrongRate", Math.round(wrongRate * 10) / 10.0);
-
+        for (SongStats stats : songStatsRepository.findHardest(minPlays, PageRequest.of(0, limit))) {
+            Map<String, Object> item = toSongRateItem(stats);
+            item.put("wrongRate", Math.round((1 - stats.getCorrectRate()) * 1000) / 10.0);
             hardestSongs.add(item);
-            count++;
         }
-
         return hardestSongs;
     }
 
+    private Map<String, Object> toSongRateItem(SongStats stats) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("songId", stats.getSongId());
+        item.put("title", stats.getSong().getTitle());
+        item.put("artist", stats.getSong().getArtist());
+        item.put("correctCount", stats.getCorrectCount());
+        item.put("totalPlays", stats.getPlayCount());
+        item.put("correctRate", Math.round(stats.getCorrectRate() * 1000) / 10.0);
+        return item;
+    }
+
     public List<Map<String, Object>> getRecentWrongAnswers(int limit) {
         List<Object[]> results = attemptRepository.findRecentWrongAnswers();
         List<Map<String, Object>> recentWrong = new ArrayList<>();
@@ -130,131 +130,65 @@ public class WrongAnswerStatsService {
         return wrongAnswers;
     }
 
+    /**
+     * 오답 요약 (누적 오답 수, 고유 오답 종류 추정치) - 시도 테이블 조회 없음
+     */
     public Map<String, Object> getStatsSummary() {
         Map<String, Object> summary = new HashMap<>();
-
-        List<Object[]> allWrong = attemptRepository.findMostCommonWrongAnswers();
-        long totalWrongCount = allWrong.stream()
-                .mapToLong(row -> ((Number) row[1]).longValue())
-                .sum();
-
-        int uniqueWrongAnswers = allWrong.size();
-
-        summary.put("totalWrongCount", totalWrongCount);
-        summary.put("uniqueWrongAnswers", uniqueWrongAnswers);
-
+        summary.put("totalWrongCount", wrongAnswerTopK.totalCount());
+        summary.put("uniqueWrongAnswers", wrongAnswerTopK.estimatedDistinct());
         return summary;
     }
 
+    /**
+     * 회원의 곡별 통계 (member_song_stats, 플레이 많은 순)
+     */
     public List<Map<String, Object>> getMemberSongStats(Long memberId, int limit) {
-        List<Object[]> results = gameRoundRepository.findMemberSongStatistics(memberId);
-        List<Map<String, Object>> stats = new ArrayList<>();
-
-        int count = 0;
-        for (Object[] row : results) {
-            if (count >= limit) break;
-
-            Map<String, Object> item = new HashMap<>();
-            item.put("songId", row[0]);
-            item.put("title", row[1]);
-            item.put("artist", row[2]);
-
-            long correctCount = ((Number) row[3]).longValue();
-            long totalCount = ((Number) row[4]).longValue();
-            double correctRate = totalCount > 0 ? (correctCount * 100.0 / totalCount) : 0;
-
-            item.put("correctCount", correctCount);
-            item.put("totalCount", totalCount);
-            item.put("correctRate", Math.round(correctRate * 10) / 10.0);
-
-            stats.add(item);
-            count++;
-        }
-
-        return stats;
+        return toMemberSongItems(memberSongStatsRepository.findMostPlayed(memberId, PageRequest.of(0, limit)));
     }
 
     public List<Map<String, Object>> getMemberMostCorrectSongs(Long memberId, int limit) {
-        List<Object[]> results = gameRoundRepository.findMemberMostCorrectSongs(memberId);
-        List<Map<String, Object>> stats = new ArrayList<>();
-
-        int count = 0;
-        for (Object[] row : results) {
-            if (count >= limit) break;
-
-            Map<String, Object> item = new HashMap<>();
-            item.put("songId", row[0]);
-            item.put("title", row[1]);
-            item.put("artist", row[2]);
-
-            long correctCount = ((Number) row[3]).longValue();
-            long totalCount = ((Number) row[4]).longValue();
-            double correctRate = totalCount > 0 ? (correctCount * 100.0 / totalCount) : 0;
-
-            item.put("correctCount", correctCount);
-            item.put("totalCount", totalCount);
-            item.put("correctRate", Math.round(correctRate * 10) / 10.0);
-
-            stats.add(item);
-            count++;
-        }
-
-        return stats;
+        return toMemberSongItems(memberSongStatsRepository.findMostCorrect(memberId, PageRequest.of(0, limit)));
     }
 
+    /**
+     * 회원이 많이 틀린 곡 (2회 이상 플레이한 곡 중 정답률 낮은 순)
+     */
     public List<Map<String, Object>> getMemberHardestSongs(Long memberId, int limit) {
-        List<Object[]> results = gameRoundRepository.findMemberHardestSongs(memberId);
-        List<Map<String, Object>> stats = new ArrayList<>();
-
-        int count = 0;
-        for (Object[] row : results) {
-            if (count >= limit) break;
+        return toMemberSongItems(memberSongStatsRepository.findHardest(memberId, 2, PageRequest.of(0, limit)));
+    }
 
+    private List<Map<String, Object>> toMemberSongItems(List<MemberSongStats> rows) {
+        List<Map<String, Object>> stats = new ArrayList<>(rows.size());
+        for (MemberSongStats row : rows) {
             Map<String, Object> item = new HashMap<>();
-            item.put("songId", row[0]);
-            item.put("title", row[1]);
-            item.put("artist", row[2]);
-
-            long correctCount = ((Number) row[3]).longValue();
-            long totalCount = ((Number) row[4]).longValue();
-            double correctRate = totalCount > 0 ? (correctCount * 100.0 / totalCount) : 0;
-
-            item.put("correctCount", correctCount);
-            item.put("totalCount", totalCount);
-            item.put("correctRate", Math.round(correctRate * 10) / 10.0);
-
+            item.put("songId", row.getSongId());
+            item.put("title", row.getSong().getTitle());
+            item.put("artist", row.getSong().getArtist());
+            item.put("correctCount", row.getCorrectCount());
+            item.put("totalCount", row.getPlayCount());
+            item.put("correctRate", Math.round(row.getCorrectRate() * 1000) / 10.0);
             stats.add(item);
-            count++;
         }
-
         return stats;
     }
 
     /**
      * 정크 데이터를 제외한 오답+곡 쌍 (필터링 적용)
+     * 정크 여부는 저장 시 판정된 is_junk 플래그로 SQL에서 제외
      */
     public List<Map<String, Object>> getMostCommonWrongAnswersWithSongFiltered(int limit) {
-        List<Object[]> results = attemptRepository.findMostCommonWrongAnswersWithSong();
+        List<Object[]> results = attemptRepository.findMostCommonValidWrongAnswersWithSong(PageRequest.of(0, limit));
         List<Map<String, Object>> wrongAnswers = new ArrayList<>();
 
-        int count = 0;
         for (Object[] row : results) {
-            if (count >= limit) break;
-
-            String answer = (String) row[0];
-            // 정크 데이터 제외
-            if (JunkInputFilter.isJunkInput(answer)) {
-                continue;
-            }
-
             Map<String, Object> item = new HashMap<>();
-            item.put("answer", answer);
+            item.put("answer", row[0]);
             item.put("songId", row[1]);
             item.put("songTitle", row[2]);
             item.put("artist", row[3]);
             item.put("count", row[4]);
             wrongAnswers.add(item);
-            count++;
         }
 
         return wrongAnswers;
@@ -270,31 +204,15 @@ public class WrongAnswerStatsService {
      * - 정답률 30% 이하: 매니악 추천
      */
     public List<Map<String, Object>> getSongPopularityStats(int minPlays, int limit) {
-        List<Object[]> results = attemptRepository.findHardestSongs(minPlays);
         List<Map<String, Object>> stats = new ArrayList<>();
-
-        int count = 0;
-        for (Object[] row : results) {
-            if (count >= limit) break;
-
-            Map<String, Object> item = new HashMap<>();
-            item.put("songId", row[0]);
-            item.put("title", row[1]);
-            item.put("artist", row[2]);
-
-            long correct = ((Number) row[3]).longValue();
-            long total = ((Number) row[4]).longValue();
-            double correctRate = total > 0 ? (correct * 100.0 / total) : 0;
-
-            item.put("correctCount", correct);
-            item.put("totalPlays", total);
-            item.put("correctRate", Math.round(correctRate * 10) / 10.0);
+        for (SongStats row : songStatsRepository.findHardest(minPlays, PageRequest.of(0, limit))) {
+            Map<String, Object> item = toSongRateItem(row);
 
             // 대중성 추천값 계산
             String popularityRecommend;
-            if (correctRate >= 70) {
+            if (row.getCorrectRate() >= POPULAR_RATE) {
                 popularityRecommend = "POPULAR";  // 대중적
-            } else if (correctRate <= 30) {
+            } else if (row.getCorrectRate() <= MANIAC_RATE) {
                 popularityRecommend = "MANIAC";   // 매니악
             } else {
                 popularityRecommend = "NEUTRAL";  // 중립
@@ -302,54 +220,24 @@ public class WrongAnswerStatsService {
             item.put("popularityRecommend", popularityRecommend);
 
             stats.add(item);
-            count++;
         }
-
         return stats;
     }
 
     /**
      * 대중성 추천이 현재 설정과 다른 곡 목록
-     * (관리자가 검토해야 할 곡들)
+     * (관리자가 검토해야 할 곡들 - 어긋나는 곡만 SQL에서 조회)
      */
     public List<Map<String, Object>> getSongPopularityMismatch(int minPlays) {
-        List<Object[]> results = gameRoundRepository.findSongPopularityMismatch(minPlays);
         List<Map<String, Object>> mismatches = new ArrayList<>();
-
-        for (Object[] row : results) {
-            Map<String, Object> item = new HashMap<>();
-            item.put("songId", row[0]);
-            item.put("title", row[1]);
-            item.put("artist", row[2]);
+        for (SongStats row : songStatsRepository.findPopularityMismatch(minPlays, POPULAR_RATE, MANIAC_RATE)) {
+            Map<String, Object> item = toSongRateItem(row);
             // isPopular가 null이면 기본값 true (대중적)로 처리
-            boolean currentIsPopular = !Boolean.FALSE.equals(row[3]);
+            boolean currentIsPopular = !Boolean.FALSE.equals(row.getSong().getIsPopular());
             item.put("currentIsPopular", currentIsPopular);
-
-            long correct = ((Number) row[4]).longValue();
-            long total = ((Number) row[5]).longValue();
-            double correctRate = total > 0 ? (correct * 100.0 / total) : 0;
-
-            item.put("correctCount", correct);
-            item.put("totalPlays", total);
-            item.put("correctRate", Math.round(correctRate * 10) / 10.0);
-
-            // 추천값
-            String recommend;
-            if (correctRate >= 70 && !currentIsPopular) {
-                recommend = "CHANGE_TO_POPULAR";
-            } else if (correctRate <= 30 && currentIsPopular) {
-                recommend = "CHANGE_TO_MANIAC";
-            } else {
-                recommend = "KEEP";
-            }
-            item.put("recommend", recommend);
-
-            // KEEP이 아닌 것만 추가
-            if (!"KEEP".equals(recommend)) {
-                mismatches.add(item);
-            }
+            item.put("recommend", currentIsPopular ? "CHANGE_TO_MANIAC" : "CHANGE_TO_POPULAR");
+            mismatches.add(item);
         }
-
         return mismatches;
     }
 
@@ -357,20 +245,16 @@ public class WrongAnswerStatsService {
      * 정크 데이터 통계 요약
      */
     public Map<String, Object> getJunkDataSummary() {
-        List<Object[]> allWrong = attemptRepository.findMostCommonWrongAnswers();
         Map<String, Object> summary = new HashMap<>();
 
         long totalCount = 0;
         long junkCount = 0;
 
-        for (Object[] row : allWrong) {
-            String answer = (String) row[0];
-            long count = ((Number) row[1]).longValue();
-            totalCount += count;
-
-            if (JunkInputFilter.isJunkInput(answer)) {
-                junkCount += count;
-            }
+        List<Object[]> rows = attemptRepository.countJunkWrongAnswers();
+        if (!rows.isEmpty()) {
+            Object[] row = rows.get(0);
+            junkCount = row[0] != null ? ((Number) row[0]).longValue() : 0;
+            totalCount = row[1] != null ? ((Number) row[1]).longValue() : 0;
         }
 
         summary.put("totalWrongCount", totalCount);
@@ -380,4 +264,49 @@ public class WrongAnswerStatsService {
 
         return summary;
     }
+
+    /**
+     * 정크 플래그가 없는 기존 시도 기록 판정 (is_junk 컬럼 추가 전 데이터)
+     * 같은 입력값은 한 번만 판정해 일괄 업데이트
+     *
+     * @return 판정한 시도 기록 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfillJunkFlags() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+
+        try {
+            while (true) {
+                List<String> answers = attemptRepository.findUserAnswersWithoutJunkFlag(
+                        PageRequest.of(0, JUNK_BACKFILL_CHUNK_SIZE));
+                if (answers.isEmpty()) {
+                    break;
+                }
+
+                List<String> junk = new ArrayList<>();
+                List<String> valid = new ArrayList<>();
+                for (String answer : answers) {
+                    (JunkInputFilter.isJunkInput(answer) ? junk : valid).add(answer);
+                }
+
+                Integer updated = transactionTemplate.execute(status ->
+                        (junk.isEmpty() ? 0 : attemptRepository.updateJunkFlag(junk, true))
+                                + (valid.isEmpty() ? 0 : attemptRepository.updateJunkFlag(valid, false)));
+                if (updated == null || updated == 0) {
+                    break;
+                }
+                total += updated;
+            }
+        } catch (Exception e) {
+            log.warn("정크 플래그 백필 실패 ({}건 처리 후 중단): {}", total, e.getMessage());
+            return total;
+        }
+
+        if (total > 0) {
+            log.info("정크 플래그 백필 완료: {}건", total);
+        }
+        return total;
+    }
 }
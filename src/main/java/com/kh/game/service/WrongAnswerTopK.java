@@ -0,0 +1,268 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.GameRoundAttemptListener;
+import com.kh.game.entity.StatsSketch;
+import com.kh.game.repository.GameRoundAttemptRepository;
+import com.kh.game.repository.StatsSketchRepository;
+import com.kh.game.util.HeavyHitters;
+import com.kh.game.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자주 틀리는 답변 실시간 집계 (전체 / 곡별)
+ *
+ * - 오답 시도가 커밋될 때마다 GameRoundAttemptListener가 전달 → HeavyHitters(Space-Saving)에 반영
+ * - 조회는 메모리에서 상위 K개만 (시도 테이블 GROUP BY 없음)
+ * - 고유 오답 수는 HyperLogLog 추정치
+ * - 변경된 집계만 주기적으로 stats_sketch에 저장, 시작 시 복원
+ *   → 재시작 후에도 유지되고 GameRoundAttemptCleanupBatch(30일) 정리와 무관하게 누적
+ * - 저장본이 없으면(최초 배포) 남아 있는 시도 기록으로 한 번 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WrongAnswerTopK {
+
+    private static final String GLOBAL_KEY = "wrong-answer:global";
+    private static final String SONG_KEY_PREFIX = "wrong-answer:song:";
+    private static final int FORMAT_VERSION = 1;
+    private static final int HLL_PRECISION = 12;
+
+    private final StatsSketchRepository sketchRepository;
+    private final GameRoundAttemptRepository attemptRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 전체 집계 카운터 수 (상위 K의 정확도는 capacity가 K보다 충분히 클수록 높음)
+    @Value("${stats.wrong-answer.global-capacity:2000}")
+    private int globalCapacity = 2000;
+
+    @Value("${stats.wrong-answer.song-capacity:50}")
+    private int songCapacity = 50;
+
+    private volatile HeavyHitters<String> global;
+    private volatile HyperLogLog distinct;
+    private final ConcurrentHashMap<Long, HeavyHitters<String>> bySong = new ConcurrentHashMap<>();
+
+    // 저장 대기 (마지막 저장 이후 바뀐 집계)
+    private final AtomicBoolean globalDirty = new AtomicBoolean();
+    private final Set<Long> dirtySongs = ConcurrentHashMap.newKeySet();
+
+    // 복원에 실패하면 저장하지 않음 (빈 집계로 저장본을 덮어쓰지 않도록)
+    private volatile boolean loaded;
+
+    /**
+     * 저장본 복원(없으면 시도 기록으로 채움) 후 오답 수신 시작
+     * - 복원 전에 들어온 오답이 시도 기록 집계와 중복되지 않도록 수신은 마지막에 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        global = new HeavyHitters<>(globalCapacity);
+        distinct = new HyperLogLog(HLL_PRECISION);
+        try {
+            Optional<StatsSketch> saved = sketchRepository.findById(GLOBAL_KEY);
+            if (saved.isPresent()) {
+                restoreGlobal(saved.get().getPayload());
+                for (StatsSketch sketch : sketchRepository.findBySketchKeyStartingWith(SONG_KEY_PREFIX)) {
+                    Long songId = Long.valueOf(sketch.getSketchKey().substring(SONG_KEY_PREFIX.length()));
+                    HeavyHitters<String> songSketch = new HeavyHitters<>(songCapacity);
+                    readEntries(new DataInputStream(new ByteArrayInputStream(decode(sketch.getPayload()))), songSketch);
+                    bySong.put(songId, songSketch);
+                }
+                loaded = true;
+                log.info("오답 집계 복원 완료: 전체 {}건, 곡 {}개", global.total(), bySong.size());
+            } else {
+                seedFromAttempts();
+                loaded = true;
+                persist();
+                log.info("오답 집계 초기화 완료 (시도 기록 기준): 전체 {}건, 곡 {}개", global.total(), bySong.size());
+            }
+        } catch (Exception e) {
+            log.warn("오답 집계 복원 실패 (메모리에서만 새로 집계, 저장 안 함): {}", e.getMessage());
+        }
+        GameRoundAttemptListener.register(this::record);
+    }
+
+    /**
+     * 커밋된 오답 반영
+     */
+    public void record(Long songId, String answer) {
+        HeavyHitters<String> current = global;
+        if (current == null || answer == null) {
+            return;
+        }
+        current.offer(answer);
+        distinct.offer(answer);
+        globalDirty.set(true);
+
+        if (songId != null) {
+            bySong.computeIfAbsent(songId, k -> new HeavyHitters<>(songCapacity)).offer(answer);
+            dirtySongs.add(songId);
+        }
+    }
+
+    /**
+     * 전체 상위 k개 오답 (보장 빈도 순)
+     */
+    public List<HeavyHitters.Entry<String>> top(int k) {
+        HeavyHitters<String> current = global;
+        return current != null ? current.top(k) : List.of();
+    }
+
+    /**
+     * 곡별 상위 k개 오답
+     */
+    public List<HeavyHitters.Entry<String>> topForSong(Long songId, int k) {
+        HeavyHitters<String> songSketch = bySong.get(songId);
+        return songSketch != null ? songSketch.top(k) : List.of();
+    }
+
+    /**
+     * 누적 오답 수 (정확한 값)
+     */
+    public long totalCount() {
+        HeavyHitters<String> current = global;
+        return current != null ? current.total() : 0;
+    }
+
+    /**
+     * 고유 오답 수 (추정치)
+     */
+    public long estimatedDistinct() {
+        HyperLogLog current = distinct;
+        return current != null ? current.estimate() : 0;
+    }
+
+    /**
+     * 바뀐 집계만 저장
+     */
+    @Scheduled(fixedDelayString = "${stats.wrong-answer.persist-interval-ms:60000}")
+    public void persist() {
+        if (!loaded) {
+            return;
+        }
+        boolean saveGlobal = globalDirty.getAndSet(false);
+        List<Long> songIds = new ArrayList<>(dirtySongs);
+        if (!saveGlobal && songIds.isEmpty()) {
+            return;
+        }
+        songIds.forEach(dirtySongs::remove);
+
+        try {
+            List<StatsSketch> sketches = new ArrayList<>(songIds.size() + 1);
+            if (saveGlobal) {
+                sketches.add(new StatsSketch(GLOBAL_KEY, encodeGlobal()));
+            }
+            for (Long songId : songIds) {
+                sketches.add(new StatsSketch(SONG_KEY_PREFIX + songId, encodeEntries(bySong.get(songId))));
+            }
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> sketchRepository.saveAll(sketches));
+            log.debug("오답 집계 저장: 전체 {}, 곡 {}개", saveGlobal, songIds.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 저장
+            if (saveGlobal) {
+                globalDirty.set(true);
+            }
+            dirtySongs.addAll(songIds);
+            log.warn("오답 집계 저장 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    /**
+     * 저장본이 없을 때 남아 있는 시도 기록으로 채움 (빈도 높은 순으로 반영)
+     */
+    private void seedFromAttempts() {
+        for (Object[] row : attemptRepository.findMostCommonWrongAnswers()) {
+            String answer = (String) row[0];
+            global.offer(answer, ((Number) row[1]).longValue(), 0);
+            distinct.offer(answer);
+        }
+        for (Object[] row : attemptRepository.findMostCommonWrongAnswersWithSong()) {
+            Long songId = (Long) row[1];
+            bySong.computeIfAbsent(songId, k -> new HeavyHitters<>(songCapacity))
+                    .offer((String) row[0], ((Number) row[4]).longValue(), 0);
+            dirtySongs.add(songId);
+        }
+        globalDirty.set(true);
+    }
+
+    private void restoreGlobal(String payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(decode(payload)));
+        readEntries(in, global);
+        byte[] registers = new byte[in.readInt()];
+        in.readFully(registers);
+        distinct.merge(HyperLogLog.fromRegisters(registers));
+    }
+
+    private String encodeGlobal() {
+        return encode(out -> {
+            writeEntries(out, global);
+            byte[] registers = distinct.toRegisters();
+            out.writeInt(registers.length);
+            out.write(registers);
+        });
+    }
+
+    private String encodeEntries(HeavyHitters<String> sketch) {
+        return encode(out -> writeEntries(out, sketch));
+    }
+
+    private static void writeEntries(DataOutputStream out, HeavyHitters<String> sketch) throws IOException {
+        List<HeavyHitters.Entry<String>> entries = sketch.top(Integer.MAX_VALUE);
+        out.writeInt(entries.size());
+        for (HeavyHitters.Entry<String> entry : entries) {
+            out.writeUTF(entry.key());
+            out.writeLong(entry.count());
+            out.writeLong(entry.error());
+        }
+    }
+
+    private static void readEntries(DataInputStream in, HeavyHitters<String> sketch) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 오답 집계 형식: " + version);
+        }
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            sketch.offer(in.readUTF(), in.readLong(), in.readLong());
+        }
+    }
+
+    private static String encode(SketchWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private static byte[] decode(String payload) {
+        return Base64.getDecoder().decode(payload);
+    }
+
+    @FunctionalInterface
+    private interface SketchWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,182 @@
+package com.kh.game.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * YouTube 외부 호출 서킷 브레이커
+ *
+ * - 최근 windowSize회 호출의 실패(네트워크 오류/타임아웃/5xx/429)와 지연(slowCall 초과)을 집계
+ * - 최소 호출 수 이상에서 실패율이 임계값을 넘으면 OPEN: 호출하지 않고 바로 "확인 불가" 처리
+ * - openDuration 후 HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - 403/404 등 YouTube가 정상 응답한 경우는 실패로 보지 않음
+ */
+@Slf4j
+public class YouTubeCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int DEFAULT_WINDOW_SIZE = 20;
+    private static final int DEFAULT_MIN_CALLS = 10;
+    private static final double DEFAULT_FAILURE_RATE = 0.5;
+    private static final Duration DEFAULT_SLOW_CALL = Duration.ofSeconds(3);
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    // 슬라이딩 윈도우 (true = 실패)
+    private final boolean[] window;
+    private int windowCount;
+    private int windowIndex;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    // 누적 지표
+    private long tripCount;
+    private long rejectedCount;
+    private long successCount;
+    private long failureCount;
+    private long slowCount;
+
+    public YouTubeCircuitBreaker() {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_MIN_CALLS, DEFAULT_FAILURE_RATE, DEFAULT_SLOW_CALL, DEFAULT_OPEN_DURATION);
+    }
+
+    public YouTubeCircuitBreaker(int windowSize, int minCalls, double failureRateThreshold,
+                                 Duration slowCall, Duration openDuration) {
+        this.window = new boolean[windowSize];
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCall.toNanos();
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN이면 false, 대기 시간이 지났으면 시험 호출 1건 허용)
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt >= openNanos) {
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    log.info("YouTube 서킷 브레이커 HALF_OPEN - 시험 호출");
+                    return true;
+                }
+                rejectedCount++;
+                return false;
+            default:
+                if (probeInFlight) {
+                    rejectedCount++;
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * 호출 결과 기록
+     *
+     * @param startNanos tryAcquire 직후 System.nanoTime()
+     * @param failed     네트워크 오류/타임아웃/서버 오류 여부
+     */
+    public synchronized void record(long startNanos, boolean failed) {
+        boolean slow = !failed && System.nanoTime() - startNanos > slowCallNanos;
+        if (failed) {
+            failureCount++;
+        } else {
+            successCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        boolean bad = failed || slow;
+
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            if (bad) {
+                open();
+            } else {
+                state = State.CLOSED;
+                resetWindow();
+                log.info("YouTube 서킷 브레이커 CLOSED - 외부 호출 정상화");
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // OPEN 전에 시작된 호출의 늦은 결과
+            return;
+        }
+
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = bad;
+        if (bad) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount >= minCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    public synchronized long getTripCount() {
+        return tripCount;
+    }
+
+    /**
+     * 관리자 모니터링용 지표
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("tripCount", tripCount);
+        stats.put("rejectedCount", rejectedCount);
+        stats.put("successCount", successCount);
+        stats.put("failureCount", failureCount);
+        stats.put("slowCount", slowCount);
+        stats.put("windowCalls", windowCount);
+        stats.put("windowFailures", windowFailures);
+        return stats;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        tripCount++;
+        log.warn("YouTube 서킷 브레이커 OPEN - 최근 실패 {}/{}건 (누적 {}회)", windowFailures, windowCount, tripCount);
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowCount = 0;
+        windowIndex = 0;
+        windowFailures = 0;
+    }
+}
@@ -8,6 +8,8 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * YouTube 영상 유효성 검증 서비스
@@ -17,6 +19,9 @@ import java.time.Duration;
  * 2. 썸네일 체크: 삭제된 영상 placeholder 감지
  *
  * 둘 다 실패해야 비활성화
+ *
+ * 외부 호출은 서킷 브레이커를 거침 - 장애 시 호출 없이 "확인 불가"(유효로 간주) 반환
+ * 네트워크 오류/타임아웃, 5xx, 429도 "확인 불가" - 무효는 YouTube의 확정 응답(404/401/403, placeholder 썸네일)으로만 판정
  */
 @Slf4j
 @Service
@@ -31,16 +36,42 @@ public class YouTubeValidationService {
     private static final Duration TIMEOUT = Duration.ofSeconds(10);
 
     private final HttpClient httpClient;
+    private final String oEmbedUrl;
+    private final String thumbnailUrl;
+    private final Duration timeout;
+    private final YouTubeCircuitBreaker circuitBreaker;
 
     public YouTubeValidationService() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(TIMEOUT)
-                .build();
+        this(HttpClient.newBuilder().connectTimeout(TIMEOUT).build());
     }
 
     // 테스트용 생성자
     public YouTubeValidationService(HttpClient httpClient) {
+        this(httpClient, OEMBED_URL, THUMBNAIL_URL, TIMEOUT, new YouTubeCircuitBreaker());
+    }
+
+    // 테스트용 생성자 (스텁 서버 주소, 타임아웃, 브레이커 설정)
+    YouTubeValidationService(HttpClient httpClient, String oEmbedUrl, String thumbnailUrl,
+                             Duration timeout, YouTubeCircuitBreaker circuitBreaker) {
         this.httpClient = httpClient;
+        this.oEmbedUrl = oEmbedUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.timeout = timeout;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * 서킷 브레이커가 열려 있는지 (외부 호출 장애 중)
+     */
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    /**
+     * 서킷 브레이커 상태/누적 지표
+     */
+    public Map<String, Object> getCircuitStats() {
+        return circuitBreaker.getStats();
     }
 
     /**
@@ -57,24 +88,50 @@ public class YouTubeValidationService {
         // 1단계: oEmbed API 체크
         OEmbedResult oEmbedResult = checkOEmbed(videoId);
 
-        // oEmbed 성공 시 바로 유효 판정
+        // oEmbed 성공, 임베드 불가 (401/403), 브레이커 OPEN이면 바로 판정
+        if (oEmbedResult.isDecisive()) {
+            return toValidationResult(oEmbedResult, null);
+        }
+
+        // 2단계: oEmbed 실패 시 썸네일 체크로 재확인
+        return toValidationResult(oEmbedResult, checkThumbnail(videoId));
+    }
+
+    /**
+     * YouTube 영상 유효성 검증 (비동기, HttpClient.sendAsync)
+     * - 여러 곡을 동시에 검증할 때 사용, 판정 로직은 validateVideo와 동일
+     */
+    public CompletableFuture<ValidationResult> validateVideoAsync(String videoId) {
+        if (videoId == null || videoId.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ValidationResult.invalid("videoId가 비어있음", "videoId가 비어있음"));
+        }
+
+        return checkOEmbedAsync(videoId).thenCompose(oEmbedResult -> {
+            if (oEmbedResult.isDecisive()) {
+                return CompletableFuture.completedFuture(toValidationResult(oEmbedResult, null));
+            }
+            return checkThumbnailAsync(videoId)
+                    .thenApply(thumbnailResult -> toValidationResult(oEmbedResult, thumbnailResult));
+        });
+    }
+
+    /**
+     * oEmbed/썸네일 결과 조합 - 둘 다 확정적으로 실패해야 무효, 어느 쪽이든 확인 불가면 판정 보류
+     */
+    private ValidationResult toValidationResult(OEmbedResult oEmbedResult, ThumbnailResult thumbnailResult) {
         if (oEmbedResult.isSuccess()) {
             return ValidationResult.valid();
         }
-
-        // 임베드 불가 (401/403)인 경우 바로 실패
         if (oEmbedResult.isEmbedDisabled()) {
             return ValidationResult.embedDisabled();
         }
-
-        // 2단계: oEmbed 실패 시 썸네일 체크로 재확인
-        ThumbnailResult thumbnailResult = checkThumbnail(videoId);
-
-        if (thumbnailResult.isValid()) {
-            // 썸네일은 유효 → 영상 존재
+        if (thumbnailResult != null && thumbnailResult.isValid()) {
+            // 썸네일은 유효 → 영상 존재 (oEmbed가 오류여도)
             return ValidationResult.valid();
         }
-
+        if (oEmbedResult.isUnavailable() || thumbnailResult == null || thumbnailResult.isUnavailable()) {
+            return ValidationResult.unavailable();
+        }
         // 둘 다 실패 → 삭제된 영상
         return ValidationResult.invalid(oEmbedResult.getError(), thumbnailResult.getError());
     }
@@ -83,27 +140,57 @@ public class YouTubeValidationService {
      * oEmbed API 체크
      */
     private OEmbedResult checkOEmbed(String videoId) {
+        if (!circuitBreaker.tryAcquire()) {
+            return OEmbedResult.unavailable();
+        }
+        long start = System.nanoTime();
         try {
-            String url = String.format(OEMBED_URL, videoId);
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(TIMEOUT)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            int statusCode = response.statusCode();
-
-            if (statusCode == 200) {
-                return OEmbedResult.success();
-            } else if (statusCode == 401 || statusCode == 403) {
-                return OEmbedResult.embedDisabled();
-            } else {
-                return OEmbedResult.failed("HTTP " + statusCode);
-            }
+            HttpResponse<String> response = httpClient.send(oEmbedRequest(videoId), HttpResponse.BodyHandlers.ofString());
+            circuitBreaker.record(start, isOutage(response.statusCode()));
+            return toOEmbedResult(response);
         } catch (Exception e) {
+            circuitBreaker.record(start, true);
             log.debug("oEmbed 체크 실패 [{}]: {}", videoId, e.getMessage());
-            return OEmbedResult.failed("네트워크 오류: " + e.getMessage());
+            return OEmbedResult.unavailable("네트워크 오류: " + e.getMessage());
+        }
+    }
+
+    private CompletableFuture<OEmbedResult> checkOEmbedAsync(String videoId) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.completedFuture(OEmbedResult.unavailable());
+        }
+        long start = System.nanoTime();
+        return httpClient.sendAsync(oEmbedRequest(videoId), HttpResponse.BodyHandlers.ofString())
+                .handle((response, e) -> {
+                    if (e != null) {
+                        circuitBreaker.record(start, true);
+                        log.debug("oEmbed 체크 실패 [{}]: {}", videoId, e.getMessage());
+                        return OEmbedResult.unavailable("네트워크 오류: " + e.getMessage());
+                    }
+                    circuitBreaker.record(start, isOutage(response.statusCode()));
+                    return toOEmbedResult(response);
+                });
+    }
+
+    private HttpRequest oEmbedRequest(String videoId) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(String.format(oEmbedUrl, videoId)))
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    private OEmbedResult toOEmbedResult(HttpResponse<String> response) {
+        int statusCode = response.statusCode();
+
+        if (statusCode == 200) {
+            return OEmbedResult.success();
+        } else if (statusCode == 401 || statusCode == 403) {
+            return OEmbedResult.embedDisabled();
+        } else if (isOutage(statusCode)) {
+            return OEmbedResult.unavailable("HTTP " + statusCode);
+        } else {
+            return OEmbedResult.failed("HTTP " + statusCode);
         }
     }
 
@@ -112,31 +199,69 @@ public class YouTubeValidationService {
      * - 삭제된 영상은 매우 작은 placeholder 이미지를 반환함
      */
     private ThumbnailResult checkThumbnail(String videoId) {
+        if (!circuitBreaker.tryAcquire()) {
+            return ThumbnailResult.unavailable();
+        }
+        long start = System.nanoTime();
         try {
-            String url = String.format(THUMBNAIL_URL, videoId);
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(TIMEOUT)
-                    .GET()
-                    .build();
-
-            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
-            int statusCode = response.statusCode();
-
-            if (statusCode != 200) {
-                return ThumbnailResult.invalid("HTTP " + statusCode);
-            }
-
-            byte[] body = response.body();
-            if (body == null || body.length < DELETED_THUMBNAIL_SIZE_THRESHOLD) {
-                return ThumbnailResult.invalid("썸네일 크기 너무 작음 (" + (body != null ? body.length : 0) + " bytes)");
-            }
-
-            return ThumbnailResult.valid();
+            HttpResponse<byte[]> response = httpClient.send(thumbnailRequest(videoId), HttpResponse.BodyHandlers.ofByteArray());
+            circuitBreaker.record(start, isOutage(response.statusCode()));
+            return toThumbnailResult(response);
         } catch (Exception e) {
+            circuitBreaker.record(start, true);
             log.debug("썸네일 체크 실패 [{}]: {}", videoId, e.getMessage());
-            return ThumbnailResult.invalid("네트워크 오류: " + e.getMessage());
+            return ThumbnailResult.unavailable("네트워크 오류: " + e.getMessage());
+        }
+    }
+
+    private CompletableFuture<ThumbnailResult> checkThumbnailAsync(String videoId) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.completedFuture(ThumbnailResult.unavailable());
+        }
+        long start = System.nanoTime();
+        return httpClient.sendAsync(thumbnailRequest(videoId), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, e) -> {
+                    if (e != null) {
+                        circuitBreaker.record(start, true);
+                        log.debug("썸네일 체크 실패 [{}]: {}", videoId, e.getMessage());
+                        return ThumbnailResult.unavailable("네트워크 오류: " + e.getMessage());
+                    }
+                    circuitBreaker.record(start, isOutage(response.statusCode()));
+                    return toThumbnailResult(response);
+                });
+    }
+
+    private HttpRequest thumbnailRequest(String videoId) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(String.format(thumbnailUrl, videoId)))
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    private ThumbnailResult toThumbnailResult(HttpResponse<byte[]> response) {
+        int statusCode = response.statusCode();
+
+        if (isOutage(statusCode)) {
+            return ThumbnailResult.unavailable("HTTP " + statusCode);
         }
+        if (statusCode != 200) {
+            return ThumbnailResult.invalid("HTTP " + statusCode);
+        }
+
+        byte[] body = response.body();
+        if (body == null || body.length < DELETED_THUMBNAIL_SIZE_THRESHOLD) {
+            return ThumbnailResult.invalid("썸네일 크기 너무 작음 (" + (body != null ? body.length : 0) + " bytes)");
+        }
+
+        return ThumbnailResult.valid();
+    }
+
+    /**
+     * 외부 장애로 볼 응답 (서버 오류, 요청 제한) - 403/404 등은 YouTube의 정상 판정
+     */
+    private boolean isOutage(int statusCode) {
+        return statusCode >= 500 || statusCode == 429;
     }
 
     // ===== 결과 클래스들 =====
@@ -147,26 +272,36 @@ public class YouTubeValidationService {
     public static class ValidationResult {
         private final boolean valid;
         private final boolean embedDisabled;
+        private final boolean unavailable;
         private final String oEmbedError;
         private final String thumbnailError;
 
-        private ValidationResult(boolean valid, boolean embedDisabled, String oEmbedError, String thumbnailError) {
+        private ValidationResult(boolean valid, boolean embedDisabled, boolean unavailable,
+                                 String oEmbedError, String thumbnailError) {
             this.valid = valid;
             this.embedDisabled = embedDisabled;
+            this.unavailable = unavailable;
             this.oEmbedError = oEmbedError;
             this.thumbnailError = thumbnailError;
         }
 
         public static ValidationResult valid() {
-            return new ValidationResult(true, false, null, null);
+            return new ValidationResult(true, false, false, null, null);
         }
 
         public static ValidationResult invalid(String oEmbedError, String thumbnailError) {
-            return new ValidationResult(false, false, oEmbedError, thumbnailError);
+            return new ValidationResult(false, false, false, oEmbedError, thumbnailError);
         }
 
         public static ValidationResult embedDisabled() {
-            return new ValidationResult(false, true, "임베드 불가", null);
+            return new ValidationResult(false, true, false, "임베드 불가", null);
+        }
+
+        /**
+         * 확인 불가 (서킷 브레이커 OPEN, 네트워크 오류, YouTube 서버 오류/요청 제한) - 유효로 간주, 기존 판정이 있으면 그것을 사용
+         */
+        public static ValidationResult unavailable() {
+            return new ValidationResult(true, false, true, null, null);
         }
 
         public boolean isValid() {
@@ -177,6 +312,10 @@ public class YouTubeValidationService {
             return embedDisabled;
         }
 
+        public boolean isUnavailable() {
+            return unavailable;
+        }
+
         public String getOEmbedError() {
             return oEmbedError;
         }
@@ -187,7 +326,9 @@ public class YouTubeValidationService {
 
         @Override
         public String toString() {
-            if (valid) {
+            if (unavailable) {
+                return "ValidationResult[확인 불가]";
+            } else if (valid) {
                 return "ValidationResult[유효]";
             } else if (embedDisabled) {
                 return "ValidationResult[임베드 불가]";
@@ -203,24 +344,38 @@ public class YouTubeValidationService {
     private static class OEmbedResult {
         private final boolean success;
         private final boolean embedDisabled;
+        private final boolean unavailable;
+        private final boolean rejected;
         private final String error;
 
-        private OEmbedResult(boolean success, boolean embedDisabled, String error) {
+        private OEmbedResult(boolean success, boolean embedDisabled, boolean unavailable, boolean rejected, String error) {
             this.success = success;
             this.embedDisabled = embedDisabled;
+            this.unavailable = unavailable;
+            this.rejected = rejected;
             this.error = error;
         }
 
         static OEmbedResult success() {
-            return new OEmbedResult(true, false, null);
+            return new OEmbedResult(true, false, false, false, null);
         }
 
         static OEmbedResult embedDisabled() {
-            return new OEmbedResult(false, true, "임베드 불가");
+            return new OEmbedResult(false, true, false, false, "임베드 불가");
         }
 
         static OEmbedResult failed(String error) {
-            return new OEmbedResult(false, false, error);
+            return new OEmbedResult(false, false, false, false, error);
+        }
+
+        // 서킷 브레이커 OPEN - 호출하지 않음
+        static OEmbedResult unavailable() {
+            return new OEmbedResult(false, false, true, true, "서킷 브레이커 OPEN");
+        }
+
+        // 네트워크 오류/타임아웃, 서버 오류, 요청 제한 - 썸네일로 재확인
+        static OEmbedResult unavailable(String error) {
+            return new OEmbedResult(false, false, true, false, error);
         }
 
         boolean isSuccess() {
@@ -231,6 +386,15 @@ public class YouTubeValidationService {
             return embedDisabled;
         }
 
+        boolean isUnavailable() {
+            return unavailable;
+        }
+
+        // 썸네일 재확인 없이 판정 가능한지
+        boolean isDecisive() {
+            return success || embedDisabled || rejected;
+        }
+
         String getError() {
             return error;
         }
@@ -241,25 +405,39 @@ public class YouTubeValidationService {
      */
     private static class ThumbnailResult {
         private final boolean valid;
+        private final boolean unavailable;
         private final String error;
 
-        private ThumbnailResult(boolean valid, String error) {
+        private ThumbnailResult(boolean valid, boolean unavailable, String error) {
             this.valid = valid;
+            this.unavailable = unavailable;
             this.error = error;
         }
 
         static ThumbnailResult valid() {
-            return new ThumbnailResult(true, null);
+            return new ThumbnailResult(true, false, null);
         }
 
         static ThumbnailResult invalid(String error) {
-            return new ThumbnailResult(false, error);
+            return new ThumbnailResult(false, false, error);
+        }
+
+        static ThumbnailResult unavailable() {
+            return unavailable("서킷 브레이커 OPEN");
+        }
+
+        static ThumbnailResult unavailable(String error) {
+            return new ThumbnailResult(false, true, error);
         }
 
         boolean isValid() {
             return valid;
         }
 
+        boolean isUnavailable() {
+            return unavailable;
+        }
+
         String getError() {
             return error;
         }
@@ -0,0 +1,278 @@
+package com.kh.game.service;
+
+import com.kh.game.repository.SongRepository;
+import com.kh.game.service.YouTubeValidationService.ValidationResult;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * YouTube 영상 검증 결과 캐시 (게임 중 곡 선택용)
+ *
+ * - 영상 ID별 판정(유효/삭제/임베드 불가)을 메모리에 보관, 유효기간 안이면 네트워크 호출 없이 응답
+ * - 무효 판정도 캐시 (삭제/임베드 불가 영상을 매번 다시 확인하지 않음)
+ * - 유효기간이 지난 판정은 일단 기존 값으로 응답하고 백그라운드에서 재검증
+ * - 시작 시 Song의 isYoutubeValid/youtubeCheckedAt/youtubeErrorCode로 워밍, 새 판정은 주기적으로 DB에 반영
+ * - YouTubeVideoCheckBatch 결과와 재생 오류 보고도 캐시에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class YouTubeVerdictCache {
+
+    // YouTube 플레이어 오류 코드 (youtubeErrorCode 컬럼과 동일한 체계)
+    public static final int ERROR_NOT_FOUND = 100;
+    public static final int ERROR_EMBED_DISABLED = 150;
+
+    private final YouTubeValidationService youTubeValidationService;
+    private final SongRepository songRepository;
+    private final SongCatalogService songCatalogService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${youtube.verdict.valid-ttl-hours:24}")
+    private long validTtlHours = 24;
+
+    @Value("${youtube.verdict.invalid-ttl-hours:6}")
+    private long invalidTtlHours = 6;
+
+    private final ConcurrentHashMap<String, Verdict> verdicts = new ConcurrentHashMap<>();
+
+    // DB 반영 대기 중인 판정 (같은 영상은 마지막 판정만 반영)
+    private final ConcurrentHashMap<String, Verdict> pendingWrites = new ConcurrentHashMap<>();
+
+    // 백그라운드 재검증 중인 영상 (중복 요청 방지)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, new RefreshThreadFactory());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            int loaded = 0;
+            for (Object[] row : songRepository.findYoutubeVerdicts()) {
+                String videoId = (String) row[0];
+                Boolean valid = (Boolean) row[1];
+                LocalDateTime checkedAt = (LocalDateTime) row[2];
+                Integer errorCode = (Integer) row[3];
+
+                Verdict verdict = new Verdict(valid == null || valid, errorCode, checkedAt);
+                // 같은 영상을 쓰는 곡이 여러 개면 가장 최근 판정 사용
+                verdicts.merge(videoId, verdict, (a, b) -> a.checkedAt.isAfter(b.checkedAt) ? a : b);
+                loaded++;
+            }
+            log.info("YouTube 검증 캐시 로드 완료: {}건 (영상 {}개)", loaded, verdicts.size());
+        } catch (Exception e) {
+            log.warn("YouTube 검증 캐시 초기 로드 실패 (조회 시 검증): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게임 중 재생 가능 여부
+     * - 유효기간 내 판정: 그대로 사용
+     * - 만료된 판정: 기존 값으로 응답, 백그라운드 재검증
+     * - 판정 없음: 즉시 검증 후 캐시
+     */
+    public boolean isPlayable(String videoId) {
+        Boolean cached = lookup(videoId);
+        return cached != null ? cached : check(videoId).isValid();
+    }
+
+    /**
+     * 캐시 판정 조회 (없으면 null) - 만료된 판정은 그대로 반환하고 백그라운드 재검증
+     */
+    public Boolean lookup(String videoId) {
+        Verdict verdict = verdicts.get(videoId);
+        if (verdict == null) {
+            return null;
+        }
+        if (!isFresh(verdict, LocalDateTime.now())) {
+            scheduleRefresh(videoId);
+        }
+        return verdict.valid;
+    }
+
+    /**
+     * 캐시 판정 (없으면 null) - 네트워크 호출 없음
+     */
+    public Boolean cachedVerdict(String videoId) {
+        Verdict verdict = verdicts.get(videoId);
+        return verdict != null ? verdict.valid : null;
+    }
+
+    /**
+     * 네트워크 검증 후 캐시 갱신 및 DB 반영 예약
+     */
+    public ValidationResult check(String videoId) {
+        ValidationResult result = youTubeValidationService.validateVideo(videoId);
+        record(videoId, result);
+        return result;
+    }
+
+    /**
+     * 비동기 네트워크 검증 - 완료되면 캐시 갱신 및 DB 반영 예약
+     */
+    public CompletableFuture<ValidationResult> checkAsync(String videoId) {
+        return youTubeValidationService.validateVideoAsync(videoId)
+                .thenApply(result -> {
+                    record(videoId, result);
+                    return result;
+                });
+    }
+
+    /**
+     * 이미 Song에 저장된 검증 결과를 캐시에 반영 (배치용)
+     */
+    public void remember(String videoId, ValidationResult result, LocalDateTime checkedAt) {
+        if (result.isUnavailable()) {
+            return;
+        }
+        Verdict verdict = Verdict.of(result, checkedAt);
+        verdicts.put(videoId, verdict);
+        pendingWrites.remove(videoId);
+    }
+
+    /**
+     * 재생 오류 보고 반영 (Song은 보고 처리 시 이미 저장됨)
+     */
+    public void recordPlaybackError(String videoId, Integer errorCode, LocalDateTime checkedAt) {
+        verdicts.put(videoId, new Verdict(false, errorCode, checkedAt));
+        pendingWrites.remove(videoId);
+    }
+
+    /**
+     * 검증 결과 → youtubeErrorCode (유효하면 null)
+     */
+    public static Integer errorCodeOf(ValidationResult result) {
+        if (result.isValid()) {
+            return null;
+        }
+        return result.isEmbedDisabled() ? ERROR_EMBED_DISABLED : ERROR_NOT_FOUND;
+    }
+
+    /**
+     * 새 판정을 Song 컬럼에 반영 (재시작 후 워밍용)
+     */
+    @Scheduled(fixedDelayString = "${youtube.verdict.flush-interval-ms:30000}")
+    public void flush() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Verdict>> batch = new ArrayList<>(pendingWrites.entrySet());
+        try {
+            Boolean invalidated = new TransactionTemplate(transactionManager).execute(status -> {
+                boolean anyInvalid = false;
+                for (Map.Entry<String, Verdict> entry : batch) {
+                    Verdict verdict = entry.getValue();
+                    songRepository.updateYoutubeVerdict(entry.getKey(), verdict.valid, verdict.checkedAt, verdict.errorCode);
+                    anyInvalid |= !verdict.valid;
+                }
+                return anyInvalid;
+            });
+            // 반영 중 새 판정이 들어온 영상은 남겨둠
+            batch.forEach(entry -> pendingWrites.remove(entry.getKey(), entry.getValue()));
+
+            // 벌크 업데이트는 엔티티 리스너를 거치지 않으므로 카탈로그의 isYoutubeValid 갱신
+            if (Boolean.TRUE.equals(invalidated)) {
+                songCatalogService.invalidate();
+            }
+            log.debug("YouTube 검증 결과 DB 반영: {}건", batch.size());
+        } catch (Exception e) {
+            log.warn("YouTube 검증 결과 DB 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+        flush();
+    }
+
+    public int size() {
+        return verdicts.size();
+    }
+
+    private void record(String videoId, ValidationResult result) {
+        // 확인 불가(서킷 브레이커 OPEN)는 기존 판정 유지
+        if (result.isUnavailable()) {
+            return;
+        }
+        Verdict verdict = Verdict.of(result, LocalDateTime.now());
+        verdicts.put(videoId, verdict);
+        pendingWrites.put(videoId, verdict);
+    }
+
+    private boolean isFresh(Verdict verdict, LocalDateTime now) {
+        long ttlHours = verdict.valid ? validTtlHours : invalidTtlHours;
+        return verdict.checkedAt.plusHours(ttlHours).isAfter(now);
+    }
+
+    private void scheduleRefresh(String videoId) {
+        if (!refreshing.add(videoId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    check(videoId);
+                } catch (Exception e) {
+                    log.debug("YouTube 재검증 실패 [{}]: {}", videoId, e.getMessage());
+                } finally {
+                    refreshing.remove(videoId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(videoId);
+        }
+    }
+
+    /**
+     * 영상별 판정 (불변)
+     */
+    private static class Verdict {
+        private final boolean valid;
+        private final Integer errorCode;
+        private final LocalDateTime checkedAt;
+
+        Verdict(boolean valid, Integer errorCode, LocalDateTime checkedAt) {
+            this.valid = valid;
+            this.errorCode = errorCode;
+            this.checkedAt = checkedAt;
+        }
+
+        static Verdict of(ValidationResult result, LocalDateTime checkedAt) {
+            return new Verdict(result.isValid(), errorCodeOf(result), checkedAt);
+        }
+    }
+
+    private static class RefreshThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "youtube-verdict-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
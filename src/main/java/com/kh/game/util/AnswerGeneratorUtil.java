@@ -1,14 +1,23 @@
 package com.kh.game.util;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 노래 제목 정답 변형 생성 유틸리티
+ *
+ * - 발음 사전(PHONETIC_MAP, WORD_MAP)은 클래스 로드 시 트라이로 컴파일, 변환은 왼쪽에서 오른쪽으로 한 번 순회
+ * - 생성한 변형은 제목별로 캐시 (사전이 바뀌면 캐시도 함께 교체)
+ * - reloadDictionaries로 기본 사전에 관리자 추가 항목을 합쳐 재시작 없이 다시 컴파일
  */
 public class AnswerGeneratorUtil {
 
+    // 변형 캐시 최대 제목 수 (넘으면 비우고 다시 채움)
+    private static final int MAX_CACHED_TITLES = 20_000;
+
+    // 음소 변환 시 한 번에 매칭하는 최대 패턴 길이
+    private static final int MAX_PHONETIC_LENGTH = 5;
+
     // 영어 → 한글 발음 매핑 (자주 사용되는 패턴)
     private static final Map<String, String> PHONETIC_MAP = new LinkedHashMap<>();
 
@@ -781,17 +790,60 @@ public class AnswerGeneratorUtil {
         WORD_MAP.put("brand", "브랜드");
     }
 
+    // 컴파일된 사전 + 변형 캐시 (리로드 시 통째로 교체)
+    private static volatile Dictionary dictionary = new Dictionary(PHONETIC_MAP, WORD_MAP);
+
     /**
-     * 제목에서 정답 후보들 생성
+     * 기본 사전에 추가 항목을 합쳐 다시 컴파일 (같은 키는 추가 항목이 우선)
+     *
+     * @param extraWords     단어 → 한글 발음
+     * @param extraPhonetics 음소 패턴 → 한글 발음
      */
-    public static Set<String> generateAnswerVariants(String title) {
-        Set<String> variants = new LinkedHashSet<>();
+    public static synchronized void reloadDictionaries(Map<String, String> extraWords, Map<String, String> extraPhonetics) {
+        Map<String, String> phonetics = new LinkedHashMap<>(PHONETIC_MAP);
+        Map<String, String> words = new LinkedHashMap<>(WORD_MAP);
+        if (extraPhonetics != null) {
+            extraPhonetics.forEach((key, value) -> phonetics.put(key.toLowerCase().trim(), value));
+        }
+        if (extraWords != null) {
+            extraWords.forEach((key, value) -> words.put(key.toLowerCase().trim(), value));
+        }
+        dictionary = new Dictionary(phonetics, words);
+    }
+
+    /**
+     * 현재 사전 크기 (단어 수, 음소 패턴 수)
+     */
+    public static int[] dictionarySize() {
+        Dictionary current = dictionary;
+        return new int[]{current.wordCount, current.phoneticCount};
+    }
 
+    /**
+     * 제목에서 정답 후보들 생성 (같은 제목은 캐시된 결과 반환, 수정 불가 Set)
+     */
+    public static Set<String> generateAnswerVariants(String title) {
         if (title == null || title.trim().isEmpty()) {
-            return variants;
+            return new LinkedHashSet<>();
         }
 
         String originalTitle = title.trim();
+        Dictionary current = dictionary;
+        Set<String> cached = current.variants.get(originalTitle);
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<String> variants = Collections.unmodifiableSet(buildAnswerVariants(originalTitle, current));
+        if (current.variants.size() >= MAX_CACHED_TITLES) {
+            current.variants.clear();
+        }
+        current.variants.put(originalTitle, variants);
+        return variants;
+    }
+
+    private static Set<String> buildAnswerVariants(String originalTitle, Dictionary current) {
+        Set<String> variants = new LinkedHashSet<>();
         variants.add(originalTitle);
 
         // 1. 괄호 제거 버전
@@ -817,14 +869,14 @@ public class AnswerGeneratorUtil {
 
         // 3. 영어 제목이면 한글 발음 추가
         if (containsEnglish(originalTitle)) {
-            String koreanPronunciation = convertToKorean(originalTitle);
+            String koreanPronunciation = convertToKorean(originalTitle, current);
             if (koreanPronunciation != null && !koreanPronunciation.isEmpty()) {
                 variants.add(koreanPronunciation);
             }
 
             // 괄호 제거 버전도 한글로
             if (!withoutBrackets.isEmpty() && containsEnglish(withoutBrackets)) {
-                String koreanWithoutBrackets = convertToKorean(withoutBrackets);
+                String koreanWithoutBrackets = convertToKorean(withoutBrackets, current);
                 if (koreanWithoutBrackets != null && !koreanWithoutBrackets.isEmpty()) {
                     variants.add(koreanWithoutBrackets);
                 }
@@ -847,45 +899,83 @@ public class AnswerGeneratorUtil {
      * 영어가 포함되어 있는지 확인
      */
     private static boolean containsEnglish(String text) {
-        return Pattern.compile("[a-zA-Z]").matcher(text).find();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * 영어를 한글 발음으로 변환
      */
     public static String convertToKorean(String english) {
-        if (english == null || english.trim().isEmpty()) {
+        return convertToKorean(english, dictionary);
+    }
+
+    /**
+     * 공백 단위 단어마다: 숫자만 있으면 그대로, 단어 사전에 있으면 사전 발음, 없으면 음소 변환
+     * 단어에서 a-z, 0-9, ' 외의 문자는 버림 (부분 문자열 없이 한 번 순회)
+     */
+    private static String convertToKorean(String english, Dictionary current) {
+        if (english == null) {
             return "";
         }
 
-        String text = english.toLowerCase().trim();
-        StringBuilder result = new StringBuilder();
+        // trim() 범위
+        int start = 0;
+        int end = english.length();
+        while (start < end && english.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && english.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return "";
+        }
 
-        // 단어 단위로 분리
-        String[] words = text.split("\\s+");
+        StringBuilder result = new StringBuilder(end - start);
+        char[] word = new char[end - start];
 
-        for (int i = 0; i < words.length; i++) {
-            String word = words[i].replaceAll("[^a-z0-9']", "");
+        int i = start;
+        while (i < end) {
+            // 한 단어의 변환 대상 문자만 모음
+            int length = 0;
+            boolean digitsOnly = true;
+            while (i < end && !isWhitespace(english.charAt(i))) {
+                char c = Character.toLowerCase(english.charAt(i++));
+                if (TransliterationTrie.isConvertible(c)) {
+                    word[length++] = c;
+                    digitsOnly &= c >= '0' && c <= '9';
+                }
+            }
+            // 단어 사이 공백 (여러 개여도 구분자 하나)
+            boolean last = i >= end;
+            while (i < end && isWhitespace(english.charAt(i))) {
+                i++;
+            }
 
-            if (word.isEmpty()) {
+            if (length == 0) {
                 continue;
             }
 
-            // 숫자는 그대로
-            if (word.matches("\\d+")) {
-                result.append(word);
-            }
-            // 단어 매핑에 있으면 사용
-            else if (WORD_MAP.containsKey(word)) {
-                result.append(WORD_MAP.get(word));
-            }
-            // 없으면 음소 변환
-            else {
-                result.append(phoneticConvert(word));
+            String mapped;
+            if (digitsOnly) {
+                // 숫자는 그대로
+                result.append(word, 0, length);
+            } else if ((mapped = current.words.exact(word, 0, length)) != null) {
+                // 단어 매핑에 있으면 사용
+                result.append(mapped);
+            } else {
+                // 없으면 음소 변환
+                appendPhonetic(result, word, length, current.phonetics);
             }
 
-            if (i < words.length - 1) {
-                result.append(" ");
+            if (!last) {
+                result.append(' ');
             }
         }
 
@@ -893,32 +983,42 @@ public class AnswerGeneratorUtil {
     }
 
     /**
-     * 음소 단위 변환
+     * 음소 단위 변환 (긴 패턴 우선, 매칭 안 되는 글자는 건너뜀)
      */
-    private static String phoneticConvert(String word) {
-        StringBuilder result = new StringBuilder();
-        String remaining = word.toLowerCase();
-
-        while (!remaining.isEmpty()) {
-            boolean matched = false;
-
-            // 긴 패턴부터 매칭 시도
-            for (int len = Math.min(remaining.length(), 5); len >= 1; len--) {
-                String sub = remaining.substring(0, len);
-                if (PHONETIC_MAP.containsKey(sub)) {
-                    result.append(PHONETIC_MAP.get(sub));
-                    remaining = remaining.substring(len);
-                    matched = true;
-                    break;
-                }
-            }
-
-            if (!matched) {
-                // 매칭 안 되면 한 글자 건너뛰기
-                remaining = remaining.substring(1);
+    private static void appendPhonetic(StringBuilder result, char[] word, int length, TransliterationTrie phonetics) {
+        int i = 0;
+        while (i < length) {
+            int node = phonetics.longestPrefix(word, i, Math.min(length, i + MAX_PHONETIC_LENGTH));
+            if (node >= 0) {
+                result.append(phonetics.valueOf(node));
+                i += phonetics.lengthOf(node);
+            } else {
+                i++;
             }
         }
+    }
+
+    // 정규식 \s와 같은 공백 문자
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * 컴파일된 사전과 이 사전으로 만든 변형 캐시
+     */
+    private static final class Dictionary {
+
+        private final TransliterationTrie phonetics;
+        private final TransliterationTrie words;
+        private final int phoneticCount;
+        private final int wordCount;
+        private final Map<String, Set<String>> variants = new ConcurrentHashMap<>();
 
-        return result.toString();
+        private Dictionary(Map<String, String> phoneticMap, Map<String, String> wordMap) {
+            this.phonetics = new TransliterationTrie(phoneticMap);
+            this.words = new TransliterationTrie(wordMap);
+            this.phoneticCount = phoneticMap.size();
+            this.wordCount = wordMap.size();
+        }
     }
-}
\ No newline at end of file
+}
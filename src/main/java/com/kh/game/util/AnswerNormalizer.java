@@ -0,0 +1,100 @@
+package com.kh.game.util;
+
+/**
+ * 정답 비교용 정규화 (모든 게임 모드 공용)
+ *
+ * 기존 방식 text.toLowerCase().replaceAll("\\s+", "").replaceAll("[^a-z0-9가-힣]", "")과 결과가 동일하며,
+ * 정규식/중간 문자열 없이 문자열을 한 번만 훑음
+ * - 영문 대문자는 소문자로, 영문 소문자/숫자/완성형 한글(가~힣)만 유지
+ * - 소문자 변환 시 ASCII가 되는 문자 2개도 동일하게 처리 (KELVIN SIGN → k, İ → i)
+ */
+public class AnswerNormalizer {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private AnswerNormalizer() {
+    }
+
+    /**
+     * 정규화 문자열 (이미 정규화된 문자열이면 같은 인스턴스 반환)
+     */
+    public static String normalize(CharSequence text) {
+        if (text == null) return "";
+
+        int length = text.length();
+        int i = 0;
+        // 바뀌는 문자가 나올 때까지는 복사하지 않음
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == 0 || map(c) != c) break;
+            i++;
+        }
+        if (i == length) {
+            return text.toString();
+        }
+
+        char[] buffer = new char[length];
+        int size = 0;
+        for (int j = 0; j < i; j++) {
+            buffer[size++] = text.charAt(j);
+        }
+        for (; i < length; i++) {
+            char mapped = map(text.charAt(i));
+            if (mapped != 0) {
+                buffer[size++] = mapped;
+            }
+        }
+        return new String(buffer, 0, size);
+    }
+
+    /**
+     * 재사용 버퍼에 정규화 결과 추가 (추가한 문자 수 반환)
+     */
+    public static int normalize(CharSequence text, StringBuilder out) {
+        if (text == null) return 0;
+
+        int added = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char mapped = map(text.charAt(i));
+            if (mapped != 0) {
+                out.append(mapped);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 정규화 결과의 64비트 해시 (FNV-1a, 문자열 생성 없음)
+     * - hash64(a) == hash64(b) ⇔ normalize(a).equals(normalize(b)) (해시 충돌 제외)
+     */
+    public static long hash64(CharSequence text) {
+        long hash = FNV_OFFSET;
+        if (text == null) return hash;
+
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char mapped = map(text.charAt(i));
+            if (mapped != 0) {
+                hash = (hash ^ (mapped & 0xff)) * FNV_PRIME;
+                hash = (hash ^ (mapped >>> 8)) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 정규화 후 남는 문자 (제거되는 문자는 0)
+     */
+    private static char map(char c) {
+        if (c < 0x80) {
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) return c;
+            if (c >= 'A' && c <= 'Z') return (char) (c + ('a' - 'A'));
+            return 0;
+        }
+        if (c >= '가' && c <= '힣') return c;
+        if (c == 'K') return 'k';
+        if (c == 'İ') return 'i';
+        return 0;
+    }
+}
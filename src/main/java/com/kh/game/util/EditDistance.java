@@ -0,0 +1,72 @@
+package com.kh.game.util;
+
+/**
+ * 상한이 있는 편집 거리 (삽입/삭제/치환 + 인접 문자 교환)
+ *
+ * - 최대 거리 max 안쪽 대각선 띠만 계산하므로 O(길이 * max)
+ * - 어느 행에서든 최솟값이 max를 넘으면 바로 중단
+ */
+public class EditDistance {
+
+    private EditDistance() {
+    }
+
+    /**
+     * a와 b의 편집 거리가 max 이하인지
+     */
+    public static boolean withinDistance(CharSequence a, CharSequence b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > max) {
+            return false;
+        }
+        if (max == 0) {
+            return a.toString().contentEquals(b);
+        }
+
+        int inf = max + 1;
+        int[] prev2 = new int[m + 1];
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j <= max ? j : inf;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - max);
+            int to = Math.min(m, i + max);
+
+            cur[0] = i <= max ? i : inf;
+            if (from > 1) {
+                cur[from - 1] = inf;
+            }
+            int rowMin = from == 1 ? cur[0] : inf;
+            char ca = a.charAt(i - 1);
+
+            for (int j = from; j <= to; j++) {
+                char cb = b.charAt(j - 1);
+                int value = prev[j - 1] + (ca == cb ? 0 : 1);
+                value = Math.min(value, prev[j] + 1);
+                value = Math.min(value, cur[j - 1] + 1);
+                if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) {
+                    value = Math.min(value, prev2[j - 2] + 1);
+                }
+                cur[j] = Math.min(value, inf);
+                rowMin = Math.min(rowMin, cur[j]);
+            }
+            if (to < m) {
+                cur[to + 1] = inf;
+            }
+            if (rowMin > max) {
+                return false;
+            }
+
+            int[] recycled = prev2;
+            prev2 = prev;
+            prev = cur;
+            cur = recycled;
+        }
+        return prev[m] <= max;
+    }
+}
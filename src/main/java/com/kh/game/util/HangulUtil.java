@@ -0,0 +1,108 @@
+package com.kh.game.util;
+
+/**
+ * 한글 음절 분해 유틸리티
+ * - 완성형 음절(가~힣) = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+ */
+public class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    // 초성 하나당 음절 수 (중성 21 * 종성 28)
+    private static final int CHOSUNG_STRIDE = 588;
+    private static final int JONGSUNG_COUNT = 28;
+
+    // 조합형 자모 시작 (초성 ᄀ, 중성 ᅡ, 종성 ᆨ)
+    private static final char JAMO_CHOSUNG_BEGIN = '\u1100';
+    private static final char JAMO_JUNGSUNG_BEGIN = '\u1161';
+    private static final char JAMO_JONGSUNG_BEGIN = '\u11A7';
+
+    // 한글 초성 배열
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 완성형 한글 음절 여부
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 초성 자모(ㄱ~ㅎ) 여부 - 초성 검색어 판별용
+     */
+    public static boolean isChosung(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 음절의 초성 (봄 → ㅂ), 한글 음절이 아니면 그대로 반환
+     */
+    public static char chosungOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSUNG[(c - SYLLABLE_BEGIN) / CHOSUNG_STRIDE];
+    }
+
+    /**
+     * 문자열의 한글 음절을 모두 초성으로 변환 (방탄소년단 → ㅂㅌㅅㄴㄷ, 나머지 문자는 유지)
+     */
+    public static String toChosung(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = chosungOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 조합형 자모로 분해 (다이너 → ᄃ ᅡ ᄋ ᅵ ᄂ ᅥ), 나머지 문자는 유지
+     * - 오타 허용 비교용: 다이나마이트/다이너마이트는 음절 1개가 아니라 자모 1개 차이
+     */
+    public static String toJamo(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                sb.append(c);
+                continue;
+            }
+            int offset = c - SYLLABLE_BEGIN;
+            int jongsung = offset % JONGSUNG_COUNT;
+            sb.append((char) (JAMO_CHOSUNG_BEGIN + offset / CHOSUNG_STRIDE));
+            sb.append((char) (JAMO_JUNGSUNG_BEGIN + (offset % CHOSUNG_STRIDE) / JONGSUNG_COUNT));
+            if (jongsung > 0) {
+                sb.append((char) (JAMO_JONGSUNG_BEGIN + jongsung));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 자모가 하나라도 포함되어 있는지 (ㅂㅌㅅ, 방ㅌ 등)
+     */
+    public static boolean containsChosung(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,169 @@
+package com.kh.game.util;
+
+import java.util.*;
+
+/**
+ * 빈도 상위 항목 근사 집계 (Space-Saving)
+ *
+ * - 카운터를 capacity개만 유지, 가득 차면 가장 작은 카운터를 새 항목에 물려줌 (error = 물려받은 값)
+ * - 추정치 count는 실제 빈도 이상, count - error 이하로 내려가지 않음
+ * - 빈도가 total / capacity를 넘는 항목은 반드시 남아 있음
+ * - 카운터는 count 기준 최소 힙, 갱신 O(log capacity) / 정렬 결과는 변경 전까지 재사용
+ */
+public class HeavyHitters<K> {
+
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    private final Counter<K>[] heap;
+    private int size;
+    private long total;
+
+    // 순위순 정렬 결과 (변경 시 폐기)
+    private List<Entry<K>> sorted;
+
+    @SuppressWarnings("unchecked")
+    public HeavyHitters(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    public synchronized void offer(K key) {
+        offer(key, 1, 0);
+    }
+
+    /**
+     * count만큼 증가 (error: 이미 알고 있는 과대 추정분 - 저장된 집계 복원/병합용)
+     */
+    public synchronized void offer(K key, long count, long error) {
+        if (key == null || count <= 0) {
+            return;
+        }
+        total += count;
+        sorted = null;
+
+        Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            counter.count += count;
+            counter.error += error;
+            siftDown(counter.index);
+            return;
+        }
+
+        if (size < capacity) {
+            counter = new Counter<>(key, count, error);
+            counter.index = size;
+            heap[size++] = counter;
+            counters.put(key, counter);
+            siftUp(counter.index);
+            return;
+        }
+
+        // 가장 작은 카운터를 새 항목에 물려줌
+        Counter<K> min = heap[0];
+        counters.remove(min.key);
+        min.key = key;
+        min.error = min.count + error;
+        min.count += count;
+        counters.put(key, min);
+        siftDown(0);
+    }
+
+    /**
+     * 상위 k개 (보장 빈도 count - error 내림차순, 같으면 count 내림차순)
+     * - 카운터를 물려받은 항목은 count가 부풀어 있으므로 보장 빈도로 순위를 매김
+     */
+    public synchronized List<Entry<K>> top(int k) {
+        if (sorted == null) {
+            List<Entry<K>> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Counter<K> counter = heap[i];
+                entries.add(new Entry<>(counter.key, counter.count, counter.error));
+            }
+            entries.sort(Comparator.comparingLong(Entry<K>::guaranteed).reversed()
+                    .thenComparing(Comparator.comparingLong(Entry<K>::count).reversed()));
+            sorted = Collections.unmodifiableList(entries);
+        }
+        return k >= sorted.size() ? sorted : sorted.subList(0, Math.max(0, k));
+    }
+
+    /**
+     * 지금까지 반영한 전체 빈도 합 (정확한 값)
+     */
+    public synchronized long total() {
+        return total;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void siftUp(int index) {
+        Counter<K> counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter<K> counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter<K> counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    /**
+     * 항목별 추정 빈도 (count: 추정치, error: 최대 과대 추정분)
+     */
+    public record Entry<K>(K key, long count, long error) {
+
+        /**
+         * 실제 빈도의 하한
+         */
+        public long guaranteed() {
+            return count - error;
+        }
+    }
+
+    private static class Counter<K> {
+        private K key;
+        private long count;
+        private long error;
+        private int index;
+
+        Counter(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
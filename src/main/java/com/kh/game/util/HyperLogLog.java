@@ -0,0 +1,115 @@
+package com.kh.game.util;
+
+import java.util.Arrays;
+
+/**
+ * 고유 항목 수 근사 집계 (HyperLogLog)
+ *
+ * - 레지스터 2^precision개 (precision 12 → 4KB, 표준 오차 약 1.6%)
+ * - 작은 값은 빈 레지스터 수로 선형 보정 (linear counting)
+ * - 레지스터 배열 그대로 저장/복원, 같은 precision끼리 병합 가능
+ */
+public class HyperLogLog {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision은 4~16 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * 저장된 레지스터로 복원
+     */
+    public static HyperLogLog fromRegisters(byte[] registers) {
+        int precision = Integer.numberOfTrailingZeros(registers.length);
+        if (registers.length != 1 << precision) {
+            throw new IllegalArgumentException("레지스터 수는 2의 거듭제곱이어야 합니다: " + registers.length);
+        }
+        HyperLogLog hll = new HyperLogLog(precision);
+        System.arraycopy(registers, 0, hll.registers, 0, registers.length);
+        return hll;
+    }
+
+    public synchronized void offer(CharSequence text) {
+        if (text == null) {
+            return;
+        }
+        long hash = hash64(text);
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트에서 첫 1의 위치 (모두 0이면 최댓값)
+        long rest = hash << precision;
+        int rank = rest == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(rest) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public synchronized long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public synchronized void merge(HyperLogLog other) {
+        if (other.registers.length != registers.length) {
+            throw new IllegalArgumentException("precision이 다른 HyperLogLog는 병합할 수 없습니다.");
+        }
+        byte[] source = other.toRegisters();
+        for (int i = 0; i < registers.length; i++) {
+            if (source[i] > registers[i]) {
+                registers[i] = source[i];
+            }
+        }
+    }
+
+    public synchronized byte[] toRegisters() {
+        return Arrays.copyOf(registers, registers.length);
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a + 비트 섞기)
+     */
+    static long hash64(CharSequence text) {
+        long hash = FNV_OFFSET;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // FNV 하위 비트 편향 보정 (MurmurHash3 fmix64)
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,34 +1,30 @@
 package com.kh.game.util;
 
-import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.*;
 
 /**
  * 정크 입력 필터링 유틸리티
  * - 테스트 데이터, 의미 없는 입력, 어뷰징 패턴 감지
+ * - 키보드 스매싱(부분 일치) / 의미 없는 입력(완전 일치) 패턴을 하나의 오토마톤(DFA)으로 컴파일해
+ *   문자 분류 통계(특수문자, 자모, 단일 문자 반복)와 함께 입력을 한 번만 훑어 판정
+ * - 오답 기록 저장 시 판정해 GameRoundAttempt.isJunk로 저장 (통계 쿼리는 SQL에서 바로 제외)
  */
 public class JunkInputFilter {
 
     // 최소 입력 길이 (한글 기준)
     private static final int MIN_INPUT_LENGTH = 2;
 
-    // 키보드 스매싱 패턴 (연속된 키보드 배열)
+    // 단일 문자 반복 최소 길이 (ㅋㅋㅋ, aaa 등)
+    private static final int MIN_REPEAT_LENGTH = 3;
+
+    // 키보드 스매싱 패턴 (연속된 키보드 배열, 입력 어디에 있어도 정크)
     private static final Set<String> KEYBOARD_SMASH_PATTERNS = Set.of(
             "qwer", "asdf", "zxcv", "qwerty", "asdfgh", "zxcvbn",
             "ㅂㅈㄷㄱ", "ㅁㄴㅇㄹ", "ㅋㅌㅊㅍ",
             "1234", "12345", "123456"
     );
 
-    // 단일 문자 반복 패턴
-    private static final Pattern REPEATED_CHAR_PATTERN = Pattern.compile("^(.)\\1{2,}$");
-
-    // 특수문자/공백만 있는 패턴
-    private static final Pattern SPECIAL_ONLY_PATTERN = Pattern.compile("^[\\s\\p{Punct}]+$");
-
-    // 자음/모음만 있는 패턴 (한글)
-    private static final Pattern JAMO_ONLY_PATTERN = Pattern.compile("^[ㄱ-ㅎㅏ-ㅣ]+$");
-
-    // 의미 없는 일반적인 입력들
+    // 의미 없는 일반적인 입력들 (입력 전체가 일치할 때만 정크)
     private static final Set<String> MEANINGLESS_INPUTS = Set.of(
             "ㅇㅇ", "ㄴㄴ", "ㅋㅋ", "ㅎㅎ", "ㅠㅠ", "ㅜㅜ",
             "test", "테스트", "aaa", "bbb", "111", "???",
@@ -36,6 +32,8 @@ public class JunkInputFilter {
             "ㅁㄹ", "ㅁㄹㅁ"
     );
 
+    private static final Automaton AUTOMATON = new Automaton(KEYBOARD_SMASH_PATTERNS, MEANINGLESS_INPUTS);
+
     /**
      * 입력값이 정크 데이터인지 판단
      *
@@ -43,45 +41,80 @@ public class JunkInputFilter {
      * @return true면 정크 데이터 (필터링 대상)
      */
     public static boolean isJunkInput(String input) {
-        if (input == null || input.isBlank()) {
+        if (input == null) {
             return true;
         }
 
-        String normalized = input.trim().toLowerCase();
-
-        // 1. 너무 짧은 입력
-        if (normalized.length() < MIN_INPUT_LENGTH) {
-            return true;
+        // trim() 범위 (복사 없이 인덱스로 처리)
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
         }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
 
-        // 2. 의미 없는 일반적인 입력
-        if (MEANINGLESS_INPUTS.contains(normalized)) {
+        // 1. 빈 입력 / 너무 짧은 입력
+        if (length < MIN_INPUT_LENGTH) {
             return true;
         }
 
-        // 3. 특수문자/공백만 있는 경우
-        if (SPECIAL_ONLY_PATTERN.matcher(normalized).matches()) {
-            return true;
+        int state = Automaton.ROOT;
+        int specialCount = 0;
+        int whitespaceCount = 0;
+        int jamoCount = 0;
+        int repeatCount = 0;
+
+        // 반복 판정 기준 문자 (서로게이트 쌍이면 2글자 단위로 비교)
+        char first = Character.toLowerCase(input.charAt(start));
+        int period = Character.isHighSurrogate(first) && length > 1
+                && Character.isLowSurrogate(input.charAt(start + 1)) ? 2 : 1;
+
+        for (int i = start; i < end; i++) {
+            char c = Character.toLowerCase(input.charAt(i));
+
+            // 6. 키보드 스매싱 패턴 (입력 중간에 있어도 바로 정크)
+            state = AUTOMATON.next(state, c);
+            if (AUTOMATON.containsSmash(state)) {
+                return true;
+            }
+
+            if (isSpecial(c)) {
+                specialCount++;
+            }
+            if (Character.isWhitespace(c)) {
+                whitespaceCount++;
+            }
+            if (isJamo(c)) {
+                jamoCount++;
+            }
+            if (c == Character.toLowerCase(input.charAt(start + (i - start) % period))) {
+                repeatCount++;
+            }
         }
 
-        // 4. 자음/모음만 있는 경우 (완성된 한글이 아님)
-        if (JAMO_ONLY_PATTERN.matcher(normalized).matches()) {
+        // 2. 의미 없는 일반적인 입력 (입력 전체가 패턴과 일치)
+        if (AUTOMATON.matchesWhole(state, length)) {
             return true;
         }
 
-        // 5. 단일 문자 반복 (ㅋㅋㅋ, aaa 등)
-        if (REPEATED_CHAR_PATTERN.matcher(normalized).matches()) {
+        // 3. 특수문자/공백만 있는 경우 (특수문자 비율 100%, 유니코드 공백만 있는 입력 포함 - 기존 isBlank)
+        if (specialCount == length || whitespaceCount == length) {
             return true;
         }
 
-        // 6. 키보드 스매싱 패턴
-        for (String pattern : KEYBOARD_SMASH_PATTERNS) {
-            if (normalized.contains(pattern)) {
-                return true;
-            }
+        // 4. 자음/모음만 있는 경우 (완성된 한글이 아님, 자모 비율 100%)
+        if (jamoCount == length) {
+            return true;
         }
 
-        return false;
+        // 5. 단일 문자 반복 (ㅋㅋㅋ, aaa 등, 반복 비율 100%)
+        return repeatCount == length
+                && length % period == 0
+                && length / period >= MIN_REPEAT_LENGTH
+                && !isLineTerminator(first);
     }
 
     /**
@@ -91,4 +124,140 @@ public class JunkInputFilter {
         return !isJunkInput(input);
     }
 
+    // 공백(\s) 또는 ASCII 구두점(\p{Punct})
+    private static boolean isSpecial(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r')
+                || (c >= '!' && c <= '/') || (c >= ':' && c <= '@')
+                || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    }
+
+    // 한글 호환 자모 (ㄱ-ㅎ, ㅏ-ㅣ)
+    private static boolean isJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * 패턴 오토마톤 (Aho–Corasick 트라이를 상태 전이표로 펼친 DFA)
+     * - 패턴에 쓰인 문자만 알파벳으로 두고 나머지 문자는 모두 0번 클래스로 처리
+     * - containsSmash: 이 상태까지 읽은 입력의 어떤 접미사가 키보드 스매싱 패턴
+     * - matchesWhole: 읽은 입력 전체(길이 = 상태 깊이)가 의미 없는 입력 패턴
+     */
+    static final class Automaton {
+
+        static final int ROOT = 0;
+
+        private final char[] alphabet;
+        private final int[][] transitions;
+        private final int[] depth;
+        private final boolean[] smash;
+        private final boolean[] meaningless;
+
+        Automaton(Collection<String> smashPatterns, Collection<String> meaninglessPatterns) {
+            TreeSet<Character> chars = new TreeSet<>();
+            for (String pattern : smashPatterns) {
+                for (char c : pattern.toCharArray()) chars.add(c);
+            }
+            for (String pattern : meaninglessPatterns) {
+                for (char c : pattern.toCharArray()) chars.add(c);
+            }
+            alphabet = new char[chars.size()];
+            int k = 0;
+            for (char c : chars) {
+                alphabet[k++] = c;
+            }
+            int classes = alphabet.length + 1;
+
+            // 1. 트라이
+            List<int[]> trie = new ArrayList<>();
+            List<Integer> depths = new ArrayList<>();
+            List<Boolean> smashEnds = new ArrayList<>();
+            List<Boolean> meaninglessEnds = new ArrayList<>();
+            trie.add(newRow(classes));
+            depths.add(0);
+            smashEnds.add(false);
+            meaninglessEnds.add(false);
+            for (int kind = 0; kind < 2; kind++) {
+                for (String pattern : kind == 0 ? smashPatterns : meaninglessPatterns) {
+                    int node = ROOT;
+                    for (int i = 0; i < pattern.length(); i++) {
+                        int cls = classOf(pattern.charAt(i));
+                        if (trie.get(node)[cls] < 0) {
+                            trie.get(node)[cls] = trie.size();
+                            trie.add(newRow(classes));
+                            depths.add(depths.get(node) + 1);
+                            smashEnds.add(false);
+                            meaninglessEnds.add(false);
+                        }
+                        node = trie.get(node)[cls];
+                    }
+                    (kind == 0 ? smashEnds : meaninglessEnds).set(node, true);
+                }
+            }
+
+            int size = trie.size();
+            transitions = trie.toArray(new int[0][]);
+            depth = new int[size];
+            smash = new boolean[size];
+            meaningless = new boolean[size];
+            for (int node = 0; node < size; node++) {
+                depth[node] = depths.get(node);
+                smash[node] = smashEnds.get(node);
+                meaningless[node] = meaninglessEnds.get(node);
+            }
+
+            // 2. 실패 링크로 빈 전이를 채워 DFA로 변환 (BFS)
+            int[] fail = new int[size];
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int cls = 0; cls < classes; cls++) {
+                int child = transitions[ROOT][cls];
+                if (child < 0) {
+                    transitions[ROOT][cls] = ROOT;
+                } else {
+                    fail[child] = ROOT;
+                    queue.add(child);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                // 접미사가 키보드 스매싱 패턴이면 이 상태도 스매싱
+                smash[node] |= smash[fail[node]];
+                for (int cls = 0; cls < classes; cls++) {
+                    int child = transitions[node][cls];
+                    if (child < 0) {
+                        transitions[node][cls] = transitions[fail[node]][cls];
+                    } else {
+                        fail[child] = transitions[fail[node]][cls];
+                        queue.add(child);
+                    }
+                }
+            }
+        }
+
+        int next(int state, char c) {
+            return transitions[state][classOf(c)];
+        }
+
+        boolean containsSmash(int state) {
+            return smash[state];
+        }
+
+        boolean matchesWhole(int state, int length) {
+            return meaningless[state] && depth[state] == length;
+        }
+
+        private int classOf(char c) {
+            int index = Arrays.binarySearch(alphabet, c);
+            return index >= 0 ? index + 1 : 0;
+        }
+
+        private static int[] newRow(int classes) {
+            int[] row = new int[classes];
+            Arrays.fill(row, -1);
+            return row;
+        }
+    }
 }
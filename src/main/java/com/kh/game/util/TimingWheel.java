@@ -0,0 +1,278 @@
+package com.kh.game.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이밍 휠 (hashed wheel timer)
+ *
+ * - 고정 간격(tick)으로 도는 원형 버킷 배열, 타이머는 (마감 tick % 버킷 수) 버킷에 들어가고
+ *   한 바퀴 이상 남은 타이머는 남은 바퀴 수(rounds)를 가짐
+ * - 등록/취소 O(1): 등록은 대기 큐에 넣기만 하고, 휠 스레드가 다음 tick에 버킷으로 옮김
+ *   취소는 상태만 바꾸고 버킷에서의 제거(이중 연결 리스트)는 휠 스레드가 처리
+ * - 스레드 1개가 모든 타이머를 담당 → 수만 개를 걸어도 스레드/큐가 늘지 않음
+ * - 정밀도는 tick 단위 (마감 시각보다 최대 tick만큼 늦게 실행, 먼저 실행되지는 않음)
+ * - 만료 작업은 휠 스레드에서 바로 실행되므로 다른 실행기로 넘기는 정도의 짧은 작업만 등록할 것
+ */
+@Slf4j
+public class TimingWheel {
+
+    // tick마다 대기 큐에서 버킷으로 옮길 최대 타이머 수 (등록 폭주 시 tick 지연 방지)
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final Thread worker;
+    private final long startTime;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * @param name       휠 스레드 이름
+     * @param tickMillis tick 간격 (ms)
+     * @param wheelSize  버킷 수 (2의 거듭제곱으로 올림)
+     */
+    public TimingWheel(String name, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 1 이상이어야 합니다: " + tickMillis);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("wheelSize는 1 ~ 2^20 범위여야 합니다: " + wheelSize);
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.startTime = System.nanoTime();
+
+        this.worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * delay 후 task 실행 예약
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("타이밍 휠이 종료되었습니다.");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(this, task, deadline);
+        activeCount.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 만료·취소되지 않은 타이머 수
+     */
+    public int size() {
+        return activeCount.get();
+    }
+
+    /**
+     * 휠 정지 (남은 타이머는 실행하지 않음)
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== 휠 스레드 ==========
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    /**
+     * 다음 tick 시각까지 대기
+     * @return 정지되면 false
+     */
+    private boolean waitForNextTick() {
+        long tickDeadline = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startTime;
+            long sleepMillis = TimeUnit.NANOSECONDS.toMillis(tickDeadline - now + 999_999);
+            if (sleepMillis <= 0) {
+                return true;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue; // 버킷에 들어가기 전에 취소됨
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 마감은 현재 tick에 실행 (과거 버킷에 넣지 않음)
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 예약된 타이머 (cancel로 취소)
+     */
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final TimingWheel timingWheel;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // 휠 스레드에서만 접근
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel timingWheel, Runnable task, long deadline) {
+            this.timingWheel = timingWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 취소 (이미 실행됐거나 취소됐으면 false)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timingWheel.activeCount.decrementAndGet();
+            timingWheel.pendingCancels.add(this);
+            return true;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timingWheel.activeCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.warn("타이머 작업 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 버킷 - 타이머 이중 연결 리스트 (휠 스레드에서만 접근)
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * 남은 바퀴가 없는 타이머 실행, 나머지는 바퀴 수 감소
+         */
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (!timeout.isCancelled()) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
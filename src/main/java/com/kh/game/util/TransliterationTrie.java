@@ -0,0 +1,124 @@
+package com.kh.game.util;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 영어 → 한글 발음 사전 트라이 (불변, AnswerGeneratorUtil에서 사용)
+ *
+ * - 변환 대상 문자(a-z, 0-9, ')만 알파벳으로 쓰는 고정 폭 전이표 → 문자마다 배열 조회 1번
+ * - 입력을 부분 문자열로 자르지 않고 char 배열 위에서 바로 탐색
+ * - 알파벳 밖 문자가 들어간 키는 변환 입력에 나올 수 없으므로 제외
+ */
+final class TransliterationTrie {
+
+    private static final int ALPHABET_SIZE = 26 + 10 + 1;
+    private static final int NONE = -1;
+
+    private final int[] transitions;   // node * ALPHABET_SIZE + 문자 클래스 → 다음 노드
+    private final String[] values;     // 노드에서 끝나는 키의 한글 발음 (없으면 null)
+    private final int[] depths;        // 노드까지의 키 길이
+    private final int size;
+
+    TransliterationTrie(Map<String, String> dictionary) {
+        int capacity = 1;
+        for (String key : dictionary.keySet()) {
+            capacity += key.length();
+        }
+        int[] next = new int[capacity * ALPHABET_SIZE];
+        Arrays.fill(next, NONE);
+        String[] output = new String[capacity];
+        int[] depth = new int[capacity];
+        int nodes = 1;
+
+        for (Map.Entry<String, String> entry : dictionary.entrySet()) {
+            String key = entry.getKey();
+            if (key.isEmpty() || !isConvertible(key)) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                int slot = node * ALPHABET_SIZE + classOf(key.charAt(i));
+                if (next[slot] == NONE) {
+                    depth[nodes] = i + 1;
+                    next[slot] = nodes++;
+                }
+                node = next[slot];
+            }
+            output[node] = entry.getValue();
+        }
+
+        this.transitions = Arrays.copyOf(next, nodes * ALPHABET_SIZE);
+        this.values = Arrays.copyOf(output, nodes);
+        this.depths = Arrays.copyOf(depth, nodes);
+        this.size = nodes;
+    }
+
+    /**
+     * chars[from, to) 전체가 키와 일치하면 발음 반환 (없으면 null)
+     */
+    String exact(char[] chars, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to && node != NONE; i++) {
+            node = transitions[node * ALPHABET_SIZE + classOf(chars[i])];
+        }
+        return node != NONE ? values[node] : null;
+    }
+
+    /**
+     * chars[from, to)의 앞부분과 일치하는 가장 긴 키의 노드 (없으면 -1)
+     * 발음은 valueOf, 일치한 길이는 lengthOf로 조회
+     */
+    int longestPrefix(char[] chars, int from, int to) {
+        int node = 0;
+        int longest = NONE;
+        for (int i = from; i < to; i++) {
+            node = transitions[node * ALPHABET_SIZE + classOf(chars[i])];
+            if (node == NONE) {
+                break;
+            }
+            if (values[node] != null) {
+                longest = node;
+            }
+        }
+        return longest;
+    }
+
+    String valueOf(int node) {
+        return values[node];
+    }
+
+    int lengthOf(int node) {
+        return depths[node];
+    }
+
+    int nodeCount() {
+        return size;
+    }
+
+    /**
+     * 변환 대상 문자인지 (a-z, 0-9, ')
+     */
+    static boolean isConvertible(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '\'';
+    }
+
+    private static boolean isConvertible(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (!isConvertible(key.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int classOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= '0' && c <= '9') {
+            return 26 + (c - '0');
+        }
+        return 36;
+    }
+}
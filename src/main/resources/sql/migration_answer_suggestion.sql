@@ -0,0 +1,22 @@
+-- 정답 후보 추천 마이그레이션
+-- AnswerSuggestionBatch가 새 오답만 곡별로 군집화해 정답(별칭) 후보로 저장
+-- batch_config.watermark: 증분 배치가 마지막으로 반영한 원본 레코드 ID (시도 테이블 재스캔 방지)
+
+ALTER TABLE batch_config
+ADD COLUMN IF NOT EXISTS watermark BIGINT NULL;
+
+CREATE TABLE IF NOT EXISTS answer_suggestion (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    song_id BIGINT NOT NULL COMMENT '곡 ID',
+    normalized_answer VARCHAR(255) NOT NULL COMMENT '군집 대표 오답 (정규화)',
+    display_answer VARCHAR(255) NOT NULL COMMENT '정답으로 추가할 원문',
+    attempt_count INT NOT NULL DEFAULT 0 COMMENT '군집에 합산된 오답 수',
+    distance INT NULL COMMENT '제목/정답과의 최소 자모 편집 거리',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, ACCEPTED, REJECTED',
+    last_attempt_id BIGINT NULL COMMENT '마지막으로 합산한 시도 ID',
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_answer_suggestion_song_answer (song_id, normalized_answer),
+    INDEX idx_answer_suggestion_status (status),
+    FOREIGN KEY (song_id) REFERENCES song(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='정답 후보';
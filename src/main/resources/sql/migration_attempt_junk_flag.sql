@@ -0,0 +1,8 @@
+-- 게임 라운드 시도 정크 플래그 마이그레이션
+-- 저장 시 JunkInputFilter로 판정한 결과를 보관, 오답 통계 쿼리에서 SQL로 정크 입력 제외
+-- 기존 기록(NULL)은 애플리케이션 시작 시 WrongAnswerStatsService.backfillJunkFlags가 채움
+
+ALTER TABLE game_round_attempt
+ADD COLUMN IF NOT EXISTS is_junk BOOLEAN NULL COMMENT '정크 입력 여부';
+
+CREATE INDEX IF NOT EXISTS idx_attempt_correct_junk ON game_round_attempt(is_correct, is_junk);
@@ -0,0 +1,14 @@
+-- 배치 실행 이력 체크포인트 마이그레이션
+-- 대량 배치(YouTube 영상 검사)의 청크 단위 진행 상황 저장, 중단 후 재실행 시 이어서 처리
+
+ALTER TABLE batch_execution_history
+ADD COLUMN IF NOT EXISTS checkpoint VARCHAR(100) NULL;
+
+ALTER TABLE batch_execution_history
+ADD COLUMN IF NOT EXISTS processed_count INT NULL;
+
+ALTER TABLE batch_execution_history
+ADD COLUMN IF NOT EXISTS total_count INT NULL;
+
+-- YouTube 검사 대상 조회 (오래 검사하지 않은 곡 우선)
+CREATE INDEX IF NOT EXISTS idx_song_youtube_checked_at ON song(youtube_checked_at);
@@ -0,0 +1,13 @@
+-- 곡 정답 ID 시퀀스 마이그레이션
+-- SongAnswer ID를 IDENTITY → 시퀀스 채번으로 변경 (정답 자동 생성 배치의 JDBC 배치 INSERT용)
+-- 기존 AUTO_INCREMENT 컬럼은 그대로 두고, 증가값은 allocationSize = 50과 같게
+-- Hibernate pooled 옵티마이저는 시퀀스 값 S를 받으면 S-49 ~ S를 쓰므로 시작값은 MAX(id) + 50
+-- (ddl-auto=update로 1부터 만들어진 경우도 SongAnswerSequenceInitializer가 시작 시 MAX(id) + 50 이후로 보정)
+
+SET @song_answer_seq_start = (SELECT COALESCE(MAX(id), 0) + 50 FROM song_answer);
+SET @song_answer_seq_sql = CONCAT(
+    'CREATE SEQUENCE IF NOT EXISTS song_answer_seq START WITH ', @song_answer_seq_start,
+    ' INCREMENT BY 50');
+PREPARE song_answer_seq_stmt FROM @song_answer_seq_sql;
+EXECUTE song_answer_seq_stmt;
+DEALLOCATE PREPARE song_answer_seq_stmt;
@@ -0,0 +1,29 @@
+-- 곡 난이도 집계 마이그레이션
+-- 라운드가 끝날 때마다 SongStatsService가 곡별/회원-곡별 플레이·정답 수를 증가 (통계 화면에서 게임 기록 GROUP BY 제거)
+-- correct_rate: 정답 수 / 플레이 수 (0~1), 정답률 순 정렬용 인덱스 컬럼
+-- 기존 게임 기록 반영은 BATCH_SONG_STATS 최초 실행(백필)에서 처리
+
+CREATE TABLE IF NOT EXISTS song_stats (
+    song_id BIGINT PRIMARY KEY COMMENT '곡 ID',
+    play_count BIGINT NOT NULL DEFAULT 0 COMMENT '끝난 라운드 수',
+    correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '정답 라운드 수',
+    correct_rate DOUBLE NOT NULL DEFAULT 0 COMMENT '정답률 (0~1)',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '수정일시',
+    INDEX idx_song_stats_rate (correct_rate),
+    FOREIGN KEY (song_id) REFERENCES song(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='곡별 난이도 집계';
+
+CREATE TABLE IF NOT EXISTS member_song_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL COMMENT '회원 ID',
+    song_id BIGINT NOT NULL COMMENT '곡 ID',
+    play_count BIGINT NOT NULL DEFAULT 0 COMMENT '끝난 라운드 수',
+    correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '정답 라운드 수',
+    correct_rate DOUBLE NOT NULL DEFAULT 0 COMMENT '정답률 (0~1)',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_member_song_stats (member_id, song_id),
+    INDEX idx_member_song_stats_play (member_id, play_count, correct_count),
+    INDEX idx_member_song_stats_correct (member_id, correct_count, play_count),
+    INDEX idx_member_song_stats_rate (member_id, correct_rate),
+    FOREIGN KEY (song_id) REFERENCES song(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='회원별 곡 난이도 집계';
@@ -0,0 +1,9 @@
+-- 메모리 통계 구조 저장 테이블 마이그레이션
+-- WrongAnswerTopK(자주 틀리는 답변 전체/곡별 상위 집계, 고유 오답 수 추정)의 저장본
+-- 시도 기록 정리 배치(30일)와 무관하게 누적, 재시작 시 복원
+
+CREATE TABLE IF NOT EXISTS stats_sketch (
+    sketch_key VARCHAR(100) PRIMARY KEY COMMENT '구조 키 (wrong-answer:global, wrong-answer:song:<곡 ID>)',
+    payload MEDIUMTEXT NOT NULL COMMENT '직렬화 결과 (Base64)',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='통계 집계 저장본';
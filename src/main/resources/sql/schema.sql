@@ -106,6 +106,9 @@ INSERT INTO song_answer (song_id, answer, is_primary) VALUES
 (5, 'Bohemian Rhapsody', TRUE),
 (5, '보헤미안랩소디', FALSE);
 
+-- 곡 정답 ID 시퀀스 (샘플 데이터 이후부터 채번, allocationSize = 50)
+CREATE SEQUENCE IF NOT EXISTS song_answer_seq START WITH 1001 INCREMENT BY 50;
+
 -- Member Table (회원)
 CREATE TABLE IF NOT EXISTS member (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -210,12 +213,65 @@ CREATE TABLE IF NOT EXISTS game_round_attempt (
     attempt_number INT NOT NULL COMMENT '시도 번호 (1, 2, 3)',
     user_answer VARCHAR(255) NOT NULL COMMENT '사용자 입력 답',
     is_correct BOOLEAN NOT NULL COMMENT '정답 여부',
+    is_junk BOOLEAN NULL COMMENT '정크 입력 여부',
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     INDEX idx_game_round_id (game_round_id),
     INDEX idx_is_correct (is_correct),
+    INDEX idx_attempt_correct_junk (is_correct, is_junk),
     FOREIGN KEY (game_round_id) REFERENCES game_round(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='게임 라운드 시도 기록';
 
+-- Answer Suggestion Table (오답 군집 → 정답 후보)
+CREATE TABLE IF NOT EXISTS answer_suggestion (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    song_id BIGINT NOT NULL COMMENT '곡 ID',
+    normalized_answer VARCHAR(255) NOT NULL COMMENT '군집 대표 오답 (정규화)',
+    display_answer VARCHAR(255) NOT NULL COMMENT '정답으로 추가할 원문',
+    attempt_count INT NOT NULL DEFAULT 0 COMMENT '군집에 합산된 오답 수',
+    distance INT NULL COMMENT '제목/정답과의 최소 자모 편집 거리',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, ACCEPTED, REJECTED',
+    last_attempt_id BIGINT NULL COMMENT '마지막으로 합산한 시도 ID',
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_answer_suggestion_song_answer (song_id, normalized_answer),
+    INDEX idx_answer_suggestion_status (status),
+    FOREIGN KEY (song_id) REFERENCES song(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='정답 후보';
+
+-- Stats Sketch Table (메모리 통계 집계 저장본)
+CREATE TABLE IF NOT EXISTS stats_sketch (
+    sketch_key VARCHAR(100) PRIMARY KEY COMMENT '구조 키 (wrong-answer:global, wrong-answer:song:<곡 ID>)',
+    payload MEDIUMTEXT NOT NULL COMMENT '직렬화 결과 (Base64)',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='통계 집계 저장본';
+
+-- Song Stats Table (곡별 난이도 집계)
+CREATE TABLE IF NOT EXISTS song_stats (
+    song_id BIGINT PRIMARY KEY COMMENT '곡 ID',
+    play_count BIGINT NOT NULL DEFAULT 0 COMMENT '끝난 라운드 수',
+    correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '정답 라운드 수',
+    correct_rate DOUBLE NOT NULL DEFAULT 0 COMMENT '정답률 (0~1)',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '수정일시',
+    INDEX idx_song_stats_rate (correct_rate),
+    FOREIGN KEY (song_id) REFERENCES song(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='곡별 난이도 집계';
+
+-- Member Song Stats Table (회원별 곡 난이도 집계)
+CREATE TABLE IF NOT EXISTS member_song_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL COMMENT '회원 ID',
+    song_id BIGINT NOT NULL COMMENT '곡 ID',
+    play_count BIGINT NOT NULL DEFAULT 0 COMMENT '끝난 라운드 수',
+    correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '정답 라운드 수',
+    correct_rate DOUBLE NOT NULL DEFAULT 0 COMMENT '정답률 (0~1)',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '수정일시',
+    UNIQUE KEY uk_member_song_stats (member_id, song_id),
+    INDEX idx_member_song_stats_play (member_id, play_count, correct_count),
+    INDEX idx_member_song_stats_correct (member_id, correct_count, play_count),
+    INDEX idx_member_song_stats_rate (member_id, correct_rate),
+    FOREIGN KEY (song_id) REFERENCES song(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='회원별 곡 난이도 집계';
+
 -- 테스트 데이터
 INSERT INTO game_session (session_uuid, nickname, game_type, game_mode, total_rounds, completed_rounds, total_score, correct_count, skip_count, status, settings, started_at, ended_at) VALUES
 ('550e8400-e29b-41d4-a716-446655440001', '음악매니아', 'SOLO_GUESS', 'RANDOM', 10, 10, 850, 8, 1, 'COMPLETED', '{"timeLimit":30,"hintEnabled":true,"hintType":"INITIAL","skipAllowed":true,"maxSkips":3,"scorePerCorrect":100,"timeBonusRate":10}', '2024-01-15 14:30:00', '2024-01-15 14:45:00'),
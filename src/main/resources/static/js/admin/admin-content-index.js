@@ -1332,6 +1332,43 @@ function autoGenerateAnswers() {
         });
 }
 
+function reloadAnswerDictionary() {
+    if (!confirm('발음 사전을 다시 읽으시겠습니까?')) return;
+
+    fetch('/admin/answer/dictionary/reload', { method: 'POST' })
+        .then(function(response) { return response.json(); })
+        .then(function(result) {
+            if (result.success) {
+                showToast(result.message, 'success');
+                if (confirm('바뀐 발음 사전으로 전체 곡의 정답을 다시 생성하시겠습니까?\n(기존 정답은 유지되고 새 변형만 추가됩니다)')) {
+                    regenerateAllAnswers();
+                }
+            } else {
+                showToast(result.message, 'error');
+            }
+        })
+        .catch(function() {
+            showToast('발음 사전 갱신 중 오류가 발생했습니다.', 'error');
+        });
+}
+
+function regenerateAllAnswers() {
+    showToast('전체 곡 정답 재생성을 시작합니다.', 'info');
+
+    fetch('/admin/answer/regenerate-all', { method: 'POST' })
+        .then(function(response) { return response.json(); })
+        .then(function(result) {
+            if (result.success) {
+                showToast(result.message, 'success');
+            } else {
+                showToast(result.message, result.running ? 'info' : 'error');
+            }
+        })
+        .catch(function() {
+            showToast('정답 재생성 중 오류가 발생했습니다.', 'error');
+        });
+}
+
 function refreshAnswerList(songId) {
     fetch('/admin/answer/song/' + songId)
         .then(function(response) { return response.json(); })
@@ -91,3 +91,42 @@ function updatePopularity(songId, isPopular) {
         console.error(error);
     });
 }
+
+/**
+ * 정답 후보 수락 (곡 정답으로 추가)
+ */
+function acceptSuggestion(suggestionId) {
+    if (!confirm('이 후보를 곡의 정답으로 추가하시겠습니까?')) {
+        return;
+    }
+    postSuggestion(suggestionId, 'accept', '정답으로 추가되었습니다.');
+}
+
+/**
+ * 정답 후보 거절
+ */
+function rejectSuggestion(suggestionId) {
+    if (!confirm('이 후보를 거절하시겠습니까?')) {
+        return;
+    }
+    postSuggestion(suggestionId, 'reject', '거절되었습니다.');
+}
+
+function postSuggestion(suggestionId, action, successMessage) {
+    fetch('/admin/stats/suggestions/' + suggestionId + '/' + action, {
+        method: 'POST'
+    })
+    .then(response => response.json())
+    .then(data => {
+        if (data.success) {
+            alert(successMessage);
+            location.reload();
+        } else {
+            alert('처리 실패: ' + data.message);
+        }
+    })
+    .catch(error => {
+        alert('오류가 발생했습니다.');
+        console.error(error);
+    });
+}
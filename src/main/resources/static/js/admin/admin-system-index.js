@@ -334,6 +334,15 @@ function viewBatchDetail(batchId) {
                 html += '</div></div>';
             }
 
+            if (data.progress && data.progress.total !== undefined) {
+                html += '<div class="detail-section"><h4>' + (data.progress.running ? '진행 상황' : '마지막 실행 진행') + '</h4><div class="detail-grid">';
+                html += '<div class="detail-item"><span class="detail-label">처리</span><span class="detail-value">' + data.progress.processed + ' / ' + data.progress.total + '건</span></div>';
+                html += '<div class="detail-item"><span class="detail-label">처리 속도</span><span class="detail-value">' + data.progress.rowsPerSecond + '건/s</span></div>';
+                html += '<div class="detail-item"><span class="detail-label">경과 시간</span><span class="detail-value">' + formatSeconds(data.progress.elapsedSeconds) + '</span></div>';
+                html += '<div class="detail-item"><span class="detail-label">예상 남은 시간</span><span class="detail-value">' + (data.progress.etaSeconds !== null ? formatSeconds(data.progress.etaSeconds) : '-') + '</span></div>';
+                html += '</div></div>';
+            }
+
             if (data.recentHistory && data.recentHistory.length > 0) {
                 html += '<div class="detail-section"><h4>최근 실행 이력 (최대 10건)</h4>';
                 html += '<div class="history-table-wrapper"><table class="data-table mini-table"><thead><tr><th>실행 시간</th><th>유형</th><th>결과</th><th>처리</th><th>소요</th><th>메시지</th></tr></thead><tbody>';
@@ -342,7 +351,8 @@ function viewBatchDetail(batchId) {
                     html += '<td>' + formatDateTime(h.executedAt) + '</td>';
                     html += '<td><span class="exec-type ' + h.executionType.toLowerCase() + '">' + h.executionType + '</span></td>';
                     html += '<td><span class="result-badge ' + (h.result === 'SUCCESS' ? 'success' : 'fail') + '">' + h.result + '</span></td>';
-                    html += '<td>' + (h.affectedCount !== null ? h.affectedCount + '건' : '-') + '</td>';
+                    html += '<td>' + (h.affectedCount !== null ? h.affectedCount + '건' : '-')
+                        + (h.totalCount !== null ? ' <small>(' + h.processedCount + '/' + h.totalCount + ')</small>' : '') + '</td>';
                     html += '<td>' + (h.executionTimeMs !== null ? h.executionTimeMs + 'ms' : '-') + '</td>';
                     html += '<td class="message-cell">' + (h.message || '-') + '</td>';
                     html += '</tr>';
@@ -441,11 +451,28 @@ function runBatch(batchId, batchName) {
     runBtn.disabled = true;
     runBtn.innerHTML = '<span class="btn-spinner"></span>';
 
+    // 진행률을 제공하는 배치는 실행 중 처리 건수/예상 남은 시간 표시
+    var progressTimer = setInterval(function() {
+        fetch('/admin/batch/progress/' + batchId)
+            .then(function(response) {
+                return response.json();
+            })
+            .then(function(progress) {
+                if (progress.running && progress.total !== undefined) {
+                    runBtn.innerHTML = '<span class="btn-spinner"></span> ' + progress.processed + '/' + progress.total
+                        + ' · ' + progress.rowsPerSecond + '건/s'
+                        + (progress.etaSeconds !== null ? ' · 약 ' + formatSeconds(progress.etaSeconds) : '');
+                }
+            })
+            .catch(function() {});
+    }, 2000);
+
     fetch('/admin/batch/run/' + batchId, { method: 'POST' })
         .then(function(response) {
             return response.json();
         })
         .then(function(result) {
+            clearInterval(progressTimer);
             if (result.success) {
                 showToast(result.message, 'success');
                 loadTabContent('batch');
@@ -456,12 +483,21 @@ function runBatch(batchId, batchName) {
             }
         })
         .catch(function() {
+            clearInterval(progressTimer);
             showToast('배치 실행 중 오류가 발생했습니다.', 'error');
             runBtn.disabled = false;
             runBtn.textContent = '수동 실행';
         });
 }
 
+// 초 → "n분 m초"
+function formatSeconds(seconds) {
+    if (seconds === null || seconds === undefined) return '-';
+    var minutes = Math.floor(seconds / 60);
+    var rest = seconds % 60;
+    return minutes > 0 ? minutes + '분 ' + rest + '초' : rest + '초';
+}
+
 // 스케줄 새로고침
 function refreshSchedules() {
     fetch('/admin/batch/refresh-schedules', { method: 'POST' })
@@ -288,6 +288,7 @@ async function createRoom() {
 
     const maxPlayers = parseInt(document.getElementById('maxPlayers').value);
     const totalRounds = parseInt(document.getElementById('totalRounds').value);
+    const roundDuration = parseInt(document.getElementById('roundDuration').value);
     const isPrivate = document.getElementById('isPrivate').checked;
 
     // 라운드 수가 사용 가능한 노래 수를 초과하는지 확인
@@ -326,6 +327,7 @@ async function createRoom() {
                 roomName: roomName,
                 maxPlayers: maxPlayers,
                 totalRounds: totalRounds,
+                roundDuration: roundDuration,
                 isPrivate: isPrivate,
                 settings: settings
             })
@@ -8,6 +8,10 @@ let videoReady = false;  // YouTube 영상 로드 완료 여부 (CUED 상태)
 let pendingPlay = false; // 서버에서 재생 요청이 왔지만 영상 로드 대기 중
 let mySkipVoted = false;  // 내가 스킵 투표했는지
 
+// 라운드 상태 (서버 변경분 ROUND_DELTA를 병합할 기준)
+let roundState = null;  // 마지막으로 반영한 전체 라운드 정보
+let roundSeq = null;    // 마지막으로 반영한 순번 (없으면 다음 조회 때 전체 스냅샷)
+
 // 폴링 관련 (WebSocket fallback용)
 let roundPollingInterval = null;
 let chatPollingInterval = null;
@@ -120,10 +124,13 @@ function connectWebSocket() {
 
     GameWebSocket.connect(roomCode, {
         ROUND_UPDATE: function(payload) {
-            processRoundData(payload);
+            applyRoundSnapshot(payload);
         },
         ROUND_RESULT: function(payload) {
-            processRoundData(payload);
+            applyRoundSnapshot(payload);
+        },
+        ROUND_DELTA: function(payload) {
+            applyRoundDelta(payload);
         },
         CHAT: function(payload) {
             // 단건 채팅 메시지 수신
@@ -252,11 +259,78 @@ function processRoundData(result) {
     }
 }
 
+// ========== 라운드 상태 병합 (전체 스냅샷 + 순번 변경분) ==========
+
+/**
+ * 전체 스냅샷 반영 (입장, 누락 복구)
+ */
+function applyRoundSnapshot(info) {
+    roundState = info;
+    roundSeq = (info.seq !== undefined && info.seq !== null) ? info.seq : null;
+    processRoundData(info);
+}
+
+/**
+ * 서버 변경분 반영 - 순번이 이어지지 않으면 놓친 변경분을 다시 요청
+ */
+function applyRoundDelta(delta) {
+    if (roundState === null || roundSeq === null) {
+        fetchRoundInfo();
+        return;
+    }
+    if (delta.seq <= roundSeq) {
+        return;  // 이미 반영한 변경분
+    }
+    if (delta.seq !== roundSeq + 1) {
+        fetchRoundInfo();  // 누락 → since 이후 변경분 요청
+        return;
+    }
+    mergeRoundDelta(delta);
+    processRoundData(roundState);
+}
+
+/**
+ * 변경분의 항목만 덮어쓰기 (참가자는 memberId 기준 병합, 점수순 재정렬)
+ */
+function mergeRoundDelta(delta) {
+    Object.keys(delta).forEach(function(key) {
+        if (key !== 'players' && key !== 'removed') {
+            roundState[key] = delta[key];
+        }
+    });
+
+    var participants = roundState.participants || [];
+    if (delta.players) {
+        delta.players.forEach(function(change) {
+            var p = participants.find(function(item) {
+                return item.memberId === change.memberId;
+            });
+            if (p) {
+                Object.assign(p, change);
+            }
+        });
+    }
+    if (delta.removed) {
+        participants = participants.filter(function(item) {
+            return delta.removed.indexOf(item.memberId) < 0;
+        });
+    }
+    participants.sort(function(a, b) {
+        return b.score - a.score;
+    });
+    roundState.participants = participants;
+    roundSeq = delta.seq;
+}
+
 // ========== 라운드 정보 조회 (초기 로드 + polling fallback) ==========
 
 async function fetchRoundInfo() {
     try {
-        const response = await fetch('/game/multi/room/' + roomCode + '/round');
+        var url = '/game/multi/room/' + roomCode + '/round';
+        if (roundSeq !== null) {
+            url += '?since=' + roundSeq;
+        }
+        const response = await fetch(url);
         const result = await response.json();
 
         // 성공 시 오류 카운터 초기화
@@ -267,7 +341,22 @@ async function fetchRoundInfo() {
             return;
         }
 
-        processRoundData(result);
+        if (result.changes) {
+            // since 이후 변경분만 (변경이 없으면 그대로)
+            var changed = false;
+            result.changes.forEach(function(delta) {
+                if (roundSeq !== null && delta.seq === roundSeq + 1) {
+                    mergeRoundDelta(delta);
+                    changed = true;
+                }
+            });
+            if (changed) {
+                processRoundData(roundState);
+            }
+            return;
+        }
+
+        applyRoundSnapshot(result);
 
     } catch (error) {
         // console.error('라운드 정보 조회 오류:', error);
@@ -0,0 +1,190 @@
+package com.kh.game.batch;
+
+import com.kh.game.entity.AnswerSuggestion;
+import com.kh.game.entity.BatchConfig;
+import com.kh.game.entity.BatchExecutionHistory;
+import com.kh.game.entity.Song;
+import com.kh.game.repository.AnswerSuggestionRepository;
+import com.kh.game.repository.GameRoundAttemptRepository;
+import com.kh.game.repository.SongAnswerRepository;
+import com.kh.game.repository.SongRepository;
+import com.kh.game.service.BatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * AnswerSuggestionBatch 테스트
+ * - 워터마크 이후 오답만 처리, 비슷한 오답 군집화, 기존 정답 제외, 제목/정답과의 거리 기록
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AnswerSuggestionBatchTest {
+
+    @Mock
+    private GameRoundAttemptRepository attemptRepository;
+
+    @Mock
+    private AnswerSuggestionRepository suggestionRepository;
+
+    @Mock
+    private SongRepository songRepository;
+
+    @Mock
+    private SongAnswerRepository songAnswerRepository;
+
+    @Mock
+    private BatchService batchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnswerSuggestionBatch batch;
+    private BatchExecutionHistory history;
+
+    @BeforeEach
+    void setUp() {
+        batch = new AnswerSuggestionBatch(attemptRepository, suggestionRepository, songRepository,
+                songAnswerRepository, batchService, transactionManager);
+
+        history = new BatchExecutionHistory(AnswerSuggestionBatch.BATCH_ID, "정답 후보 추천",
+                BatchExecutionHistory.ExecutionType.MANUAL);
+        when(batchService.createExecutionHistory(eq(AnswerSuggestionBatch.BATCH_ID), any())).thenReturn(history);
+        when(batchService.getWatermark(AnswerSuggestionBatch.BATCH_ID)).thenReturn(0L);
+        when(songRepository.getReferenceById(anyLong())).thenAnswer(invocation -> song(invocation.getArgument(0)));
+        when(songRepository.findTitlesByIds(anyCollection())).thenReturn(rows(new Object[]{1L, "Dynamite"}));
+        when(songAnswerRepository.findAnswerTextsBySongIds(anyCollection())).thenReturn(rows(new Object[]{1L, "다이너마이트"}));
+        when(suggestionRepository.findBySongIds(anyCollection())).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("자모 1개 차이 오답은 한 후보로 묶고, 이미 정답인 입력은 제외")
+    void execute_clustersNearIdenticalWrongAnswers() {
+        // given
+        when(attemptRepository.findWrongAnswersAfter(eq(0L), any(), any())).thenReturn(rows(
+                new Object[]{11L, 1L, "다이나마이트"},
+                new Object[]{12L, 1L, "다이나 마이트"},
+                new Object[]{13L, 1L, "다이나마이뜨"},
+                new Object[]{14L, 1L, "다이나마이트!"},
+                new Object[]{15L, 1L, "다이너마이트"},
+                new Object[]{16L, 1L, "아이유"},
+                new Object[]{17L, 1L, "!!!"}));
+
+        // when
+        int created = batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then
+        assertThat(created).isEqualTo(2);
+        List<List<AnswerSuggestion>> saved = captureSaved(1);
+        assertThat(saved.get(0))
+                .extracting(AnswerSuggestion::getNormalizedAnswer, AnswerSuggestion::getAttemptCount,
+                        AnswerSuggestion::getDistance)
+                .containsExactlyInAnyOrder(
+                        tuple("다이나마이트", 4, 1),
+                        tuple("아이유", 1, null));
+
+        verify(batchService).saveWatermark(AnswerSuggestionBatch.BATCH_ID, 17L);
+        verify(batchService).completeExecution(eq(history), eq(BatchConfig.ExecutionResult.SUCCESS), any(),
+                eq(2), anyLong());
+    }
+
+    @Test
+    @DisplayName("워터마크 이후만 조회하고, 기존 후보와 가까운 오답은 새 후보 없이 합산")
+    void execute_mergesIntoExistingSuggestionFromWatermark() {
+        // given
+        when(batchService.getWatermark(AnswerSuggestionBatch.BATCH_ID)).thenReturn(100L);
+        AnswerSuggestion existing = new AnswerSuggestion(song(1L), "다이나마이트", "다이나마이트", 1);
+        existing.addAttempts(5, 90L);
+        existing.setStatus(AnswerSuggestion.Status.REJECTED);
+        when(suggestionRepository.findBySongIds(anyCollection())).thenReturn(List.of(existing));
+        when(attemptRepository.findWrongAnswersAfter(eq(100L), any(), any())).thenReturn(rows(
+                new Object[]{101L, 1L, "다이나마이뜨"},
+                new Object[]{102L, 1L, "다이나마이트"}));
+
+        // when
+        int created = batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then: 거절된 후보도 합산만 하고 상태는 유지
+        assertThat(created).isZero();
+        assertThat(captureSaved(1).get(0)).containsExactly(existing);
+        assertThat(existing.getAttemptCount()).isEqualTo(7);
+        assertThat(existing.getLastAttemptId()).isEqualTo(102L);
+        assertThat(existing.getStatus()).isEqualTo(AnswerSuggestion.Status.REJECTED);
+        verify(attemptRepository, never()).findWrongAnswersAfter(eq(0L), any(), any());
+        verify(batchService).saveWatermark(AnswerSuggestionBatch.BATCH_ID, 102L);
+    }
+
+    @Test
+    @DisplayName("페이지마다 워터마크를 저장하고, 마지막 페이지가 덜 차면 종료")
+    void execute_advancesWatermarkPerPage() {
+        // given
+        ReflectionTestUtils.setField(batch, "pageSize", 2);
+        when(attemptRepository.findWrongAnswersAfter(eq(0L), any(), any())).thenReturn(rows(
+                new Object[]{3L, 1L, "아이유"},
+                new Object[]{8L, 1L, "아이유"}));
+        when(attemptRepository.findWrongAnswersAfter(eq(8L), any(), any())).thenReturn(rows(
+                new Object[]{9L, 1L, "아이유"}));
+
+        // when
+        batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then
+        verify(batchService).saveWatermark(AnswerSuggestionBatch.BATCH_ID, 8L);
+        verify(batchService).saveWatermark(AnswerSuggestionBatch.BATCH_ID, 9L);
+        verify(attemptRepository, times(2)).findWrongAnswersAfter(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("새 오답이 없으면 워터마크와 후보를 건드리지 않음")
+    void execute_noNewAttempts() {
+        // given
+        when(attemptRepository.findWrongAnswersAfter(eq(0L), any(), any())).thenReturn(Collections.emptyList());
+
+        // when
+        int created = batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then
+        assertThat(created).isZero();
+        verify(batchService, never()).saveWatermark(any(), anyLong());
+        verify(suggestionRepository, never()).saveAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<AnswerSuggestion>> captureSaved(int times) {
+        ArgumentCaptor<List<AnswerSuggestion>> captor = ArgumentCaptor.forClass(List.class);
+        verify(suggestionRepository, times(times)).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static Song song(Long id) {
+        Song song = new Song();
+        song.setId(id);
+        return song;
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        List<Object[]> result = new ArrayList<>();
+        Collections.addAll(result, rows);
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+package com.kh.game.batch;
+
+import com.kh.game.entity.BatchConfig;
+import com.kh.game.entity.BatchExecutionHistory;
+import com.kh.game.entity.Song;
+import com.kh.game.entity.SongAnswer;
+import com.kh.game.repository.SongAnswerRepository;
+import com.kh.game.repository.SongRepository;
+import com.kh.game.service.BatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SongAnswerGenerationBatch 테스트
+ * - 청크 단위 일괄 저장, 체크포인트, 전체 재생성 시 기존 정답 중복 제외
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SongAnswerGenerationBatchTest {
+
+    @Mock
+    private SongRepository songRepository;
+
+    @Mock
+    private SongAnswerRepository songAnswerRepository;
+
+    @Mock
+    private BatchService batchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SongAnswerGenerationBatch batch;
+    private BatchExecutionHistory history;
+
+    @BeforeEach
+    void setUp() {
+        batch = new SongAnswerGenerationBatch(songRepository, songAnswerRepository, batchService, transactionManager);
+        ReflectionTestUtils.setField(batch, "parallelism", 2);
+
+        history = new BatchExecutionHistory(SongAnswerGenerationBatch.BATCH_ID, "정답 생성",
+                BatchExecutionHistory.ExecutionType.MANUAL);
+        when(batchService.findUnfinishedExecution(eq(SongAnswerGenerationBatch.BATCH_ID), anyString())).thenReturn(Optional.empty());
+        when(batchService.createExecutionHistory(eq(SongAnswerGenerationBatch.BATCH_ID), any())).thenReturn(history);
+        when(songRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            Song song = new Song();
+            song.setId(invocation.getArgument(0));
+            return song;
+        });
+    }
+
+    @Test
+    @DisplayName("정답 없는 곡 - 청크마다 한 번씩 일괄 저장하고 체크포인트 저장")
+    void execute_savesPerChunkWithCheckpoint() {
+        // given
+        ReflectionTestUtils.setField(batch, "chunkSize", 2);
+        when(songRepository.findTitlesWithoutAnswers("Y", 0L)).thenReturn(titles(
+                new Object[]{1L, "Dynamite"}, new Object[]{2L, "Love Story"}, new Object[]{5L, "봄날"}));
+
+        // when
+        int created = batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then
+        List<List<SongAnswer>> saved = captureSaved(2);
+        assertThat(saved.get(0)).extracting(a -> a.getSong().getId()).contains(1L, 2L);
+        assertThat(saved.get(1)).extracting(SongAnswer::getAnswer).containsExactly("봄날");
+        assertThat(saved.get(1).get(0).getIsPrimary()).isTrue();
+        assertThat(created).isEqualTo(saved.get(0).size() + saved.get(1).size());
+
+        verify(batchService).saveProgress(history, "MISSING:2", 2, 3);
+        verify(batchService).saveProgress(history, "MISSING:5", 3, 3);
+        verify(batchService).completeExecution(eq(history), eq(BatchConfig.ExecutionResult.SUCCESS), any(),
+                eq(created), anyLong());
+
+        Map<String, Object> progress = batch.getProgress();
+        assertThat(progress.get("running")).isEqualTo(false);
+        assertThat(progress.get("processed")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("첫 번째 변형만 대표 정답, 정규화 결과가 같은 변형은 한 번만 저장")
+    void execute_marksFirstPrimaryAndSkipsNormalizedDuplicates() {
+        // given: "Love-You"의 특수문자 제거 버전 "Love You"는 정규화 결과가 같음
+        when(songRepository.findTitlesWithoutAnswers("Y", 0L)).thenReturn(titles(new Object[]{1L, "Love-You"}));
+
+        // when
+        batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then
+        List<SongAnswer> saved = captureSaved(1).get(0);
+        assertThat(saved).extracting(SongAnswer::getAnswer).contains("Love-You").doesNotContain("Love You");
+        assertThat(saved).filteredOn(SongAnswer::getIsPrimary).extracting(SongAnswer::getAnswer)
+                .containsExactly("Love-You");
+    }
+
+    @Test
+    @DisplayName("전체 재생성 - 기존 정답과 같은 변형은 건너뛰고 대표 정답은 바꾸지 않음")
+    void regenerateAll_addsOnlyNewVariants() {
+        // given
+        when(songRepository.findTitlesByUseYn("Y", 0L)).thenReturn(titles(new Object[]{1L, "Love Story"}));
+        List<Object[]> existing = new ArrayList<>();
+        existing.add(new Object[]{1L, "love story"});
+        when(songAnswerRepository.findAnswerTextsBySongIds(List.of(1L))).thenReturn(existing);
+
+        // when
+        batch.regenerateAll(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then
+        List<SongAnswer> saved = captureSaved(1).get(0);
+        assertThat(saved).extracting(SongAnswer::getAnswer).doesNotContain("Love Story").isNotEmpty();
+        assertThat(saved).noneMatch(SongAnswer::getIsPrimary);
+        verify(batchService).saveProgress(history, "ALL:1", 1, 1);
+    }
+
+    @Test
+    @DisplayName("같은 모드의 중단된 실행이 있으면 체크포인트 이후 곡부터 처리")
+    void shouldResumeFromCheckpoint() {
+        // given
+        BatchExecutionHistory unfinished = new BatchExecutionHistory(SongAnswerGenerationBatch.BATCH_ID, "정답 생성",
+                BatchExecutionHistory.ExecutionType.SCHEDULED);
+        unfinished.updateProgress("ALL:300", 300, 1000);
+        when(batchService.findUnfinishedExecution(SongAnswerGenerationBatch.BATCH_ID, "ALL:")).thenReturn(Optional.of(unfinished));
+        when(songRepository.findTitlesByUseYn("Y", 300L)).thenReturn(Collections.emptyList());
+        when(songRepository.findTitlesWithoutAnswers("Y", 0L)).thenReturn(Collections.emptyList());
+
+        // when
+        batch.regenerateAll(BatchExecutionHistory.ExecutionType.MANUAL);
+        batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then: 재생성은 이어서, 다른 모드(정답 없는 곡)는 처음부터 - 실행마다 자기 모드의 시작 위치를 체크포인트로 남김
+        verify(songRepository).findTitlesByUseYn("Y", 300L);
+        verify(songRepository).findTitlesWithoutAnswers("Y", 0L);
+        verify(songAnswerRepository, never()).saveAll(any());
+        verify(batchService).saveProgress(history, "ALL:300", 0, 0);
+        verify(batchService).saveProgress(history, "MISSING:0", 0, 0);
+    }
+
+    @Test
+    @DisplayName("전체 재생성은 백그라운드에서 실행, 실행 중에는 다른 실행(예약/수동)을 건너뜀")
+    void startRegenerateAll_runsInBackgroundSingleFlight() throws Exception {
+        // given: 곡 목록 조회가 끝나지 않는 실행
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(songRepository.findTitlesByUseYn("Y", 0L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return titles(new Object[]{1L, "Dynamite"});
+        });
+
+        // when
+        boolean started = batch.startRegenerateAll(BatchExecutionHistory.ExecutionType.MANUAL);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        boolean startedAgain = batch.startRegenerateAll(BatchExecutionHistory.ExecutionType.MANUAL);
+        int scheduled = batch.execute(BatchExecutionHistory.ExecutionType.SCHEDULED);
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(batch.isRunning()).isTrue();
+        assertThat(startedAgain).isFalse();
+        assertThat(scheduled).isZero();
+        verify(songRepository, never()).findTitlesWithoutAnswers(any(), anyLong());
+
+        release.countDown();
+        verify(songAnswerRepository, timeout(5_000)).saveAll(any());
+        verify(batchService, timeout(5_000)).completeExecution(eq(history), eq(BatchConfig.ExecutionResult.SUCCESS),
+                any(), anyInt(), anyLong());
+        batch.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<SongAnswer>> captureSaved(int times) {
+        ArgumentCaptor<List<SongAnswer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(songAnswerRepository, times(times)).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static List<Object[]> titles(Object[]... rows) {
+        List<Object[]> result = new ArrayList<>();
+        Collections.addAll(result, rows);
+        return result;
+    }
+}
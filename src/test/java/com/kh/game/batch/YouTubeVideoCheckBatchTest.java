@@ -1,10 +1,14 @@
 package com.kh.game.batch;
 
+import com.kh.game.entity.BatchConfig;
+import com.kh.game.entity.BatchExecutionHistory;
 import com.kh.game.entity.Song;
 import com.kh.game.repository.SongRepository;
 import com.kh.game.service.BatchService;
+import com.kh.game.service.SongCatalogService;
 import com.kh.game.service.YouTubeValidationService;
 import com.kh.game.service.YouTubeValidationService.ValidationResult;
+import com.kh.game.service.YouTubeVerdictCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +16,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +38,7 @@ import static org.mockito.Mockito.*;
  * 검증 로직:
  * - oEmbed API + 썸네일 이중 체크
  * - 둘 다 실패해야 비활성화
+ * - 청크 단위 일괄 반영, 체크포인트로 이어서 실행
  */
 @ExtendWith(MockitoExtension.class)
 class YouTubeVideoCheckBatchTest {
@@ -41,11 +52,21 @@ class YouTubeVideoCheckBatchTest {
     @Mock
     private YouTubeValidationService youTubeValidationService;
 
+    @Mock
+    private YouTubeVerdictCache youTubeVerdictCache;
+
+    @Mock
+    private SongCatalogService songCatalogService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private YouTubeVideoCheckBatch batch;
 
     @BeforeEach
     void setUp() {
-        batch = new YouTubeVideoCheckBatch(songRepository, batchService, youTubeValidationService);
+        batch = new YouTubeVideoCheckBatch(songRepository, batchService, youTubeValidationService,
+                youTubeVerdictCache, songCatalogService, transactionManager);
     }
 
     @Test
@@ -53,7 +74,7 @@ class YouTubeVideoCheckBatchTest {
     void shouldKeepActiveWhenBothChecksPass() {
         // given
         Song song = createSong(1L, "dQw4w9WgXcQ", "Y");
-        when(songRepository.findByUseYnAndYoutubeVideoIdIsNotNull("Y"))
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
                 .thenReturn(Collections.singletonList(song));
         when(youTubeValidationService.validateVideo("dQw4w9WgXcQ"))
                 .thenReturn(ValidationResult.valid());
@@ -63,8 +84,8 @@ class YouTubeVideoCheckBatchTest {
 
         // then
         assertThat(disabledCount).isZero();
-        assertThat(song.getUseYn()).isEqualTo("Y");
-        verify(songRepository, never()).save(any(Song.class));
+        verify(songRepository).markYoutubeValid(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(songRepository, never()).deactivateInvalidYoutube(any(), any(), any());
     }
 
     @Test
@@ -72,7 +93,7 @@ class YouTubeVideoCheckBatchTest {
     void shouldKeepActiveWhenOnlyThumbnailPasses() {
         // given
         Song song = createSong(1L, "validVideo123", "Y");
-        when(songRepository.findByUseYnAndYoutubeVideoIdIsNotNull("Y"))
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
                 .thenReturn(Collections.singletonList(song));
         when(youTubeValidationService.validateVideo("validVideo123"))
                 .thenReturn(ValidationResult.valid()); // 썸네일은 성공
@@ -82,7 +103,7 @@ class YouTubeVideoCheckBatchTest {
 
         // then
         assertThat(disabledCount).isZero();
-        assertThat(song.getUseYn()).isEqualTo("Y");
+        verify(songRepository, never()).deactivateInvalidYoutube(any(), any(), any());
     }
 
     @Test
@@ -90,7 +111,7 @@ class YouTubeVideoCheckBatchTest {
     void shouldDisableWhenBothChecksFail() {
         // given
         Song song = createSong(1L, "deletedVideo", "Y");
-        when(songRepository.findByUseYnAndYoutubeVideoIdIsNotNull("Y"))
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
                 .thenReturn(Collections.singletonList(song));
         when(youTubeValidationService.validateVideo("deletedVideo"))
                 .thenReturn(ValidationResult.invalid("oEmbed 실패", "썸네일 실패"));
@@ -100,15 +121,16 @@ class YouTubeVideoCheckBatchTest {
 
         // then
         assertThat(disabledCount).isEqualTo(1);
-        assertThat(song.getUseYn()).isEqualTo("N");
-        verify(songRepository).save(song);
+        verify(songRepository).deactivateInvalidYoutube(eq(List.of(1L)), eq(YouTubeVerdictCache.ERROR_NOT_FOUND),
+                any(LocalDateTime.class));
+        verify(songCatalogService).invalidate();
     }
 
     @Test
     @DisplayName("YouTube ID가 없는 노래는 스킵")
     void shouldSkipSongsWithoutYoutubeId() {
         // given
-        when(songRepository.findByUseYnAndYoutubeVideoIdIsNotNull("Y"))
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
 
         // when
@@ -127,7 +149,7 @@ class YouTubeVideoCheckBatchTest {
         Song invalidSong = createSong(2L, "invalid", "Y");
         Song validSong2 = createSong(3L, "valid2", "Y");
 
-        when(songRepository.findByUseYnAndYoutubeVideoIdIsNotNull("Y"))
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
                 .thenReturn(Arrays.asList(validSong1, invalidSong, validSong2));
 
         when(youTubeValidationService.validateVideo("valid1"))
@@ -142,14 +164,12 @@ class YouTubeVideoCheckBatchTest {
 
         // then
         assertThat(disabledCount).isEqualTo(1);
-        assertThat(validSong1.getUseYn()).isEqualTo("Y");
-        assertThat(invalidSong.getUseYn()).isEqualTo("N");
-        assertThat(validSong2.getUseYn()).isEqualTo("Y");
-
-        // invalidSong만 저장됨
-        ArgumentCaptor<Song> songCaptor = ArgumentCaptor.forClass(Song.class);
-        verify(songRepository, times(1)).save(songCaptor.capture());
-        assertThat(songCaptor.getValue().getId()).isEqualTo(2L);
+
+        // 청크 단위 일괄 반영 - invalidSong만 비활성화
+        verify(songRepository).markYoutubeValid(eq(List.of(1L, 3L)), any(LocalDateTime.class));
+        ArgumentCaptor<List<Long>> idsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(songRepository, times(1)).deactivateInvalidYoutube(idsCaptor.capture(), any(), any());
+        assertThat(idsCaptor.getValue()).containsExactly(2L);
     }
 
     @Test
@@ -157,7 +177,7 @@ class YouTubeVideoCheckBatchTest {
     void shouldDisableEmbedDisabledVideos() {
         // given
         Song song = createSong(1L, "noEmbedVideo", "Y");
-        when(songRepository.findByUseYnAndYoutubeVideoIdIsNotNull("Y"))
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
                 .thenReturn(Collections.singletonList(song));
         when(youTubeValidationService.validateVideo("noEmbedVideo"))
                 .thenReturn(ValidationResult.embedDisabled());
@@ -167,7 +187,94 @@ class YouTubeVideoCheckBatchTest {
 
         // then
         assertThat(disabledCount).isEqualTo(1);
-        assertThat(song.getUseYn()).isEqualTo("N");
+        verify(songRepository).deactivateInvalidYoutube(eq(List.of(1L)), eq(YouTubeVerdictCache.ERROR_EMBED_DISABLED),
+                any(LocalDateTime.class));
+        verify(youTubeVerdictCache).remember(eq("noEmbedVideo"), any(ValidationResult.class), any());
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 OPEN (확인 불가) → 비활성화하지 않고 보류")
+    void shouldSkipWhenCircuitOpen() {
+        // given
+        Song unknown = createSong(1L, "unknownVideo", "Y");
+        Song failedDuringOutage = createSong(2L, "timeoutVideo", "Y");
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(unknown, failedDuringOutage));
+        when(youTubeValidationService.validateVideo("unknownVideo"))
+                .thenReturn(ValidationResult.unavailable());
+        when(youTubeValidationService.validateVideo("timeoutVideo"))
+                .thenReturn(ValidationResult.invalid("네트워크 오류", "네트워크 오류"));
+        when(youTubeValidationService.isCircuitOpen()).thenReturn(true);
+
+        // when
+        int disabledCount = batch.execute(null);
+
+        // then
+        assertThat(disabledCount).isZero();
+        verify(songRepository, never()).markYoutubeValid(any(), any());
+        verify(songRepository, never()).deactivateInvalidYoutube(any(), any(), any());
+        verify(youTubeVerdictCache, never()).remember(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("청크마다 진행 상황(체크포인트) 저장, 완료 후 진행률 조회")
+    void shouldSaveProgressPerChunk() {
+        // given
+        ReflectionTestUtils.setField(batch, "chunkSize", 2);
+        BatchExecutionHistory history = new BatchExecutionHistory(YouTubeVideoCheckBatch.BATCH_ID, "YouTube",
+                BatchExecutionHistory.ExecutionType.MANUAL);
+        when(batchService.createExecutionHistory(YouTubeVideoCheckBatch.BATCH_ID, BatchExecutionHistory.ExecutionType.MANUAL))
+                .thenReturn(history);
+        when(songRepository.findSongsNeedingYoutubeCheck(any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(createSong(1L, "a", "Y"), createSong(2L, "b", "Y"), createSong(3L, "c", "Y")));
+        when(youTubeValidationService.validateVideo(any())).thenReturn(ValidationResult.valid());
+
+        // when
+        batch.execute(BatchExecutionHistory.ExecutionType.MANUAL);
+
+        // then
+        verify(songRepository, times(2)).markYoutubeValid(any(), any(LocalDateTime.class));
+        verify(batchService).saveProgress(eq(history), any(), eq(2), eq(3));
+        verify(batchService).saveProgress(eq(history), any(), eq(3), eq(3));
+        verify(batchService).completeExecution(eq(history), eq(BatchConfig.ExecutionResult.SUCCESS), any(), eq(0), anyLong());
+
+        Map<String, Object> progress = batch.getProgress();
+        assertThat(progress.get("running")).isEqualTo(false);
+        assertThat(progress.get("processed")).isEqualTo(3);
+        assertThat(progress.get("total")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("중단된 실행이 있으면 그 기준 시각 이전에 검사한 곡만 이어서 검사")
+    void shouldResumeFromCheckpoint() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 3, 0);
+        BatchExecutionHistory unfinished = new BatchExecutionHistory(YouTubeVideoCheckBatch.BATCH_ID, "YouTube",
+                BatchExecutionHistory.ExecutionType.SCHEDULED);
+        unfinished.updateProgress(cutoff.toString(), 200, 500);
+        when(batchService.findUnfinishedExecution(YouTubeVideoCheckBatch.BATCH_ID)).thenReturn(Optional.of(unfinished));
+        when(songRepository.findSongsNeedingYoutubeCheck(cutoff)).thenReturn(Collections.emptyList());
+
+        // when
+        batch.execute(null);
+
+        // then
+        verify(songRepository).findSongsNeedingYoutubeCheck(cutoff);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 - 버스트 이후 초당 요청 수 제한")
+    void tokenBucket_limitsRate() throws InterruptedException {
+        YouTubeVideoCheckBatch.TokenBucket bucket = new YouTubeVideoCheckBatch.TokenBucket(20);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 30; i++) {
+            bucket.acquire();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // 20건은 즉시, 나머지 10건은 초당 20건 속도 → 약 500ms
+        assertThat(elapsedMs).isBetween(400L, 1500L);
     }
 
     private Song createSong(Long id, String youtubeVideoId, String useYn) {
@@ -0,0 +1,65 @@
+package com.kh.game.benchmark;
+
+import com.kh.game.util.AnswerNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정답 정규화 벤치마크 (JMH)
+ *
+ * - regex: 기존 방식 (toLowerCase → replaceAll 2회)
+ * - normalize: AnswerNormalizer.normalize (한 번 순회, 결과 문자열 1개)
+ * - normalizeIntoBuffer: 재사용 StringBuilder에 기록 (할당 없음)
+ * - hash64: 정규화 결과 해시만 계산 (정답 인덱스 조회용, 할당 없음)
+ *
+ * 실행: mvn test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp target/test-classes:target/classes:<test classpath> com.kh.game.benchmark.AnswerNormalizerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnswerNormalizerBenchmark {
+
+    // 채팅 정답 입력 / 제목 / 긴 제목
+    @Param({"다이너마이트", "Dynamite (Feat. BTS)", "Never Gonna Give You Up - 2022 Remaster (Official Video)"})
+    private String input;
+
+    private final StringBuilder buffer = new StringBuilder(64);
+
+    @Benchmark
+    public String regex() {
+        return input.toLowerCase()
+                .replaceAll("\\s+", "")
+                .replaceAll("[^a-z0-9가-힣]", "");
+    }
+
+    @Benchmark
+    public String normalize() {
+        return AnswerNormalizer.normalize(input);
+    }
+
+    @Benchmark
+    public void normalizeIntoBuffer(Blackhole bh) {
+        buffer.setLength(0);
+        bh.consume(AnswerNormalizer.normalize(input, buffer));
+    }
+
+    @Benchmark
+    public long hash64() {
+        return AnswerNormalizer.hash64(input);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AnswerNormalizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,165 @@
+package com.kh.game.benchmark;
+
+import com.kh.game.util.AnswerGeneratorUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영어 제목 한글 발음 변환 벤치마크 (JMH, 곡 카탈로그 전체 1회 변환 = 1 op)
+ *
+ * - legacyConvert: 기존 방식 (위치마다 길이 5..1 부분 문자열을 잘라 LinkedHashMap 조회)
+ * - trieConvert: AnswerGeneratorUtil.convertToKorean (트라이 한 번 순회)
+ * - cachedVariants: AnswerGeneratorUtil.generateAnswerVariants (제목별 캐시 적중)
+ *
+ * 카탈로그: -Dtitles=<파일> (한 줄에 제목 하나, 예: SELECT title FROM song 결과)
+ *           지정하지 않으면 사전 단어를 섞은 합성 제목 10,000개
+ *
+ * 실행: mvn test-compile 후 IDE에서 main 실행, 또는
+ *       java -Dtitles=titles.txt -cp target/test-classes:target/classes:<test classpath> com.kh.game.benchmark.AnswerTransliterationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnswerTransliterationBenchmark {
+
+    private static final int SYNTHETIC_TITLES = 10_000;
+
+    private List<String> titles;
+    private Map<String, String> phoneticMap;
+    private Map<String, String> wordMap;
+
+    @Setup
+    public void setUp() throws Exception {
+        phoneticMap = readDictionary("PHONETIC_MAP");
+        wordMap = readDictionary("WORD_MAP");
+
+        String path = System.getProperty("titles");
+        titles = path != null ? readTitles(Path.of(path)) : syntheticTitles();
+
+        // 캐시 채우기
+        for (String title : titles) {
+            AnswerGeneratorUtil.generateAnswerVariants(title);
+        }
+    }
+
+    @Benchmark
+    public void legacyConvert(Blackhole bh) {
+        for (String title : titles) {
+            bh.consume(legacyConvertToKorean(title));
+        }
+    }
+
+    @Benchmark
+    public void trieConvert(Blackhole bh) {
+        for (String title : titles) {
+            bh.consume(AnswerGeneratorUtil.convertToKorean(title));
+        }
+    }
+
+    @Benchmark
+    public void cachedVariants(Blackhole bh) {
+        for (String title : titles) {
+            bh.consume(AnswerGeneratorUtil.generateAnswerVariants(title));
+        }
+    }
+
+    private String legacyConvertToKorean(String english) {
+        String text = english.toLowerCase().trim();
+        StringBuilder result = new StringBuilder();
+        String[] words = text.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i].replaceAll("[^a-z0-9']", "");
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.matches("\\d+")) {
+                result.append(word);
+            } else if (wordMap.containsKey(word)) {
+                result.append(wordMap.get(word));
+            } else {
+                String remaining = word;
+                while (!remaining.isEmpty()) {
+                    boolean matched = false;
+                    for (int len = Math.min(remaining.length(), 5); len >= 1; len--) {
+                        String sub = remaining.substring(0, len);
+                        if (phoneticMap.containsKey(sub)) {
+                            result.append(phoneticMap.get(sub));
+                            remaining = remaining.substring(len);
+                            matched = true;
+                            break;
+                        }
+                    }
+                    if (!matched) {
+                        remaining = remaining.substring(1);
+                    }
+                }
+            }
+            if (i < words.length - 1) {
+                result.append(" ");
+            }
+        }
+        return result.toString().trim();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> readDictionary(String fieldName) throws ReflectiveOperationException {
+        Field field = AnswerGeneratorUtil.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return new HashMap<>((Map<String, String>) field.get(null));
+    }
+
+    private static List<String> readTitles(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private List<String> syntheticTitles() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(wordMap.keySet());
+        String[] suffixes = {"", " (feat. Someone)", " - Remix", " [Live]", " Part 2"};
+        List<String> result = new ArrayList<>(SYNTHETIC_TITLES);
+        for (int i = 0; i < SYNTHETIC_TITLES; i++) {
+            int count = 1 + random.nextInt(4);
+            StringBuilder sb = new StringBuilder();
+            for (int w = 0; w < count; w++) {
+                String word = words.get(random.nextInt(words.size()));
+                // 사전에 없는 단어(음소 변환 경로)도 섞음
+                if (random.nextBoolean()) {
+                    word = word + "s";
+                }
+                if (w > 0) {
+                    sb.append(' ');
+                }
+                sb.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            }
+            sb.append(suffixes[random.nextInt(suffixes.length)]);
+            result.add(sb.toString());
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AnswerTransliterationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
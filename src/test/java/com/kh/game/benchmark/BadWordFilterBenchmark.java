@@ -0,0 +1,93 @@
+package com.kh.game.benchmark;
+
+import com.kh.game.service.BadWordMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금지어 필터 벤치마크 (JMH)
+ *
+ * - loopFilter: 기존 방식 (금지어마다 indexOf + substring 재조립)
+ * - automatonFilter: BadWordMatcher.replaceAll (메시지 한 번 순회)
+ * - automatonContains: BadWordMatcher.containsAny (첫 일치에서 종료)
+ *
+ * 금지어 수(wordCount)가 50 → 50,000으로 늘어도 automaton 쪽은 거의 일정해야 함
+ *
+ * 실행: mvn test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp target/test-classes:target/classes:<test classpath> com.kh.game.benchmark.BadWordFilterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BadWordFilterBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하거너더러머버서어저처";
+
+    @Param({"50", "50000"})
+    private int wordCount;
+
+    // 채팅 한 줄 분량 메시지 (금지어 1개 포함)
+    private String message;
+    private Map<String, String> words;
+    private BadWordMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new HashMap<>();
+        while (words.size() < wordCount) {
+            int length = 2 + random.nextInt(3);
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            words.put(sb.toString(), "***");
+        }
+        words.put("badword", "***");
+        matcher = new BadWordMatcher(words);
+        message = "오늘 게임 진짜 재밌었어요 다음 라운드도 같이 해요 BadWord 빼고 ㅋㅋㅋ good game!";
+    }
+
+    @Benchmark
+    public String loopFilter() {
+        String result = message;
+        String lowerMessage = message.toLowerCase();
+        for (Map.Entry<String, String> entry : words.entrySet()) {
+            String word = entry.getKey();
+            String replacement = entry.getValue();
+            int index = lowerMessage.indexOf(word);
+            while (index >= 0) {
+                result = result.substring(0, index) + replacement + result.substring(index + word.length());
+                lowerMessage = result.toLowerCase();
+                index = lowerMessage.indexOf(word, index + replacement.length());
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String automatonFilter() {
+        return matcher.replaceAll(message);
+    }
+
+    @Benchmark
+    public boolean automatonContains() {
+        return matcher.containsAny(message);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BadWordFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
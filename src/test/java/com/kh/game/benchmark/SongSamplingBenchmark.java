@@ -0,0 +1,85 @@
+package com.kh.game.benchmark;
+
+import com.kh.game.service.SongSampler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 곡 무작위 추출 벤치마크 (JMH)
+ *
+ * - shuffleList: 기존 방식 (후보 목록 복사 → Collections.shuffle → 앞에서 k개)
+ * - sample: SongSampler.sample (거부 샘플링 / 부분 Fisher–Yates)
+ * - permutationFirst3: 검증 대체 루프처럼 지연 순열에서 3개만 소비
+ *
+ * 실행: mvn test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp target/test-classes:target/classes:<test classpath> com.kh.game.benchmark.SongSamplingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SongSamplingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int songCount;
+
+    @Param({"1", "30"})
+    private int k;
+
+    private List<Long> catalog;
+    private BitSet candidates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        catalog = new ArrayList<>(songCount);
+        candidates = new BitSet(songCount);
+        for (int i = 0; i < songCount; i++) {
+            catalog.add((long) i);
+            // 게임용 후보 비율 약 70% (레트로/매니악 제외 가정)
+            if (random.nextInt(10) < 7) {
+                candidates.set(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void shuffleList(Blackhole bh) {
+        List<Long> filtered = new ArrayList<>();
+        for (int pos = candidates.nextSetBit(0); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+            filtered.add(catalog.get(pos));
+        }
+        Collections.shuffle(filtered);
+        bh.consume(filtered.subList(0, Math.min(k, filtered.size())));
+    }
+
+    @Benchmark
+    public void sample(Blackhole bh) {
+        for (int pos : SongSampler.sample(candidates, k, ThreadLocalRandom.current())) {
+            bh.consume(catalog.get(pos));
+        }
+    }
+
+    @Benchmark
+    public void permutationFirst3(Blackhole bh) {
+        PrimitiveIterator.OfInt it = SongSampler.permutation(candidates, ThreadLocalRandom.current());
+        for (int i = 0; i < 3 && it.hasNext(); i++) {
+            bh.consume(catalog.get(it.nextInt()));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SongSamplingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
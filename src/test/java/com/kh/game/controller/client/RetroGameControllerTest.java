@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -75,6 +76,8 @@ class RetroGameControllerTest {
         // YouTube 검증 항상 성공하도록 Mock 설정
         YouTubeValidationService.ValidationResult validResult = YouTubeValidationService.ValidationResult.valid();
         Mockito.when(youTubeValidationService.validateVideo(anyString())).thenReturn(validResult);
+        Mockito.when(youTubeValidationService.validateVideoAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(validResult));
 
         // 장르 생성
         kpopGenre = createGenre("KPOP", "K-POP");
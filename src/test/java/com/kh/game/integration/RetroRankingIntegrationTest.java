@@ -15,6 +15,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -64,6 +65,8 @@ class RetroRankingIntegrationTest {
         // YouTube Mock
         YouTubeValidationService.ValidationResult validResult = YouTubeValidationService.ValidationResult.valid();
         Mockito.when(youTubeValidationService.validateVideo(anyString())).thenReturn(validResult);
+        Mockito.when(youTubeValidationService.validateVideoAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(validResult));
 
         // 장르 생성
         retroGenre = createGenre("RETRO", "Retro/Oldies");
@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -84,6 +85,8 @@ class SoftDeleteIntegrationTest {
         // YouTube 검증 Mock
         YouTubeValidationService.ValidationResult validResult = YouTubeValidationService.ValidationResult.valid();
         Mockito.when(youTubeValidationService.validateVideo(anyString())).thenReturn(validResult);
+        Mockito.when(youTubeValidationService.validateVideoAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(validResult));
 
         // 장르 생성/조회
         kpopGenre = genreRepository.findByCode("KPOP").orElseGet(() -> {
@@ -0,0 +1,97 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.AnswerSuggestion;
+import com.kh.game.entity.Song;
+import com.kh.game.entity.SongAnswer;
+import com.kh.game.repository.AnswerSuggestionRepository;
+import com.kh.game.repository.SongAnswerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * AnswerSuggestionService 테스트 - 정답 후보 수락/거절
+ */
+@ExtendWith(MockitoExtension.class)
+class AnswerSuggestionServiceTest {
+
+    @Mock
+    private AnswerSuggestionRepository suggestionRepository;
+
+    @Mock
+    private SongAnswerRepository songAnswerRepository;
+
+    @Mock
+    private SongService songService;
+
+    @InjectMocks
+    private AnswerSuggestionService answerSuggestionService;
+
+    private AnswerSuggestion suggestion;
+
+    @BeforeEach
+    void setUp() {
+        Song song = new Song();
+        song.setId(1L);
+        suggestion = new AnswerSuggestion(song, "다이나마이트", "다이나마이트", 1);
+        suggestion.setId(10L);
+    }
+
+    @Test
+    @DisplayName("수락 - 곡 정답으로 추가하고 ACCEPTED 처리")
+    void accept_addsAnswer() {
+        // given
+        when(suggestionRepository.findById(10L)).thenReturn(Optional.of(suggestion));
+        when(songAnswerRepository.findMatchingAnswer(1L, "다이나마이트")).thenReturn(List.of());
+
+        // when
+        answerSuggestionService.accept(10L);
+
+        // then
+        verify(songService).addAnswer(1L, "다이나마이트", false);
+        assertThat(suggestion.getStatus()).isEqualTo(AnswerSuggestion.Status.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("수락 - 이미 같은 정답이 있으면 추가하지 않음")
+    void accept_skipsExistingAnswer() {
+        // given
+        when(suggestionRepository.findById(10L)).thenReturn(Optional.of(suggestion));
+        when(songAnswerRepository.findMatchingAnswer(1L, "다이나마이트")).thenReturn(List.of(new SongAnswer()));
+
+        // when
+        answerSuggestionService.accept(10L);
+
+        // then
+        verify(songService, never()).addAnswer(anyLong(), any(), anyBoolean());
+        assertThat(suggestion.getStatus()).isEqualTo(AnswerSuggestion.Status.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 후보는 다시 수락/거절할 수 없음")
+    void reject_alreadyProcessed() {
+        // given
+        suggestion.setStatus(AnswerSuggestion.Status.REJECTED);
+        when(suggestionRepository.findById(10L)).thenReturn(Optional.of(suggestion));
+
+        // when & then
+        assertThatThrownBy(() -> answerSuggestionService.accept(10L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> answerSuggestionService.reject(10L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArtistSearchIndex 자동완성 테스트
+ */
+class ArtistSearchIndexTest {
+
+    private ArtistSearchIndex index;
+    private long nextId = 1;
+
+    @BeforeEach
+    void setUp() {
+        List<CatalogSong> songs = new ArrayList<>();
+        addSongs(songs, "방탄소년단", 5);
+        addSongs(songs, "BTS", 3);
+        addSongs(songs, "블랙핑크", 4);
+        addSongs(songs, "Red Velvet", 2);
+        addSongs(songs, "아이유", 6);
+        addSongs(songs, "소유", 1);
+        index = new ArtistSearchIndex(songs);
+    }
+
+    private void addSongs(List<CatalogSong> songs, String artist, int count) {
+        for (int i = 0; i < count; i++) {
+            long id = nextId++;
+            songs.add(new CatalogSong(id, "Song " + id, artist, 1L, "KPOP", "K-POP", 1, 2020,
+                    false, true, "vid" + id, null, true));
+        }
+    }
+
+    @Test
+    @DisplayName("초성 검색 - ㅂㅌㅅ → 방탄소년단")
+    void chosung_prefix() {
+        assertThat(index.search("ㅂㅌㅅ", 10)).containsExactly("방탄소년단");
+        assertThat(index.search("ㅂ", 10)).containsExactly("방탄소년단", "블랙핑크");
+    }
+
+    @Test
+    @DisplayName("초성 + 완성형 혼합 검색")
+    void chosung_mixed() {
+        assertThat(index.search("방ㅌ", 10)).containsExactly("방탄소년단");
+    }
+
+    @Test
+    @DisplayName("대소문자/공백 무시 중간 일치")
+    void infix_ignoresCaseAndSpaces() {
+        assertThat(index.search("velvet", 10)).containsExactly("Red Velvet");
+        assertThat(index.search("dv E", 10)).containsExactly("Red Velvet");
+        assertThat(index.search("소년", 10)).containsExactly("방탄소년단");
+    }
+
+    @Test
+    @DisplayName("접두어 일치가 먼저, 같은 그룹 내에서는 곡 수 순")
+    void ranking_prefixThenSongCount() {
+        // 소유(1곡, 접두어) → 방탄소년단(5곡, 중간 일치)
+        assertThat(index.search("소", 10)).containsExactly("소유", "방탄소년단");
+
+        // 초성 ㅇ: 아이유(6곡) → 소유(1곡, 중간 일치)
+        assertThat(index.search("ㅇ", 10)).containsExactly("아이유", "소유");
+    }
+
+    @Test
+    @DisplayName("결과 수 제한 및 빈 검색어")
+    void limitAndEmpty() {
+        assertThat(index.search("ㅂ", 1)).containsExactly("방탄소년단");
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search("없는가수", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package com.kh.game.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BadWordMatcher (Aho–Corasick) 테스트
+ */
+class BadWordMatcherTest {
+
+    private static BadWordMatcher matcherOf(String... wordAndReplacement) {
+        Map<String, String> words = new LinkedHashMap<>();
+        for (int i = 0; i < wordAndReplacement.length; i += 2) {
+            words.put(wordAndReplacement[i], wordAndReplacement[i + 1]);
+        }
+        return new BadWordMatcher(words);
+    }
+
+    @Test
+    @DisplayName("금지어를 단어별 대체 문자열로 치환한다")
+    void replaceAll_usesPerWordReplacement() {
+        BadWordMatcher matcher = matcherOf("바보", "**", "stupid", "######");
+
+        assertThat(matcher.replaceAll("너 바보야 stupid!")).isEqualTo("너 **야 ######!");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 원문 길이만큼 치환한다")
+    void replaceAll_ignoresCase() {
+        BadWordMatcher matcher = matcherOf("bad", "***");
+
+        assertThat(matcher.replaceAll("BaD and bAD")).isEqualTo("*** and ***");
+        assertThat(matcher.containsAny("so BAD")).isTrue();
+    }
+
+    @Test
+    @DisplayName("겹치는 금지어는 먼저 시작하는 것, 같은 위치면 긴 것을 치환한다")
+    void replaceAll_overlapIsDeterministic() {
+        BadWordMatcher matcher = matcherOf("ab", "[AB]", "abc", "[ABC]", "bcd", "[BCD]");
+
+        // abc(0~2)가 bcd(1~3)보다 먼저 시작 → abc 치환 후 남은 d는 그대로
+        assertThat(matcher.replaceAll("abcd")).isEqualTo("[ABC]d");
+        // 시작 위치가 같은 ab / abc 중 긴 abc
+        assertThat(matcher.replaceAll("xabcx")).isEqualTo("x[ABC]x");
+        assertThat(matcher.replaceAll("xbcdx")).isEqualTo("x[BCD]x");
+    }
+
+    @Test
+    @DisplayName("다른 금지어 안에 포함된 금지어도 찾는다 (실패 링크 출력)")
+    void findAll_reportsNestedWords() {
+        BadWordMatcher matcher = matcherOf("he", "*", "she", "*", "his", "*", "hers", "*");
+
+        List<String> found = matcher.findAll("ushers");
+
+        assertThat(found).containsExactly("she", "he", "hers");
+    }
+
+    @Test
+    @DisplayName("같은 금지어가 여러 번 나와도 목록에는 한 번만 담는다")
+    void findAll_distinctInOrder() {
+        BadWordMatcher matcher = matcherOf("바보", "*", "멍청", "*");
+
+        assertThat(matcher.findAll("멍청이 바보 바보")).containsExactly("멍청", "바보");
+    }
+
+    @Test
+    @DisplayName("일치가 없으면 원본 문자열을 그대로 반환한다")
+    void replaceAll_noMatchReturnsSameInstance() {
+        BadWordMatcher matcher = matcherOf("바보", "**");
+        String message = "안녕하세요";
+
+        assertThat(matcher.replaceAll(message)).isSameAs(message);
+        assertThat(matcher.containsAny(message)).isFalse();
+        assertThat(matcher.findAll(message)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 금지어 목록은 아무것도 걸러내지 않는다")
+    void emptyMatcher() {
+        BadWordMatcher matcher = BadWordMatcher.empty();
+
+        assertThat(matcher.isEmpty()).isTrue();
+        assertThat(matcher.replaceAll("아무 말")).isEqualTo("아무 말");
+        assertThat(matcher.containsAny("아무 말")).isFalse();
+    }
+}
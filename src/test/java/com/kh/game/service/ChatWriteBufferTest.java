@@ -0,0 +1,158 @@
+package com.kh.game.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ChatWriteBuffer 테스트
+ * - 다중 행 INSERT로 묶어서 저장, 방별 순서 유지, 방 버퍼가 가득 차면 저장 후 추가, 일괄 실패 시 한 건씩 재시도
+ * - 방 루프(nonBlocking) 스레드는 가득 차도 기다리지 않고 오래된 일반 채팅을 버림
+ */
+class ChatWriteBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<Object[]> inserts = Collections.synchronizedList(new ArrayList<>());
+    private ChatWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(inv -> {
+            Object[] args = Arrays.copyOfRange(inv.getArguments(), 1, inv.getArguments().length);
+            inserts.add(args);
+            return args.length / 6;
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+        buffer = new ChatWriteBuffer(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 방의 메시지를 flush-size 단위 다중 행 INSERT로 저장, 방 안에서는 보낸 순서 유지")
+    void flushesInMultiRowBatches() {
+        // given: 방 3개에 번갈아 250건 (100건마다 즉시 저장 예약되지만 순서는 flushLock으로 유지)
+        ReflectionTestUtils.setField(buffer, "flushSize", 1_000);
+        for (int i = 0; i < 250; i++) {
+            buffer.chat((long) (i % 3), 1L, "msg" + i);
+        }
+        assertThat(buffer.pending()).isEqualTo(250);
+        ReflectionTestUtils.setField(buffer, "flushSize", 100);
+
+        // when
+        buffer.flush();
+
+        // then: 100 + 100 + 50행
+        assertThat(inserts).extracting(args -> args.length / 6).containsExactly(100, 100, 50);
+        assertThat(buffer.pending()).isZero();
+
+        List<String> room1 = new ArrayList<>();
+        for (Object[] args : inserts) {
+            for (int row = 0; row < args.length / 6; row++) {
+                if (Long.valueOf(1L).equals(args[row * 6])) {
+                    room1.add((String) args[row * 6 + 2]);
+                }
+            }
+        }
+        assertThat(room1).hasSize(83).startsWith("msg1", "msg4", "msg7").endsWith("msg247");
+    }
+
+    @Test
+    @DisplayName("방 버퍼가 가득 차면 저장이 끝난 뒤 추가 - 메모리에 남는 메시지는 방 버퍼 크기 이하")
+    void backpressureWhenRoomFull() {
+        // given
+        ReflectionTestUtils.setField(buffer, "roomCapacity", 4);
+        ReflectionTestUtils.setField(buffer, "flushSize", 1_000);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            buffer.system(7L, 1L, "system" + i);
+            assertThat(buffer.pending()).isLessThanOrEqualTo(4);
+        }
+        buffer.flush();
+
+        // then: 가득 찰 때마다 4건씩 저장, 마지막 2건은 flush에서
+        assertThat(inserts).extracting(args -> args.length / 6).containsExactly(4, 4, 2);
+        assertThat(inserts.get(0)[3]).isEqualTo("SYSTEM");
+    }
+
+    @Test
+    @DisplayName("nonBlocking 스레드는 저장을 기다리지 않고 가장 오래된 일반 채팅을 버림 - 정답/시스템 메시지는 유지")
+    void nonBlockingThreadDropsOldestChat() throws Exception {
+        // given: 저장이 끝나지 않는 상황 (flushLock 점유)
+        ReflectionTestUtils.setField(buffer, "roomCapacity", 4);
+        ReflectionTestUtils.setField(buffer, "flushSize", 1_000);
+        ReentrantLock flushLock = (ReentrantLock) ReflectionTestUtils.getField(buffer, "flushLock");
+        flushLock.lock();
+
+        // when
+        Thread roomLoop = new Thread(ChatWriteBuffer.nonBlocking(() -> {
+            buffer.system(7L, 1L, "s0");
+            buffer.chat(7L, 1L, "c1");
+            buffer.chat(7L, 2L, "c2");
+            buffer.correctAnswer(7L, 2L, "a3", 1);
+            buffer.chat(7L, 1L, "c4");
+            buffer.chat(7L, 2L, "c5");
+            buffer.system(7L, 1L, "s6");
+        }));
+        roomLoop.start();
+        roomLoop.join(2_000);
+        boolean finished = !roomLoop.isAlive();
+        flushLock.unlock();
+        buffer.flush();
+
+        // then
+        assertThat(finished).isTrue();
+        assertThat(buffer.dropped()).isEqualTo(3);
+        assertThat(buffer.pending()).isZero();
+        List<Object> saved = new ArrayList<>();
+        for (Object[] args : inserts) {
+            for (int row = 0; row < args.length / 6; row++) {
+                saved.add(args[row * 6 + 2]);
+            }
+        }
+        assertThat(saved).containsExactly("s0", "a3", "c5", "s6");
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 한 건씩 다시 저장해 문제 있는 메시지만 버림")
+    void fallsBackToSingleRows() {
+        // given: 다중 행 INSERT와 방 99의 INSERT는 실패
+        doAnswer(inv -> {
+            Object[] args = Arrays.copyOfRange(inv.getArguments(), 1, inv.getArguments().length);
+            if (args.length > 6 || Long.valueOf(99L).equals(args[0])) {
+                throw new IllegalStateException("FK 위반");
+            }
+            inserts.add(args);
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+        buffer.chat(1L, 1L, "안녕하세요");
+        buffer.chat(99L, 1L, "삭제된 방");
+        buffer.correctAnswer(1L, 2L, "셀러브리티", 3);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(inserts).hasSize(2);
+        assertThat(inserts.get(1)).containsExactly(1L, 2L, "셀러브리티", "CORRECT_ANSWER", 3, inserts.get(1)[5]);
+        assertThat(buffer.pending()).isZero();
+    }
+}
@@ -6,6 +6,7 @@ import com.kh.game.repository.GenreRepository;
 import com.kh.game.repository.SongAnswerRepository;
 import com.kh.game.repository.SongRepository;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -61,6 +62,8 @@ class FanChallengeServiceTest {
         // YouTube 검증 항상 성공하도록 Mock 설정
         YouTubeValidationService.ValidationResult validResult = YouTubeValidationService.ValidationResult.valid();
         Mockito.when(youTubeValidationService.validateVideo(anyString())).thenReturn(validResult);
+        Mockito.when(youTubeValidationService.validateVideoAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(validResult));
 
         // 장르 생성
         kpopGenre = new Genre();
@@ -0,0 +1,115 @@
+package com.kh.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.game.dto.GameSettings;
+import com.kh.game.entity.GameRoom;
+import com.kh.game.entity.GameRoomParticipant;
+import com.kh.game.entity.Member;
+import com.kh.game.entity.Song;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LiveRoom 변경분 테스트 - 8인 방 기준 전체 스냅샷 대비 변경분 크기
+ */
+class LiveRoomTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("8인 방 정답/스킵 투표 변경분은 바뀐 참가자만 담아 전체 스냅샷보다 훨씬 작음")
+    @SuppressWarnings("unchecked")
+    void deltaIsSmallerThanSnapshot() throws Exception {
+        // given
+        LiveRoom room = eightPlayerRoom();
+        room.advanceRound();
+        room.startRound(song());
+        room.commitDelta();
+
+        // when
+        room.voteSkip(3L);
+        Map<String, Object> skipDelta = room.commitDelta();
+        room.acceptWinner(5L, MultiRoomRuntime.CORRECT_POINTS);
+        Map<String, Object> correctDelta = room.commitDelta();
+        Map<String, Object> snapshot = room.toRoundInfo();
+
+        // then
+        int snapshotBytes = objectMapper.writeValueAsBytes(snapshot).length;
+        int skipBytes = objectMapper.writeValueAsBytes(skipDelta).length;
+        int correctBytes = objectMapper.writeValueAsBytes(correctDelta).length;
+        assertThat(skipBytes).as("스킵 투표 변경분 %dB / 전체 %dB", skipBytes, snapshotBytes).isLessThan(snapshotBytes / 3);
+        assertThat(correctBytes).as("정답 변경분 %dB / 전체 %dB", correctBytes, snapshotBytes).isLessThan(snapshotBytes / 2);
+
+        // 바뀐 참가자만 포함
+        assertThat((List<Map<String, Object>>) skipDelta.get("players"))
+                .extracting(p -> p.get("memberId")).containsExactly(3L);
+        assertThat((List<Map<String, Object>>) correctDelta.get("players"))
+                .extracting(p -> p.get("memberId")).containsExactly(5L);
+        assertThat(correctDelta).containsEntry("winnerId", 5L).containsEntry("roundPhase", "RESULT");
+        assertThat((long) correctDelta.get("seq")).isEqualTo((long) skipDelta.get("seq") + 1);
+        assertThat(snapshot.get("seq")).isEqualTo(correctDelta.get("seq"));
+
+        // 변경이 없으면 순번도 그대로
+        assertThat(room.commitDelta()).isNull();
+    }
+
+    @Test
+    @DisplayName("새 라운드에서 이전 정답자/스킵 투표 초기화도 변경분에 포함")
+    void newRoundClearsWinner() {
+        // given
+        LiveRoom room = eightPlayerRoom();
+        room.advanceRound();
+        room.startRound(song());
+        room.voteSkip(1L);
+        room.acceptWinner(2L, MultiRoomRuntime.CORRECT_POINTS);
+        room.commitDelta();
+
+        // when
+        room.advanceRound();
+        room.startRound(song());
+        Map<String, Object> delta = room.commitDelta();
+
+        // then: 정답자 null로 지움, 스킵 투표했던 참가자만 초기화 전달
+        assertThat(delta).containsEntry("winnerId", null).containsEntry("currentRound", 2)
+                .containsEntry("roundPhase", "PLAYING").containsEntry("answer", null);
+        assertThat((List<?>) delta.get("players")).hasSize(1);
+    }
+
+    private static LiveRoom eightPlayerRoom() {
+        GameRoom room = new GameRoom();
+        room.setId(1L);
+        room.setRoomCode("ROOM01");
+        room.setStatus(GameRoom.RoomStatus.PLAYING);
+        room.setTotalRounds(10);
+        room.setCurrentRound(0);
+
+        List<GameRoomParticipant> participants = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            Member member = new Member();
+            member.setId(id);
+            member.setNickname("플레이어" + id);
+            if (id == 1) {
+                room.setHost(member);
+            }
+            participants.add(new GameRoomParticipant(room, member));
+        }
+        return new LiveRoom(room, participants, new GameSettings(), null);
+    }
+
+    private static Song song() {
+        Song song = new Song();
+        song.setId(100L);
+        song.setTitle("Celebrity");
+        song.setArtist("아이유");
+        song.setYoutubeVideoId("0-q1KafFCLU");
+        song.setStartTime(30);
+        song.setPlayDuration(20);
+        return song;
+    }
+}
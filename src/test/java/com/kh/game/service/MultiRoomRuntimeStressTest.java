@@ -0,0 +1,180 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.GameSettings;
+import com.kh.game.entity.*;
+import com.kh.game.repository.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 방 우편함 부하 테스트 - 1,000개 방 × 8명이 동시에 채팅/정답 제출
+ * - 방마다 정답자 정확히 1명, 점수·채팅·곡 집계 유실 없음
+ * - 명령 지연 p50/p99는 판정하지 않고 -Dstress.report=true일 때만 출력
+ * - 기본 빌드에서 제외, mvn test -Pstress로 실행
+ */
+@Tag("stress")
+class MultiRoomRuntimeStressTest {
+
+    private static final int ROOMS = 1_000;
+    private static final int PLAYERS = 8;
+    private static final int WRONG_CHATS = 20;
+    private static final int CLIENT_THREADS = 32;
+
+    private final GameRoomRepository gameRoomRepository = mock(GameRoomRepository.class, withSettings().stubOnly());
+    private final GameRoomParticipantRepository participantRepository = mock(GameRoomParticipantRepository.class, withSettings().stubOnly());
+    private final ChatWriteBuffer chatWriteBuffer = mock(ChatWriteBuffer.class, withSettings().stubOnly());
+    private final MultiGameService multiGameService = mock(MultiGameService.class, withSettings().stubOnly());
+    private final SongDeckService songDeckService = mock(SongDeckService.class, withSettings().stubOnly());
+    private final AnswerValidationService answerValidationService = mock(AnswerValidationService.class, withSettings().stubOnly());
+    private final SongStatsService songStatsService = mock(SongStatsService.class, withSettings().stubOnly());
+
+    @Test
+    @DisplayName("1,000개 방 × 8명 동시 제출 - 방마다 정답자 1명, 유실 없음, 지연 리포트")
+    void thousandRoomsEightPlayers() throws Exception {
+        // given
+        Map<String, GameRoom> rooms = new HashMap<>();
+        Map<GameRoom, List<GameRoomParticipant>> participants = new HashMap<>();
+        for (int r = 0; r < ROOMS; r++) {
+            GameRoom room = new GameRoom();
+            room.setId((long) r);
+            room.setRoomCode("R" + r);
+            room.setStatus(GameRoom.RoomStatus.PLAYING);
+            room.setTotalRounds(10);
+            room.setCurrentRound(0);
+            List<GameRoomParticipant> players = new ArrayList<>();
+            for (int p = 0; p < PLAYERS; p++) {
+                Member member = new Member();
+                member.setId(memberId(r, p));
+                member.setNickname("p" + p);
+                if (p == 0) {
+                    room.setHost(member);
+                }
+                players.add(new GameRoomParticipant(room, member));
+            }
+            rooms.put(room.getRoomCode(), room);
+            participants.put(room, players);
+        }
+
+        AtomicLong chatSaves = new AtomicLong();
+        AtomicLong roundRecords = new AtomicLong();
+        when(gameRoomRepository.findByRoomCode(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(rooms.get(inv.<String>getArgument(0))));
+        when(gameRoomRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(participantRepository.findGameParticipants(any()))
+                .thenAnswer(inv -> participants.get(inv.<GameRoom>getArgument(0)));
+        // 서버 타이머가 끼어들지 않도록 결과 화면 자동 진행 끄고 제한시간은 테스트보다 길게
+        GameSettings settings = new GameSettings();
+        settings.setAutoNextRound(false);
+        settings.setRoundDuration(3_600);
+        when(multiGameService.parseGameSettings(any())).thenReturn(settings);
+        when(songDeckService.next(anyLong(), any())).thenAnswer(inv -> {
+            Song song = new Song();
+            song.setId(inv.getArgument(0));
+            song.setTitle("정답");
+            song.setArtist("가수");
+            return song;
+        });
+        when(answerValidationService.validateAnswer(anyString(), anyLong()))
+                .thenAnswer(inv -> "정답".equals(inv.getArgument(0)));
+        doAnswer(inv -> chatSaves.incrementAndGet()).when(chatWriteBuffer).chat(anyLong(), anyLong(), anyString());
+        doAnswer(inv -> chatSaves.incrementAndGet()).when(chatWriteBuffer).correctAnswer(anyLong(), anyLong(), anyString(), anyInt());
+        doAnswer(inv -> chatSaves.incrementAndGet()).when(chatWriteBuffer).system(anyLong(), anyLong(), anyString());
+        doAnswer(inv -> roundRecords.incrementAndGet())
+                .when(songStatsService).recordMultiRound(anyLong(), anyCollection(), any());
+
+        MultiRoomRuntime runtime = new MultiRoomRuntime(gameRoomRepository, participantRepository, chatWriteBuffer,
+                mock(MemberRepository.class, withSettings().stubOnly()), mock(SongRepository.class, withSettings().stubOnly()),
+                multiGameService, songDeckService, answerValidationService, songStatsService,
+                mock(GameBroadcastService.class, withSettings().stubOnly()),
+                mock(PlatformTransactionManager.class, withSettings().stubOnly()));
+
+        for (int r = 0; r < ROOMS; r++) {
+            assertThat(runtime.startRound("R" + r, memberId(r, 0)).join().get("success")).isEqualTo(true);
+        }
+
+        // when: 참가자마다 오답 20번 후 정답 1번, 모든 방·참가자를 섞어서 동시에
+        List<int[]> clients = new ArrayList<>();
+        for (int r = 0; r < ROOMS; r++) {
+            for (int p = 0; p < PLAYERS; p++) {
+                clients.add(new int[]{r, p});
+            }
+        }
+        Collections.shuffle(clients, new Random(7));
+
+        int commands = ROOMS * PLAYERS * (WRONG_CHATS + 1);
+        long[] latencies = new long[commands];
+        AtomicInteger latencyIndex = new AtomicInteger();
+        AtomicIntegerArray winners = new AtomicIntegerArray(ROOMS);
+
+        ExecutorService clientPool = Executors.newFixedThreadPool(CLIENT_THREADS);
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int[] client : clients) {
+            futures.add(clientPool.submit(() -> {
+                int r = client[0];
+                Long memberId = memberId(r, client[1]);
+                for (int i = 0; i <= WRONG_CHATS; i++) {
+                    String message = i < WRONG_CHATS ? "오답" + i : "정답";
+                    long sent = System.nanoTime();
+                    Map<String, Object> result = runtime.sendChat("R" + r, memberId, message).join();
+                    latencies[latencyIndex.getAndIncrement()] = System.nanoTime() - sent;
+                    if (Boolean.TRUE.equals(result.get("isCorrect"))) {
+                        winners.incrementAndGet(r);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        clientPool.shutdown();
+        runtime.awaitWrites();
+
+        // then: 방마다 정답자 1명, 점수 합계 100
+        for (int r = 0; r < ROOMS; r++) {
+            assertThat(winners.get(r)).as("방 %d 정답자 수", r).isEqualTo(1);
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> scores = (List<Map<String, Object>>) runtime.getCurrentRoundInfo("R" + r).join().get("participants");
+            assertThat(scores.stream().mapToInt(p -> (Integer) p.get("score")).sum()).isEqualTo(MultiRoomRuntime.CORRECT_POINTS);
+            assertThat(scores.stream().mapToInt(p -> (Integer) p.get("correctCount")).sum()).isEqualTo(1);
+        }
+
+        // 채팅(정답 포함) 전부 + 시스템 메시지(라운드 시작, 정답 공개) 방마다 2건
+        assertThat(latencyIndex.get()).isEqualTo(commands);
+        assertThat(chatSaves.get()).isEqualTo(commands + 2L * ROOMS);
+        assertThat(roundRecords.get()).isEqualTo(ROOMS);
+
+        if (Boolean.getBoolean("stress.report")) {
+            report(latencies, elapsedMs);
+        }
+
+        runtime.shutdown();
+    }
+
+    private static void report(long[] latencies, long elapsedMs) {
+        Arrays.sort(latencies);
+        int commands = latencies.length;
+        long p50 = latencies[(int) (commands * 0.50)];
+        long p99 = latencies[(int) (commands * 0.99)];
+        System.out.printf("[방 우편함 부하] 방 %d × %d명, 명령 %d건, %dms (%.0f건/s), p50 %.3fms, p99 %.3fms, 최대 %.3fms%n",
+                ROOMS, PLAYERS, commands, elapsedMs, commands * 1000.0 / Math.max(1, elapsedMs),
+                p50 / 1e6, p99 / 1e6, latencies[commands - 1] / 1e6);
+    }
+
+    private static Long memberId(int room, int player) {
+        return (long) room * PLAYERS + player + 1;
+    }
+}
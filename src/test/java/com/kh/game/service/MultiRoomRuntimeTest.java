@@ -0,0 +1,339 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.GameSettings;
+import com.kh.game.entity.*;
+import com.kh.game.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MultiRoomRuntime 테스트
+ * - 한 번 적재 후 메모리에서 진행, 먼저 맞춘 1명만 정답, 단계 전환 시 DB 반영, 종료 시 저장 후 LP 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MultiRoomRuntimeTest {
+
+    private static final String ROOM_CODE = "ABC123";
+
+    @Mock private GameRoomRepository gameRoomRepository;
+    @Mock private GameRoomParticipantRepository participantRepository;
+    @Mock private ChatWriteBuffer chatWriteBuffer;
+    @Mock private MemberRepository memberRepository;
+    @Mock private SongRepository songRepository;
+    @Mock private MultiGameService multiGameService;
+    @Mock private SongDeckService songDeckService;
+    @Mock private AnswerValidationService answerValidationService;
+    @Mock private SongStatsService songStatsService;
+    @Mock private GameBroadcastService gameBroadcastService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private MultiRoomRuntime runtime;
+    private GameRoom room;
+    private GameRoomParticipant hostParticipant;
+    private GameRoomParticipant guestParticipant;
+    private Song firstSong;
+    private GameSettings settings;
+
+    @BeforeEach
+    void setUp() {
+        Member host = member(1L, "방장");
+        Member guest = member(2L, "참가자");
+
+        room = new GameRoom();
+        room.setId(10L);
+        room.setRoomCode(ROOM_CODE);
+        room.setHost(host);
+        room.setStatus(GameRoom.RoomStatus.PLAYING);
+        room.setTotalRounds(1);
+        room.setCurrentRound(0);
+
+        hostParticipant = new GameRoomParticipant(room, host);
+        guestParticipant = new GameRoomParticipant(room, guest);
+
+        firstSong = new Song();
+        firstSong.setId(100L);
+        firstSong.setTitle("Celebrity");
+        firstSong.setArtist("아이유");
+
+        when(gameRoomRepository.findByRoomCode(ROOM_CODE)).thenReturn(Optional.of(room));
+        when(gameRoomRepository.findById(10L)).thenReturn(Optional.of(room));
+        when(participantRepository.findGameParticipants(room)).thenReturn(List.of(hostParticipant, guestParticipant));
+        settings = new GameSettings();
+        when(multiGameService.parseGameSettings(room)).thenReturn(settings);
+        when(songDeckService.next(eq(10L), any())).thenReturn(firstSong);
+        when(answerValidationService.validateAnswer("셀러브리티", 100L)).thenReturn(true);
+
+        runtime = new MultiRoomRuntime(gameRoomRepository, participantRepository, chatWriteBuffer, memberRepository,
+                songRepository, multiGameService, songDeckService, answerValidationService, songStatsService,
+                gameBroadcastService, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runtime.shutdown();
+    }
+
+    @Test
+    @DisplayName("먼저 맞춘 1명만 정답, 게임 중에는 방을 다시 조회하지 않고 단계 전환 시 점수 저장")
+    void firstCorrectAnswerWins() {
+        // given
+        assertThat(runtime.startRound(ROOM_CODE, 2L).join().get("success")).isEqualTo(false);
+        assertThat(runtime.startRound(ROOM_CODE, 1L).join().get("success")).isEqualTo(true);
+
+        // when
+        Map<String, Object> wrong = runtime.sendChat(ROOM_CODE, 1L, "좋은 날").join();
+        Map<String, Object> first = runtime.sendChat(ROOM_CODE, 2L, "셀러브리티").join();
+        Map<String, Object> late = runtime.sendChat(ROOM_CODE, 1L, "셀러브리티").join();
+        runtime.awaitWrites();
+
+        // then
+        assertThat(wrong.get("isCorrect")).isEqualTo(false);
+        assertThat(first.get("isCorrect")).isEqualTo(true);
+        assertThat(first.get("nickname")).isEqualTo("참가자");
+        assertThat(late.get("isCorrect")).isEqualTo(false);
+
+        Map<String, Object> info = runtime.getCurrentRoundInfo(ROOM_CODE).join();
+        assertThat(info.get("roundPhase")).isEqualTo("RESULT");
+        assertThat(info.get("winnerNickname")).isEqualTo("참가자");
+
+        verify(gameRoomRepository, times(1)).findByRoomCode(ROOM_CODE);
+        assertThat(guestParticipant.getScore()).isEqualTo(100);
+        assertThat(hostParticipant.getScore()).isZero();
+        assertThat(room.getRoundPhase()).isEqualTo(GameRoom.RoundPhase.RESULT);
+        verify(songStatsService).recordMultiRound(100L, List.of(1L, 2L), 2L);
+        // 일반 채팅 2건(오답, 늦은 정답) + 정답 1건 + 시스템 메시지 2건(라운드 시작, 정답 공개)
+        verify(chatWriteBuffer, times(2)).chat(eq(10L), eq(1L), anyString());
+        verify(chatWriteBuffer).correctAnswer(10L, 2L, "셀러브리티", 1);
+        verify(chatWriteBuffer, times(2)).system(eq(10L), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("전원 스킵 투표 시 결과 단계, 마지막 라운드 이후에는 저장을 마치고 게임 종료")
+    void skipVotesThenFinish() {
+        // given
+        runtime.startRound(ROOM_CODE, 1L).join();
+
+        // when
+        Map<String, Object> firstVote = runtime.voteSkipRound(ROOM_CODE, 1L).join();
+        Map<String, Object> duplicate = runtime.voteSkipRound(ROOM_CODE, 1L).join();
+        Map<String, Object> lastVote = runtime.voteSkipRound(ROOM_CODE, 2L).join();
+        Map<String, Object> next = runtime.nextRound(ROOM_CODE, 1L).join();
+
+        // then
+        assertThat(firstVote.get("allSkipped")).isEqualTo(false);
+        assertThat(duplicate.get("success")).isEqualTo(false);
+        assertThat(lastVote.get("roundSkipped")).isEqualTo(true);
+        assertThat(next.get("isGameOver")).isEqualTo(true);
+
+        verify(songStatsService).recordMultiRound(100L, List.of(1L, 2L), null);
+        verify(multiGameService).finishGame(10L);
+        assertThat(room.getStatus()).isEqualTo(GameRoom.RoomStatus.FINISHED);
+        // 종료된 방은 메모리에서 내려가고 다시 적재되지 않음
+        assertThat(runtime.isLive(ROOM_CODE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("명령마다 바뀐 항목만 순번을 붙여 전송, 놓친 순번 이후 변경분은 다시 조회 가능")
+    @SuppressWarnings("unchecked")
+    void broadcastsSequencedDeltas() {
+        // given
+        runtime.startRound(ROOM_CODE, 1L).join();
+        long startSeq = ((Number) runtime.getCurrentRoundInfo(ROOM_CODE).join().get("seq")).longValue();
+
+        // when: 오답(변경 없음), 정답(점수·정답자·단계 변경)
+        runtime.sendChat(ROOM_CODE, 1L, "좋은 날").join();
+        runtime.sendChat(ROOM_CODE, 2L, "셀러브리티").join();
+
+        // then: 라운드 시작 1건 + 정답 1건, 오답은 전송 없음
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(gameBroadcastService, times(2)).broadcastRoundDelta(eq(ROOM_CODE), captor.capture());
+        Map<String, Object> delta = captor.getAllValues().get(1);
+        assertThat(delta.get("seq")).isEqualTo(startSeq + 1);
+        assertThat(delta.get("roundPhase")).isEqualTo("RESULT");
+        assertThat(delta.get("winnerNickname")).isEqualTo("참가자");
+        List<Map<String, Object>> players = (List<Map<String, Object>>) delta.get("players");
+        assertThat(players).hasSize(1);
+        assertThat(players.get(0)).containsEntry("memberId", 2L).containsEntry("score", 100);
+
+        // 마지막 순번 기준으로는 변경 없음, 한 단계 전 기준으로는 정답 변경분 1건
+        assertThat((List<?>) runtime.getChangesSince(ROOM_CODE, startSeq + 1).join().get("changes")).isEmpty();
+        assertThat((List<Map<String, Object>>) runtime.getChangesSince(ROOM_CODE, startSeq).join().get("changes"))
+                .containsExactly(delta);
+        // 보관 범위를 벗어난 순번은 전체 스냅샷
+        assertThat(runtime.getChangesSince(ROOM_CODE, 0L).join()).containsKey("participants");
+    }
+
+    @Test
+    @DisplayName("정답 채팅은 정답 공개 시스템 메시지와 라운드 변경분보다 먼저 전송")
+    void correctChatBroadcastBeforeReveal() {
+        // given
+        runtime.startRound(ROOM_CODE, 1L).join();
+        clearInvocations(gameBroadcastService);
+
+        // when
+        runtime.sendChat(ROOM_CODE, 2L, "셀러브리티").join();
+
+        // then
+        InOrder inOrder = inOrder(gameBroadcastService);
+        inOrder.verify(gameBroadcastService).broadcastChat(eq(ROOM_CODE),
+                argThat(chat -> "CORRECT".equals(chat.get("messageType")) && "참가자".equals(chat.get("nickname"))));
+        inOrder.verify(gameBroadcastService).broadcastChat(eq(ROOM_CODE),
+                argThat(chat -> "SYSTEM".equals(chat.get("messageType"))));
+        inOrder.verify(gameBroadcastService).broadcastRoundDelta(eq(ROOM_CODE), anyMap());
+    }
+
+    @Test
+    @DisplayName("라운드 제한시간이 지나면 정답 없이 결과 단계, 결과 화면도 자동으로 넘어가 게임 종료")
+    void serverTimersAdvanceRoom() {
+        // given: 제한시간 1초, 결과 화면 1초 후 자동 진행
+        settings.setRoundDuration(1);
+        ReflectionTestUtils.setField(runtime, "resultAdvanceSeconds", 1);
+        runtime.startRound(ROOM_CODE, 1L).join();
+
+        // when: 아무도 맞추지 않음
+        verify(gameBroadcastService, timeout(3_000)).broadcastRoundDelta(eq(ROOM_CODE),
+                argThat(info -> "RESULT".equals(info.get("roundPhase"))));
+
+        // then: 시간 초과 처리 후 마지막 라운드라 자동 종료
+        verify(songStatsService, timeout(1_000)).recordMultiRound(100L, List.of(1L, 2L), null);
+        verify(gameBroadcastService, timeout(3_000)).broadcastGameFinish(ROOM_CODE);
+        verify(multiGameService).finishGame(10L);
+        assertThat(runtime.isLive(ROOM_CODE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("방장이 먼저 다음 라운드로 넘기면 결과 화면 자동 진행은 무시되고 중복 진행 불가")
+    void hostAdvanceBeatsTimer() throws Exception {
+        // given: 결과 화면 1초 후 자동 진행
+        settings.setRoundDuration(3);
+        ReflectionTestUtils.setField(runtime, "resultAdvanceSeconds", 1);
+        room.setTotalRounds(3);
+        runtime.startRound(ROOM_CODE, 1L).join();
+        runtime.voteSkipRound(ROOM_CODE, 1L).join();
+        runtime.voteSkipRound(ROOM_CODE, 2L).join();
+
+        // when: 자동 진행 전에 방장이 라운드 2 시작, 자동 진행 시각이 지날 때까지 대기
+        runtime.nextRound(ROOM_CODE, 1L).join();
+        Thread.sleep(1_500);
+
+        // then: 라운드 2가 그대로 진행 중, 결과 단계가 아니므로 방장 진행도 거부
+        Map<String, Object> info = runtime.getCurrentRoundInfo(ROOM_CODE).join();
+        assertThat(info.get("currentRound")).isEqualTo(2);
+        assertThat(info.get("roundPhase")).isEqualTo("PLAYING");
+        assertThat(runtime.nextRound(ROOM_CODE, 1L).join().get("success")).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("곡 뽑기와 게임 종료 처리는 우편함 밖에서 실행 - 기다리는 동안에도 방 명령은 처리되고, 응답은 끝난 뒤 완료")
+    void slowWorkRunsOutsideMailbox() throws Exception {
+        // given: 곡 검증이 오래 걸림
+        CountDownLatch songReady = new CountDownLatch(1);
+        when(songDeckService.next(eq(10L), any())).thenAnswer(inv -> {
+            songReady.await(5, TimeUnit.SECONDS);
+            return firstSong;
+        });
+
+        // when: 곡을 기다리는 동안 같은 방 조회와 중복 시작
+        CompletableFuture<Map<String, Object>> started = runtime.startRound(ROOM_CODE, 1L);
+        Map<String, Object> info = runtime.getCurrentRoundInfo(ROOM_CODE).get(1, TimeUnit.SECONDS);
+        Map<String, Object> duplicate = runtime.startRound(ROOM_CODE, 1L).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(started).isNotDone();
+        assertThat(info.get("currentRound")).isEqualTo(0);
+        assertThat(duplicate.get("success")).isEqualTo(false);
+        songReady.countDown();
+        assertThat(started.get(1, TimeUnit.SECONDS).get("currentRound")).isEqualTo(1);
+
+        // given: LP 반영이 오래 걸림
+        CountDownLatch lpApplied = new CountDownLatch(1);
+        AtomicReference<String> finishThread = new AtomicReference<>();
+        when(multiGameService.finishGame(10L)).thenAnswer(inv -> {
+            finishThread.set(Thread.currentThread().getName());
+            lpApplied.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        runtime.voteSkipRound(ROOM_CODE, 1L).join();
+        runtime.voteSkipRound(ROOM_CODE, 2L).join();
+
+        // when: 마지막 라운드 이후 다음 라운드 → 게임 종료
+        CompletableFuture<Map<String, Object>> finished = runtime.nextRound(ROOM_CODE, 1L);
+
+        // then: 저장 스레드에서 마지막 스냅샷 저장 다음에 LP 반영, 끝나야 GAME_FINISH와 응답
+        verify(multiGameService, timeout(1_000)).finishGame(10L);
+        assertThat(finishThread.get()).isEqualTo("multi-room-writer");
+        assertThat(room.getStatus()).isEqualTo(GameRoom.RoomStatus.FINISHED);
+        assertThat(finished).isNotDone();
+        verify(gameBroadcastService, never()).broadcastGameFinish(ROOM_CODE);
+
+        lpApplied.countDown();
+        assertThat(finished.get(1, TimeUnit.SECONDS).get("isGameOver")).isEqualTo(true);
+        verify(gameBroadcastService).broadcastGameFinish(ROOM_CODE);
+    }
+
+    @Test
+    @DisplayName("런타임 밖에서 종료된 방은 스냅샷으로 덮어쓰지 않고 메모리에서 내림")
+    void externallyClosedRoomIsNotOverwritten() {
+        // given
+        runtime.startRound(ROOM_CODE, 1L).join();
+        runtime.awaitWrites();
+        GameRoom.RoundPhase phaseBeforeClose = room.getRoundPhase();
+
+        // when: 관리자 강제 종료 (DB만 FINISHED) 뒤 진행 중이던 방 명령으로 스냅샷 저장
+        room.setStatus(GameRoom.RoomStatus.FINISHED);
+        runtime.voteSkipRound(ROOM_CODE, 1L).join();
+        runtime.voteSkipRound(ROOM_CODE, 2L).join();
+        runtime.awaitWrites();
+
+        // then
+        assertThat(room.getStatus()).isEqualTo(GameRoom.RoomStatus.FINISHED);
+        assertThat(room.getRoundPhase()).isEqualTo(phaseBeforeClose);
+        assertThat(runtime.isLive(ROOM_CODE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("evict 후에는 DB 상태로 다시 적재 - 종료된 방은 적재하지 않음")
+    void evictDropsRoom() {
+        // given
+        runtime.startRound(ROOM_CODE, 1L).join();
+
+        // when
+        room.setStatus(GameRoom.RoomStatus.FINISHED);
+        runtime.evict(ROOM_CODE);
+
+        // then
+        assertThat(runtime.isLive(ROOM_CODE)).isFalse();
+        assertThat(runtime.voteSkipRound(ROOM_CODE, 1L).join().get("success")).isEqualTo(false);
+    }
+
+    private static Member member(Long id, String nickname) {
+        Member member = new Member();
+        member.setId(id);
+        member.setNickname(nickname);
+        return member;
+    }
+}
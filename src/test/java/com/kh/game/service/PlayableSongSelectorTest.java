@@ -0,0 +1,104 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.service.YouTubeValidationService.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlayableSongSelector 테스트 - 캐시 우선, 동시 검증, 마감 시 DB 플래그 판정
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PlayableSongSelectorTest {
+
+    @Mock
+    private YouTubeVerdictCache youTubeVerdictCache;
+
+    private PlayableSongSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        selector = new PlayableSongSelector(youTubeVerdictCache);
+        ReflectionTestUtils.setField(selector, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(selector, "deadlineMs", 1000L);
+
+        // 기본: 캐시에 판정 없음
+        when(youTubeVerdictCache.lookup(anyString())).thenReturn(null);
+    }
+
+    private CatalogSong song(long id, Boolean dbValid) {
+        return new CatalogSong(id, "Song " + id, "Artist", 1L, "KPOP", "K-POP", 1, 2020,
+                false, true, "vid" + id, null, dbValid);
+    }
+
+    @Test
+    @DisplayName("캐시 판정이 있는 곡은 네트워크 검증 없이 선택")
+    void cachedVerdicts_skipNetwork() {
+        when(youTubeVerdictCache.lookup("vid1")).thenReturn(false);
+        when(youTubeVerdictCache.lookup("vid2")).thenReturn(true);
+        when(youTubeVerdictCache.lookup("vid3")).thenReturn(true);
+
+        PlayableSongSelector.Selection selection = selector.select(List.of(song(1, true), song(2, true), song(3, true)), 2);
+
+        assertThat(selection.getSongs()).extracting(CatalogSong::getId).containsExactly(2L, 3L);
+        assertThat(selection.getRejectedCount()).isEqualTo(1);
+        verify(youTubeVerdictCache, never()).checkAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("미확인 곡은 동시에 검증하고 먼저 끝난 유효 곡부터 채택")
+    void uncachedSongs_validatedConcurrently() {
+        List<CompletableFuture<ValidationResult>> futures = new CopyOnWriteArrayList<>();
+        when(youTubeVerdictCache.checkAsync(anyString())).thenAnswer(invocation -> {
+            CompletableFuture<ValidationResult> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        });
+
+        CompletableFuture.runAsync(() -> {
+            while (futures.size() < 4) {
+                Thread.onSpinWait();
+            }
+            // 네 곡이 동시에 요청된 상태 - 나중 곡이 먼저 끝남
+            futures.get(3).complete(ValidationResult.valid());
+            futures.get(0).complete(ValidationResult.invalid("HTTP 404", "HTTP 404"));
+            futures.get(1).complete(ValidationResult.valid());
+        });
+
+        List<CatalogSong> candidates = List.of(song(1, true), song(2, true), song(3, true), song(4, true));
+        PlayableSongSelector.Selection selection = selector.select(candidates, 2);
+
+        assertThat(selection.getSongs()).extracting(CatalogSong::getId).containsExactly(4L, 2L);
+        assertThat(selection.getRejectedCount()).isEqualTo(1);
+        verify(youTubeVerdictCache, times(4)).checkAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("마감까지 끝나지 않은 검증은 DB 유효성 플래그로 판정")
+    void deadline_fallsBackToDbFlag() {
+        when(youTubeVerdictCache.checkAsync(anyString())).thenReturn(new CompletableFuture<>());
+
+        long start = System.currentTimeMillis();
+        PlayableSongSelector.Selection selection = selector.select(List.of(song(1, false), song(2, null), song(3, true)), 3);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(3000);
+        assertThat(selection.getSongs()).extracting(CatalogSong::getId).containsExactly(2L, 3L);
+        assertThat(selection.getFallbackCount()).isEqualTo(3);
+    }
+}
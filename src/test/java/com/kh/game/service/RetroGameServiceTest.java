@@ -15,6 +15,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -65,6 +66,8 @@ class RetroGameServiceTest {
         // YouTube 검증 항상 성공하도록 Mock 설정
         YouTubeValidationService.ValidationResult validResult = YouTubeValidationService.ValidationResult.valid();
         Mockito.when(youTubeValidationService.validateVideo(anyString())).thenReturn(validResult);
+        Mockito.when(youTubeValidationService.validateVideoAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(validResult));
 
         // 장르 생성
         kpopGenre = createGenre("KPOP", "K-POP");
@@ -0,0 +1,104 @@
+package com.kh.game.service;
+
+import com.kh.game.repository.SongAnswerRepository;
+import com.kh.game.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * SongAnswerIndex 오타 허용 테스트 - 모드별 적용, 길이 비례 허용 거리
+ */
+@ExtendWith(MockitoExtension.class)
+class SongAnswerIndexFuzzyTest {
+
+    @Mock
+    private SongRepository songRepository;
+
+    @Mock
+    private SongAnswerRepository songAnswerRepository;
+
+    private SongAnswerIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SongAnswerIndex(songRepository, songAnswerRepository);
+        ReflectionTestUtils.setField(index, "fuzzyModes", new String[]{"SOLO_GUESS", "MULTIPLAYER"});
+    }
+
+    private void givenSong(long songId, String title, String... answers) {
+        when(songRepository.findTitleById(songId)).thenReturn(Optional.of(title));
+        when(songAnswerRepository.findAnswerTextsBySongId(songId)).thenReturn(List.of(answers));
+    }
+
+    @Test
+    @DisplayName("설정된 모드만 오타 허용")
+    void fuzzyModes_areOptIn() {
+        assertThat(index.isFuzzyEnabled("SOLO_GUESS")).isTrue();
+        assertThat(index.isFuzzyEnabled(SongAnswerIndex.MODE_MULTIPLAYER)).isTrue();
+        assertThat(index.isFuzzyEnabled("FAN_CHALLENGE")).isFalse();
+    }
+
+    @Test
+    @DisplayName("자모 1개 오타는 허용, 오타 허용이 꺼져 있으면 오답")
+    void jamoTypo_matchesOnlyWhenFuzzy() {
+        givenSong(1L, "Dynamite", "다이너마이트", "dynamite");
+
+        assertThat(index.matchesAnswer(1L, "다이나마이트", true)).isTrue();
+        assertThat(index.matchesAnswer(1L, "dynamit", true)).isTrue();
+        assertThat(index.matchesAnswer(1L, "다이나마이트", false)).isFalse();
+        assertThat(index.matchesAnswer(1L, "버터", true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("짧은 정답은 오타 허용 없이 정확히 일치해야 함")
+    void shortAnswers_requireExactMatch() {
+        givenSong(2L, "봄날", "봄날");
+
+        assertThat(index.matchesAnswer(2L, "봄날", true)).isTrue();
+        assertThat(index.matchesAnswer(2L, "봄낭", true)).isFalse();
+        assertThat(index.matchesAnswer(2L, "봄", true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("멀티게임은 제목도 오타 허용 대상")
+    void titleOrAlias_fuzzy() {
+        givenSong(3L, "Love Dive", "러브다이브");
+
+        assertThat(index.matchesTitleOrAlias(3L, "lovedvie", true)).isTrue();
+        assertThat(index.matchesTitleOrAlias(3L, "러브다이버", true)).isTrue();
+        assertThat(index.matchesTitleOrAlias(3L, "lovedvie", false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대체 정답이 많아도 1ms 안쪽, 재조회 없음")
+    void manyAliases_staysFast() {
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            answers.add("노래 제목 변형 " + i);
+        }
+        answers.add("다이너마이트");
+        givenSong(4L, "Dynamite", answers.toArray(new String[0]));
+        index.matchesAnswer(4L, "워밍업", true);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(index.matchesAnswer(4L, "다이나마이트", true)).isTrue();
+        }
+        long averageMicros = (System.nanoTime() - start) / 1000 / 1000;
+
+        assertThat(averageMicros).isLessThan(1000);
+        verify(songAnswerRepository, times(1)).findAnswerTextsBySongId(4L);
+    }
+}
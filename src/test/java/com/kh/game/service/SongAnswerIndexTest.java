@@ -0,0 +1,97 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.Song;
+import com.kh.game.entity.SongAnswer;
+import com.kh.game.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SongAnswerIndex 테스트")
+class SongAnswerIndexTest {
+
+    @Autowired
+    private SongAnswerIndex songAnswerIndex;
+
+    @Autowired
+    private SongService songService;
+
+    @Autowired
+    private AnswerValidationService answerValidationService;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    private Song song;
+
+    @BeforeEach
+    void setUp() {
+        song = new Song();
+        song.setTitle("Dynamite (Feat. BTS)");
+        song.setArtist("BTS");
+        song.setUseYn("Y");
+        song = songRepository.save(song);
+    }
+
+    @Test
+    @DisplayName("대체 정답이 없으면 정규화된 제목으로 확인")
+    void noAliases_matchesTitle() {
+        assertThat(songService.checkAnswer(song.getId(), "dynamite feat bts")).isTrue();
+        assertThat(songService.checkAnswer(song.getId(), "  DYNAMITE(feat.BTS)  ")).isTrue();
+        assertThat(songService.checkAnswer(song.getId(), "다이너마이트")).isFalse();
+        assertThat(songService.checkAnswer(song.getId(), "   ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("정답 추가 즉시 반영 - 싱글은 대체 정답만, 멀티는 제목+대체 정답")
+    void addAnswer_updatesIndex() {
+        assertThat(songService.checkAnswer(song.getId(), "다이너마이트")).isFalse();
+
+        songService.addAnswer(song.getId(), "다이너마이트", true);
+
+        assertThat(songService.checkAnswer(song.getId(), "다이너 마이트!")).isTrue();
+        assertThat(songService.checkAnswer(song.getId(), "dynamite feat bts")).isFalse();
+        assertThat(answerValidationService.validateAnswer("다이너마이트", song)).isTrue();
+        assertThat(answerValidationService.validateAnswer("Dynamite feat. BTS", song)).isTrue();
+    }
+
+    @Test
+    @DisplayName("정답 일괄 수정/삭제 후 이전 정답은 더 이상 일치하지 않음")
+    void updateAndDelete_replaceIndexEntry() {
+        songService.addAnswer(song.getId(), "다이나마이트", true);
+        assertThat(songService.checkAnswer(song.getId(), "다이나마이트")).isTrue();
+
+        songService.updateAnswers(song.getId(), List.of("다이너마이트", "Dynamite"));
+        assertThat(songService.checkAnswer(song.getId(), "다이나마이트")).isFalse();
+        assertThat(songService.checkAnswer(song.getId(), "dynamite")).isTrue();
+
+        for (SongAnswer answer : songService.getAnswers(song.getId())) {
+            songService.deleteAnswer(answer.getId());
+        }
+        assertThat(songService.checkAnswer(song.getId(), "다이너마이트")).isFalse();
+        assertThat(songService.checkAnswer(song.getId(), "Dynamite (Feat. BTS)")).isTrue();
+    }
+
+    @Test
+    @DisplayName("제목 변경도 다음 확인부터 반영")
+    void titleChange_reloadsEntry() {
+        assertThat(answerValidationService.validateAnswer("dynamitefeatbts", song)).isTrue();
+
+        song.setTitle("Butter");
+        songRepository.saveAndFlush(song);
+
+        assertThat(answerValidationService.validateAnswer("butter", song)).isTrue();
+        assertThat(answerValidationService.validateAnswer("dynamitefeatbts", song)).isFalse();
+    }
+}
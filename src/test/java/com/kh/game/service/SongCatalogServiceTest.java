@@ -0,0 +1,147 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.entity.Genre;
+import com.kh.game.entity.Song;
+import com.kh.game.repository.GenreRepository;
+import com.kh.game.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SongCatalogService 테스트")
+class SongCatalogServiceTest {
+
+    @Autowired
+    private SongCatalogService songCatalogService;
+
+    @Autowired
+    private SongService songService;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    private Genre kpopGenre;
+    private Genre retroGenre;
+
+    @BeforeEach
+    void setUp() {
+        songRepository.deleteAll();
+
+        kpopGenre = genreRepository.findByCode("KPOP").orElseGet(() -> {
+            Genre g = new Genre();
+            g.setCode("KPOP");
+            g.setName("K-POP");
+            g.setUseYn("Y");
+            return genreRepository.save(g);
+        });
+        retroGenre = genreRepository.findByCode("RETRO").orElseGet(() -> {
+            Genre g = new Genre();
+            g.setCode("RETRO");
+            g.setName("레트로");
+            g.setUseYn("Y");
+            return genreRepository.save(g);
+        });
+    }
+
+    private Song createSong(String title, Genre genre, Integer releaseYear, boolean popular) {
+        Song song = new Song();
+        song.setTitle(title);
+        song.setArtist("Artist");
+        song.setGenre(genre);
+        song.setUseYn("Y");
+        song.setReleaseYear(releaseYear);
+        song.setIsPopular(popular);
+        song.setYoutubeVideoId("vid_" + title);
+        return songRepository.save(song);
+    }
+
+    private List<Long> ids(List<CatalogSong> songs) {
+        return songs.stream().map(CatalogSong::getId).toList();
+    }
+
+    @Test
+    @DisplayName("게임 모드별 후보군이 기존 쿼리 조건과 동일하게 분리됨")
+    void partitions_matchGameQueries() {
+        Song popular = createSong("대중곡", kpopGenre, 2020, true);
+        Song maniac = createSong("매니악곡", kpopGenre, 2020, false);
+        Song retroGenreSong = createSong("레트로장르곡", retroGenre, 2005, true);
+        Song oldSong = createSong("옛날곡", kpopGenre, 1995, true);
+
+        SongCatalog catalog = songCatalogService.getCatalog();
+
+        assertThat(ids(catalog.getGameSongs()))
+                .containsExactlyInAnyOrder(popular.getId(), oldSong.getId());
+        assertThat(ids(catalog.getFanChallengeSongs()))
+                .containsExactlyInAnyOrder(popular.getId(), maniac.getId(), oldSong.getId());
+        assertThat(ids(catalog.getRetroSongs()))
+                .containsExactlyInAnyOrder(retroGenreSong.getId(), oldSong.getId());
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 스냅샷을 재사용")
+    void unchangedCatalog_isReused() {
+        createSong("노래1", kpopGenre, 2020, true);
+
+        SongCatalog first = songCatalogService.getCatalog();
+        SongCatalog second = songCatalogService.getCatalog();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("soft delete 후 새 스냅샷에서 제외됨")
+    void softDelete_swapsSnapshot() {
+        Song song = createSong("노래1", kpopGenre, 2020, true);
+        createSong("노래2", kpopGenre, 2020, true);
+        SongCatalog before = songCatalogService.getCatalog();
+
+        songService.softDeleteSong(song.getId());
+        SongCatalog after = songCatalogService.getCatalog();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.findById(song.getId())).isNull();
+        assertThat(after.getGameSongs()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("커밋 전 변경은 같은 트랜잭션에서만 보이고 다른 요청의 스냅샷에는 공개되지 않음")
+    void uncommittedChanges_areNotPublished() throws Exception {
+        Song song = createSong("미커밋곡", kpopGenre, 2020, true);
+
+        SongCatalog own = songCatalogService.getCatalog();
+        SongCatalog other = CompletableFuture.supplyAsync(songCatalogService::getCatalog).get(10, TimeUnit.SECONDS);
+
+        assertThat(own.findById(song.getId())).isNotNull();
+        assertThat(other.findById(song.getId())).isNull();
+        assertThat(songCatalogService.getCatalog()).isSameAs(own);
+    }
+
+    @Test
+    @DisplayName("엔티티 직접 수정도 같은 트랜잭션의 조회에 반영됨")
+    void dirtyEntity_isVisibleInSameTransaction() {
+        Song song = createSong("노래1", kpopGenre, 2020, true);
+        songCatalogService.getCatalog();
+
+        song.setIsPopular(false);
+        songRepository.save(song);
+
+        assertThat(songCatalogService.getCatalog().getGameSongs()).isEmpty();
+    }
+}
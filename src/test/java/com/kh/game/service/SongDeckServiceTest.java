@@ -0,0 +1,123 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.dto.GameSettings;
+import com.kh.game.entity.Song;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SongDeckService 출제 덱 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SongDeckServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private SongService songService;
+
+    private SongDeckService deckService;
+    private final GameSettings settings = new GameSettings();
+
+    @BeforeEach
+    void setUp() {
+        deckService = new SongDeckService(songService);
+        when(songService.findById(anyLong())).thenAnswer(inv -> Optional.of(song(inv.getArgument(0))));
+        when(songService.isPlayable(any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deckService.shutdown();
+    }
+
+    private CatalogSong catalogSong(long id) {
+        return new CatalogSong(id, "Song " + id, "Artist", 1L, "KPOP", "K-POP", 1, 2020,
+                false, true, "vid" + id, null, true);
+    }
+
+    private List<CatalogSong> catalogSongs(long from, long to) {
+        List<CatalogSong> songs = new ArrayList<>();
+        for (long id = from; id <= to; id++) songs.add(catalogSong(id));
+        return songs;
+    }
+
+    private Song song(Long id) {
+        Song song = new Song();
+        song.setId(id);
+        song.setUseYn("Y");
+        return song;
+    }
+
+    @Test
+    @DisplayName("게임 시작 시 총 라운드 + 여분 곡을 한 번에 추출")
+    void prepare_drawsRoundsPlusSpares() {
+        when(songService.drawSongsWithSettings(any(), anyInt(), anySet())).thenReturn(catalogSongs(1, 8));
+
+        deckService.prepare(ROOM_ID, settings, 3);
+
+        verify(songService).drawSongsWithSettings(settings, 3 + SongDeckService.SPARE_SONGS, Collections.emptySet());
+    }
+
+    @Test
+    @DisplayName("검증 실패 곡은 건너뛰고 중복 없이 출제")
+    void next_skipsUnplayableWithoutDuplicates() {
+        when(songService.drawSongsWithSettings(any(), anyInt(), anySet()))
+                .thenReturn(catalogSongs(1, 6))
+                .thenReturn(List.of());
+        when(songService.isPlayable(argThat(s -> s != null && s.getId() % 2 == 0))).thenReturn(false);
+
+        deckService.prepare(ROOM_ID, settings, 1);
+
+        List<Long> played = new ArrayList<>();
+        Song song;
+        while ((song = deckService.next(ROOM_ID, settings)) != null) {
+            played.add(song.getId());
+        }
+
+        assertThat(played).containsExactlyInAnyOrder(1L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("덱이 바닥나면 이미 뽑은 곡을 제외하고 보충")
+    void next_refillsExcludingDrawn() {
+        when(songService.drawSongsWithSettings(any(), anyInt(), anySet()))
+                .thenReturn(catalogSongs(1, 1))
+                .thenReturn(catalogSongs(2, 2))
+                .thenReturn(List.of());
+
+        deckService.prepare(ROOM_ID, settings, 1);
+
+        assertThat(deckService.next(ROOM_ID, settings)).isNotNull();
+        assertThat(deckService.next(ROOM_ID, settings).getId()).isEqualTo(2L);
+        verify(songService).drawSongsWithSettings(eq(settings), eq(SongDeckService.SPARE_SONGS), eq(Set.of(1L)));
+    }
+
+    @Test
+    @DisplayName("덱 제거 후에는 새 덱을 만들어 출제")
+    void discard_thenNextCreatesNewDeck() {
+        when(songService.drawSongsWithSettings(any(), anyInt(), anySet()))
+                .thenReturn(catalogSongs(1, 3))
+                .thenReturn(catalogSongs(10, 10));
+
+        deckService.prepare(ROOM_ID, settings, 1);
+        deckService.discard(ROOM_ID);
+
+        assertThat(deckService.next(ROOM_ID, settings).getId()).isEqualTo(10L);
+    }
+}
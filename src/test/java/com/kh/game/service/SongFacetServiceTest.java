@@ -0,0 +1,113 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.Genre;
+import com.kh.game.entity.Song;
+import com.kh.game.repository.GenreRepository;
+import com.kh.game.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SongFacetService 테스트")
+class SongFacetServiceTest {
+
+    @Autowired
+    private SongFacetService songFacetService;
+
+    @Autowired
+    private SongService songService;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    private Genre kpopGenre;
+
+    @BeforeEach
+    void setUp() {
+        songRepository.deleteAll();
+
+        kpopGenre = genreRepository.findByCode("KPOP").orElseGet(() -> {
+            Genre g = new Genre();
+            g.setCode("KPOP");
+            g.setName("K-POP");
+            g.setUseYn("Y");
+            return genreRepository.save(g);
+        });
+    }
+
+    private Song createSong(String title, String artist, Integer releaseYear) {
+        Song song = new Song();
+        song.setTitle(title);
+        song.setArtist(artist);
+        song.setGenre(kpopGenre);
+        song.setUseYn("Y");
+        song.setIsSolo(false);
+        song.setReleaseYear(releaseYear);
+        song.setYoutubeVideoId("vid_" + title);
+        return songRepository.save(song);
+    }
+
+    private Optional<Map<String, Object>> find(List<Map<String, Object>> rows, String key, Object value) {
+        return rows.stream().filter(row -> value.equals(row.get(key))).findFirst();
+    }
+
+    @Test
+    @DisplayName("출제된 곡의 기여분만 차감 - 0곡이 된 항목은 제외")
+    void excludedSongs_areSubtracted() {
+        Song dynamite = createSong("Dynamite", "BTS", 2020);
+        createSong("Butter", "BTS", 2021);
+        Song eight = createSong("eight", "IU", 2020);
+
+        List<Map<String, Object>> artists = songFacetService.getArtists(List.of(dynamite.getId(), eight.getId()), false);
+        assertThat(find(artists, "name", "BTS")).hasValueSatisfying(a -> assertThat(a.get("count")).isEqualTo(1));
+        assertThat(find(artists, "name", "IU")).isEmpty();
+
+        List<Map<String, Object>> years = songFacetService.getYears(List.of(dynamite.getId(), eight.getId()));
+        assertThat(find(years, "year", 2020)).isEmpty();
+        assertThat(find(years, "year", 2021)).hasValueSatisfying(y -> assertThat(y.get("count")).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("장르별 남은 곡 수 - 기존 장르별 개별 조회와 동일")
+    void genres_matchPerGenreCount() {
+        Song dynamite = createSong("Dynamite", "BTS", 2020);
+        createSong("Butter", "BTS", 2021);
+
+        List<Long> played = List.of(dynamite.getId(), dynamite.getId(), 999999L);
+        List<Map<String, Object>> genres = songFacetService.getGenres(played);
+
+        assertThat(find(genres, "id", kpopGenre.getId())).hasValueSatisfying(g ->
+                assertThat(g.get("availableCount"))
+                        .isEqualTo(songService.getAvailableSongCountByGenreExcluding(kpopGenre.getId(), played)));
+    }
+
+    @Test
+    @DisplayName("제외 곡이 없으면 JSON 캐시 재사용, 곡 변경 시 갱신")
+    void json_cachedUntilCatalogChanges() {
+        createSong("Dynamite", "BTS", 2020);
+
+        String first = songFacetService.getYearsJson(null);
+        assertThat(songFacetService.getYearsJson(List.of())).isSameAs(first);
+
+        createSong("Butter", "BTS", 2021);
+
+        String updated = songFacetService.getYearsJson(null);
+        assertThat(updated).isNotSameAs(first).contains("2021");
+    }
+}
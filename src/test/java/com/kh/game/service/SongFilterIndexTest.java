@@ -0,0 +1,96 @@
+package com.kh.game.service;
+
+import com.kh.game.dto.CatalogSong;
+import com.kh.game.dto.GameSettings;
+import com.kh.game.service.SongFilterIndex.Partition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SongFilterIndex 비트맵 조건 테스트
+ */
+class SongFilterIndexTest {
+
+    private static final Long KPOP = 1L;
+    private static final Long RETRO = 2L;
+
+    private SongFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SongFilterIndex(List.of(
+                song(1L, "BTS", KPOP, "KPOP", 2020, false, true, true),
+                song(2L, "BTS", KPOP, "KPOP", 2021, false, true, true),
+                song(3L, "IU", KPOP, "KPOP", 2020, true, true, false),
+                song(4L, "IU", KPOP, "KPOP", null, true, false, null),
+                song(5L, "조용필", RETRO, "RETRO", 1985, true, true, true),
+                song(6L, "김건모", KPOP, "KPOP", 1995, true, true, true)
+        ));
+    }
+
+    private CatalogSong song(Long id, String artist, Long genreId, String genreCode, Integer year,
+                             boolean solo, boolean popular, Boolean youtubeValid) {
+        return new CatalogSong(id, "Song " + id, artist, genreId, genreCode, genreCode, 1, year,
+                solo, popular, "vid" + id, null, youtubeValid);
+    }
+
+    private List<Long> ids(BitSet bits) {
+        return index.songsOf(bits).stream().map(CatalogSong::getId).toList();
+    }
+
+    @Test
+    @DisplayName("후보군 - 게임용은 레트로 장르/매니악 제외, 레트로는 2000년 이전 또는 RETRO 장르")
+    void partitions() {
+        assertThat(ids(index.partition(Partition.GAME))).containsExactly(1L, 2L, 3L, 6L);
+        assertThat(ids(index.partition(Partition.FAN_CHALLENGE))).containsExactly(1L, 2L, 3L, 4L, 6L);
+        assertThat(ids(index.partition(Partition.RETRO))).containsExactly(5L, 6L);
+        assertThat(index.partition(Partition.ALL).cardinality()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("GameSettings - 연도 OR, 솔로 AND, 아티스트 OR 조합")
+    void matchingSettings() {
+        GameSettings settings = new GameSettings();
+        settings.setSelectedYears(List.of(2020, 1995));
+        assertThat(ids(index.matching(Partition.GAME, settings))).containsExactly(1L, 3L, 6L);
+
+        settings.setSoloOnly(true);
+        assertThat(ids(index.matching(Partition.GAME, settings))).containsExactly(3L, 6L);
+
+        settings.setSelectedArtists(List.of("IU"));
+        assertThat(index.matching(Partition.GAME, settings).cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("레거시 연도 범위 - 연도 미등록 곡은 통과")
+    void legacyYearRange() {
+        GameSettings settings = new GameSettings();
+        settings.setYearFrom(2000);
+        assertThat(ids(index.matching(Partition.FAN_CHALLENGE, settings))).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("제외 목록 - ANDNOT 적용, 카탈로그에 없는 ID는 무시")
+    void excludeIds() {
+        BitSet bits = index.exclude(index.withArtist(Partition.GAME, "BTS"), Set.of(1L, 999L));
+        assertThat(ids(bits)).containsExactly(2L);
+
+        // 원본 인덱스는 변경되지 않음
+        assertThat(index.withArtist(Partition.GAME, "BTS").cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("장르 코드 + YouTube 무효 곡 제외")
+    void genreCodeWithYoutubeUsable() {
+        BitSet bits = index.retainYoutubeUsable(index.withGenreCode(Partition.ALL, "KPOP"));
+        assertThat(ids(bits)).containsExactly(1L, 2L, 4L, 6L);
+        assertThat(index.withGenre(Partition.GAME, 999L).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,85 @@
+package com.kh.game.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SongSampler 무작위 추출 테스트
+ */
+class SongSamplerTest {
+
+    private BitSet bits(int... positions) {
+        BitSet bits = new BitSet();
+        for (int pos : positions) bits.set(pos);
+        return bits;
+    }
+
+    private Set<Integer> toSet(int[] values) {
+        Set<Integer> set = new HashSet<>();
+        for (int v : values) set.add(v);
+        return set;
+    }
+
+    @Test
+    @DisplayName("k개 추출 - 후보 안에서 중복 없이")
+    void sample_distinctWithinCandidates() {
+        BitSet candidates = new BitSet();
+        candidates.set(0, 1000);
+        candidates.clear(500, 600);
+        Random random = new Random(1);
+
+        for (int round = 0; round < 100; round++) {
+            int[] picked = SongSampler.sample(candidates, 30, random);
+            assertThat(picked).hasSize(30);
+            assertThat(toSet(picked)).hasSize(30);
+            for (int pos : picked) {
+                assertThat(candidates.get(pos)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("희소한 후보 / 후보보다 많이 요청 - 후보 전체 반환")
+    void sample_sparseAndOversized() {
+        BitSet candidates = bits(3, 900, 4000);
+
+        assertThat(toSet(SongSampler.sample(candidates, 2, new Random(2)))).hasSize(2).isSubsetOf(3, 900, 4000);
+        assertThat(toSet(SongSampler.sample(candidates, 10, new Random(3)))).containsExactlyInAnyOrder(3, 900, 4000);
+        assertThat(SongSampler.sample(new BitSet(), 5, new Random(4))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 추출 - 모든 후보가 고르게 선택됨")
+    void sample_uniform() {
+        BitSet candidates = bits(1, 5, 9, 13);
+        Map<Integer, Integer> counts = new HashMap<>();
+        Random random = new Random(5);
+
+        for (int i = 0; i < 8000; i++) {
+            counts.merge(SongSampler.sample(candidates, 1, random)[0], 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys(1, 5, 9, 13);
+        counts.values().forEach(c -> assertThat(c).isBetween(1700, 2300));
+    }
+
+    @Test
+    @DisplayName("지연 순열 - 후보 전체를 한 번씩, 끝나면 예외")
+    void permutation_coversAllOnce() {
+        BitSet candidates = bits(2, 4, 6, 8, 10);
+        PrimitiveIterator.OfInt it = SongSampler.permutation(candidates, new Random(6));
+
+        List<Integer> seen = new ArrayList<>();
+        while (it.hasNext()) {
+            seen.add(it.nextInt());
+        }
+
+        assertThat(seen).containsExactlyInAnyOrder(2, 4, 6, 8, 10);
+        assertThatThrownBy(it::nextInt).isInstanceOf(NoSuchElementException.class);
+    }
+}
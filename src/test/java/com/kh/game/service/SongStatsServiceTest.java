@@ -0,0 +1,211 @@
+package com.kh.game.service;
+
+import com.kh.game.batch.SongStatsBatch;
+import com.kh.game.entity.*;
+import com.kh.game.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 곡 난이도 집계 테스트
+ * - 라운드 종료 시 곡/회원별 증가, 통계 조회, 백필/누락 점검 배치
+ */
+@SpringBootTest
+@Transactional
+class SongStatsServiceTest {
+
+    @Autowired
+    private SongStatsService songStatsService;
+
+    @Autowired
+    private WrongAnswerStatsService wrongAnswerStatsService;
+
+    @Autowired
+    private SongStatsBatch songStatsBatch;
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private SongStatsRepository songStatsRepository;
+
+    @Autowired
+    private MemberSongStatsRepository memberSongStatsRepository;
+
+    @Autowired
+    private GameRoundRepository gameRoundRepository;
+
+    @Autowired
+    private GameSessionRepository gameSessionRepository;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Song easySong;
+    private Song hardSong;
+    private Member member;
+    private GameSession session;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(member("stats@test.com", "통계러"));
+
+        easySong = new Song();
+        easySong.setTitle("Celebrity");
+        easySong.setArtist("아이유");
+        easySong.setIsPopular(false);
+        easySong = songRepository.save(easySong);
+
+        hardSong = new Song();
+        hardSong.setTitle("밤편지");
+        hardSong.setArtist("아이유");
+        hardSong = songRepository.save(hardSong);
+
+        session = new GameSession();
+        session.setMember(member);
+        session.setNickname("통계러");
+        session.setGameType(GameSession.GameType.SOLO_GUESS);
+        session.setGameMode(GameSession.GameMode.RANDOM);
+        session.setStatus(GameSession.GameStatus.PLAYING);
+        session = gameSessionRepository.save(session);
+    }
+
+    @Test
+    @DisplayName("라운드 종료마다 곡/회원 집계가 증가하고 정답률 순으로 조회")
+    void recordRound_incrementsAndServesStats() {
+        // given: easySong 3/3 정답, hardSong 1/4 정답
+        for (int i = 0; i < 3; i++) {
+            songStatsService.recordRound(session, round(easySong, true));
+        }
+        songStatsService.recordRound(session, round(hardSong, true));
+        for (int i = 0; i < 3; i++) {
+            songStatsService.recordRound(session, round(hardSong, false));
+        }
+        entityManager.clear();
+
+        // then
+        SongStats hard = songStatsRepository.findById(hardSong.getId()).orElseThrow();
+        assertThat(hard.getPlayCount()).isEqualTo(4L);
+        assertThat(hard.getCorrectCount()).isEqualTo(1L);
+        assertThat(hard.getCorrectRate()).isEqualTo(0.25);
+
+        List<Map<String, Object>> hardest = wrongAnswerStatsService.getHardestSongs(3, 10);
+        assertThat(hardest).extracting(item -> item.get("title")).containsExactly("밤편지", "Celebrity");
+        assertThat(hardest.get(0).get("correctRate")).isEqualTo(25.0);
+        assertThat(hardest.get(0).get("wrongRate")).isEqualTo(75.0);
+
+        List<Map<String, Object>> myHardest = wrongAnswerStatsService.getMemberHardestSongs(member.getId(), 10);
+        assertThat(myHardest).extracting(item -> item.get("songId")).containsExactly(hardSong.getId(), easySong.getId());
+        assertThat(myHardest.get(0).get("totalCount")).isEqualTo(4L);
+
+        List<Map<String, Object>> mostCorrect = wrongAnswerStatsService.getMemberMostCorrectSongs(member.getId(), 10);
+        assertThat(mostCorrect).extracting(item -> item.get("songId")).containsExactly(easySong.getId(), hardSong.getId());
+
+        // 대중성: easySong(정답률 100%, 매니악 설정) → 대중적으로 변경 추천, hardSong(25%, 대중적) → 매니악 추천
+        List<Map<String, Object>> mismatches = wrongAnswerStatsService.getSongPopularityMismatch(3);
+        assertThat(mismatches).extracting(item -> item.get("recommend"))
+                .containsExactly("CHANGE_TO_POPULAR", "CHANGE_TO_MANIAC");
+    }
+
+    @Test
+    @DisplayName("멀티게임 - 곡은 라운드당 1회, 회원은 참가자마다 1회 (정답자만 정답)")
+    void recordMultiRound_countsSongOnceAndEachParticipant() {
+        Member other = memberRepository.save(member("other@test.com", "참가자"));
+
+        songStatsService.recordMultiRound(easySong.getId(), List.of(member.getId(), other.getId()), other.getId());
+        songStatsService.recordMultiRound(easySong.getId(), List.of(member.getId(), other.getId()), null);
+        entityManager.clear();
+
+        SongStats stats = songStatsRepository.findById(easySong.getId()).orElseThrow();
+        assertThat(stats.getPlayCount()).isEqualTo(2L);
+        assertThat(stats.getCorrectCount()).isEqualTo(1L);
+
+        assertThat(wrongAnswerStatsService.getMemberSongStats(other.getId(), 10))
+                .extracting(item -> item.get("correctCount"), item -> item.get("totalCount"))
+                .containsExactly(tuple(1L, 2L));
+        assertThat(wrongAnswerStatsService.getMemberMostCorrectSongs(member.getId(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 - 최초 실행은 게임 기록으로 백필, 이후에는 누락된 증가만 보정")
+    void batch_backfillsOnceThenRepairsUndercounts() {
+        // 배치 설정(워터마크 저장 위치) 생성
+        batchService.updateBatchConfigs();
+
+        // given: 집계 없이 저장된 기존 게임 기록
+        saveRound(easySong, true);
+        saveRound(easySong, false);
+        saveRound(hardSong, false);
+        // 백필 전에 이미 증가된 멀티게임 라운드 (기록 없음) - 백필이 지우지 않아야 함
+        songStatsService.recordMultiRound(hardSong.getId(), List.of(member.getId()), member.getId());
+
+        // when: 최초 실행 → 백필
+        songStatsBatch.execute(null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(songStatsRepository.findById(easySong.getId()).orElseThrow().getPlayCount()).isEqualTo(2L);
+        assertThat(memberSongStatsRepository.findAll()).hasSize(2);
+        assertThat(songStatsRepository.findById(hardSong.getId()).orElseThrow().getCorrectCount()).isEqualTo(1L);
+
+        // given: 멀티게임 집계(기록 없음) + 증가가 누락된 라운드
+        songStatsService.recordMultiRound(hardSong.getId(), List.of(member.getId()), member.getId());
+        saveRound(easySong, true);
+        entityManager.clear();
+
+        // when: 두 번째 실행 → 점검
+        int repaired = songStatsBatch.execute(null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then: 누락분만 보정, 기록에 없는 멀티게임 집계는 유지
+        assertThat(repaired).isEqualTo(2);
+        SongStats easy = songStatsRepository.findById(easySong.getId()).orElseThrow();
+        assertThat(easy.getPlayCount()).isEqualTo(3L);
+        assertThat(easy.getCorrectCount()).isEqualTo(2L);
+        SongStats hard = songStatsRepository.findById(hardSong.getId()).orElseThrow();
+        assertThat(hard.getPlayCount()).isEqualTo(2L);
+        assertThat(hard.getCorrectCount()).isEqualTo(2L);
+    }
+
+    private GameRound round(Song song, boolean correct) {
+        GameRound round = new GameRound();
+        round.setGameSession(session);
+        round.setSong(song);
+        round.setRoundNumber(1);
+        round.setStatus(GameRound.RoundStatus.ANSWERED);
+        round.setIsCorrect(correct);
+        return round;
+    }
+
+    private void saveRound(Song song, boolean correct) {
+        gameRoundRepository.save(round(song, correct));
+    }
+
+    private static Member member(String email, String nickname) {
+        Member member = new Member();
+        member.setEmail(email);
+        member.setUsername(email);
+        member.setPassword("password");
+        member.setNickname(nickname);
+        return member;
+    }
+}
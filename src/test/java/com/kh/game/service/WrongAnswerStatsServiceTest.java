@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 @Transactional
@@ -157,6 +158,69 @@ class WrongAnswerStatsServiceTest {
         assertThat(result).hasSize(3);
     }
 
+    @Test
+    @DisplayName("저장 시 정크 입력 여부가 판정되어 저장됨")
+    void attempt_shouldStoreJunkFlagOnSave() {
+        createWrongAttempt(song1, "ㅋㅋㅋ");
+        createWrongAttempt(song1, "셀럽");
+
+        List<GameRoundAttempt> attempts = attemptRepository.findWrongAnswersBySongId(song1.getId());
+
+        assertThat(attempts).extracting(GameRoundAttempt::getUserAnswer, GameRoundAttempt::getIsJunk)
+                .containsExactlyInAnyOrder(
+                        tuple("ㅋㅋㅋ", true),
+                        tuple("셀럽", false));
+    }
+
+    @Test
+    @DisplayName("정크 필터 오답 목록 - 정크 입력은 SQL에서 제외되고 limit 적용")
+    void getMostCommonWrongAnswersWithSongFiltered_shouldExcludeJunk() {
+        // Given: 정크 입력이 가장 많아도 제외되어야 함
+        createWrongAttempt(song1, "asdfasdf");
+        createWrongAttempt(song1, "asdfasdf");
+        createWrongAttempt(song1, "asdfasdf");
+        createWrongAttempt(song1, "ㅇㅇ");
+        createWrongAttempt(song1, "celebrit");
+        createWrongAttempt(song1, "celebrit");
+        createWrongAttempt(song2, "좋은밤");
+
+        // When
+        List<Map<String, Object>> result = wrongAnswerStatsService.getMostCommonWrongAnswersWithSongFiltered(1);
+        List<Map<String, Object>> all = wrongAnswerStatsService.getMostCommonWrongAnswersWithSongFiltered(10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).get("answer")).isEqualTo("celebrit");
+        assertThat(result.get(0).get("count")).isEqualTo(2L);
+        assertThat(all).extracting(item -> item.get("answer")).containsExactly("celebrit", "좋은밤");
+    }
+
+    @Test
+    @DisplayName("정크 데이터 요약 - 저장된 플래그 기준으로 집계")
+    void getJunkDataSummary_shouldCountStoredFlags() {
+        createWrongAttempt(song1, "qwerty");
+        createWrongAttempt(song1, "???");
+        createWrongAttempt(song1, "celebrit");
+        createWrongAttempt(song2, "좋은밤");
+        createCorrectAttempt(song1, "Celebrity");
+
+        Map<String, Object> summary = wrongAnswerStatsService.getJunkDataSummary();
+
+        assertThat(summary.get("totalWrongCount")).isEqualTo(4L);
+        assertThat(summary.get("junkCount")).isEqualTo(2L);
+        assertThat(summary.get("validCount")).isEqualTo(2L);
+        assertThat(summary.get("junkRate")).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("정크 데이터 요약 - 데이터 없으면 0")
+    void getJunkDataSummary_shouldReturnZeroWhenNoData() {
+        Map<String, Object> summary = wrongAnswerStatsService.getJunkDataSummary();
+
+        assertThat(summary.get("totalWrongCount")).isEqualTo(0L);
+        assertThat(summary.get("junkCount")).isEqualTo(0L);
+    }
+
     private void createWrongAttempt(Song song, String userAnswer) {
         GameRound round = new GameRound();
         round.setGameSession(session);
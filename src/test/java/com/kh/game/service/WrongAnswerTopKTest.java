@@ -0,0 +1,136 @@
+package com.kh.game.service;
+
+import com.kh.game.entity.StatsSketch;
+import com.kh.game.repository.GameRoundAttemptRepository;
+import com.kh.game.repository.StatsSketchRepository;
+import com.kh.game.util.HeavyHitters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WrongAnswerTopK 테스트
+ * - 메모리 집계, 변경분 저장, 재시작 시 복원, 저장본이 없을 때 시도 기록으로 초기화
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WrongAnswerTopKTest {
+
+    @Mock
+    private StatsSketchRepository sketchRepository;
+
+    @Mock
+    private GameRoundAttemptRepository attemptRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("저장본이 없으면 시도 기록으로 초기화")
+    void load_seedsFromAttemptsWhenNothingSaved() {
+        // given
+        when(sketchRepository.findById("wrong-answer:global")).thenReturn(Optional.empty());
+        when(attemptRepository.findMostCommonWrongAnswers()).thenReturn(rows(
+                new Object[]{"celebrit", 4L}, new Object[]{"셀럽", 2L}));
+        when(attemptRepository.findMostCommonWrongAnswersWithSong()).thenReturn(rows(
+                new Object[]{"celebrit", 1L, "Celebrity", "아이유", 3L},
+                new Object[]{"셀럽", 1L, "Celebrity", "아이유", 2L},
+                new Object[]{"celebrit", 2L, "좋은 날", "아이유", 1L}));
+        WrongAnswerTopK topK = new WrongAnswerTopK(sketchRepository, attemptRepository, transactionManager);
+
+        // when
+        topK.load();
+
+        // then
+        assertThat(topK.top(10)).extracting(HeavyHitters.Entry::key, HeavyHitters.Entry::count)
+                .containsExactly(tuple("celebrit", 4L), tuple("셀럽", 2L));
+        assertThat(topK.topForSong(2L, 10)).extracting(HeavyHitters.Entry::key).containsExactly("celebrit");
+        assertThat(topK.totalCount()).isEqualTo(6);
+        assertThat(topK.estimatedDistinct()).isEqualTo(2);
+        // 전체 + 곡 2개 저장
+        assertThat(captureSaved(1).get(0)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("바뀐 집계만 저장하고, 저장본으로 다시 시작하면 같은 순위")
+    void persistAndRestore() {
+        // given
+        when(sketchRepository.findById("wrong-answer:global")).thenReturn(Optional.empty());
+        when(attemptRepository.findMostCommonWrongAnswers()).thenReturn(List.of());
+        when(attemptRepository.findMostCommonWrongAnswersWithSong()).thenReturn(List.of());
+        WrongAnswerTopK topK = new WrongAnswerTopK(sketchRepository, attemptRepository, transactionManager);
+        topK.load();
+        clearInvocations(sketchRepository);
+
+        topK.record(1L, "셀럽");
+        topK.record(1L, "셀럽");
+        topK.record(2L, "좋은날");
+        topK.record(null, "모름");
+
+        // when
+        topK.persist();
+        topK.persist();
+
+        // then: 두 번째 저장은 바뀐 것이 없어 생략
+        List<StatsSketch> saved = captureSaved(1).get(0);
+        assertThat(saved).extracting(StatsSketch::getSketchKey)
+                .containsExactlyInAnyOrder("wrong-answer:global", "wrong-answer:song:1", "wrong-answer:song:2");
+
+        // 재시작
+        StatsSketch global = saved.stream().filter(s -> s.getSketchKey().equals("wrong-answer:global")).findFirst().orElseThrow();
+        when(sketchRepository.findById("wrong-answer:global")).thenReturn(Optional.of(global));
+        when(sketchRepository.findBySketchKeyStartingWith("wrong-answer:song:"))
+                .thenReturn(saved.stream().filter(s -> s != global).toList());
+        WrongAnswerTopK restarted = new WrongAnswerTopK(sketchRepository, attemptRepository, transactionManager);
+        restarted.load();
+
+        assertThat(restarted.top(10)).isEqualTo(topK.top(10));
+        assertThat(restarted.topForSong(1L, 10)).extracting(HeavyHitters.Entry::key, HeavyHitters.Entry::count)
+                .containsExactly(tuple("셀럽", 2L));
+        assertThat(restarted.totalCount()).isEqualTo(4);
+        assertThat(restarted.estimatedDistinct()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("복원에 실패하면 빈 집계로 저장본을 덮어쓰지 않음")
+    void load_failureDisablesPersist() {
+        // given
+        when(sketchRepository.findById("wrong-answer:global")).thenThrow(new RuntimeException("DB 연결 실패"));
+        WrongAnswerTopK topK = new WrongAnswerTopK(sketchRepository, attemptRepository, transactionManager);
+        topK.load();
+
+        // when
+        topK.record(1L, "셀럽");
+        topK.persist();
+
+        // then
+        assertThat(topK.top(1)).extracting(HeavyHitters.Entry::key).containsExactly("셀럽");
+        verify(sketchRepository, never()).saveAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<StatsSketch>> captureSaved(int times) {
+        ArgumentCaptor<List<StatsSketch>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sketchRepository, times(times)).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
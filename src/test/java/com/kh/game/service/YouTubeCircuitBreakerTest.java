@@ -0,0 +1,193 @@
+package com.kh.game.service;
+
+import com.kh.game.service.YouTubeValidationService.ValidationResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * YouTubeValidationService 서킷 브레이커 테스트 (로컬 스텁 HTTP 서버)
+ *
+ * 스텁 동작 (videoId 기준):
+ * - ok: oEmbed 200
+ * - private: oEmbed 403
+ * - gone: oEmbed 404, 썸네일 404
+ * - slow: 응답 지연 (클라이언트 타임아웃)
+ * - down: 503
+ * - flaky: oEmbed 404, 썸네일 503
+ */
+class YouTubeCircuitBreakerTest {
+
+    private static final Duration CLIENT_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private YouTubeCircuitBreaker breaker;
+    private YouTubeValidationService service;
+
+    @BeforeEach
+    void setUp() throws IOException, InterruptedException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oembed/", exchange -> respond(exchange, "/oembed/"));
+        server.createContext("/vi/", exchange -> respond(exchange, "/vi/"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        // 첫 연결 지연이 타임아웃으로 집계되지 않도록 미리 연결
+        HttpClient httpClient = HttpClient.newHttpClient();
+        httpClient.send(HttpRequest.newBuilder(URI.create(base + "/oembed/ok")).build(), HttpResponse.BodyHandlers.discarding());
+
+        breaker = new YouTubeCircuitBreaker(10, 4, 0.5, Duration.ofSeconds(5), OPEN_DURATION);
+        service = new YouTubeValidationService(httpClient,
+                base + "/oembed/%s", base + "/vi/%s/mqdefault.jpg", CLIENT_TIMEOUT, breaker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, String prefix) throws IOException {
+        requestCount.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        String videoId = path.substring(prefix.length()).split("/")[0];
+
+        int status;
+        switch (videoId) {
+            case "ok":
+                status = 200;
+                break;
+            case "private":
+                status = 403;
+                break;
+            case "down":
+                status = 503;
+                break;
+            case "flaky":
+                status = "/vi/".equals(prefix) ? 503 : 404;
+                break;
+            case "slow":
+                try {
+                    Thread.sleep(CLIENT_TIMEOUT.toMillis() * 3);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                status = 200;
+                break;
+            default:
+                status = 404;
+        }
+
+        byte[] body = status == 200 ? new byte[2048] : new byte[0];
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        exchange.close();
+    }
+
+    @Test
+    @DisplayName("403/404는 정상 판정 - 브레이커는 닫힌 상태 유지")
+    void youtubeVerdicts_doNotTripBreaker() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.validateVideo("private").isEmbedDisabled()).isTrue();
+            ValidationResult gone = service.validateVideo("gone");
+            assertThat(gone.isValid()).isFalse();
+            assertThat(gone.isUnavailable()).isFalse();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.CLOSED);
+        assertThat(breaker.getTripCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("타임아웃이 이어지면 OPEN → 호출 없이 즉시 확인 불가(유효로 간주)")
+    void timeouts_tripBreakerAndFailFast() {
+        service.validateVideo("slow");
+        service.validateVideo("slow");
+
+        assertThat(breaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+        assertThat(breaker.getTripCount()).isEqualTo(1);
+
+        int requestsBefore = requestCount.get();
+        long start = System.nanoTime();
+        ValidationResult result = service.validateVideo("gone");
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(result.isUnavailable()).isTrue();
+        assertThat(result.isValid()).isTrue();
+        assertThat(elapsedMs).isLessThan(CLIENT_TIMEOUT.toMillis());
+        assertThat(requestCount.get()).isEqualTo(requestsBefore);
+        assertThat(service.isCircuitOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("5xx도 장애로 집계, 대기 후 시험 호출 성공하면 CLOSED")
+    void halfOpenProbe_closesOnSuccess() throws InterruptedException {
+        for (int i = 0; i < 2; i++) {
+            service.validateVideo("down");
+        }
+        assertThat(breaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        assertThat(service.validateVideo("ok").isValid()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN (차단 횟수 증가)")
+    void halfOpenProbe_reopensOnFailure() throws InterruptedException {
+        service.validateVideo("slow");
+        service.validateVideo("slow");
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        ValidationResult probe = service.validateVideoAsync("slow").join();
+
+        assertThat(probe.isUnavailable()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(YouTubeCircuitBreaker.State.OPEN);
+        assertThat(breaker.getTripCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("브레이커가 닫혀 있어도 타임아웃/5xx는 확인 불가 - 삭제된 영상으로 판정하지 않음")
+    void transientFailures_areUnavailableNotInvalid() {
+        // 최소 호출 수에 못 미치는 간헐적 장애 (브레이커 CLOSED 유지)
+        YouTubeCircuitBreaker lenient = new YouTubeCircuitBreaker(100, 100, 0.5, Duration.ofSeconds(5), OPEN_DURATION);
+        YouTubeValidationService lenientService = new YouTubeValidationService(HttpClient.newHttpClient(),
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/oembed/%s",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/vi/%s/mqdefault.jpg", CLIENT_TIMEOUT, lenient);
+
+        for (String videoId : new String[]{"slow", "down", "flaky"}) {
+            ValidationResult result = lenientService.validateVideo(videoId);
+            assertThat(result.isUnavailable()).as(videoId).isTrue();
+            assertThat(result.isValid()).as(videoId).isTrue();
+        }
+        assertThat(lenientService.validateVideoAsync("flaky").join().isUnavailable()).isTrue();
+        assertThat(lenient.getState()).isEqualTo(YouTubeCircuitBreaker.State.CLOSED);
+
+        // 확정 응답은 그대로 무효
+        assertThat(lenientService.validateVideo("gone").isUnavailable()).isFalse();
+        assertThat(lenientService.validateVideo("gone").isValid()).isFalse();
+    }
+}
@@ -158,8 +158,8 @@ class YouTubeValidationServiceTest {
     }
 
     @Test
-    @DisplayName("둘 다 네트워크 오류 시 검증 실패")
-    void shouldReturnInvalidWhenBothNetworkErrors() throws Exception {
+    @DisplayName("둘 다 네트워크 오류 시 확인 불가 (삭제로 판정하지 않음)")
+    void shouldReturnUnavailableWhenBothNetworkErrors() throws Exception {
         // given
         when(httpClient.send(any(HttpRequest.class), any()))
                 .thenThrow(new IOException("Connection refused"));
@@ -168,7 +168,24 @@ class YouTubeValidationServiceTest {
         ValidationResult result = service.validateVideo("videoId");
 
         // then
-        assertThat(result.isValid()).isFalse();
+        assertThat(result.isUnavailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("oEmbed 404 + 썸네일 네트워크 오류 → 확인 불가")
+    void shouldReturnUnavailableWhenThumbnailNetworkError() throws Exception {
+        // given
+        when(httpClient.send(any(HttpRequest.class), eq(HttpResponse.BodyHandlers.ofString())))
+                .thenReturn(oEmbedResponse);
+        when(oEmbedResponse.statusCode()).thenReturn(404);
+        when(httpClient.send(any(HttpRequest.class), eq(HttpResponse.BodyHandlers.ofByteArray())))
+                .thenThrow(new IOException("Read timed out"));
+
+        // when
+        ValidationResult result = service.validateVideo("videoId");
+
+        // then
+        assertThat(result.isUnavailable()).isTrue();
     }
 
     @Test
@@ -0,0 +1,134 @@
+package com.kh.game.service;
+
+import com.kh.game.repository.SongRepository;
+import com.kh.game.service.YouTubeValidationService.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * YouTubeVerdictCache 테스트 - 캐시 적중/음성 캐시/만료 재검증/DB 반영
+ */
+@ExtendWith(MockitoExtension.class)
+class YouTubeVerdictCacheTest {
+
+    @Mock
+    private YouTubeValidationService youTubeValidationService;
+
+    @Mock
+    private SongRepository songRepository;
+
+    @Mock
+    private SongCatalogService songCatalogService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private YouTubeVerdictCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new YouTubeVerdictCache(youTubeValidationService, songRepository, songCatalogService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("처음 보는 영상만 검증, 이후는 캐시 사용")
+    void miss_validatesOnce() {
+        when(youTubeValidationService.validateVideo("vid1")).thenReturn(ValidationResult.valid());
+
+        assertThat(cache.isPlayable("vid1")).isTrue();
+        assertThat(cache.isPlayable("vid1")).isTrue();
+
+        verify(youTubeValidationService, times(1)).validateVideo("vid1");
+    }
+
+    @Test
+    @DisplayName("삭제/임베드 불가 판정도 캐시")
+    void negativeVerdict_isCached() {
+        when(youTubeValidationService.validateVideo("deleted")).thenReturn(ValidationResult.invalid("HTTP 404", "HTTP 404"));
+        when(youTubeValidationService.validateVideo("noEmbed")).thenReturn(ValidationResult.embedDisabled());
+
+        assertThat(cache.isPlayable("deleted")).isFalse();
+        assertThat(cache.isPlayable("deleted")).isFalse();
+        assertThat(cache.isPlayable("noEmbed")).isFalse();
+        assertThat(cache.isPlayable("noEmbed")).isFalse();
+
+        verify(youTubeValidationService, times(1)).validateVideo("deleted");
+        verify(youTubeValidationService, times(1)).validateVideo("noEmbed");
+    }
+
+    @Test
+    @DisplayName("워밍된 판정이 유효기간 내면 네트워크 호출 없음")
+    void warmUp_freshVerdictServedFromMemory() {
+        LocalDateTime recent = LocalDateTime.now().minusHours(1);
+        when(songRepository.findYoutubeVerdicts()).thenReturn(List.of(
+                new Object[]{"ok", true, recent, null},
+                new Object[]{"gone", false, recent, 100}));
+
+        cache.warmUp();
+
+        assertThat(cache.isPlayable("ok")).isTrue();
+        assertThat(cache.isPlayable("gone")).isFalse();
+        verify(youTubeValidationService, never()).validateVideo(anyString());
+    }
+
+    @Test
+    @DisplayName("만료된 판정은 기존 값으로 응답하고 백그라운드에서 재검증")
+    void staleVerdict_refreshedAsynchronously() {
+        when(songRepository.findYoutubeVerdicts()).thenReturn(List.<Object[]>of(
+                new Object[]{"old", true, LocalDateTime.now().minusDays(3), null}));
+        when(youTubeValidationService.validateVideo("old")).thenReturn(ValidationResult.invalid("HTTP 404", "HTTP 404"));
+        cache.warmUp();
+
+        assertThat(cache.isPlayable("old")).isTrue();
+
+        verify(youTubeValidationService, timeout(2000)).validateVideo("old");
+        await(() -> Boolean.FALSE.equals(cache.cachedVerdict("old")));
+        assertThat(cache.isPlayable("old")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재생 오류 보고는 네트워크 없이 무효 판정")
+    void playbackError_marksInvalid() {
+        cache.recordPlaybackError("vid2", 150, LocalDateTime.now());
+
+        assertThat(cache.isPlayable("vid2")).isFalse();
+        verify(youTubeValidationService, never()).validateVideo(anyString());
+    }
+
+    @Test
+    @DisplayName("새 판정은 flush 시 DB에 반영, 무효 판정이 있으면 카탈로그 무효화")
+    void flush_writesPendingVerdicts() {
+        when(youTubeValidationService.validateVideo("deleted")).thenReturn(ValidationResult.invalid("HTTP 404", "HTTP 404"));
+        cache.isPlayable("deleted");
+
+        cache.flush();
+        cache.flush();
+
+        verify(songRepository, times(1)).updateYoutubeVerdict(eq("deleted"), eq(false), any(LocalDateTime.class),
+                eq(YouTubeVerdictCache.ERROR_NOT_FOUND));
+        verify(songCatalogService).invalidate();
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
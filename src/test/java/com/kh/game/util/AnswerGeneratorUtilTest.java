@@ -0,0 +1,78 @@
+package com.kh.game.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AnswerGeneratorUtil 발음 변환 / 변형 캐시 / 사전 리로드 테스트
+ */
+class AnswerGeneratorUtilTest {
+
+    @AfterEach
+    void tearDown() {
+        // 다른 테스트에 영향 없도록 기본 사전으로 복원
+        AnswerGeneratorUtil.reloadDictionaries(null, null);
+    }
+
+    @Test
+    @DisplayName("단어 사전에 있는 단어는 사전 발음, 없는 단어는 긴 음소 패턴부터 변환")
+    void convertToKorean_wordThenPhonetic() {
+        assertThat(AnswerGeneratorUtil.convertToKorean("Love Story")).startsWith("러브 ");
+        // sh → 쉬, i → 이, p → 프 (s + h로 나누지 않음)
+        assertThat(AnswerGeneratorUtil.convertToKorean("ship")).isEqualTo("쉬이프");
+        // tion은 t + i + o + n 이 아닌 한 패턴
+        assertThat(AnswerGeneratorUtil.convertToKorean("tion")).isEqualTo("션");
+    }
+
+    @Test
+    @DisplayName("숫자는 그대로, 변환 대상이 아닌 문자는 버리고 공백은 하나로")
+    void convertToKorean_digitsAndSymbols() {
+        assertThat(AnswerGeneratorUtil.convertToKorean("  LOVE   2000 ")).isEqualTo("러브 2000");
+        assertThat(AnswerGeneratorUtil.convertToKorean("love !!! you")).isEqualTo("러브 유");
+        assertThat(AnswerGeneratorUtil.convertToKorean("")).isEmpty();
+        assertThat(AnswerGeneratorUtil.convertToKorean(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변형 생성 - 원본, 괄호 제거, 한글 발음, feat 제거")
+    void generateAnswerVariants() {
+        Set<String> variants = AnswerGeneratorUtil.generateAnswerVariants(" Love You (feat. Someone) ");
+
+        assertThat(variants).first().isEqualTo("Love You (feat. Someone)");
+        assertThat(variants).contains("Love You", "러브 유");
+    }
+
+    @Test
+    @DisplayName("같은 제목은 캐시된 변형을 반환하고 수정할 수 없음")
+    void generateAnswerVariants_cached() {
+        Set<String> first = AnswerGeneratorUtil.generateAnswerVariants("Love Story");
+        Set<String> second = AnswerGeneratorUtil.generateAnswerVariants("  Love Story");
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add("x")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("사전 리로드 - 추가 항목이 기본 사전보다 우선하고 변형 캐시도 새로 만듦")
+    void reloadDictionaries_overridesAndClearsCache() {
+        Set<String> before = AnswerGeneratorUtil.generateAnswerVariants("Zebra");
+        assertThat(before).contains("즈에브르아");
+
+        AnswerGeneratorUtil.reloadDictionaries(Map.of("Zebra", "지브라"), Map.of("zz", "쯔"));
+
+        assertThat(AnswerGeneratorUtil.convertToKorean("Zebra")).isEqualTo("지브라");
+        assertThat(AnswerGeneratorUtil.convertToKorean("jazz")).isEqualTo("재즈");
+        assertThat(AnswerGeneratorUtil.convertToKorean("fizz")).isEqualTo("프이쯔");
+        assertThat(AnswerGeneratorUtil.generateAnswerVariants("Zebra"))
+                .isNotSameAs(before)
+                .contains("지브라")
+                .doesNotContain("즈에브르아");
+    }
+}
@@ -0,0 +1,111 @@
+package com.kh.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AnswerNormalizer 테스트 - 기존 정규식 정규화와 결과 동일성
+ */
+class AnswerNormalizerTest {
+
+    // 기존 AnswerValidationService.normalize / SongService.normalizeAnswer
+    private static String regexNormalize(String text) {
+        if (text == null) return "";
+        return text.toLowerCase()
+                .replaceAll("\\s+", "")
+                .replaceAll("[^a-z0-9가-힣]", "");
+    }
+
+    @Test
+    @DisplayName("대표 입력 - 공백/대소문자/특수문자 제거")
+    void examples() {
+        assertThat(AnswerNormalizer.normalize("Dynamite (Feat. BTS)")).isEqualTo("dynamitefeatbts");
+        assertThat(AnswerNormalizer.normalize("  다이너 마이트!! ")).isEqualTo("다이너마이트");
+        assertThat(AnswerNormalizer.normalize("ㅋㅋ ㄱㄱ")).isEmpty();
+        assertThat(AnswerNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 정규화된 문자열은 복사하지 않음")
+    void normalizedInput_returnsSameInstance() {
+        String normalized = "butter2021";
+        assertThat(AnswerNormalizer.normalize(normalized)).isSameAs(normalized);
+    }
+
+    @Test
+    @DisplayName("모든 유니코드 코드 포인트에서 기존 정규식과 동일")
+    void everyCodePoint_matchesRegex() {
+        for (int cp = 0; cp <= Character.MAX_CODE_POINT; cp++) {
+            if (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE) continue;
+            String text = new String(Character.toChars(cp));
+            assertThat(AnswerNormalizer.normalize(text))
+                    .as("U+%04X", cp)
+                    .isEqualTo(regexNormalize(text));
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 유니코드 문자열에서 기존 정규식과 동일 (정규화/버퍼/해시)")
+    void randomUnicode_matchesRegex() {
+        Random random = new Random(20261017L);
+        StringBuilder buffer = new StringBuilder();
+
+        for (int n = 0; n < 100_000; n++) {
+            String text = randomText(random);
+            String expected = regexNormalize(text);
+
+            assertThat(AnswerNormalizer.normalize(text)).as(text).isEqualTo(expected);
+
+            buffer.setLength(0);
+            int added = AnswerNormalizer.normalize(text, buffer);
+            assertThat(buffer.toString()).as(text).isEqualTo(expected);
+            assertThat(added).isEqualTo(expected.length());
+
+            assertThat(AnswerNormalizer.hash64(text)).as(text).isEqualTo(AnswerNormalizer.hash64(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("정규화 결과가 다르면 해시도 다름")
+    void differentNormalizedText_differentHash() {
+        assertThat(AnswerNormalizer.hash64("다이너마이트")).isNotEqualTo(AnswerNormalizer.hash64("다이나마이트"));
+        assertThat(AnswerNormalizer.hash64("ab")).isNotEqualTo(AnswerNormalizer.hash64("ba"));
+        assertThat(AnswerNormalizer.hash64("")).isNotEqualTo(AnswerNormalizer.hash64("a"));
+    }
+
+    /**
+     * ASCII / 한글 음절 경계 부근 / BMP / 보충 평면 문자를 섞은 0~24자
+     */
+    private static String randomText(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(25);
+        for (int i = 0; i < length; i++) {
+            int cp;
+            switch (random.nextInt(5)) {
+                case 0:
+                    cp = random.nextInt(0x80);
+                    break;
+                case 1:
+                    cp = 0xAC00 - 8 + random.nextInt(11172 + 16);
+                    break;
+                case 2:
+                    cp = random.nextBoolean() ? 0x212A : 0x0130;
+                    break;
+                case 3:
+                    cp = random.nextInt(0x10000);
+                    break;
+                default:
+                    cp = random.nextInt(Character.MAX_CODE_POINT + 1);
+            }
+            if (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE) {
+                cp = ' ';
+            }
+            sb.appendCodePoint(cp);
+        }
+        return sb.toString();
+    }
+}
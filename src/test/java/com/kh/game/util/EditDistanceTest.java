@@ -0,0 +1,86 @@
+package com.kh.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EditDistance / HangulUtil.toJamo 테스트
+ */
+class EditDistanceTest {
+
+    @Test
+    @DisplayName("한글 음절을 초성/중성/종성 자모로 분해")
+    void toJamo_decomposesSyllables() {
+        assertThat(HangulUtil.toJamo("다이너")).hasSize(6);
+        assertThat(HangulUtil.toJamo("봄")).hasSize(3);
+        assertThat(HangulUtil.toJamo("bts2")).isEqualTo("bts2");
+        assertThat(HangulUtil.toJamo(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모음 하나 차이는 음절이 아니라 자모 1개 차이")
+    void vowelTypo_isOneJamoEdit() {
+        String expected = HangulUtil.toJamo("다이너마이트");
+        String typo = HangulUtil.toJamo("다이나마이트");
+
+        assertThat(EditDistance.withinDistance(typo, expected, 1)).isTrue();
+        assertThat(EditDistance.withinDistance(typo, expected, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("삽입/삭제/치환/인접 교환")
+    void basicEdits() {
+        assertThat(EditDistance.withinDistance("dynamite", "dynamit", 1)).isTrue();
+        assertThat(EditDistance.withinDistance("dynamite", "dynamitee", 1)).isTrue();
+        assertThat(EditDistance.withinDistance("dynamite", "dinamite", 1)).isTrue();
+        assertThat(EditDistance.withinDistance("dynamite", "dyanmite", 1)).isTrue();
+        assertThat(EditDistance.withinDistance("dynamite", "butter", 2)).isFalse();
+        assertThat(EditDistance.withinDistance("", "ab", 2)).isTrue();
+        assertThat(EditDistance.withinDistance("", "abc", 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 문자열에서 전체 DP 결과와 동일")
+    void randomStrings_matchFullDp() {
+        Random random = new Random(7);
+        for (int n = 0; n < 50_000; n++) {
+            String a = randomText(random);
+            String b = randomText(random);
+            int max = random.nextInt(4);
+
+            assertThat(EditDistance.withinDistance(a, b, max))
+                    .as("%s / %s / %d", a, b, max)
+                    .isEqualTo(fullDistance(a, b) <= max);
+        }
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(9);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(3)));
+        }
+        return sb.toString();
+    }
+
+    // 인접 교환 포함 편집 거리 (제한 없는 전체 DP)
+    private static int fullDistance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,99 @@
+package com.kh.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HeavyHitters / HyperLogLog 테스트
+ */
+class HeavyHittersTest {
+
+    @Test
+    @DisplayName("카운터가 남으면 정확한 빈도, 순위는 많이 나온 순")
+    void exactWhenUnderCapacity() {
+        HeavyHitters<String> sketch = new HeavyHitters<>(10);
+        for (int i = 0; i < 5; i++) sketch.offer("셀럽");
+        for (int i = 0; i < 3; i++) sketch.offer("celebrit");
+        sketch.offer("좋은날");
+
+        List<HeavyHitters.Entry<String>> top = sketch.top(2);
+
+        assertThat(top).extracting(HeavyHitters.Entry::key).containsExactly("셀럽", "celebrit");
+        assertThat(top).extracting(HeavyHitters.Entry::count).containsExactly(5L, 3L);
+        assertThat(top).allMatch(e -> e.error() == 0);
+        assertThat(sketch.total()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("카운터가 가득 차도 추정 구간(count - error ~ count)이 실제 빈도를 포함하고 상위 항목은 유지")
+    void boundsHoldOnSkewedStream() {
+        HeavyHitters<String> sketch = new HeavyHitters<>(500);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            String key = "a" + (int) (Math.pow(random.nextDouble(), 3) * 20_000);
+            sketch.offer(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        List<Map.Entry<String, Long>> expected = new ArrayList<>(exact.entrySet());
+        expected.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        List<HeavyHitters.Entry<String>> top = sketch.top(10);
+        for (HeavyHitters.Entry<String> entry : top) {
+            long actual = exact.get(entry.key());
+            assertThat(entry.count()).isGreaterThanOrEqualTo(actual);
+            assertThat(entry.guaranteed()).isLessThanOrEqualTo(actual);
+        }
+        assertThat(top).extracting(HeavyHitters.Entry::key)
+                .containsExactlyElementsOf(expected.subList(0, 10).stream().map(Map.Entry::getKey).toList());
+        assertThat(sketch.size()).isEqualTo(500);
+        assertThat(sketch.total()).isEqualTo(200_000);
+    }
+
+    @Test
+    @DisplayName("저장된 항목을 count/error 그대로 다시 넣으면 같은 결과")
+    void restoreFromEntries() {
+        HeavyHitters<String> original = new HeavyHitters<>(3);
+        for (String key : List.of("a", "a", "b", "c", "d", "a", "e")) {
+            original.offer(key);
+        }
+
+        HeavyHitters<String> restored = new HeavyHitters<>(3);
+        for (HeavyHitters.Entry<String> entry : original.top(Integer.MAX_VALUE)) {
+            restored.offer(entry.key(), entry.count(), entry.error());
+        }
+
+        assertThat(restored.top(3)).isEqualTo(original.top(3));
+        assertThat(restored.total()).isEqualTo(original.total());
+    }
+
+    @Test
+    @DisplayName("HyperLogLog - 작은 값은 정확, 큰 값은 오차 5% 이내, 레지스터로 복원/병합")
+    void hyperLogLogEstimate() {
+        HyperLogLog small = new HyperLogLog(12);
+        for (int i = 0; i < 100; i++) {
+            small.offer("오답" + i);
+            small.offer("오답" + i);
+        }
+        assertThat(small.estimate()).isEqualTo(100);
+
+        HyperLogLog large = new HyperLogLog(12);
+        for (int i = 0; i < 100_000; i++) {
+            large.offer("answer-" + i);
+        }
+        assertThat(large.estimate()).isBetween(95_000L, 105_000L);
+
+        HyperLogLog restored = HyperLogLog.fromRegisters(large.toRegisters());
+        restored.merge(small);
+        assertThat(restored.estimate()).isBetween(95_000L, 105_200L);
+    }
+}
@@ -0,0 +1,204 @@
+package com.kh.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JunkInputFilter 판정 규칙 테스트 - 기존 정규식/반복문 규칙과 판정 동일성
+ */
+class JunkInputFilterTest {
+
+    // 기존 JunkInputFilter (정규식 + 패턴별 contains)
+    private static final Set<String> LEGACY_SMASH = Set.of(
+            "qwer", "asdf", "zxcv", "qwerty", "asdfgh", "zxcvbn",
+            "ㅂㅈㄷㄱ", "ㅁㄴㅇㄹ", "ㅋㅌㅊㅍ",
+            "1234", "12345", "123456"
+    );
+    private static final Set<String> LEGACY_MEANINGLESS = Set.of(
+            "ㅇㅇ", "ㄴㄴ", "ㅋㅋ", "ㅎㅎ", "ㅠㅠ", "ㅜㅜ",
+            "test", "테스트", "aaa", "bbb", "111", "???",
+            "모름", "몰라", "모르겠", "패스", "pass", "skip",
+            "ㅁㄹ", "ㅁㄹㅁ"
+    );
+    private static final Pattern LEGACY_REPEATED = Pattern.compile("^(.)\\1{2,}$");
+    private static final Pattern LEGACY_SPECIAL_ONLY = Pattern.compile("^[\\s\\p{Punct}]+$");
+    private static final Pattern LEGACY_JAMO_ONLY = Pattern.compile("^[ㄱ-ㅎㅏ-ㅣ]+$");
+
+    private static boolean legacyIsJunk(String input) {
+        if (input == null || input.isBlank()) {
+            return true;
+        }
+        String normalized = input.trim().toLowerCase();
+        if (normalized.length() < 2
+                || LEGACY_MEANINGLESS.contains(normalized)
+                || LEGACY_SPECIAL_ONLY.matcher(normalized).matches()
+                || LEGACY_JAMO_ONLY.matcher(normalized).matches()
+                || LEGACY_REPEATED.matcher(normalized).matches()) {
+            return true;
+        }
+        for (String pattern : LEGACY_SMASH) {
+            if (normalized.contains(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // String.toLowerCase가 문맥/길이를 바꾸는 문자 (İ → i̇ 두 글자, 끝의 Σ → ς) - 판정 차이는 아래에 고정
+    private static boolean changesWithStringLowerCase(String text) {
+        return text.indexOf('\u0130') >= 0 || text.indexOf('\u03A3') >= 0;
+    }
+
+    @Test
+    @DisplayName("null / 공백 / 한 글자 입력은 정크")
+    void emptyOrShortInput() {
+        assertThat(JunkInputFilter.isJunkInput(null)).isTrue();
+        assertThat(JunkInputFilter.isJunkInput("")).isTrue();
+        assertThat(JunkInputFilter.isJunkInput("   ")).isTrue();
+        assertThat(JunkInputFilter.isJunkInput(" 가 ")).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ㅇㅇ", "TEST", " 테스트 ", "모르겠", "Skip", "???"})
+    @DisplayName("의미 없는 입력은 전체가 일치할 때 정크")
+    void meaninglessInput(String input) {
+        assertThat(JunkInputFilter.isJunkInput(input)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"testament", "모르겠어요", "passion", "skipper"})
+    @DisplayName("의미 없는 입력이 일부로만 들어있으면 정크가 아님")
+    void meaninglessPatternInsideWord(String input) {
+        assertThat(JunkInputFilter.isJunkInput(input)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"qwer", "xxASDFxx", "노래zxcvbn", "ㅁㄴㅇㄹ아", "a12345"})
+    @DisplayName("키보드 스매싱 패턴은 입력 어디에 있어도 정크")
+    void keyboardSmash(String input) {
+        assertThat(JunkInputFilter.isJunkInput(input)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!", ". ,", "ㅏㅓㅗ", "ㄱㄴㄷ", "ㅋㅋㅋㅋ", "zzz", "😀😀😀"})
+    @DisplayName("특수문자만 / 자모만 / 단일 문자 반복은 정크")
+    void characterClassRules(String input) {
+        assertThat(JunkInputFilter.isJunkInput(input)).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 유니코드 코드 포인트(단독/반복/다른 문자와 조합)에서 기존 규칙과 판정 동일")
+    void everyCodePoint_matchesLegacyRules() {
+        for (int cp = 0; cp <= Character.MAX_CODE_POINT; cp++) {
+            if (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE) continue;
+            String c = new String(Character.toChars(cp));
+            if (changesWithStringLowerCase(c)) continue;
+            for (String text : List.of(c, c + c, c + c + c, "a" + c, c + "a", " " + c + " ", "ㅋ" + c + "ㅋ", "!" + c)) {
+                assertThat(JunkInputFilter.isJunkInput(text))
+                        .as("U+%04X [%s]", cp, text)
+                        .isEqualTo(legacyIsJunk(text));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 문자열(패턴 조각, 자모, 구두점, 유니코드 공백, 반복 포함)에서 기존 규칙과 판정 동일")
+    void randomInput_matchesLegacyRules() {
+        Random random = new Random(20261017L);
+        int junk = 0;
+        for (int n = 0; n < 200_000; n++) {
+            String text = randomInput(random);
+            boolean expected = legacyIsJunk(text);
+            assertThat(JunkInputFilter.isJunkInput(text)).as("[%s]", text).isEqualTo(expected);
+            if (expected) junk++;
+        }
+        // 정크/정상 판정이 모두 충분히 나오는 입력 분포인지
+        assertThat(junk).isBetween(20_000, 180_000);
+    }
+
+    @Test
+    @DisplayName("기존 규칙과 다른 판정 - String.toLowerCase가 글자를 바꾸는 İ(U+0130), Σ(U+03A3)")
+    void caseMappingDifferences_arePinned() {
+        // 기존: "İ".toLowerCase() = "i̇"(2글자) → 짧은 입력/반복으로 보지 않음, 현재: 문자 단위 소문자 i로 판정
+        assertThat(legacyIsJunk("İ")).isFalse();
+        assertThat(JunkInputFilter.isJunkInput("İ")).isTrue();
+        assertThat(legacyIsJunk("İİİ")).isFalse();
+        assertThat(JunkInputFilter.isJunkInput("İİİ")).isTrue();
+
+        // 기존: "ΣΣΣ".toLowerCase() = "σσς"(끝 글자 변형) → 반복 아님, 현재: 같은 문자 반복
+        assertThat(legacyIsJunk("ΣΣΣ")).isFalse();
+        assertThat(JunkInputFilter.isJunkInput("ΣΣΣ")).isTrue();
+
+        // 그 외에는 동일
+        assertThat(JunkInputFilter.isJunkInput("İstanbul")).isEqualTo(legacyIsJunk("İstanbul")).isFalse();
+        assertThat(JunkInputFilter.isJunkInput("ΣΟΦΙΑ")).isEqualTo(legacyIsJunk("ΣΟΦΙΑ")).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"좋은 날", "Celebrity", "Dynamite!", "ㅋ가", "aab", "😀😀", "12"})
+    @DisplayName("정상 입력은 정크가 아님")
+    void validInput(String input) {
+        assertThat(JunkInputFilter.isJunkInput(input)).isFalse();
+        assertThat(JunkInputFilter.isValidInput(input)).isTrue();
+    }
+
+    private static final String[] PATTERN_PIECES = {
+            "qwer", "asdf", "zxcv", "qwerty", "zxcvbn", "QWE", "SDF", "ㅂㅈㄷㄱ", "ㅁㄴㅇ", "ㅋㅌㅊㅍ", "123", "1234", "456",
+            "ㅇㅇ", "ㅋㅋ", "ㅠㅠ", "test", "TeSt", "테스트", "aaa", "111", "???", "모르겠", "몰라", "패스", "pass", "skip", "ㅁㄹ"
+    };
+    private static final String SPECIALS = " \t\n\r\u000B\f!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~\u00A0\u2000\u2028\u3000\u0085";
+
+    /**
+     * 패턴 조각 / ASCII / 자모 / 한글 음절 / 구두점·공백 / 임의 유니코드를 섞은 입력, 일부는 한 단위 반복
+     */
+    private static String randomInput(Random random) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextInt(5) == 0) {
+            String unit = randomPiece(random, random.nextInt(6));
+            int times = 1 + random.nextInt(5);
+            for (int i = 0; i < times; i++) {
+                sb.append(unit);
+            }
+        } else {
+            int pieces = random.nextInt(6);
+            for (int i = 0; i < pieces; i++) {
+                sb.append(randomPiece(random, random.nextInt(7)));
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            sb.insert(0, ' ').append('\t');
+        }
+        String text = sb.toString();
+        return changesWithStringLowerCase(text) ? text.replace('\u0130', 'I').replace('\u03A3', 'S') : text;
+    }
+
+    private static String randomPiece(Random random, int kind) {
+        switch (kind) {
+            case 0:
+                return PATTERN_PIECES[random.nextInt(PATTERN_PIECES.length)];
+            case 1:
+                return String.valueOf((char) (0x20 + random.nextInt(0x5F)));
+            case 2:
+                return String.valueOf((char) ('ㄱ' + random.nextInt('ㅣ' - 'ㄱ' + 1)));
+            case 3:
+                return String.valueOf((char) (0xAC00 + random.nextInt(11172)));
+            case 4:
+                return String.valueOf(SPECIALS.charAt(random.nextInt(SPECIALS.length())));
+            default:
+                int cp = random.nextInt(Character.MAX_CODE_POINT + 1);
+                if (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE) {
+                    cp = 'x';
+                }
+                return new String(Character.toChars(cp));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.kh.game.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TimingWheel 테스트
+ */
+class TimingWheelTest {
+
+    private final TimingWheel wheel = new TimingWheel("test-timer", 10, 8);
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    @DisplayName("마감 시각 이전에는 실행되지 않고, 한 바퀴 넘는 마감도 바퀴 수만큼 기다린 뒤 실행")
+    void firesNotBeforeDeadline() throws Exception {
+        // 8칸 × 10ms = 한 바퀴 80ms → 200ms는 두 바퀴 이상
+        long[] firedAfter = new long[2];
+        CountDownLatch latch = new CountDownLatch(2);
+        long scheduledAt = System.nanoTime();
+
+        wheel.schedule(() -> {
+            firedAfter[0] = System.nanoTime() - scheduledAt;
+            latch.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> {
+            firedAfter[1] = System.nanoTime() - scheduledAt;
+            latch.countDown();
+        }, 200, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAfter[0]).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+        assertThat(firedAfter[1]).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 실행되지 않음, 이미 실행된 타이머는 취소 불가")
+    void cancelledTimerNeverFires() throws Exception {
+        AtomicInteger fired = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        TimingWheel.Timeout cancelled = wheel.schedule(fired::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        TimingWheel.Timeout kept = wheel.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(fired.get()).isZero();
+        assertThat(kept.isExpired()).isTrue();
+        assertThat(kept.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("타이머 5만 개를 걸고 절반을 취소해도 남은 타이머만 정확히 한 번씩 실행")
+    void manyTimers() throws Exception {
+        int count = 50_000;
+        AtomicInteger fired = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(count / 2);
+        List<TimingWheel.Timeout> timeouts = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean keep = i % 2 == 0;
+            timeouts.add(wheel.schedule(() -> {
+                fired.incrementAndGet();
+                if (keep) {
+                    latch.countDown();
+                }
+            }, 200 + i % 300, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 1; i < count; i += 2) {
+            timeouts.get(i).cancel();
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(fired.get()).isEqualTo(count / 2);
+        assertThat(wheel.size()).isZero();
+    }
+}